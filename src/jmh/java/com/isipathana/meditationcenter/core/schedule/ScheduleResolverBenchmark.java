@@ -0,0 +1,100 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import com.isipathana.meditationcenter.records.schedule.Activity;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import com.isipathana.meditationcenter.records.schedule.ScheduleOverride;
+import com.isipathana.meditationcenter.records.schedule.ScheduleTemplate;
+import com.isipathana.meditationcenter.records.schedule.TemplateScheduleActivity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving a full month for all active templates:
+ * building the timeline from the source rows, and serving the month from a built timeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleResolverBenchmark {
+
+    private static final int DAYS_IN_MONTH = 30;
+    private static final int ACTIVITIES_PER_TEMPLATE = 12;
+
+    @Param({"5", "50"})
+    public int templateCount;
+
+    private final LocalDate startDate = LocalDate.of(2025, 6, 1);
+    private ScheduleSources sources;
+    private ScheduleTimeline timeline;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<ScheduleTemplate> templates = new ArrayList<>();
+        List<TemplateScheduleActivity> templateActivities = new ArrayList<>();
+        List<Activity> activities = new ArrayList<>();
+        List<ScheduleOverride> overrides = new ArrayList<>();
+
+        for (long activityId = 1; activityId <= 20; activityId++) {
+            activities.add(Activity.builder().activityId(activityId).title("Activity " + activityId).build());
+        }
+
+        long id = 1;
+        for (long templateId = 1; templateId <= templateCount; templateId++) {
+            templates.add(ScheduleTemplate.builder().templateId(templateId).name("Template " + templateId)
+                .isActive(true).build());
+            for (int slot = 0; slot < ACTIVITIES_PER_TEMPLATE; slot++) {
+                LocalTime start = LocalTime.of(5 + slot, 0);
+                templateActivities.add(TemplateScheduleActivity.builder()
+                    .id(id)
+                    .templateId(templateId)
+                    .activityId(1L + random.nextInt(20))
+                    .startTime(start)
+                    .endTime(start.plusMinutes(45))
+                    .dayOfWeek(slot % 3 == 0 ? null : random.nextInt(7))
+                    .build());
+
+                if (random.nextInt(10) == 0) {
+                    overrides.add(ScheduleOverride.builder()
+                        .templateScheduleActivityId(id)
+                        .overrideDate(startDate.plusDays(random.nextInt(DAYS_IN_MONTH)))
+                        .isCancelled(random.nextBoolean())
+                        .newStartTime(start.plusMinutes(30))
+                        .newEndTime(start.plusMinutes(75))
+                        .build());
+                }
+                id++;
+            }
+        }
+
+        sources = new ScheduleSources(templates, templateActivities, activities, overrides);
+        timeline = ScheduleTimeline.build(startDate, DAYS_IN_MONTH, sources);
+    }
+
+    @Benchmark
+    public ScheduleTimeline buildMonth() {
+        return ScheduleTimeline.build(startDate, DAYS_IN_MONTH, sources);
+    }
+
+    @Benchmark
+    public void serveMonthFromTimeline(Blackhole blackhole) {
+        for (int day = 0; day < DAYS_IN_MONTH; day++) {
+            DailySchedule schedule = timeline.get(startDate.plusDays(day));
+            blackhole.consume(schedule);
+        }
+    }
+}
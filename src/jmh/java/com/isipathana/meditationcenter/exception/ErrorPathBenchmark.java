@@ -0,0 +1,92 @@
+package com.isipathana.meditationcenter.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isipathana.meditationcenter.exception.response.factory.ConstantErrorBodies;
+import com.isipathana.meditationcenter.exception.response.factory.DefaultErrorResponseFactory;
+import com.isipathana.meditationcenter.exception.response.factory.ErrorResponseFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the 401/404 error path, from the throw in a use case to the response bytes.
+ * <p>
+ * {@code stackTraceAndSerialize} is the path before the exceptions dropped their stack trace: the
+ * exception fills in the stack at {@code depth} frames below the handler (about what a Spring MVC
+ * request has), then the response is built and written by Jackson. {@code stacklessAndConstantBody}
+ * throws the current stackless exception and takes the pre-serialized body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorPathBenchmark {
+
+    @Param({"401", "404"})
+    public int status;
+
+    @Param({"120"})
+    public int depth;
+
+    private final ErrorResponseFactory factory = new DefaultErrorResponseFactory();
+    private ObjectMapper mapper;
+    private ConstantErrorBodies constantErrorBodies;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        constantErrorBodies = new ConstantErrorBodies(mapper, factory);
+    }
+
+    @Benchmark
+    public byte[] stackTraceAndSerialize() throws JsonProcessingException {
+        try {
+            throwAt(depth, true);
+            throw new AssertionError();
+        } catch (TracedException e) {
+            return mapper.writeValueAsBytes(factory.createErrorResponse(e.error));
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessAndConstantBody() {
+        try {
+            throwAt(depth, false);
+            throw new AssertionError();
+        } catch (ClientErrorException e) {
+            return constantErrorBodies.find(e);
+        }
+    }
+
+    private void throwAt(int remaining, boolean traced) {
+        if (remaining > 0) {
+            throwAt(remaining - 1, traced);
+            return;
+        }
+        ClientErrorException error = status == 401
+                ? new AuthenticationException("Invalid token")
+                : new ResourceNotFoundException("Booking", 42L);
+        throw traced ? new TracedException(error) : error;
+    }
+
+    /**
+     * Carries the client error with a filled-in stack trace, the cost every 4xx used to pay.
+     */
+    private static final class TracedException extends RuntimeException {
+
+        private final ClientErrorException error;
+
+        private TracedException(ClientErrorException error) {
+            super(error.getMessage());
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.isipathana.meditationcenter.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field-name conversion done for every field error of a failed {@code @Valid} request body.
+ * Lives in the handler's package to reach the package-private helper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SnakeCaseBenchmark {
+
+    @Param({"email", "participantCount", "meditationProgramId", "specialRequirementsForTheFirstNight"})
+    public String field;
+
+    @Benchmark
+    public String convertToSnakeCase() {
+        return GlobalExceptionHandler.convertToSnakeCase(field);
+    }
+}
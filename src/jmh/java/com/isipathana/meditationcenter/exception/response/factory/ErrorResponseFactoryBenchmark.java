@@ -0,0 +1,62 @@
+package com.isipathana.meditationcenter.exception.response.factory;
+
+import com.isipathana.meditationcenter.exception.AuthenticationException;
+import com.isipathana.meditationcenter.exception.BadRequestException;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ForbiddenException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.ServiceUnavailableException;
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.exception.response.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ErrorResponseFactory#createErrorResponse(Exception)} per exception type.
+ * The pattern switch tests cases in order, so types further down (and the default branch)
+ * show how much the dispatch position matters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseFactoryBenchmark {
+
+    @Param({
+        "BAD_REQUEST", "VALIDATION", "AUTHENTICATION", "FORBIDDEN", "NOT_FOUND",
+        "CONFLICT", "UNPROCESSABLE", "SERVICE_UNAVAILABLE", "UNHANDLED"
+    })
+    public String type;
+
+    private final ErrorResponseFactory factory = new DefaultErrorResponseFactory();
+    private Exception exception;
+
+    @Setup
+    public void setUp() {
+        exception = switch (type) {
+            case "BAD_REQUEST" -> new BadRequestException("Malformed date");
+            case "VALIDATION" -> new ValidationException("participant_count", "Participant count must be at least 1");
+            case "AUTHENTICATION" -> new AuthenticationException("Bad credentials");
+            case "FORBIDDEN" -> new ForbiddenException("Only admins can view the dashboard");
+            case "NOT_FOUND" -> new ResourceNotFoundException("Booking", 42L);
+            case "CONFLICT" -> new ConflictException("Program is fully booked");
+            case "UNPROCESSABLE" -> new UnprocessableEntityException("PRICING_NOT_FOUND", "No pricing in effect");
+            case "SERVICE_UNAVAILABLE" -> new ServiceUnavailableException("Too many check-ins", Duration.ofMillis(200));
+            default -> new IllegalStateException("Unexpected");
+        };
+    }
+
+    @Benchmark
+    public ErrorResponse createErrorResponse() {
+        return factory.createErrorResponse(exception);
+    }
+}
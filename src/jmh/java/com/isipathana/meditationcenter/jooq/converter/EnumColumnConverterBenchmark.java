@@ -0,0 +1,79 @@
+package com.isipathana.meditationcenter.jooq.converter;
+
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-value cost of the VARCHAR to enum conversion jOOQ runs for every enum column of every row,
+ * in both directions. Inputs cycle through all constants so no single branch is favoured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumColumnConverterBenchmark {
+
+    private static final int VALUES = 1_024;
+
+    private final EnumColumnConverter<String, BookingStatus> statusConverter =
+        new EnumColumnConverter<>(String.class, BookingStatus.class);
+    private final EnumColumnConverter<String, BookingType> typeConverter =
+        new EnumColumnConverter<>(String.class, BookingType.class);
+
+    private final String[] statusNames = new String[VALUES];
+    private final String[] typeNames = new String[VALUES];
+    private final BookingStatus[] statuses = new BookingStatus[VALUES];
+
+    @Setup
+    public void setUp() {
+        BookingStatus[] allStatuses = BookingStatus.values();
+        BookingType[] allTypes = BookingType.values();
+        for (int i = 0; i < VALUES; i++) {
+            statuses[i] = allStatuses[i % allStatuses.length];
+            statusNames[i] = new String(statuses[i].name());
+            typeNames[i] = new String(allTypes[i % allTypes.length].name());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fromStatus(Blackhole blackhole) {
+        for (String name : statusNames) {
+            blackhole.consume(statusConverter.from(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fromType(Blackhole blackhole) {
+        for (String name : typeNames) {
+            blackhole.consume(typeConverter.from(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void toStatus(Blackhole blackhole) {
+        for (BookingStatus status : statuses) {
+            blackhole.consume(statusConverter.to(status));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fromNull(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(statusConverter.from(null));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.isipathana.meditationcenter.jooq.converter;
+
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a million rows of two enum columns, as a large booking/payment fetch would, with the
+ * converter's lookup table against the {@code Enum.valueOf} call it replaced.
+ * <p>
+ * Every value is a distinct {@code String} instance, like the ones the JDBC driver hands jOOQ,
+ * so neither side benefits from reference equality. The column values are drawn at random so
+ * branch prediction does not learn a fixed cycle. {@code databaseEnum} decodes the same rows as
+ * the jOOQ-generated types of the native enum columns (V16), which the converter maps by ordinal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EnumColumnDecodeBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private final EnumColumnConverter<String, BookingStatus> statusConverter =
+        new EnumColumnConverter<>(String.class, BookingStatus.class);
+    private final EnumColumnConverter<String, PaymentMethod> methodConverter =
+        new EnumColumnConverter<>(String.class, PaymentMethod.class);
+
+    private final EnumColumnConverter<com.isipathana.meditationcenter.jooq.enums.BookingStatus, BookingStatus>
+        databaseStatusConverter = new EnumColumnConverter<>(
+            com.isipathana.meditationcenter.jooq.enums.BookingStatus.class, BookingStatus.class);
+    private final EnumColumnConverter<com.isipathana.meditationcenter.jooq.enums.PaymentMethod, PaymentMethod>
+        databaseMethodConverter = new EnumColumnConverter<>(
+            com.isipathana.meditationcenter.jooq.enums.PaymentMethod.class, PaymentMethod.class);
+
+    private final String[] statusColumn = new String[ROWS];
+    private final String[] methodColumn = new String[ROWS];
+    private final com.isipathana.meditationcenter.jooq.enums.BookingStatus[] databaseStatusColumn =
+        new com.isipathana.meditationcenter.jooq.enums.BookingStatus[ROWS];
+    private final com.isipathana.meditationcenter.jooq.enums.PaymentMethod[] databaseMethodColumn =
+        new com.isipathana.meditationcenter.jooq.enums.PaymentMethod[ROWS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(17);
+        BookingStatus[] statuses = BookingStatus.values();
+        PaymentMethod[] methods = PaymentMethod.values();
+        for (int i = 0; i < ROWS; i++) {
+            statusColumn[i] = new String(statuses[random.nextInt(statuses.length)].name());
+            methodColumn[i] = new String(methods[random.nextInt(methods.length)].name());
+            databaseStatusColumn[i] = databaseStatusConverter.to(statusConverter.from(statusColumn[i]));
+            databaseMethodColumn[i] = databaseMethodConverter.to(methodConverter.from(methodColumn[i]));
+        }
+    }
+
+    @Benchmark
+    public void valueOf(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(Enum.valueOf(BookingStatus.class, statusColumn[i]));
+            blackhole.consume(Enum.valueOf(PaymentMethod.class, methodColumn[i]));
+        }
+    }
+
+    @Benchmark
+    public void converter(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(statusConverter.from(statusColumn[i]));
+            blackhole.consume(methodConverter.from(methodColumn[i]));
+        }
+    }
+
+    @Benchmark
+    public void databaseEnum(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(databaseStatusConverter.from(databaseStatusColumn[i]));
+            blackhole.consume(databaseMethodConverter.from(databaseMethodColumn[i]));
+        }
+    }
+}
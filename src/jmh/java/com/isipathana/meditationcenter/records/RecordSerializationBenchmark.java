@@ -0,0 +1,103 @@
+package com.isipathana.meditationcenter.records;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.event.Event;
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing response lists of the {@code records.*} types to JSON bytes, with an
+ * {@link ObjectMapper} built the way Spring Boot builds the one used by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordSerializationBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private ObjectWriter bookingWriter;
+    private ObjectWriter userWriter;
+    private ObjectWriter eventWriter;
+    private ObjectWriter paymentWriter;
+
+    private List<Booking> bookings;
+    private List<User> users;
+    private List<Event> events;
+    private List<Payment> payments;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        bookingWriter = mapper.writerFor(new TypeReference<List<Booking>>() { });
+        userWriter = mapper.writerFor(new TypeReference<List<User>>() { });
+        eventWriter = mapper.writerFor(new TypeReference<List<Event>>() { });
+        paymentWriter = mapper.writerFor(new TypeReference<List<Payment>>() { });
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 8, 0);
+        bookings = new ArrayList<>(size);
+        users = new ArrayList<>(size);
+        events = new ArrayList<>(size);
+        payments = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            bookings.add(new Booking(i, i % 20, 1L, i % 5_000, BookingType.DAILY, LocalDate.of(2025, 1, 1).plusDays(i),
+                BookingStatus.CONFIRMED, 2, new BigDecimal("50.00"), "Vegetarian meals", null, now, now));
+            users.add(new User(i, "user" + i + "@example.com", "User " + i, "+94771234567", UserRole.USER,
+                true, true, now, now));
+            events.add(new Event(i, "Full moon poya observance", "Sil programme and Dhamma talk",
+                LocalDate.of(2025, 1, 13), LocalTime.of(6, 0), LocalTime.of(18, 0), "Main hall", 300, 120, null,
+                true, true, now, now));
+            payments.add(new Payment(i, i, new BigDecimal("50.00"), PaymentStatus.COMPLETED, PaymentMethod.CARD,
+                "TX-" + i, now, LazyGatewayResponse.loaded(LazyGatewayResponse.Owner.PAYMENT, i, "{\"id\":\"TX-" + i + "\",\"result\":\"success\"}"),
+                BigDecimal.ZERO, null, now, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] bookings() throws JsonProcessingException {
+        return bookingWriter.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] users() throws JsonProcessingException {
+        return userWriter.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] events() throws JsonProcessingException {
+        return eventWriter.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] payments() throws JsonProcessingException {
+        return paymentWriter.writeValueAsBytes(payments);
+    }
+}
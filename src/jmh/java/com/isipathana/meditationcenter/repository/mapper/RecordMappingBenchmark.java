@@ -0,0 +1,137 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
+import static com.isipathana.meditationcenter.jooq.Tables.USERS;
+
+/**
+ * Rows/sec of the old per-method builder lambdas versus the shared index-based mappers,
+ * mapping a 100k-row result set. Scores are reported per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecordMappingBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private Result<Record> bookings;
+    private Result<Record> users;
+
+    @Setup
+    public void setUp() {
+        DSLContext factory = DSL.using(SQLDialect.POSTGRES);
+        Field<?>[] bookingFields = BookingMapper.FIELDS.toArray(Field<?>[]::new);
+        Field<?>[] userFields = UserMapper.FIELDS.toArray(Field<?>[]::new);
+        bookings = factory.newResult(bookingFields);
+        users = factory.newResult(userFields);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int i = 0; i < ROWS; i++) {
+            Record booking = factory.newRecord(bookingFields);
+            booking.set(BOOKING.BOOKING_ID, (long) i);
+            booking.set(BOOKING.MEDITATION_PROGRAM_ID, (long) i % 20);
+            booking.set(BOOKING.PRICING_ID, 1L);
+            booking.set(BOOKING.USER_ID, (long) i % 5_000);
+            booking.set(BOOKING.BOOKING_TYPE, BookingType.DAILY);
+            booking.set(BOOKING.BOOKING_DATE, LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            booking.set(BOOKING.STATUS, BookingStatus.CONFIRMED);
+            booking.set(BOOKING.PARTICIPANT_COUNT, 1);
+            booking.set(BOOKING.AMOUNT, BigDecimal.TEN);
+            booking.set(BOOKING.SPECIAL_REQUIREMENTS, "none");
+            booking.set(BOOKING.CANCELLATION_REASON, null);
+            booking.set(BOOKING.CREATED_AT, now);
+            booking.set(BOOKING.UPDATED_AT, now);
+            bookings.add(booking);
+
+            Record user = factory.newRecord(userFields);
+            user.set(USERS.USER_ID, (long) i);
+            user.set(USERS.EMAIL, "user" + i + "@example.com");
+            user.set(USERS.NAME, "User " + i);
+            user.set(USERS.MOBILE_NUMBER, "+94771234567");
+            user.set(USERS.ROLE, UserRole.USER);
+            user.set(USERS.IS_ACTIVE, true);
+            user.set(USERS.EMAIL_VERIFIED, false);
+            user.set(USERS.CREATED_AT, now);
+            user.set(USERS.UPDATED_AT, now);
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Booking> bookingBuilderLambda() {
+        return bookings.map(record ->
+            Booking.builder()
+                .bookingId(record.get(BOOKING.BOOKING_ID))
+                .meditationProgramId(record.get(BOOKING.MEDITATION_PROGRAM_ID))
+                .pricingId(record.get(BOOKING.PRICING_ID))
+                .userId(record.get(BOOKING.USER_ID))
+                .bookingType(record.get(BOOKING.BOOKING_TYPE))
+                .bookingDate(record.get(BOOKING.BOOKING_DATE))
+                .status(record.get(BOOKING.STATUS))
+                .participantCount(record.get(BOOKING.PARTICIPANT_COUNT))
+                .amount(record.get(BOOKING.AMOUNT))
+                .specialRequirements(record.get(BOOKING.SPECIAL_REQUIREMENTS))
+                .cancellationReason(record.get(BOOKING.CANCELLATION_REASON))
+                .createdAt(record.get(BOOKING.CREATED_AT))
+                .updatedAt(record.get(BOOKING.UPDATED_AT))
+                .build()
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Booking> bookingIndexedMapper() {
+        return bookings.map(BookingMapper.INSTANCE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<User> userBuilderLambda() {
+        return users.map(record ->
+            User.builder()
+                .userId(record.get(USERS.USER_ID))
+                .email(record.get(USERS.EMAIL))
+                .name(record.get(USERS.NAME))
+                .mobileNumber(record.get(USERS.MOBILE_NUMBER))
+                .role(record.get(USERS.ROLE))
+                .isActive(record.get(USERS.IS_ACTIVE))
+                .emailVerified(record.get(USERS.EMAIL_VERIFIED))
+                .createdAt(record.get(USERS.CREATED_AT))
+                .updatedAt(record.get(USERS.UPDATED_AT))
+                .build()
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<User> userIndexedMapper() {
+        return users.map(UserMapper.INSTANCE);
+    }
+}
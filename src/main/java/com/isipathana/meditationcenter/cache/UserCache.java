@@ -0,0 +1,160 @@
+package com.isipathana.meditationcenter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache in front of {@link UserRepository} lookups.
+ * <p>
+ * Users are cached under two keys, their id and their email, and a user loaded through one key
+ * is also made available under the other. Entries are bounded in number and expire after a TTL.
+ * {@link #existsByEmail(String)} additionally remembers emails that are not registered, so a
+ * burst of duplicate-signup checks for new addresses costs one query per address.
+ * <p>
+ * Write paths must call one of the {@code invalidate} methods after committing a change to a user,
+ * otherwise readers may see the old row until it expires. Emails are keys exactly as given, the way
+ * {@link UserRepository#findByEmail} matches them. A miss is loaded through {@link UserRepository},
+ * so it may be answered by the read replica and reflect its lag; the unique constraint on
+ * {@code users.email} is what finally rejects a duplicate signup.
+ * <p>
+ * Hit, miss and eviction counts are published as {@code cache.*} meters tagged
+ * {@code cache=users.by_id}, {@code users.by_email} and {@code users.absent_emails}.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, User> usersByEmail;
+    private final Cache<String, Boolean> absentEmails;
+
+    @Autowired
+    public UserCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this(userRepository, properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    /**
+     * Uses {@code ticker} as the clock for expiry, so tests can step past the TTLs.
+     */
+    UserCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        this.usersByEmail = Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        this.absentEmails = Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.negativeTtl())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by_id");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "users.by_email");
+        CaffeineCacheMetrics.monitor(meterRegistry, absentEmails, "users.absent_emails");
+    }
+
+    /**
+     * Find user by ID, loading from the database on a miss.
+     *
+     * @return The user, or null if no user has this ID
+     */
+    public User findById(Long userId) {
+        return usersById.get(userId, id -> {
+            User user = userRepository.findById(id);
+            if (user != null && Boolean.TRUE.equals(user.isActive())) {
+                usersByEmail.put(user.email(), user);
+            }
+            return user;
+        });
+    }
+
+    /**
+     * Find active user by email, loading from the database on a miss.
+     *
+     * @return The user, or null if no active user has this email
+     */
+    public User findByEmail(String email) {
+        return usersByEmail.get(email, key -> {
+            User user = userRepository.findByEmail(key);
+            if (user != null) {
+                usersById.put(user.userId(), user);
+                absentEmails.invalidate(key);
+            }
+            return user;
+        });
+    }
+
+    /**
+     * Check if email exists, consulting the cached users and the negative cache first.
+     */
+    public boolean existsByEmail(String email) {
+        if (usersByEmail.getIfPresent(email) != null) {
+            return true;
+        }
+        if (absentEmails.getIfPresent(email) != null) {
+            return false;
+        }
+
+        boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            absentEmails.put(email, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * Drops every cached entry for this user, under both its id and its email.
+     * Call after creating, updating or deactivating the user.
+     */
+    public void invalidate(User user) {
+        invalidateById(user.userId());
+        invalidateByEmail(user.email());
+    }
+
+    /**
+     * Drops the cached entry for this user ID, and the email entry it was cached under.
+     */
+    public void invalidateById(Long userId) {
+        User cached = usersById.asMap().remove(userId);
+        if (cached != null) {
+            usersByEmail.invalidate(cached.email());
+        }
+    }
+
+    /**
+     * Drops the cached entry for this email, including a cached "not registered" answer.
+     * Call after a signup so the new address is visible immediately.
+     */
+    public void invalidateByEmail(String email) {
+        User cached = usersByEmail.asMap().remove(email);
+        if (cached != null) {
+            usersById.invalidate(cached.userId());
+        }
+        absentEmails.invalidate(email);
+    }
+
+    /**
+     * Drops every cached entry, e.g. after a bulk update of the users table.
+     */
+    public void invalidateAll() {
+        usersById.invalidateAll();
+        usersByEmail.invalidateAll();
+        absentEmails.invalidateAll();
+    }
+}
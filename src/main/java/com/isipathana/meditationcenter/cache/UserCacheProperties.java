@@ -0,0 +1,21 @@
+package com.isipathana.meditationcenter.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Sizing and expiry for {@link UserCache}.
+ *
+ * @param maximumSize Maximum number of users held per key space (id and email)
+ * @param ttl         How long a cached user stays valid after it was loaded
+ * @param negativeTtl How long an email is remembered as "not registered"
+ */
+@ConfigurationProperties(prefix = "meditation.cache.users")
+public record UserCacheProperties(
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("10m") Duration ttl,
+    @DefaultValue("30s") Duration negativeTtl
+) {
+}
@@ -0,0 +1,60 @@
+package com.isipathana.meditationcenter.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the {@code dataSource} bean in a {@link ConnectionLimitingDataSource} sized to the Hikari pool,
+ * unless {@code meditation.datasource.concurrency.enabled=false}.
+ * <p>
+ * Settings are bound straight from the {@link Environment}: a post-processor is created before
+ * configuration properties beans are, and must not pull them in early.
+ */
+@Component
+public class ConnectionLimitingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    static final int ORDER = 0;
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionLimitingDataSourcePostProcessor.class);
+
+    private final Environment environment;
+
+    public ConnectionLimitingDataSourcePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                || bean instanceof ConnectionLimitingDataSource) {
+            return bean;
+        }
+
+        DatabaseConcurrencyProperties properties = Binder.get(environment)
+            .bindOrCreate("meditation.datasource.concurrency", DatabaseConcurrencyProperties.class);
+        if (!properties.enabled()) {
+            return bean;
+        }
+
+        int maxConcurrent = properties.maxConcurrent();
+        if (maxConcurrent <= 0) {
+            maxConcurrent = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+        }
+        logger.info("Limiting concurrent database connections to {} (acquire timeout {})",
+            maxConcurrent, properties.acquireTimeout());
+        return new ConnectionLimitingDataSource(dataSource, maxConcurrent, properties.acquireTimeout());
+    }
+}
@@ -0,0 +1,21 @@
+package com.isipathana.meditationcenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limits on how many threads may hold a database connection at once.
+ *
+ * @param enabled        Whether the {@code dataSource} bean is wrapped in a {@link ConnectionLimitingDataSource}
+ * @param maxConcurrent  Connections that may be checked out at once; 0 means the Hikari maximum pool size
+ * @param acquireTimeout How long a thread waits for a permit before the request fails
+ */
+@ConfigurationProperties(prefix = "meditation.datasource.concurrency")
+public record DatabaseConcurrencyProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0") int maxConcurrent,
+    @DefaultValue("5s") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,44 @@
+package com.isipathana.meditationcenter.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Deadline for the statements the current thread runs, enforced by {@link QueryDeadlineListener}
+ * as a JDBC query timeout.
+ * <p>
+ * For work that is abandoned once a deadline passes: cancelling or interrupting the thread does not
+ * stop a statement that is already waiting on the database, the query timeout does, so the pooled
+ * connection and the worker thread are given back instead of staying busy with a discarded result.
+ */
+public final class QueryDeadline {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private QueryDeadline() {
+    }
+
+    /**
+     * Runs {@code work} with every statement limited to the time left until {@code deadlineNanos}
+     * ({@link System#nanoTime()} based).
+     */
+    public static <T> T within(long deadlineNanos, Supplier<T> work) {
+        Long previous = CURRENT.get();
+        CURRENT.set(deadlineNanos);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The current thread's deadline, or null if its statements have none
+     */
+    static Long current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,18 @@
+package com.isipathana.meditationcenter.config;
+
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link QueryDeadlineListener} with the jOOQ configuration.
+ */
+@Configuration
+public class QueryDeadlineConfig {
+
+    @Bean
+    public ExecuteListenerProvider queryDeadlineListenerProvider() {
+        return new DefaultExecuteListenerProvider(new QueryDeadlineListener());
+    }
+}
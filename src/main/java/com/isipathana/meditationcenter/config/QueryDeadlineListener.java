@@ -0,0 +1,33 @@
+package com.isipathana.meditationcenter.config;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets the query timeout of each statement run under a {@link QueryDeadline} to the time left.
+ * JDBC timeouts are whole seconds, so the time left is rounded up; a statement whose deadline has
+ * already passed is not sent at all. The driver cancels a statement that runs into its timeout.
+ */
+public class QueryDeadlineListener implements ExecuteListener {
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        Long deadline = QueryDeadline.current();
+        if (deadline == null || ctx.statement() == null) {
+            return;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new QueryTimeoutException("Deadline passed before the statement was sent: " + ctx.sql());
+        }
+        try {
+            ctx.statement().setQueryTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L)));
+        } catch (SQLException e) {
+            throw new QueryTimeoutException("Could not set the query timeout", e);
+        }
+    }
+}
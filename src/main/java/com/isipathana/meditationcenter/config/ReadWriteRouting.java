@@ -0,0 +1,72 @@
+package com.isipathana.meditationcenter.config;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-request state deciding whether a connection may come from the read replica.
+ * <p>
+ * A connection is taken from the replica only inside a request, inside a read-only repository
+ * method ({@link ReplicaReadAspect}), outside a transaction, and only while the request has not
+ * written anything ({@link WriteTrackingListener}) or been made sticky because the same user wrote
+ * shortly before ({@link ReadWriteRoutingFilter}). Everything else, including scheduled jobs and work
+ * handed to other threads, uses the primary.
+ */
+public final class ReadWriteRouting {
+
+    private static final ThreadLocal<ReadWriteRouting> CURRENT = new ThreadLocal<>();
+
+    private final boolean sticky;
+    private boolean wrote;
+    private int readOnlyDepth;
+
+    private ReadWriteRouting(boolean sticky) {
+        this.sticky = sticky;
+    }
+
+    static ReadWriteRouting open(boolean sticky) {
+        ReadWriteRouting routing = new ReadWriteRouting(sticky);
+        CURRENT.set(routing);
+        return routing;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static void enterReadOnly() {
+        ReadWriteRouting routing = CURRENT.get();
+        if (routing != null) {
+            routing.readOnlyDepth++;
+        }
+    }
+
+    static void exitReadOnly() {
+        ReadWriteRouting routing = CURRENT.get();
+        if (routing != null) {
+            routing.readOnlyDepth--;
+        }
+    }
+
+    static void markWrite() {
+        ReadWriteRouting routing = CURRENT.get();
+        if (routing != null) {
+            routing.wrote = true;
+        }
+    }
+
+    /**
+     * Whether a connection requested now may be served by the replica, lag permitting.
+     */
+    static boolean replicaAllowed() {
+        ReadWriteRouting routing = CURRENT.get();
+        return routing != null
+            && routing.readOnlyDepth > 0
+            && !routing.sticky
+            && !routing.wrote
+            && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    public boolean wrote() {
+        return wrote;
+    }
+}
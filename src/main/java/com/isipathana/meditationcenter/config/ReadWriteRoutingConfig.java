@@ -0,0 +1,51 @@
+package com.isipathana.meditationcenter.config;
+
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Pieces of the read/write split that live beside the {@link ReadWriteRoutingDataSource}, which
+ * {@link ReadWriteRoutingDataSourcePostProcessor} puts in place of the {@code dataSource} bean.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "meditation.datasource.replica", name = "enabled")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    public ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+
+    @Bean
+    public ExecuteListenerProvider writeTrackingListenerProvider() {
+        return new DefaultExecuteListenerProvider(new WriteTrackingListener());
+    }
+
+    @Bean
+    public ReplicaLagProbe replicaLagProbe(Logger logger, DataSource dataSource) {
+        if (!(dataSource instanceof ReadWriteRoutingDataSource routing)) {
+            throw new IllegalStateException("Expected the dataSource bean to be a ReadWriteRoutingDataSource, got "
+                + dataSource.getClass().getName());
+        }
+        return new ReplicaLagProbe(logger, routing);
+    }
+
+    /**
+     * Runs right after the security filter chain, so the user is known.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadWriteRoutingFilter> readWriteRoutingFilter(ReplicaDataSourceProperties properties) {
+        FilterRegistrationBean<ReadWriteRoutingFilter> registration =
+            new FilterRegistrationBean<>(new ReadWriteRoutingFilter(properties.stickyAfterWrite()));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,96 @@
+package com.isipathana.meditationcenter.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hands out primary or replica connections, deciding per {@code getConnection()} call.
+ * <p>
+ * The replica is used when {@link ReadWriteRouting#replicaAllowed()} and its last measured lag is
+ * within {@code maxLag}; an unknown lag (not measured yet, or the probe failed) counts as too much.
+ * Transactions take their connection when they begin, before any repository method runs, so
+ * they always stay on the primary.
+ * <p>
+ * Also binds the primary's meters (the connection limiter's gauges), the replica's Hikari pool
+ * metrics, and {@code db.replica.lag} in seconds ({@code NaN} while unknown).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, AutoCloseable {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private volatile Duration replicaLag;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReadWriteRouting.replicaAllowed() && replicaUsable() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public DataSource replica() {
+        return replica;
+    }
+
+    /**
+     * Records the replica's lag as last measured, or {@code null} when it could not be measured.
+     */
+    public void updateReplicaLag(Duration lag) {
+        this.replicaLag = lag;
+    }
+
+    public boolean replicaUsable() {
+        Duration lag = replicaLag;
+        return lag != null && lag.compareTo(maxLag) <= 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (primary instanceof MeterBinder binder) {
+            binder.bindTo(registry);
+        }
+        if (replica instanceof HikariDataSource hikari
+                && hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+            hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        Gauge.builder("db.replica.lag", this, routing -> {
+                Duration lag = routing.replicaLag;
+                return lag == null ? Double.NaN : lag.toNanos() / 1e9;
+            })
+            .description("Replication lag of the read replica as last measured")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    /**
+     * Closes the replica pool, which only this data source knows about.
+     */
+    @Override
+    public void close() {
+        if (replica instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.isipathana.meditationcenter.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the {@code dataSource} bean in a {@link ReadWriteRoutingDataSource} with a Hikari pool for
+ * the replica, when {@code meditation.datasource.replica.enabled=true}.
+ * <p>
+ * Ordered after {@link ConnectionLimitingDataSourcePostProcessor}, so the limiter still sits
+ * directly on the primary pool and is sized from it; the replica pool is bounded by its own size.
+ */
+@Component
+public class ReadWriteRoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSourcePostProcessor.class);
+
+    private final Environment environment;
+
+    public ReadWriteRoutingDataSourcePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public int getOrder() {
+        return ConnectionLimitingDataSourcePostProcessor.ORDER + 1;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+                || bean instanceof ReadWriteRoutingDataSource) {
+            return bean;
+        }
+
+        ReplicaDataSourceProperties properties = Binder.get(environment)
+            .bindOrCreate("meditation.datasource.replica", ReplicaDataSourceProperties.class);
+        if (!properties.enabled()) {
+            return bean;
+        }
+        if (properties.url() == null || properties.url().isBlank()) {
+            throw new IllegalStateException(
+                "meditation.datasource.replica.url must be set when meditation.datasource.replica.enabled=true");
+        }
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(properties.url());
+        replica.setUsername(properties.username() != null ? properties.username() : environment.getProperty("spring.datasource.username"));
+        replica.setPassword(properties.password() != null ? properties.password() : environment.getProperty("spring.datasource.password"));
+        replica.setMaximumPoolSize(properties.maximumPoolSize());
+        replica.setReadOnly(true);
+
+        logger.info("Routing read-only repository methods to the replica at {} (max lag {})",
+            properties.url(), properties.maxLag());
+        return new ReadWriteRoutingDataSource(primary, replica, properties.maxLag());
+    }
+}
@@ -0,0 +1,77 @@
+package com.isipathana.meditationcenter.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Scopes {@link ReadWriteRouting} to a request and carries read-your-writes across requests.
+ * <p>
+ * When an authenticated user's request writes, their requests for the next {@code stickyAfterWrite}
+ * read from the primary too, so a booking made in one request is visible in the next even while the
+ * replica is behind. Runs after the security filter chain, which supplies the user. Anonymous
+ * requests all share the name {@code anonymousUser}, so they are never made sticky.
+ */
+public class ReadWriteRoutingFilter extends OncePerRequestFilter {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final long stickyNanos;
+    private final ConcurrentMap<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingFilter(Duration stickyAfterWrite) {
+        this.stickyNanos = stickyAfterWrite.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String user = currentUser();
+        ReadWriteRouting routing = ReadWriteRouting.open(user != null && wroteRecently(user));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadWriteRouting.close();
+            if (user != null && routing.wrote()) {
+                rememberWrite(user);
+            }
+        }
+    }
+
+    private boolean wroteRecently(String user) {
+        Long wroteAt = recentWrites.get(user);
+        if (wroteAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - wroteAt < stickyNanos) {
+            return true;
+        }
+        recentWrites.remove(user, wroteAt);
+        return false;
+    }
+
+    private void rememberWrite(String user) {
+        long now = System.nanoTime();
+        recentWrites.put(user, now);
+        if (recentWrites.size() > PRUNE_THRESHOLD) {
+            recentWrites.values().removeIf(wroteAt -> now - wroteAt >= stickyNanos);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return TRUST_RESOLVER.isAuthenticated(authentication) ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.isipathana.meditationcenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica that read-only repository methods are routed to, see {@link ReadWriteRoutingDataSource}.
+ *
+ * @param enabled           Whether the {@code dataSource} bean routes reads to the replica
+ * @param url               JDBC URL of the replica
+ * @param username          Replica user; the primary's when not set
+ * @param password          Replica password; the primary's when not set
+ * @param maximumPoolSize   Connections in the replica pool
+ * @param maxLag            Replication lag above which reads go to the primary
+ * @param lagCheckInterval  How often the replica's lag is measured
+ * @param stickyAfterWrite  How long a user's requests read from the primary after a request of theirs wrote
+ */
+@ConfigurationProperties(prefix = "meditation.datasource.replica")
+public record ReplicaDataSourceProperties(
+    @DefaultValue("false") boolean enabled,
+    String url,
+    String username,
+    String password,
+    @DefaultValue("10") int maximumPoolSize,
+    @DefaultValue("2s") Duration maxLag,
+    @DefaultValue("1s") Duration lagCheckInterval,
+    @DefaultValue("5s") Duration stickyAfterWrite
+) {
+}
@@ -0,0 +1,70 @@
+package com.isipathana.meditationcenter.config;
+
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Measures the replica's replication lag and hands it to {@link ReadWriteRoutingDataSource}.
+ * <p>
+ * A replica that is streaming and has replayed everything it received reports no lag, however long
+ * ago the last transaction was; otherwise the lag is the age of the last replayed transaction. A
+ * server that is not in recovery (e.g. a second pool on the primary in development) reports no lag
+ * either.
+ * <p>
+ * A replica that is not streaming reports unknown lag. Its received WAL can be fully replayed while
+ * the primary has moved on, for example after the WAL receiver lost its connection. Not streaming
+ * means there is no WAL receiver process, it is in another state, or nothing was ever received.
+ * Without {@code pg_read_all_stats} the receiver's state is hidden, and an existing receiver is
+ * taken as streaming. When the lag is unknown, or the probe fails, reads fall back to the primary.
+ */
+public class ReplicaLagProbe {
+
+    private static final String LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() IS NULL
+                OR NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status IS NULL OR status = 'streaming')
+                THEN NULL
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+        END""";
+
+    private final Logger logger;
+    private final ReadWriteRoutingDataSource dataSource;
+    private boolean usable;
+
+    public ReplicaLagProbe(Logger logger, ReadWriteRoutingDataSource dataSource) {
+        this.logger = logger;
+        this.dataSource = dataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${meditation.datasource.replica.lag-check-interval:PT1S}")
+    public synchronized void probe() {
+        Duration lag;
+        try {
+            BigDecimal seconds = DSL.using(dataSource.replica(), SQLDialect.POSTGRES)
+                .resultQuery(LAG_SQL)
+                .fetchOne(0, BigDecimal.class);
+            lag = seconds == null ? null : Duration.ofNanos(seconds.movePointRight(9).longValue());
+        } catch (RuntimeException e) {
+            logger.warn("Replica lag check failed: {}", e.getMessage());
+            lag = null;
+        }
+        dataSource.updateReplicaLag(lag);
+
+        boolean nowUsable = dataSource.replicaUsable();
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                logger.info("Replica caught up (lag {}), routing reads to it", lag);
+            } else {
+                logger.warn("Replica lag {} above the limit, routing reads to the primary", lag == null ? "unknown" : lag);
+            }
+            usable = nowUsable;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.isipathana.meditationcenter.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Marks the {@code find*} and {@code exists*} methods of {@code BookingRepository} and
+ * {@code UserRepository} as read-only, so {@link ReadWriteRoutingDataSource} may serve their
+ * queries from the replica.
+ */
+@Aspect
+public class ReplicaReadAspect {
+
+    @Around("execution(public * com.isipathana.meditationcenter.repository.BookingRepository.find*(..))"
+        + " || execution(public * com.isipathana.meditationcenter.repository.BookingRepository.exists*(..))"
+        + " || execution(public * com.isipathana.meditationcenter.repository.UserRepository.find*(..))"
+        + " || execution(public * com.isipathana.meditationcenter.repository.UserRepository.exists*(..))")
+    public Object readOnly(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReadWriteRouting.enterReadOnly();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadWriteRouting.exitReadOnly();
+        }
+    }
+}
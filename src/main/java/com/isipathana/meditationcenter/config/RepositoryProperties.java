@@ -0,0 +1,30 @@
+package com.isipathana.meditationcenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning knobs shared by the jOOQ repositories.
+ *
+ * @param fetchSize       JDBC fetch size used by streaming reads (rows per round trip)
+ * @param defaultPageSize Page size used by keyset-paginated reads when the caller passes none
+ * @param maxPageSize     Upper bound applied to caller-supplied page sizes
+ */
+@ConfigurationProperties(prefix = "meditation.repository")
+public record RepositoryProperties(
+    @DefaultValue("500") int fetchSize,
+    @DefaultValue("100") int defaultPageSize,
+    @DefaultValue("1000") int maxPageSize
+) {
+
+    /**
+     * Clamps a requested page size into {@code [1, maxPageSize]}.
+     * A null or non-positive request falls back to the default page size.
+     */
+    public int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
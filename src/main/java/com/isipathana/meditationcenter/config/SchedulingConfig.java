@@ -0,0 +1,12 @@
+package com.isipathana.meditationcenter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, used by background reconciliation jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,19 @@
+package com.isipathana.meditationcenter.config;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+
+/**
+ * Marks the request as having written once it runs anything other than a plain read, so its later
+ * reads go to the primary and see the write.
+ */
+public class WriteTrackingListener implements ExecuteListener {
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        if (ctx.type() != ExecuteType.READ) {
+            ReadWriteRouting.markWrite();
+        }
+    }
+}
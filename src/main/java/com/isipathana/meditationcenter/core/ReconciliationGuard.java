@@ -0,0 +1,48 @@
+package com.isipathana.meditationcenter.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells a background reconciliation whether an in-memory counter was left alone long enough to be
+ * overwritten with a value recomputed from the database.
+ * <p>
+ * Every change to the counter runs between {@link #begin()} and {@link #end()}. Reconciliation
+ * reads {@link #version()} before it queries the database and only overwrites the counter if
+ * {@link #quiet(long)} still holds afterwards, so a write that committed while the query ran is
+ * never lost. The counters guarded this way are per application instance: run a single instance,
+ * or keep each program, event or campaign sticky to one.
+ */
+public final class ReconciliationGuard {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong();
+
+    public void begin() {
+        inFlight.incrementAndGet();
+        version.incrementAndGet();
+    }
+
+    public void end() {
+        version.incrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Whether a change is running right now.
+     */
+    public boolean busy() {
+        return inFlight.get() != 0;
+    }
+
+    /**
+     * Whether nothing is running and nothing ran since {@code expectedVersion} was read.
+     */
+    public boolean quiet(long expectedVersion) {
+        return inFlight.get() == 0 && version.get() == expectedVersion;
+    }
+}
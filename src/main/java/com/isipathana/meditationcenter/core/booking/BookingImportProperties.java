@@ -0,0 +1,19 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for {@link ImportBookingsUseCase}.
+ *
+ * @param chunkSize          Default number of rows written per transaction
+ * @param maxChunkSize       Upper bound for a caller-supplied chunk size
+ * @param maxReportedErrors  Number of row errors listed in the result before truncating
+ */
+@ConfigurationProperties(prefix = "meditation.booking-import")
+public record BookingImportProperties(
+    @DefaultValue("500") int chunkSize,
+    @DefaultValue("5000") int maxChunkSize,
+    @DefaultValue("1000") int maxReportedErrors
+) {
+}
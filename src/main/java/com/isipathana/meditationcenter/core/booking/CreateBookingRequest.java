@@ -0,0 +1,15 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record CreateBookingRequest(
+    Long meditationProgramId,
+    BookingType bookingType,
+    LocalDate bookingDate,
+    Integer participantCount,
+    String specialRequirements
+) {}
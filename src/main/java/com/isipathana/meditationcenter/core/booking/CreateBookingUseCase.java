@@ -0,0 +1,74 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.architecture.AuthenticatedUseCase;
+import com.isipathana.meditationcenter.core.pricing.PricingIndex;
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.pricing.Pricing;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Books seats in a meditation program for the authenticated user.
+ * The amount is the price in effect for the booking type on the booking date (from {@link PricingIndex})
+ * times the participant count; the client does not choose the pricing row.
+ * Seats are reserved in {@link SeatInventory} first; the booking row is only inserted
+ * once the reservation succeeded. A sold-out date results in a 409 Conflict.
+ */
+@Service
+@RequiredArgsConstructor
+public class CreateBookingUseCase implements AuthenticatedUseCase<User, CreateBookingRequest, Booking> {
+
+    private final PricingIndex pricingIndex;
+    private final SeatInventory seatInventory;
+    private final BookingRepository bookingRepository;
+
+    @Override
+    public Booking handle(User principal, CreateBookingRequest request) {
+        validate(request);
+
+        Pricing pricing = pricingIndex.priceFor(request.bookingType(), request.bookingDate());
+        Booking booking = Booking.builder()
+            .meditationProgramId(request.meditationProgramId())
+            .pricingId(pricing.pricingId())
+            .userId(principal.userId())
+            .bookingType(request.bookingType())
+            .bookingDate(request.bookingDate())
+            .status(BookingStatus.PENDING)
+            .participantCount(request.participantCount())
+            .amount(pricing.price().multiply(BigDecimal.valueOf(request.participantCount())))
+            .specialRequirements(request.specialRequirements())
+            .build();
+
+        return seatInventory.reserve(
+            booking.meditationProgramId(),
+            booking.bookingDate(),
+            booking.participantCount(),
+            () -> bookingRepository.insert(booking));
+    }
+
+    private void validate(CreateBookingRequest request) {
+        if (request.meditationProgramId() == null) {
+            throw new ValidationException("meditation_program_id", "Meditation program is required");
+        }
+        if (request.bookingType() == null) {
+            throw new ValidationException("booking_type", "Booking type is required");
+        }
+        if (request.bookingDate() == null) {
+            throw new ValidationException("booking_date", "Booking date is required");
+        }
+        if (request.participantCount() == null || request.participantCount() < 1) {
+            throw new ValidationException("participant_count", "Participant count must be at least 1");
+        }
+        if (request.bookingDate().isBefore(LocalDate.now())) {
+            throw new UnprocessableEntityException("BOOKING_DATE_IN_PAST", "Booking date is in the past");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming reader for RFC 4180 style CSV with a header row.
+ * Reads one record at a time, so the whole file is never held in memory.
+ * Quoted fields may contain commas, doubled quotes and line breaks.
+ * A leading UTF-8 byte order mark, as written by Excel, is ignored.
+ */
+class CsvRowReader {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private long linesRead;
+    private long rowLine;
+
+    CsvRowReader(BufferedReader reader) {
+        this.reader = reader;
+        List<String> columns = readRecord();
+        if (columns == null) {
+            throw new ValidationException("file", "CSV file is empty");
+        }
+        if (!columns.getFirst().isEmpty() && columns.getFirst().charAt(0) == BYTE_ORDER_MARK) {
+            columns.set(0, columns.getFirst().substring(1));
+        }
+        this.header = columns.stream()
+            .map(column -> column.strip().toLowerCase(Locale.ROOT))
+            .toList();
+    }
+
+    List<String> header() {
+        return header;
+    }
+
+    /**
+     * Line number (1-based) where the most recently returned row started.
+     */
+    long lineNumber() {
+        return rowLine;
+    }
+
+    /**
+     * Next data row keyed by lower-cased header name, or null at end of input.
+     * Blank lines are skipped.
+     */
+    Map<String, String> next() {
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.getFirst().isBlank());
+
+        Map<String, String> row = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size(); i++) {
+            String value = i < values.size() ? values.get(i).strip() : "";
+            row.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        return row;
+    }
+
+    private List<String> readRecord() {
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            rowLine = ++linesRead;
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    // Line break inside a quoted field: keep it and continue with the next line
+                    String continuation = reader.readLine();
+                    if (continuation == null) {
+                        throw new ValidationException("line " + rowLine, "Unterminated quoted field");
+                    }
+                    linesRead++;
+                    value.append('\n');
+                    line = continuation;
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value.toString());
+            return values;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
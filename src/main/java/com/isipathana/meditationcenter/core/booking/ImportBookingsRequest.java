@@ -0,0 +1,15 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import lombok.Builder;
+
+import java.io.Reader;
+
+/**
+ * @param csv       CSV content with a header row; read in a streaming fashion and not closed by the use case
+ * @param chunkSize Rows written per transaction, or null for the configured default
+ */
+@Builder
+public record ImportBookingsRequest(
+    Reader csv,
+    Integer chunkSize
+) {}
@@ -0,0 +1,49 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk booking import.
+ *
+ * @param rowsRead        Data rows read from the CSV
+ * @param rowsImported    Rows committed to the database
+ * @param rowsRejected    Rows skipped because of validation errors, missing seats or a failed chunk
+ * @param errors          Per-row errors (capped; see {@code errorsTruncated})
+ * @param errorsTruncated Whether more errors occurred than are listed
+ * @param chunks          Timing of every chunk that was written
+ * @param elapsedMillis   Wall-clock time of the whole import
+ * @param rowsPerSecond   Imported rows per second of wall-clock time
+ */
+@Builder
+public record ImportBookingsResult(
+    long rowsRead,
+    long rowsImported,
+    long rowsRejected,
+    List<RowError> errors,
+    boolean errorsTruncated,
+    List<ChunkStats> chunks,
+    long elapsedMillis,
+    double rowsPerSecond
+) {
+
+    /**
+     * A rejected row, in the same field/message shape as a validation error response.
+     *
+     * @param line    Line number in the CSV where the row starts (the header is line 1)
+     * @param field   Offending column, or null when the row failed as part of its chunk
+     * @param message What was wrong with the row
+     */
+    public record RowError(long line, String field, String message) {
+    }
+
+    /**
+     * @param chunk         Chunk number, starting at 1
+     * @param rows          Rows in the chunk
+     * @param latencyMillis Time spent writing and committing the chunk
+     * @param committed     Whether the chunk's transaction committed
+     */
+    public record ChunkStats(int chunk, int rows, long latencyMillis, boolean committed) {
+    }
+}
@@ -0,0 +1,276 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Imports bookings from a CSV file.
+ * <p>
+ * Rows are streamed, validated one at a time and written in chunks: each chunk is a single
+ * batched insert in its own transaction, so a bad chunk never rolls back chunks that were
+ * already committed. A row that fails validation is reported with its line number and the
+ * offending column and skipped; it does not fail the import. A file that cannot be read any
+ * further (an unterminated quoted field, a broken upload) ends the import at that line: it is
+ * reported as the last rejected row, and the rows read before it are still written.
+ * <p>
+ * Non-cancelled rows for today or later take seats from {@link SeatInventory} before their chunk
+ * is written, so an import cannot overbook a program. The seats are handed back if the chunk fails.
+ * <p>
+ * Expected columns (header names, any order): {@code meditation_program_id}, {@code pricing_id},
+ * {@code user_id}, {@code booking_type}, {@code booking_date} (ISO), {@code participant_count},
+ * {@code amount}, optionally {@code status} (default PENDING) and {@code special_requirements}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportBookingsUseCase implements UseCase<ImportBookingsRequest, ImportBookingsResult> {
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of(
+        "meditation_program_id", "pricing_id", "user_id", "booking_type",
+        "booking_date", "participant_count", "amount");
+
+    private final Logger logger;
+    private final SeatInventory seatInventory;
+    private final BookingRepository bookingRepository;
+    private final BookingImportProperties properties;
+
+    @Override
+    public ImportBookingsResult handle(ImportBookingsRequest request) {
+        if (request.csv() == null) {
+            throw new ValidationException("file", "CSV file is required");
+        }
+        int chunkSize = chunkSize(request.chunkSize());
+
+        CsvRowReader reader = new CsvRowReader(new BufferedReader(request.csv()));
+        List<String> missing = REQUIRED_COLUMNS.stream()
+            .filter(column -> !reader.header().contains(column))
+            .sorted()
+            .toList();
+        if (!missing.isEmpty()) {
+            throw new ValidationException("file", "Missing CSV columns: " + String.join(", ", missing));
+        }
+
+        Progress progress = new Progress(properties.maxReportedErrors());
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        long started = System.nanoTime();
+
+        while (true) {
+            Map<String, String> row;
+            try {
+                row = reader.next();
+            } catch (ValidationException | UncheckedIOException e) {
+                // Nothing after this point can be read; keep what was, and report where it stopped
+                progress.rowsRead++;
+                progress.reject(reader.lineNumber(), null, "Import stopped: " + e.getMessage());
+                break;
+            }
+            if (row == null) {
+                break;
+            }
+            progress.rowsRead++;
+            long line = reader.lineNumber();
+            try {
+                chunk.add(new PendingRow(line, toBooking(row)));
+            } catch (ValidationException e) {
+                progress.reject(line, e.getField(), e.getMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Booking import finished: {} rows read, {} imported, {} rejected in {} ms",
+            progress.rowsRead, progress.rowsImported, progress.rowsRejected, elapsedMillis);
+
+        return ImportBookingsResult.builder()
+            .rowsRead(progress.rowsRead)
+            .rowsImported(progress.rowsImported)
+            .rowsRejected(progress.rowsRejected)
+            .errors(List.copyOf(progress.errors))
+            .errorsTruncated(progress.rowsRejected > progress.errors.size())
+            .chunks(List.copyOf(progress.chunks))
+            .elapsedMillis(elapsedMillis)
+            .rowsPerSecond(elapsedMillis == 0 ? progress.rowsImported : progress.rowsImported * 1000.0 / elapsedMillis)
+            .build();
+    }
+
+    private void writeChunk(List<PendingRow> chunk, Progress progress) {
+        long started = System.nanoTime();
+        List<PendingRow> accepted = new ArrayList<>(chunk.size());
+        List<SeatInventory.SeatHold> holds = new ArrayList<>(chunk.size());
+        boolean committed = false;
+        try {
+            for (PendingRow pending : chunk) {
+                try {
+                    holdSeats(pending.booking()).ifPresent(holds::add);
+                    accepted.add(pending);
+                } catch (ConflictException | ResourceNotFoundException e) {
+                    progress.reject(pending.line(), "meditation_program_id", e.getMessage());
+                }
+            }
+
+            try {
+                bookingRepository.insertAll(accepted.stream().map(PendingRow::booking).toList());
+                committed = true;
+                progress.rowsImported += accepted.size();
+            } catch (DataAccessException e) {
+                logger.warn("Booking import chunk {} failed: {}", progress.chunks.size() + 1, e.getMessage());
+                String reason = "Chunk failed to write: " + e.getMostSpecificCause().getMessage();
+                accepted.forEach(pending -> progress.reject(pending.line(), null, reason));
+            }
+        } finally {
+            // Any failure before the commit, not only a DataAccessException, hands the seats back
+            if (!committed) {
+                holds.forEach(SeatInventory.SeatHold::cancel);
+            }
+            holds.forEach(SeatInventory.SeatHold::close);
+        }
+
+        progress.chunks.add(new ImportBookingsResult.ChunkStats(
+            progress.chunks.size() + 1, accepted.size(), (System.nanoTime() - started) / 1_000_000, committed));
+    }
+
+    /**
+     * Past and cancelled bookings are historical records and take no seats.
+     */
+    private Optional<SeatInventory.SeatHold> holdSeats(Booking booking) {
+        if (booking.status() == BookingStatus.CANCELLED || booking.bookingDate().isBefore(LocalDate.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(seatInventory.hold(
+            booking.meditationProgramId(), booking.bookingDate(), booking.participantCount()));
+    }
+
+    private Booking toBooking(Map<String, String> row) {
+        int participantCount = parseInt(row, "participant_count");
+        if (participantCount < 1) {
+            throw new ValidationException("participant_count", "Participant count must be at least 1");
+        }
+        BigDecimal amount = parseAmount(row);
+
+        String status = row.get("status");
+        return Booking.builder()
+            .meditationProgramId(parseLong(row, "meditation_program_id"))
+            .pricingId(parseLong(row, "pricing_id"))
+            .userId(parseLong(row, "user_id"))
+            .bookingType(parseEnum(row, "booking_type", BookingType.class))
+            .bookingDate(parseDate(row))
+            .status(status == null ? BookingStatus.PENDING : parseEnum(row, "status", BookingStatus.class))
+            .participantCount(participantCount)
+            .amount(amount)
+            .specialRequirements(row.get("special_requirements"))
+            .build();
+    }
+
+    private static String required(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            throw new ValidationException(column, "Value is required");
+        }
+        return value;
+    }
+
+    private static long parseLong(Map<String, String> row, String column) {
+        try {
+            return Long.parseLong(required(row, column));
+        } catch (NumberFormatException e) {
+            throw new ValidationException(column, "Must be a whole number");
+        }
+    }
+
+    private static int parseInt(Map<String, String> row, String column) {
+        try {
+            return Integer.parseInt(required(row, column));
+        } catch (NumberFormatException e) {
+            throw new ValidationException(column, "Must be a whole number");
+        }
+    }
+
+    private static BigDecimal parseAmount(Map<String, String> row) {
+        try {
+            BigDecimal amount = new BigDecimal(required(row, "amount"));
+            if (amount.signum() < 0) {
+                throw new ValidationException("amount", "Amount must not be negative");
+            }
+            return amount;
+        } catch (NumberFormatException e) {
+            throw new ValidationException("amount", "Must be a decimal number");
+        }
+    }
+
+    private static LocalDate parseDate(Map<String, String> row) {
+        try {
+            return LocalDate.parse(required(row, "booking_date"));
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("booking_date", "Must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Map<String, String> row, String column, Class<E> type) {
+        try {
+            return Enum.valueOf(type, required(row, column).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(column, "Unknown value: " + row.get(column));
+        }
+    }
+
+    private int chunkSize(Integer requested) {
+        if (requested == null) {
+            return properties.chunkSize();
+        }
+        if (requested < 1) {
+            throw new ValidationException("chunk_size", "Chunk size must be at least 1");
+        }
+        return Math.min(requested, properties.maxChunkSize());
+    }
+
+    private record PendingRow(long line, Booking booking) {
+    }
+
+    private static final class Progress {
+
+        private final int maxErrors;
+        private final List<ImportBookingsResult.RowError> errors = new ArrayList<>();
+        private final List<ImportBookingsResult.ChunkStats> chunks = new ArrayList<>();
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long line, String field, String message) {
+            rowsRejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportBookingsResult.RowError(line, field, message));
+            }
+        }
+    }
+}
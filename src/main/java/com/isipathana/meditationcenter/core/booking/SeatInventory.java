@@ -0,0 +1,284 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.core.ReconciliationGuard;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.records.booking.BookedSeats;
+import com.isipathana.meditationcenter.records.program.MeditationProgram;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.MeditationProgramRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory seat availability for meditation program bookings.
+ * <p>
+ * Keeps one remaining-seat counter per (program, booking date) and reserves seats with a
+ * compare-and-set loop, so concurrent bookings never take a row lock just to check capacity.
+ * The database write for a booking only runs after its seats were reserved, and the seats are
+ * handed back if that write fails.
+ * <p>
+ * Counters are seeded from {@code booking.participant_count} sums (non-cancelled bookings) when
+ * first used and at startup, and are periodically reconciled against the database to absorb
+ * bookings written outside this service. A counter is only corrected while no reservation or
+ * release is in flight for it (see {@link ReconciliationGuard}).
+ * <p>
+ * A program with {@code max_seats = 0} (the column default) has no seat limit.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatInventory {
+
+    private final Logger logger;
+    private final MeditationProgramRepository meditationProgramRepository;
+    private final BookingRepository bookingRepository;
+
+    private final ConcurrentMap<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Reserves seats and, only if that succeeds, runs the database write for the booking.
+     * If the write throws, the seats are released again and the exception is rethrown.
+     *
+     * @param meditationProgramId The program being booked
+     * @param bookingDate         The date being booked
+     * @param seats               Number of seats (participant count)
+     * @param write               Persists the booking; runs only after the seats were reserved
+     * @return Whatever {@code write} returned
+     * @throws ConflictException if fewer than {@code seats} seats are left
+     */
+    public <T> T reserve(Long meditationProgramId, LocalDate bookingDate, int seats, Supplier<T> write) {
+        try (SeatHold hold = hold(meditationProgramId, bookingDate, seats)) {
+            boolean written = false;
+            try {
+                T result = write.get();
+                written = true;
+                return result;
+            } finally {
+                if (!written) {
+                    hold.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes seats and keeps them marked as in flight until the returned hold is closed.
+     * For callers that write several bookings at once: take a hold per booking, write,
+     * {@link SeatHold#cancel() cancel} the holds if the write failed, then close them all.
+     *
+     * @throws ConflictException if fewer than {@code seats} seats are left
+     */
+    public SeatHold hold(Long meditationProgramId, LocalDate bookingDate, int seats) {
+        Slot slot = slot(meditationProgramId, bookingDate);
+
+        slot.guard.begin();
+        if (!slot.tryTake(seats)) {
+            slot.guard.end();
+            throw new ConflictException(String.format(
+                "Not enough seats left for program %d on %s", meditationProgramId, bookingDate));
+        }
+        return new SeatHold(slot, seats);
+    }
+
+    /**
+     * Runs the database write that frees seats (cancellation, participant count decrease)
+     * and, once it succeeded, returns the seats to the pool.
+     */
+    public void release(Long meditationProgramId, LocalDate bookingDate, int seats, Runnable write) {
+        Slot slot = slot(meditationProgramId, bookingDate);
+
+        slot.guard.begin();
+        try {
+            write.run();
+            slot.give(seats);
+        } finally {
+            slot.guard.end();
+        }
+    }
+
+    /**
+     * Seats currently left for a program on a date, or {@link Integer#MAX_VALUE} if unlimited.
+     */
+    public int remainingSeats(Long meditationProgramId, LocalDate bookingDate) {
+        return slot(meditationProgramId, bookingDate).remaining();
+    }
+
+    /**
+     * Seeds counters for every upcoming date that already has bookings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+        logger.info("Seat inventory initialised with {} program/date counters", slots.size());
+    }
+
+    /**
+     * Recomputes every tracked counter from the database and drops counters for past dates.
+     * Counters with a reservation or release in flight are skipped and picked up next round.
+     */
+    @Scheduled(
+        initialDelayString = "${meditation.seats.reconcile-interval:PT5M}",
+        fixedDelayString = "${meditation.seats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        slots.keySet().removeIf(key -> key.bookingDate().isBefore(today));
+
+        Map<SlotKey, Long> versions = new HashMap<>();
+        slots.forEach((key, slot) -> versions.put(key, slot.guard.version()));
+
+        Map<Long, Integer> capacities = meditationProgramRepository.findAll().stream()
+            .collect(Collectors.toMap(MeditationProgram::meditationProgramId, MeditationProgram::maxSeats));
+        Map<SlotKey, Integer> booked = bookingRepository.findBookedSeatsFrom(today).stream()
+            .collect(Collectors.toMap(
+                seats -> new SlotKey(seats.meditationProgramId(), seats.bookingDate()),
+                BookedSeats::seats));
+
+        int corrected = 0;
+        for (Map.Entry<SlotKey, Integer> entry : booked.entrySet()) {
+            Integer capacity = capacities.get(entry.getKey().meditationProgramId());
+            if (capacity != null) {
+                slots.putIfAbsent(entry.getKey(), new Slot(capacity, entry.getValue()));
+            }
+        }
+        for (Map.Entry<SlotKey, Slot> entry : slots.entrySet()) {
+            Long version = versions.get(entry.getKey());
+            Integer capacity = capacities.get(entry.getKey().meditationProgramId());
+            if (version != null && capacity != null
+                    && entry.getValue().resetIfQuiet(version, capacity, booked.getOrDefault(entry.getKey(), 0))) {
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            logger.warn("Seat reconciliation corrected {} program/date counters", corrected);
+        }
+    }
+
+    private Slot slot(Long meditationProgramId, LocalDate bookingDate) {
+        SlotKey key = new SlotKey(meditationProgramId, bookingDate);
+        Slot slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+
+        // Load outside the map so no database call runs while holding a map bin lock
+        MeditationProgram program = meditationProgramRepository.findById(meditationProgramId);
+        if (program == null) {
+            throw new ResourceNotFoundException("MeditationProgram", meditationProgramId);
+        }
+        int booked = bookingRepository.countBookedSeats(meditationProgramId, bookingDate);
+        Slot loaded = new Slot(program.maxSeats(), booked);
+
+        Slot existing = slots.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Seats taken from a counter whose database write is still in progress.
+     */
+    public static final class SeatHold implements AutoCloseable {
+
+        private final Slot slot;
+        private final int seats;
+        private boolean cancelled;
+        private boolean closed;
+
+        private SeatHold(Slot slot, int seats) {
+            this.slot = slot;
+            this.seats = seats;
+        }
+
+        /**
+         * Gives the seats back, e.g. because the booking could not be written.
+         */
+        public void cancel() {
+            if (!cancelled && !closed) {
+                cancelled = true;
+                slot.give(seats);
+            }
+        }
+
+        /**
+         * Ends the hold; the seats stay taken unless {@link #cancel()} was called.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                slot.guard.end();
+            }
+        }
+    }
+
+    private record SlotKey(Long meditationProgramId, LocalDate bookingDate) {
+    }
+
+    /**
+     * Remaining-seat counter for one program and date.
+     */
+    private static final class Slot {
+
+        private volatile int capacity;
+        private final AtomicInteger remaining;
+        private final ReconciliationGuard guard = new ReconciliationGuard();
+
+        private Slot(int capacity, int booked) {
+            this.capacity = capacity;
+            this.remaining = new AtomicInteger(capacity - booked);
+        }
+
+        private boolean unlimited() {
+            return capacity <= 0;
+        }
+
+        private boolean tryTake(int seats) {
+            int current;
+            do {
+                current = remaining.get();
+                if (!unlimited() && current < seats) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - seats));
+            return true;
+        }
+
+        private void give(int seats) {
+            remaining.addAndGet(seats);
+        }
+
+        private int remaining() {
+            return unlimited() ? Integer.MAX_VALUE : Math.max(remaining.get(), 0);
+        }
+
+        private boolean resetIfQuiet(long expectedVersion, int newCapacity, int booked) {
+            int current = remaining.get();
+            int expected = newCapacity - booked;
+            if (!guard.quiet(expectedVersion)) {
+                return false;
+            }
+            if (capacity == newCapacity && current == expected) {
+                return false;
+            }
+            // A hold that started since the version check changed remaining and makes the CAS fail;
+            // the capacity is only published with the remaining count it belongs to
+            if (!remaining.compareAndSet(current, expected)) {
+                return false;
+            }
+            capacity = newCapacity;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.isipathana.meditationcenter.core.dashboard;
+
+import com.isipathana.meditationcenter.core.donation.CampaignProgress;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.event.Event;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Admin overview for one day. Sections that did not load in time are flagged, not omitted.
+ *
+ * @param date            The day the dashboard is for
+ * @param complete        Whether every section loaded
+ * @param elapsedMillis   Time taken to assemble the dashboard
+ */
+public record AdminDashboard(
+    LocalDate date,
+    DashboardSection<List<Booking>> todaysBookings,
+    DashboardSection<List<Payment>> pendingPayments,
+    DashboardSection<List<Event>> upcomingEvents,
+    DashboardSection<List<CampaignProgress>> activeCampaigns,
+    DashboardSection<DailySchedule> schedule,
+    boolean complete,
+    long elapsedMillis
+) {}
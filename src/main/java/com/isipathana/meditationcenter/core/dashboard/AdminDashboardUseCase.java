@@ -0,0 +1,186 @@
+package com.isipathana.meditationcenter.core.dashboard;
+
+import com.isipathana.meditationcenter.architecture.AuthenticatedUseCase;
+import com.isipathana.meditationcenter.core.donation.CampaignProgress;
+import com.isipathana.meditationcenter.core.donation.CampaignTotals;
+import com.isipathana.meditationcenter.config.QueryDeadline;
+import com.isipathana.meditationcenter.core.schedule.ScheduleResolver;
+import com.isipathana.meditationcenter.exception.ForbiddenException;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.donation.DonationCampaign;
+import com.isipathana.meditationcenter.records.event.Event;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.DonationCampaignRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import com.isipathana.meditationcenter.repository.PaymentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Admin overview for today: bookings, pending payments, upcoming events, active campaigns and the schedule.
+ * <p>
+ * The five sections are independent, so they are loaded concurrently on a small dedicated executor and
+ * the dashboard takes about as long as its slowest section instead of the sum of all of them. Each
+ * section gets {@code meditation.dashboard.branch-timeout} from the moment the fan-out starts; a section
+ * that is slower, fails, or cannot be scheduled because the executor is saturated is returned flagged
+ * TIMED_OUT or FAILED while the others are still shown.
+ * <p>
+ * A section's queries run under a {@link QueryDeadline} at the same deadline, so a section that timed
+ * out does not keep its executor thread and pooled connection busy: cancelling the future alone does
+ * not stop a statement that is already running.
+ */
+@Service
+public class AdminDashboardUseCase implements AuthenticatedUseCase<User, Void, AdminDashboard> {
+
+    private final Logger logger;
+    private final BookingRepository bookingRepository;
+    private final PaymentRepository paymentRepository;
+    private final EventRepository eventRepository;
+    private final DonationCampaignRepository donationCampaignRepository;
+    private final CampaignTotals campaignTotals;
+    private final ScheduleResolver scheduleResolver;
+    private final DashboardProperties properties;
+    private final Executor executor;
+
+    @Autowired
+    public AdminDashboardUseCase(
+            Logger logger,
+            BookingRepository bookingRepository,
+            PaymentRepository paymentRepository,
+            EventRepository eventRepository,
+            DonationCampaignRepository donationCampaignRepository,
+            CampaignTotals campaignTotals,
+            ScheduleResolver scheduleResolver,
+            DashboardProperties properties) {
+        this(logger, bookingRepository, paymentRepository, eventRepository, donationCampaignRepository,
+            campaignTotals, scheduleResolver, properties, newExecutor(properties));
+    }
+
+    AdminDashboardUseCase(
+            Logger logger,
+            BookingRepository bookingRepository,
+            PaymentRepository paymentRepository,
+            EventRepository eventRepository,
+            DonationCampaignRepository donationCampaignRepository,
+            CampaignTotals campaignTotals,
+            ScheduleResolver scheduleResolver,
+            DashboardProperties properties,
+            Executor executor) {
+        this.logger = logger;
+        this.bookingRepository = bookingRepository;
+        this.paymentRepository = paymentRepository;
+        this.eventRepository = eventRepository;
+        this.donationCampaignRepository = donationCampaignRepository;
+        this.campaignTotals = campaignTotals;
+        this.scheduleResolver = scheduleResolver;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    @Override
+    public AdminDashboard handle(User principal, Void request) {
+        if (principal.role() != UserRole.ADMIN) {
+            throw new ForbiddenException("Only admins can view the dashboard");
+        }
+
+        LocalDate today = LocalDate.now();
+        int limit = properties.listLimit();
+        long started = System.nanoTime();
+        long deadline = started + properties.branchTimeout().toNanos();
+
+        CompletableFuture<List<Booking>> bookings =
+            submit(deadline, () -> bookingRepository.findByDateRange(today, today, null, limit).bookings());
+        CompletableFuture<List<Payment>> payments =
+            submit(deadline, () -> paymentRepository.findByStatus(PaymentStatus.PENDING, limit));
+        CompletableFuture<List<Event>> events =
+            submit(deadline, () -> eventRepository.findActiveFrom(today, limit));
+        CompletableFuture<List<CampaignProgress>> campaigns = submit(deadline, () -> donationCampaignRepository
+            .findActive()
+            .stream()
+            .map(DonationCampaign::campaignId)
+            .map(campaignTotals::progress)
+            .toList());
+        CompletableFuture<DailySchedule> schedule = submit(deadline, () -> scheduleResolver.resolve(today));
+
+        DashboardSection<List<Booking>> bookingsSection = await("todays_bookings", bookings, started, deadline);
+        DashboardSection<List<Payment>> paymentsSection = await("pending_payments", payments, started, deadline);
+        DashboardSection<List<Event>> eventsSection = await("upcoming_events", events, started, deadline);
+        DashboardSection<List<CampaignProgress>> campaignsSection =
+            await("active_campaigns", campaigns, started, deadline);
+        DashboardSection<DailySchedule> scheduleSection = await("schedule", schedule, started, deadline);
+
+        boolean complete = bookingsSection.isOk() && paymentsSection.isOk() && eventsSection.isOk()
+            && campaignsSection.isOk() && scheduleSection.isOk();
+        return new AdminDashboard(
+            today, bookingsSection, paymentsSection, eventsSection, campaignsSection, scheduleSection,
+            complete, millisSince(started));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(long deadline, Supplier<T> section) {
+        try {
+            return CompletableFuture.supplyAsync(() -> QueryDeadline.within(deadline, section), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> DashboardSection<T> await(String name, CompletableFuture<T> future, long started, long deadline) {
+        try {
+            T data = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return new DashboardSection<>(data, DashboardSection.Status.OK, millisSince(started));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Dashboard section {} timed out after {}", name, properties.branchTimeout());
+            return new DashboardSection<>(null, DashboardSection.Status.TIMED_OUT, millisSince(started));
+        } catch (ExecutionException e) {
+            logger.error("Dashboard section {} failed: {}", name, e.getCause().getMessage(), e.getCause());
+            return new DashboardSection<>(null, DashboardSection.Status.FAILED, millisSince(started));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new DashboardSection<>(null, DashboardSection.Status.FAILED, millisSince(started));
+        }
+    }
+
+    private static long millisSince(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    private static ExecutorService newExecutor(DashboardProperties properties) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            properties.threads(), properties.threads(),
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            Thread.ofPlatform().name("dashboard-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.isipathana.meditationcenter.core.dashboard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link AdminDashboardUseCase}.
+ *
+ * @param threads       Threads in the executor the dashboard sections are loaded on
+ * @param queueCapacity Section loads that may wait for a thread before new ones are rejected
+ * @param branchTimeout How long the dashboard waits for each section before returning without it
+ * @param listLimit     Maximum rows per list section
+ */
+@ConfigurationProperties(prefix = "meditation.dashboard")
+public record DashboardProperties(
+    @DefaultValue("8") int threads,
+    @DefaultValue("64") int queueCapacity,
+    @DefaultValue("2s") Duration branchTimeout,
+    @DefaultValue("100") int listLimit
+) {
+}
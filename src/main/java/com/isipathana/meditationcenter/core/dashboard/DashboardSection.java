@@ -0,0 +1,25 @@
+package com.isipathana.meditationcenter.core.dashboard;
+
+/**
+ * One independently loaded part of the admin dashboard.
+ *
+ * @param data          The section content, or null unless {@code status} is OK
+ * @param status        Whether the section loaded in time
+ * @param elapsedMillis Time spent waiting for the section
+ */
+public record DashboardSection<T>(
+    T data,
+    Status status,
+    long elapsedMillis
+) {
+
+    public enum Status {
+        OK,
+        TIMED_OUT,
+        FAILED
+    }
+
+    public boolean isOk() {
+        return status == Status.OK;
+    }
+}
@@ -0,0 +1,18 @@
+package com.isipathana.meditationcenter.core.donation;
+
+import java.math.BigDecimal;
+
+/**
+ * @param campaignId      The campaign
+ * @param campaignName    Campaign name
+ * @param targetAmount    Fundraising goal, or null for an open-ended campaign
+ * @param raisedAmount    Total of completed donations, including ones not yet written to the campaign row
+ * @param percentOfTarget {@code raisedAmount / targetAmount * 100}, or null without a target
+ */
+public record CampaignProgress(
+    Long campaignId,
+    String campaignName,
+    BigDecimal targetAmount,
+    BigDecimal raisedAmount,
+    Double percentOfTarget
+) {}
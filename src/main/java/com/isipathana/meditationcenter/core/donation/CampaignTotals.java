@@ -0,0 +1,276 @@
+package com.isipathana.meditationcenter.core.donation;
+
+import com.isipathana.meditationcenter.core.ReconciliationGuard;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.records.donation.DonationCampaign;
+import com.isipathana.meditationcenter.repository.DonationCampaignRepository;
+import com.isipathana.meditationcenter.repository.DonationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Running donation totals per campaign, kept in memory and folded into
+ * {@code donation_campaign.current_amount} in the background.
+ * <p>
+ * Completing a donation only writes the donation row; the amount is added to a {@link LongAdder}
+ * of cents for its campaign, so concurrent donations to the same campaign neither lock the campaign
+ * row nor contend on a single counter. Every {@code meditation.donations.totals.fold-interval} the
+ * amounts added since the previous fold are written as one {@code current_amount + delta} update
+ * per campaign. Progress reads are answered from memory.
+ * <p>
+ * Each fold also reloads the active campaigns, so renames and target changes reach progress reads
+ * within one interval. Campaigns that were deactivated are dropped once their amounts are folded;
+ * a later read loads them again from the table.
+ * <p>
+ * {@link #recompute()} sums COMPLETED donations per campaign and overwrites the stored and in-memory
+ * totals, skipping campaigns with a donation being completed at that moment (see {@link ReconciliationGuard}).
+ */
+@Component
+@RequiredArgsConstructor
+public class CampaignTotals {
+
+    private final Logger logger;
+    private final DonationCampaignRepository donationCampaignRepository;
+    private final DonationRepository donationRepository;
+
+    private final ConcurrentMap<Long, Total> totals = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the write that completes a donation and, once it succeeded, adds the amount to the campaign.
+     *
+     * @param campaignId The campaign donated to, or null for a general donation (nothing is tracked)
+     * @param amount     The donation amount (2 decimal places)
+     * @param write      Marks the donation completed; the amount is only added if it returns non-null
+     */
+    public <T> T record(Long campaignId, BigDecimal amount, Supplier<T> write) {
+        if (campaignId == null) {
+            return write.get();
+        }
+        Total total = total(campaignId);
+        total.guard.begin();
+        while (total.retired) {
+            // Dropped by a concurrent fold after we looked it up; record against a fresh total
+            total.guard.end();
+            total = total(campaignId);
+            total.guard.begin();
+        }
+
+        try {
+            T result = write.get();
+            if (result != null) {
+                total.added.add(toCents(amount));
+            }
+            return result;
+        } finally {
+            total.guard.end();
+        }
+    }
+
+    /**
+     * Campaign with its live raised amount, including donations not yet folded into the table.
+     *
+     * @throws ResourceNotFoundException if the campaign does not exist
+     */
+    public CampaignProgress progress(Long campaignId) {
+        Total total = total(campaignId);
+        DonationCampaign campaign = total.campaign;
+        BigDecimal raised = BigDecimal.valueOf(total.raisedCents(), 2);
+
+        BigDecimal target = campaign.targetAmount();
+        Double percent = target == null ? null : raised.doubleValue() * 100 / target.doubleValue();
+        return new CampaignProgress(campaign.campaignId(), campaign.campaignName(), target, raised, percent);
+    }
+
+    /**
+     * Loads active campaigns and makes sure their stored totals are exact.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        donationCampaignRepository.findActive()
+            .forEach(campaign -> totals.putIfAbsent(campaign.campaignId(), new Total(campaign)));
+        recompute();
+        logger.info("Campaign totals initialised for {} campaigns", totals.size());
+    }
+
+    /**
+     * Adds the amounts recorded since the last fold to {@code current_amount}, one batch for all campaigns,
+     * then refreshes the campaign details of tracked totals and drops deactivated campaigns.
+     */
+    @Scheduled(
+        initialDelayString = "${meditation.donations.totals.fold-interval:PT10S}",
+        fixedDelayString = "${meditation.donations.totals.fold-interval:PT10S}")
+    public synchronized void fold() {
+        writeDeltas();
+        refreshCampaigns();
+    }
+
+    private void writeDeltas() {
+        Map<Long, Long> sums = new HashMap<>();
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        totals.forEach((campaignId, total) -> {
+            long sum = total.added.sum();
+            long delta = sum - total.folded.get();
+            if (delta != 0) {
+                sums.put(campaignId, sum);
+                deltas.put(campaignId, BigDecimal.valueOf(delta, 2));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            donationCampaignRepository.addToCurrentAmount(deltas);
+            sums.forEach((campaignId, sum) -> totals.get(campaignId).folded.set(sum));
+        } catch (DataAccessException e) {
+            logger.error("Failed to fold donation totals for {} campaigns: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private void refreshCampaigns() {
+        Map<Long, DonationCampaign> active;
+        try {
+            active = donationCampaignRepository.findActive().stream()
+                .collect(Collectors.toMap(DonationCampaign::campaignId, Function.identity()));
+        } catch (DataAccessException e) {
+            logger.error("Failed to refresh donation campaigns: {}", e.getMessage());
+            return;
+        }
+
+        totals.forEach((campaignId, total) -> {
+            DonationCampaign campaign = active.get(campaignId);
+            if (campaign != null) {
+                total.campaign = campaign;
+            } else if (total.retire()) {
+                totals.remove(campaignId, total);
+            }
+        });
+    }
+
+    /**
+     * Recomputes every tracked campaign's total from COMPLETED donations and corrects the stored
+     * {@code current_amount} and the in-memory total where they differ.
+     *
+     * @return Number of campaigns whose stored total was corrected
+     */
+    public synchronized int recompute() {
+        Map<Long, Long> versions = new HashMap<>();
+        totals.forEach((campaignId, total) -> versions.put(campaignId, total.guard.version()));
+
+        // Stored totals must include every recorded donation before they are overwritten
+        fold();
+        Map<Long, BigDecimal> exact = donationRepository.sumCompletedByCampaign();
+
+        int corrected = 0;
+        for (Map.Entry<Long, Total> entry : totals.entrySet()) {
+            Long version = versions.get(entry.getKey());
+            BigDecimal amount = exact.getOrDefault(entry.getKey(), BigDecimal.ZERO);
+            if (version == null || !entry.getValue().resetIfQuiet(version, toCents(amount))) {
+                continue;
+            }
+            try {
+                if (donationCampaignRepository.setCurrentAmount(entry.getKey(), amount)) {
+                    corrected++;
+                }
+            } catch (DataAccessException e) {
+                logger.error("Failed to correct total of campaign {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+
+        if (corrected > 0) {
+            logger.warn("Donation total recompute corrected {} campaigns", corrected);
+        }
+        return corrected;
+    }
+
+    private Total total(Long campaignId) {
+        Total total = totals.get(campaignId);
+        if (total != null) {
+            return total;
+        }
+
+        DonationCampaign campaign = donationCampaignRepository.findById(campaignId);
+        if (campaign == null) {
+            throw new ResourceNotFoundException("DonationCampaign", campaignId);
+        }
+        Total loaded = new Total(campaign);
+
+        Total existing = totals.putIfAbsent(campaignId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    /**
+     * One campaign's total: the stored amount it was loaded with ({@code baseCents}) plus everything
+     * recorded since ({@code added}); {@code folded} is the part of {@code added} already written.
+     */
+    private static final class Total {
+
+        private volatile DonationCampaign campaign;
+        private volatile long baseCents;
+        private volatile boolean retired;
+        private final LongAdder added = new LongAdder();
+        private final AtomicLong folded = new AtomicLong();
+        private final ReconciliationGuard guard = new ReconciliationGuard();
+
+        private Total(DonationCampaign campaign) {
+            this.campaign = campaign;
+            this.baseCents = toCents(campaign.currentAmount() == null ? BigDecimal.ZERO : campaign.currentAmount());
+        }
+
+        private long raisedCents() {
+            return baseCents + added.sum();
+        }
+
+        /**
+         * Marks the total as dropped if nothing is being recorded and everything recorded has been
+         * folded; returns whether it did. {@link #record} re-checks the mark once its guard has begun.
+         */
+        private boolean retire() {
+            if (guard.busy() || folded.get() != added.sum()) {
+                return false;
+            }
+            retired = true;
+            if (guard.busy() || folded.get() != added.sum()) {
+                retired = false;
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Makes the total equal {@code exactCents} if nothing was recorded since {@code expectedVersion}
+         * and everything recorded has been folded; returns whether it did.
+         */
+        private boolean resetIfQuiet(long expectedVersion, long exactCents) {
+            if (!guard.quiet(expectedVersion)) {
+                return false;
+            }
+            long sum = added.sum();
+            if (folded.get() != sum) {
+                return false;
+            }
+            baseCents = exactCents - sum;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.isipathana.meditationcenter.core.donation;
+
+public record CompleteDonationRequest(
+    Long donationId,
+    String transactionId
+) {}
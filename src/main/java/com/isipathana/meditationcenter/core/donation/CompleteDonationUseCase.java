@@ -0,0 +1,43 @@
+package com.isipathana.meditationcenter.core.donation;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.donation.Donation;
+import com.isipathana.meditationcenter.repository.DonationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Marks a pending donation as completed once its payment went through.
+ * Only the donation row is written; the campaign total is updated through {@link CampaignTotals}.
+ */
+@Service
+@RequiredArgsConstructor
+public class CompleteDonationUseCase implements UseCase<CompleteDonationRequest, Donation> {
+
+    private final DonationRepository donationRepository;
+    private final CampaignTotals campaignTotals;
+
+    @Override
+    public Donation handle(CompleteDonationRequest request) {
+        if (request.donationId() == null) {
+            throw new ValidationException("donation_id", "Donation is required");
+        }
+        Donation donation = donationRepository.findById(request.donationId());
+        if (donation == null) {
+            throw new ResourceNotFoundException("Donation", request.donationId());
+        }
+
+        Donation completed = campaignTotals.record(
+            donation.campaignId(),
+            donation.donationAmount(),
+            () -> donationRepository.complete(donation.donationId(), request.transactionId()));
+        if (completed == null) {
+            throw new UnprocessableEntityException(
+                "DONATION_NOT_PENDING", "Donation is " + donation.paymentStatus() + ", not PENDING");
+        }
+        return completed;
+    }
+}
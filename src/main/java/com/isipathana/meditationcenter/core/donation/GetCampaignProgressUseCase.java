@@ -0,0 +1,20 @@
+package com.isipathana.meditationcenter.core.donation;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Returns live fundraising progress for a campaign, served from {@link CampaignTotals}.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetCampaignProgressUseCase implements UseCase<Long, CampaignProgress> {
+
+    private final CampaignTotals campaignTotals;
+
+    @Override
+    public CampaignProgress handle(Long campaignId) {
+        return campaignTotals.progress(campaignId);
+    }
+}
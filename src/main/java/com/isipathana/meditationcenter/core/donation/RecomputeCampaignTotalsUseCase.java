@@ -0,0 +1,27 @@
+package com.isipathana.meditationcenter.core.donation;
+
+import com.isipathana.meditationcenter.architecture.AuthenticatedUseCase;
+import com.isipathana.meditationcenter.exception.ForbiddenException;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Admin-only: recomputes campaign totals exactly from completed donations.
+ * Returns the number of campaigns whose stored total had drifted.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecomputeCampaignTotalsUseCase implements AuthenticatedUseCase<User, Void, Integer> {
+
+    private final CampaignTotals campaignTotals;
+
+    @Override
+    public Integer handle(User principal, Void request) {
+        if (principal.role() != UserRole.ADMIN) {
+            throw new ForbiddenException("Only admins can recompute campaign totals");
+        }
+        return campaignTotals.recompute();
+    }
+}
@@ -0,0 +1,6 @@
+package com.isipathana.meditationcenter.core.event;
+
+public record CancelEventRegistrationRequest(
+    Long registrationId,
+    String reason
+) {}
@@ -0,0 +1,43 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.architecture.AuthenticatedUseCase;
+import com.isipathana.meditationcenter.exception.ForbiddenException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cancels an event registration of the authenticated user (admins may cancel any) and frees the place.
+ * Cancelling an already cancelled registration is a no-op that returns false.
+ */
+@Service
+@RequiredArgsConstructor
+public class CancelEventRegistrationUseCase
+        implements AuthenticatedUseCase<User, CancelEventRegistrationRequest, Boolean> {
+
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final EventParticipantCounter eventParticipantCounter;
+
+    @Override
+    public Boolean handle(User principal, CancelEventRegistrationRequest request) {
+        if (request.registrationId() == null) {
+            throw new ValidationException("registration_id", "Registration is required");
+        }
+        EventRegistration registration = eventRegistrationRepository.findById(request.registrationId());
+        if (registration == null) {
+            throw new ResourceNotFoundException("EventRegistration", request.registrationId());
+        }
+        if (!registration.userId().equals(principal.userId()) && principal.role() != UserRole.ADMIN) {
+            throw new ForbiddenException("Cannot cancel another user's registration");
+        }
+
+        return eventParticipantCounter.unregister(
+            registration.eventId(),
+            () -> eventRegistrationRepository.cancel(registration.registrationId(), request.reason()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.isipathana.meditationcenter.core.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immediate answer to a check-in scan. The registration is updated asynchronously.
+ *
+ * @param eventId        The event checked in to
+ * @param registrationId The registration scanned
+ * @param status         ACCEPTED for the first scan, DUPLICATE for a repeat of an accepted scan
+ * @param acceptedAt     When the first scan of this registration was accepted
+ */
+public record CheckInAck(
+    Long eventId,
+    Long registrationId,
+    Status status,
+    LocalDateTime acceptedAt
+) {
+
+    public enum Status {
+        ACCEPTED,
+        DUPLICATE
+    }
+}
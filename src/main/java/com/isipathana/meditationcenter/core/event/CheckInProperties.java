@@ -0,0 +1,33 @@
+package com.isipathana.meditationcenter.core.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link CheckInQueue}.
+ *
+ * @param queueCapacity   Check-ins waiting to be written before new scans are rejected with 503
+ * @param batchSize       Maximum check-ins written per flush
+ * @param flushInterval   How long the flusher waits for a batch to fill before writing it
+ * @param dedupeTtl       How long an accepted scan is remembered for idempotent re-scans
+ * @param dedupeMaxSize   Maximum number of remembered scans
+ * @param shutdownTimeout How long shutdown waits for queued check-ins to be written
+ * @param retryBackoff    Delay before the first retry of a failed write; doubled on every further failure
+ * @param maxRetryBackoff Upper bound for the delay between retries
+ * @param maxAttempts     Write attempts for a check-in before it is dropped and can be scanned again
+ */
+@ConfigurationProperties(prefix = "meditation.check-in")
+public record CheckInProperties(
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("200") int batchSize,
+    @DefaultValue("200ms") Duration flushInterval,
+    @DefaultValue("12h") Duration dedupeTtl,
+    @DefaultValue("100000") long dedupeMaxSize,
+    @DefaultValue("30s") Duration shutdownTimeout,
+    @DefaultValue("500ms") Duration retryBackoff,
+    @DefaultValue("30s") Duration maxRetryBackoff,
+    @DefaultValue("10") int maxAttempts
+) {
+}
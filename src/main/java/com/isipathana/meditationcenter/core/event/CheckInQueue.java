@@ -0,0 +1,303 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.isipathana.meditationcenter.exception.ServiceUnavailableException;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers event check-ins and writes them to {@code event_registration} in batches.
+ * <p>
+ * Scans are acknowledged as soon as they are queued. A single flusher thread drains the queue,
+ * coalescing up to {@code batch-size} check-ins or whatever arrived within {@code flush-interval}
+ * of the first one, and marks them ATTENDED with one UPDATE per event. Because only that thread
+ * writes, a burst of scans holds at most one pooled connection no matter how many arrive.
+ * <p>
+ * Accepted scans are remembered for {@code dedupe-ttl}, so a repeat scan of the same registration
+ * gets the original acknowledgement instead of being queued again. When the queue is full new scans
+ * are rejected with 503 and a Retry-After hint rather than blocking request threads.
+ * <p>
+ * A failed write does not lose the scans: the event's check-ins are held by the flusher and retried
+ * with exponential backoff, and count against the queue capacity until written. After
+ * {@code max-attempts} failures, or if they still fail on shutdown, the check-ins are dropped and
+ * forgotten by the dedupe cache, so attendees can simply be scanned again.
+ * <p>
+ * Scans are not checked against the database when accepted. A scan that matches no REGISTERED
+ * registration of its event when written (unknown, cancelled or already attended) is logged,
+ * counted and forgotten by the dedupe cache, so a corrected scan is accepted again.
+ * <p>
+ * Runs in an early lifecycle phase so it stops after the web server: queued check-ins are flushed
+ * on shutdown while the connection pool is still open.
+ * <p>
+ * Meters: {@code checkin.queue.depth} and {@code checkin.retry.depth} (gauges), {@code checkin.flush}
+ * (timer per batch), {@code checkin.written}, {@code checkin.unmatched}, {@code checkin.retried},
+ * {@code checkin.failed} and {@code checkin.rejected} (counters).
+ */
+@Component
+public class CheckInQueue implements SmartLifecycle {
+
+    private final Logger logger;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final CheckInProperties properties;
+
+    private final BlockingQueue<CheckIn> queue;
+    private final Cache<CheckIn, LocalDateTime> accepted;
+    // Failed writes waiting for their next attempt; only touched by the flusher thread
+    private final Queue<FailedWrite> retries = new ArrayDeque<>();
+    private final AtomicInteger retrying = new AtomicInteger();
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter unmatchedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CheckInQueue(
+            Logger logger,
+            EventRegistrationRepository eventRegistrationRepository,
+            CheckInProperties properties,
+            MeterRegistry meterRegistry) {
+        this.logger = logger;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.accepted = Caffeine.newBuilder()
+            .maximumSize(properties.dedupeMaxSize())
+            .expireAfterWrite(properties.dedupeTtl())
+            .build();
+
+        Gauge.builder("checkin.queue.depth", queue, BlockingQueue::size)
+            .description("Check-ins waiting to be written")
+            .register(meterRegistry);
+        Gauge.builder("checkin.retry.depth", retrying, AtomicInteger::get)
+            .description("Check-ins whose write failed and is waiting to be retried")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("checkin.flush")
+            .description("Time to write one batch of check-ins")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter("checkin.written");
+        this.unmatchedCounter = meterRegistry.counter("checkin.unmatched");
+        this.retriedCounter = meterRegistry.counter("checkin.retried");
+        this.failedCounter = meterRegistry.counter("checkin.failed");
+        this.rejectedCounter = meterRegistry.counter("checkin.rejected");
+    }
+
+    /**
+     * Queues a check-in and acknowledges it immediately.
+     *
+     * @throws ServiceUnavailableException if the queue is full or the application is shutting down
+     */
+    public CheckInAck submit(Long eventId, Long registrationId) {
+        if (!running) {
+            throw new ServiceUnavailableException("Check-in is not accepting scans", properties.flushInterval());
+        }
+
+        CheckIn checkIn = new CheckIn(eventId, registrationId);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime first = accepted.asMap().putIfAbsent(checkIn, now);
+        if (first != null) {
+            return new CheckInAck(eventId, registrationId, CheckInAck.Status.DUPLICATE, first);
+        }
+
+        if (queue.size() + retrying.get() >= properties.queueCapacity() || !queue.offer(checkIn)) {
+            accepted.invalidate(checkIn);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Too many check-ins in progress", properties.flushInterval());
+        }
+        return new CheckInAck(eventId, registrationId, CheckInAck.Status.ACCEPTED, now);
+    }
+
+    /**
+     * Check-ins accepted but not yet written, including those waiting for a retry.
+     */
+    public int pending() {
+        return queue.size() + retrying.get();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("check-in-flusher").start(this::drain);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(properties.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending() > 0) {
+            logger.warn("{} check-ins were not written before shutdown", pending());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Start before and stop after the web server (DEFAULT_PHASE - 1024 / - 2048)
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        long flushIntervalNanos = properties.flushInterval().toNanos();
+        List<CheckIn> batch = new ArrayList<>(properties.batchSize());
+
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    CheckIn first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first != null) {
+                        batch.add(first);
+
+                        // Coalesce whatever else arrives within one interval of the first check-in
+                        long deadline = System.nanoTime() + flushIntervalNanos;
+                        while (batch.size() < properties.batchSize()) {
+                            queue.drainTo(batch, properties.batchSize() - batch.size());
+                            long remaining = deadline - System.nanoTime();
+                            if (batch.size() >= properties.batchSize() || remaining <= 0 || !running) {
+                                break;
+                            }
+                            CheckIn next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                            if (next == null) {
+                                break;
+                            }
+                            batch.add(next);
+                        }
+
+                        flush(batch);
+                    }
+                    retryDue(false);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    flush(batch);
+                    return;
+                } catch (RuntimeException e) {
+                    // Not a write failure (those are retried); forget the scans so they can be repeated
+                    batch.forEach(accepted::invalidate);
+                    logger.error("Check-in flusher failed: {}", e.getMessage(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            // Shutdown: one last attempt for held writes, ignoring their backoff
+            retryDue(true);
+        }
+    }
+
+    private void flush(List<CheckIn> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<Long>> byEvent = new LinkedHashMap<>();
+        for (CheckIn checkIn : batch) {
+            byEvent.computeIfAbsent(checkIn.eventId(), id -> new LinkedHashSet<>()).add(checkIn.registrationId());
+        }
+
+        LocalDateTime checkedInAt = LocalDateTime.now();
+        flushTimer.record(() -> byEvent.forEach((eventId, registrationIds) ->
+            write(eventId, registrationIds, checkedInAt, 0, false)));
+    }
+
+    /**
+     * Retries held writes whose backoff has elapsed, or all of them as a last attempt on shutdown.
+     */
+    private void retryDue(boolean lastAttempt) {
+        long now = System.nanoTime();
+        for (int i = retries.size(); i > 0; i--) {
+            FailedWrite failed = retries.remove();
+            if (!lastAttempt && failed.retryAt() - now > 0) {
+                retries.add(failed);
+                continue;
+            }
+            retrying.addAndGet(-failed.registrationIds().size());
+            retriedCounter.increment(failed.registrationIds().size());
+            write(failed.eventId(), failed.registrationIds(), failed.checkedInAt(), failed.attempts(), lastAttempt);
+        }
+    }
+
+    /**
+     * Writes one event's check-ins. On failure they are held for a retry, or dropped and forgotten
+     * once {@code max-attempts} is reached or this is the last attempt.
+     */
+    private void write(Long eventId, Set<Long> registrationIds, LocalDateTime checkedInAt,
+                       int failedAttempts, boolean lastAttempt) {
+        try {
+            Set<Long> attended = eventRegistrationRepository.markAttended(eventId, registrationIds, checkedInAt);
+            writtenCounter.increment(attended.size());
+            if (attended.size() < registrationIds.size()) {
+                List<Long> unmatched = registrationIds.stream().filter(id -> !attended.contains(id)).toList();
+                unmatched.forEach(id -> accepted.invalidate(new CheckIn(eventId, id)));
+                unmatchedCounter.increment(unmatched.size());
+                logger.warn("Event {}: dropped {} check-ins matching no REGISTERED registration: {}",
+                    eventId, unmatched.size(), unmatched);
+            }
+        } catch (RuntimeException e) {
+            int attempts = failedAttempts + 1;
+            if (lastAttempt || attempts >= properties.maxAttempts()) {
+                // Forget the scans so attendees can simply be scanned again
+                registrationIds.forEach(id -> accepted.invalidate(new CheckIn(eventId, id)));
+                failedCounter.increment(registrationIds.size());
+                logger.error("Dropped {} check-ins for event {} after {} failed attempts: {}",
+                    registrationIds.size(), eventId, attempts, e.getMessage());
+                return;
+            }
+            retries.add(new FailedWrite(eventId, registrationIds, checkedInAt, attempts,
+                System.nanoTime() + backoff(attempts).toNanos()));
+            retrying.addAndGet(registrationIds.size());
+            logger.warn("Failed to write {} check-ins for event {} (attempt {}), retrying: {}",
+                registrationIds.size(), eventId, attempts, e.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.retryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(properties.maxRetryBackoff()) > 0 ? properties.maxRetryBackoff() : backoff;
+    }
+
+    private record FailedWrite(Long eventId, Set<Long> registrationIds, LocalDateTime checkedInAt,
+                               int attempts, long retryAt) {
+    }
+
+    private record CheckIn(Long eventId, Long registrationId) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts a check-in scan at an event door and acknowledges it without waiting for the database.
+ * The registration is marked ATTENDED by {@link CheckInQueue} in the next batch.
+ */
+@Service
+@RequiredArgsConstructor
+public class CheckInUseCase implements UseCase<CheckInRequest, CheckInAck> {
+
+    private final CheckInQueue checkInQueue;
+
+    @Override
+    public CheckInAck handle(CheckInRequest request) {
+        if (request.eventId() == null) {
+            throw new ValidationException("event_id", "Event is required");
+        }
+        if (request.registrationId() == null) {
+            throw new ValidationException("registration_id", "Registration is required");
+        }
+        return checkInQueue.submit(request.eventId(), request.registrationId());
+    }
+}
@@ -0,0 +1,310 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.core.ReconciliationGuard;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.records.event.Event;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-memory participant counts for events, written behind to {@code events.current_participants}.
+ * <p>
+ * Registering used to mean updating the event row in the same transaction as the registration
+ * insert, so every registration for a popular event queued on that one row lock. Here the count
+ * and the {@code max_participants} check live in an atomic counter per event; the registration
+ * row is inserted without touching {@code events}, and the resulting +1/-1 is recorded as a
+ * pending delta. Deltas are summed per event and flushed in one batch every
+ * {@code meditation.events.participants.flush-interval}. If the batch fails, each event is written
+ * on its own, so one event whose stored count rejects its delta (the
+ * {@code chk_current_participants_valid} constraint) cannot hold back the others.
+ * <p>
+ * {@link #reconcile()} recomputes the counts from {@code event_registration} (non-cancelled rows)
+ * and overwrites both the counter and the stored column for events that had no registration in
+ * flight (see {@link ReconciliationGuard}), which also repairs drift caused by writes from elsewhere.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventParticipantCounter {
+
+    private final Logger logger;
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+
+    private final ConcurrentMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a place at the event and, only if one was free, runs the registration write.
+     * If the write throws, the place is given back and the exception is rethrown.
+     *
+     * @throws ConflictException if the event is full
+     */
+    public <T> T register(Long eventId, Supplier<T> write) {
+        Counter counter = counter(eventId);
+
+        counter.guard.begin();
+        try {
+            if (!counter.tryIncrement()) {
+                throw new ConflictException(String.format("Event %d is fully booked", eventId));
+            }
+            boolean written = false;
+            try {
+                T result = write.get();
+                written = true;
+                counter.pendingDelta.incrementAndGet();
+                return result;
+            } finally {
+                if (!written) {
+                    counter.count.decrementAndGet();
+                }
+            }
+        } finally {
+            counter.guard.end();
+        }
+    }
+
+    /**
+     * Runs the write that cancels a registration and, if it reports a change, frees the place.
+     *
+     * @param write Cancels the registration; returns false if it was already cancelled
+     * @return What {@code write} returned
+     */
+    public boolean unregister(Long eventId, Supplier<Boolean> write) {
+        Counter counter = counter(eventId);
+
+        counter.guard.begin();
+        try {
+            boolean cancelled = Boolean.TRUE.equals(write.get());
+            if (cancelled) {
+                counter.count.decrementAndGet();
+                counter.pendingDelta.decrementAndGet();
+            }
+            return cancelled;
+        } finally {
+            counter.guard.end();
+        }
+    }
+
+    /**
+     * Current participant count, including registrations not yet flushed to the events table.
+     */
+    public int participants(Long eventId) {
+        return counter(eventId).count.get();
+    }
+
+    /**
+     * Seeds counters for upcoming events and corrects any stored counts that drifted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+        logger.info("Event participant counters initialised for {} events", counters.size());
+    }
+
+    /**
+     * Writes pending deltas to {@code events.current_participants} in a single batch, falling back
+     * to one update per event if the batch fails. A delta the database rejects as a constraint
+     * violation means the stored count has drifted: it is dropped and the event is recounted from
+     * {@code event_registration} instead. Deltas that failed for any other reason are put back and
+     * retried on the next flush.
+     */
+    @Scheduled(
+        initialDelayString = "${meditation.events.participants.flush-interval:PT5S}",
+        fixedDelayString = "${meditation.events.participants.flush-interval:PT5S}")
+    public synchronized void flush() {
+        Map<Long, Integer> deltas = new HashMap<>();
+        counters.forEach((eventId, counter) -> {
+            int delta = counter.pendingDelta.getAndSet(0);
+            if (delta != 0) {
+                deltas.put(eventId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            eventRepository.addParticipants(deltas);
+            return;
+        } catch (DataAccessException e) {
+            if (deltas.size() == 1) {
+                Map.Entry<Long, Integer> delta = deltas.entrySet().iterator().next();
+                failed(delta.getKey(), delta.getValue(), e);
+                return;
+            }
+            logger.warn("Batch flush of participant counts for {} events failed, writing them one by one: {}",
+                deltas.size(), e.getMessage());
+        }
+
+        deltas.forEach((eventId, delta) -> {
+            try {
+                eventRepository.addParticipants(Map.of(eventId, delta));
+            } catch (DataAccessException e) {
+                failed(eventId, delta, e);
+            }
+        });
+    }
+
+    private void failed(Long eventId, int delta, DataAccessException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            logger.error("Participant delta {} rejected for event {}, recounting it: {}", delta, eventId, e.getMessage());
+            recount(eventId);
+            return;
+        }
+        Counter counter = counters.get(eventId);
+        if (counter != null) {
+            counter.pendingDelta.addAndGet(delta);
+        }
+        logger.error("Failed to flush participant count of event {}: {}", eventId, e.getMessage());
+    }
+
+    /**
+     * Overwrites the counter and stored count of one event with its count from
+     * {@code event_registration}, unless a registration is in flight; then the next
+     * {@link #reconcile()} round picks it up.
+     */
+    private void recount(Long eventId) {
+        Counter counter = counters.get(eventId);
+        if (counter == null) {
+            return;
+        }
+        try {
+            long version = counter.guard.version();
+            Event event = eventRepository.findById(eventId);
+            int count = eventRegistrationRepository.countActive(eventId);
+            if (event != null && counter.resetIfQuiet(version, event.maxParticipants(), count)) {
+                eventRepository.setParticipants(eventId, count);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to recount participants of event {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes counts from {@code event_registration} for events from today onwards,
+     * drops counters of past events, and corrects counters and stored counts that differ.
+     * Events with registration activity since the round started are left for the next round.
+     */
+    @Scheduled(
+        initialDelayString = "${meditation.events.participants.reconcile-interval:PT10M}",
+        fixedDelayString = "${meditation.events.participants.reconcile-interval:PT10M}")
+    public synchronized void reconcile() {
+        // Write pending deltas first, including those of events about to be dropped; stored counts
+        // must also include every committed registration before they are compared
+        flush();
+
+        LocalDate today = LocalDate.now();
+        List<Event> events = eventRepository.findFrom(today);
+        Map<Long, Integer> seeds = eventRegistrationRepository.countActiveByEventFrom(today);
+
+        Map<Long, Event> upcoming = new HashMap<>();
+        for (Event event : events) {
+            upcoming.put(event.eventId(), event);
+            counters.putIfAbsent(event.eventId(),
+                new Counter(event.maxParticipants(), seeds.getOrDefault(event.eventId(), 0)));
+        }
+        counters.entrySet().removeIf(entry ->
+            !upcoming.containsKey(entry.getKey()) && entry.getValue().pendingDelta.get() == 0);
+
+        Map<Long, Long> versions = new HashMap<>();
+        counters.forEach((eventId, counter) -> versions.put(eventId, counter.guard.version()));
+
+        Map<Long, Integer> actual = eventRegistrationRepository.countActiveByEventFrom(today);
+
+        int corrected = 0;
+        for (Event event : events) {
+            Counter counter = counters.get(event.eventId());
+            Long version = versions.get(event.eventId());
+            int count = actual.getOrDefault(event.eventId(), 0);
+            if (counter == null || version == null
+                    || !counter.resetIfQuiet(version, event.maxParticipants(), count)) {
+                continue;
+            }
+            try {
+                if (eventRepository.setParticipants(event.eventId(), count)) {
+                    corrected++;
+                }
+            } catch (DataAccessException e) {
+                logger.error("Failed to correct participant count of event {}: {}", event.eventId(), e.getMessage());
+            }
+        }
+
+        if (corrected > 0) {
+            logger.warn("Participant reconciliation corrected {} events", corrected);
+        }
+    }
+
+    private Counter counter(Long eventId) {
+        Counter counter = counters.get(eventId);
+        if (counter != null) {
+            return counter;
+        }
+
+        Event event = eventRepository.findById(eventId);
+        if (event == null) {
+            throw new ResourceNotFoundException("Event", eventId);
+        }
+        Counter loaded = new Counter(event.maxParticipants(), eventRegistrationRepository.countActive(eventId));
+
+        Counter existing = counters.putIfAbsent(eventId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Participant count for one event plus the change not yet written to the events row.
+     */
+    private static final class Counter {
+
+        // null = no limit, as in events.max_participants
+        private volatile Integer maxParticipants;
+        private final AtomicInteger count;
+        private final AtomicInteger pendingDelta = new AtomicInteger();
+        private final ReconciliationGuard guard = new ReconciliationGuard();
+
+        private Counter(Integer maxParticipants, int count) {
+            this.maxParticipants = maxParticipants;
+            this.count = new AtomicInteger(count);
+        }
+
+        private boolean tryIncrement() {
+            int current;
+            do {
+                current = count.get();
+                Integer max = maxParticipants;
+                if (max != null && current >= max) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Sets the count if nothing happened since {@code expectedVersion}; returns whether it was quiet.
+         */
+        private boolean resetIfQuiet(long expectedVersion, Integer newMaxParticipants, int actual) {
+            int current = count.get();
+            if (!guard.quiet(expectedVersion) || pendingDelta.get() != 0) {
+                return false;
+            }
+            maxParticipants = newMaxParticipants;
+            return count.compareAndSet(current, actual);
+        }
+    }
+}
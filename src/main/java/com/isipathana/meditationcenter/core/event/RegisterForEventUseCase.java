@@ -0,0 +1,61 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.architecture.AuthenticatedUseCase;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.event.Event;
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Registers the authenticated user for an event (request: the event ID).
+ * The place is taken in {@link EventParticipantCounter}; the events row itself is not locked,
+ * its participant count is updated in the background.
+ */
+@Service
+@RequiredArgsConstructor
+public class RegisterForEventUseCase implements AuthenticatedUseCase<User, Long, EventRegistration> {
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final EventParticipantCounter eventParticipantCounter;
+
+    @Override
+    public EventRegistration handle(User principal, Long eventId) {
+        if (eventId == null) {
+            throw new ValidationException("event_id", "Event is required");
+        }
+        Event event = eventRepository.findById(eventId);
+        if (event == null) {
+            throw new ResourceNotFoundException("Event", eventId);
+        }
+        if (!Boolean.TRUE.equals(event.isActive()) || !Boolean.TRUE.equals(event.requiresRegistration())) {
+            throw new UnprocessableEntityException("EVENT_NOT_OPEN", "Event is not open for registration");
+        }
+        if (event.eventDate().isBefore(LocalDate.now())) {
+            throw new UnprocessableEntityException("EVENT_IN_PAST", "Event has already taken place");
+        }
+
+        EventRegistration registration = EventRegistration.builder()
+            .eventId(eventId)
+            .userId(principal.userId())
+            .status(EventRegistrationStatus.REGISTERED)
+            .build();
+
+        try {
+            return eventParticipantCounter.register(eventId, () -> eventRegistrationRepository.insert(registration));
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException("Already registered for this event", e);
+        }
+    }
+}
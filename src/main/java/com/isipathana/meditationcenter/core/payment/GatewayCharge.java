@@ -0,0 +1,12 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+
+import java.math.BigDecimal;
+
+public record GatewayCharge(
+    String idempotencyKey,
+    Long paymentId,
+    BigDecimal amount,
+    PaymentMethod paymentMethod
+) {}
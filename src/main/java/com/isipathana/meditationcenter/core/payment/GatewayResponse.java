@@ -0,0 +1,9 @@
+package com.isipathana.meditationcenter.core.payment;
+
+/**
+ * A definitive answer from the gateway. The body is stored gzip compressed in {@code payment_gateway_response}.
+ */
+public record GatewayResponse(
+    boolean approved,
+    String body
+) {}
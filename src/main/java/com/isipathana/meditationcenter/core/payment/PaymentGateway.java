@@ -0,0 +1,18 @@
+package com.isipathana.meditationcenter.core.payment;
+
+/**
+ * The card/online payment provider, called only by {@link PaymentOutboxWorker}.
+ * <p>
+ * Implementations must treat {@link GatewayCharge#idempotencyKey()} as the provider's idempotency
+ * key: a charge repeated with the same key (after a timeout, or a worker that died mid-call) must
+ * return the first outcome and never charge twice.
+ */
+public interface PaymentGateway {
+
+    /**
+     * Charges the payment and returns the provider's final answer.
+     *
+     * @throws PaymentGatewayException when the outcome is unknown or the provider is unavailable; the charge is retried
+     */
+    GatewayResponse charge(GatewayCharge charge);
+}
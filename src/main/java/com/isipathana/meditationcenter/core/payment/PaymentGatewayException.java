@@ -0,0 +1,15 @@
+package com.isipathana.meditationcenter.core.payment;
+
+/**
+ * The gateway could not give a definitive answer (timeout, 5xx, connection failure); the charge is retried.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
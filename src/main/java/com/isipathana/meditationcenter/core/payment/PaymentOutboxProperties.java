@@ -0,0 +1,35 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link PaymentOutboxWorker}.
+ *
+ * @param enabled          Whether this instance runs outbox workers (checkouts are queued either way)
+ * @param workers          Worker threads, each claiming its own rows
+ * @param batchSize        Rows a worker claims at once
+ * @param pollInterval     How long an idle worker waits before claiming again
+ * @param lease            How long a claimed row stays hidden from other workers before it is claimed again
+ * @param maxAttempts      Gateway calls per payment before the row is marked DEAD
+ * @param initialBackoff   Delay before the first retry, doubled per attempt with jitter
+ * @param maxBackoff       Upper bound of the retry delay
+ * @param shutdownTimeout  How long shutdown waits for workers to finish their current rows
+ * @param metricsInterval  How often the backlog gauges are refreshed
+ */
+@ConfigurationProperties(prefix = "meditation.payments.outbox")
+public record PaymentOutboxProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("4") int workers,
+    @DefaultValue("10") int batchSize,
+    @DefaultValue("500ms") Duration pollInterval,
+    @DefaultValue("2m") Duration lease,
+    @DefaultValue("8") int maxAttempts,
+    @DefaultValue("2s") Duration initialBackoff,
+    @DefaultValue("10m") Duration maxBackoff,
+    @DefaultValue("30s") Duration shutdownTimeout,
+    @DefaultValue("10s") Duration metricsInterval
+) {
+}
@@ -0,0 +1,251 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxBacklog;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxEntry;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.repository.PaymentOutboxRepository;
+import com.isipathana.meditationcenter.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Works off the payment outbox: claims due rows, calls the gateway, and settles or reschedules them.
+ * <p>
+ * Each of the {@code workers} threads claims up to {@code batchSize} rows at a time with
+ * {@code FOR UPDATE SKIP LOCKED}, so workers (on this instance or others) never wait on each other
+ * or process the same row. The claim pushes the row's deadline out by {@code lease} and commits
+ * immediately; no transaction or connection is held during the gateway call.
+ * <p>
+ * An approved charge completes the payment, a declined one fails it. A {@link PaymentGatewayException}
+ * (or any other error) makes the row due again after an exponential backoff with jitter, until
+ * {@code maxAttempts} calls were made and it is marked DEAD. Every call for a payment uses the
+ * payment's {@code transaction_id} as idempotency key, so repeats never charge twice.
+ * <p>
+ * Requires a {@link PaymentGateway} bean: without a real provider (or the stub, in the dev and test
+ * profiles) the application does not start, rather than queueing checkouts nothing will charge.
+ * <p>
+ * Meters: {@code payment.outbox.lag} (timer, checkout to settlement), {@code payment.gateway.call}
+ * (timer), {@code payment.outbox.processed} (counter by outcome: approved, declined, retried, dead),
+ * and {@code payment.outbox.pending} / {@code payment.outbox.oldest.age} (gauges, refreshed on a schedule).
+ */
+@Component
+@ConditionalOnProperty(prefix = "meditation.payments.outbox", name = "enabled", matchIfMissing = true)
+public class PaymentOutboxWorker implements SmartLifecycle {
+
+    private final Logger logger;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentOutboxProperties properties;
+
+    private final Timer lagTimer;
+    private final Timer gatewayTimer;
+    private final Counter approvedCounter;
+    private final Counter declinedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    private volatile boolean running;
+    private final List<Thread> threads = new ArrayList<>();
+
+    public PaymentOutboxWorker(
+            Logger logger,
+            PaymentOutboxRepository paymentOutboxRepository,
+            PaymentRepository paymentRepository,
+            PaymentGateway paymentGateway,
+            PaymentOutboxProperties properties,
+            MeterRegistry meterRegistry) {
+        this.logger = logger;
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentGateway = paymentGateway;
+        this.properties = properties;
+
+        this.lagTimer = Timer.builder("payment.outbox.lag")
+            .description("Time from checkout to the payment being settled")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.gatewayTimer = Timer.builder("payment.gateway.call")
+            .description("Round trip of one gateway charge")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.approvedCounter = meterRegistry.counter("payment.outbox.processed", "outcome", "approved");
+        this.declinedCounter = meterRegistry.counter("payment.outbox.processed", "outcome", "declined");
+        this.retriedCounter = meterRegistry.counter("payment.outbox.processed", "outcome", "retried");
+        this.deadCounter = meterRegistry.counter("payment.outbox.processed", "outcome", "dead");
+        Gauge.builder("payment.outbox.pending", pending, AtomicLong::get)
+            .description("Outbox rows waiting for their gateway call")
+            .register(meterRegistry);
+        Gauge.builder("payment.outbox.oldest.age", oldestAgeMillis, millis -> millis.get() / 1000.0)
+            .description("How long the oldest pending outbox row has been waiting")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            threads.add(Thread.ofPlatform().name("payment-outbox-" + i).start(this::work));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.nanoTime() + properties.shutdownTimeout().toNanos();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Same phase as CheckInQueue: start before and stop after the web server
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Refreshes the backlog gauges. Done on a schedule rather than per scrape, so scrapes cost no query.
+     */
+    @Scheduled(fixedDelayString = "${meditation.payments.outbox.metrics-interval:PT10S}")
+    public void refreshBacklog() {
+        try {
+            PaymentOutboxBacklog backlog = paymentOutboxRepository.backlog();
+            pending.set(backlog.pending());
+            oldestAgeMillis.set(backlog.oldestAge().toMillis());
+        } catch (DataAccessException e) {
+            logger.warn("Could not read the payment outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Claims and processes rows until stopped. A row interrupted by shutdown keeps its lease and is
+     * picked up again once the lease ends.
+     */
+    private void work() {
+        while (running) {
+            try {
+                List<PaymentOutboxEntry> claimed = paymentOutboxRepository.claimDue(properties.batchSize(), properties.lease());
+                for (PaymentOutboxEntry entry : claimed) {
+                    if (!running) {
+                        return;
+                    }
+                    process(entry);
+                }
+                if (claimed.size() < properties.batchSize()) {
+                    Thread.sleep(properties.pollInterval());
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Payment outbox worker failed: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(properties.pollInterval());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    void process(PaymentOutboxEntry entry) {
+        try {
+            Payment payment = paymentRepository.findById(entry.paymentId());
+            GatewayResponse response = gatewayTimer.recordCallable(() -> paymentGateway.charge(new GatewayCharge(
+                payment.transactionId(), payment.paymentId(), payment.amount(), payment.paymentMethod())));
+
+            PaymentStatus status = response.approved() ? PaymentStatus.COMPLETED : PaymentStatus.FAILED;
+            LocalDateTime settledAt = paymentOutboxRepository.settle(entry, status, response.body());
+            if (settledAt == null) {
+                logger.warn("Payment {} attempt {} was answered after its row moved on, leaving it", entry.paymentId(), entry.attempts());
+                return;
+            }
+            (response.approved() ? approvedCounter : declinedCounter).increment();
+            if (entry.createdAt() != null) {
+                lagTimer.record(Duration.between(entry.createdAt(), settledAt));
+            }
+        } catch (Exception e) {
+            retryOrGiveUp(entry, e);
+        }
+    }
+
+    private void retryOrGiveUp(PaymentOutboxEntry entry, Exception cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        try {
+            if (entry.attempts() >= properties.maxAttempts()) {
+                if (paymentOutboxRepository.markDead(entry, error)) {
+                    deadCounter.increment();
+                    logger.error("Payment {} gave up after {} gateway attempts: {}", entry.paymentId(), entry.attempts(), error);
+                } else {
+                    logger.warn("Payment {} attempt {} failed after its row moved on, leaving it: {}",
+                        entry.paymentId(), entry.attempts(), error);
+                }
+            } else {
+                Duration delay = backoff(entry.attempts());
+                if (paymentOutboxRepository.scheduleRetry(entry, delay, error)) {
+                    retriedCounter.increment();
+                    logger.warn("Payment {} attempt {} failed, retrying in {}: {}", entry.paymentId(), entry.attempts(), delay, error);
+                } else {
+                    logger.warn("Payment {} attempt {} failed after its row moved on, leaving it: {}",
+                        entry.paymentId(), entry.attempts(), error);
+                }
+            }
+        } catch (DataAccessException e) {
+            // The lease still expires, so the row is retried either way
+            logger.error("Could not reschedule payment {}: {}", entry.paymentId(), e.getMessage());
+        }
+    }
+
+    /**
+     * {@code initialBackoff * 2^(attempt - 1)}, capped at {@code maxBackoff}, of which the upper half
+     * is randomised so rows failed by one outage do not all come back at once.
+     */
+    Duration backoff(int attempt) {
+        long initial = properties.initialBackoff().toMillis();
+        long max = properties.maxBackoff().toMillis();
+        int doublings = Math.min(Math.max(attempt - 1, 0), 30);
+        long exponential = Math.min(max, initial * (1L << doublings));
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
@@ -0,0 +1,12 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+
+/**
+ * @param transactionId Client-chosen idempotency key; a retried checkout with the same key returns the first payment
+ */
+public record RequestPaymentRequest(
+    Long bookingId,
+    PaymentMethod paymentMethod,
+    String transactionId
+) {}
@@ -0,0 +1,101 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.PaymentOutboxRepository;
+import com.isipathana.meditationcenter.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Checkout for a booking paid by card or online: records a PENDING payment for the booking amount
+ * and queues its gateway call in the outbox, in one transaction, then returns without waiting for
+ * the gateway. {@link PaymentOutboxWorker} settles the payment to COMPLETED or FAILED.
+ * <p>
+ * The request's transaction ID is the idempotency key: repeating a checkout with the same key
+ * returns the payment created the first time. Without a key one is generated, and a second
+ * checkout for the same booking is a 409.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestPaymentUseCase implements UseCase<RequestPaymentRequest, Payment> {
+
+    private static final int MAX_TRANSACTION_ID_LENGTH = 255;
+
+    private final BookingRepository bookingRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+
+    @Override
+    public Payment handle(RequestPaymentRequest request) {
+        validate(request);
+        String transactionId = request.transactionId() != null ? request.transactionId() : UUID.randomUUID().toString();
+
+        Payment existing = paymentRepository.findByTransactionId(transactionId);
+        if (existing != null) {
+            return sameBooking(existing, request);
+        }
+
+        Booking booking = bookingRepository.findById(request.bookingId());
+        if (booking == null) {
+            throw new ResourceNotFoundException("Booking", request.bookingId());
+        }
+        if (booking.status() == BookingStatus.CANCELLED) {
+            throw new UnprocessableEntityException("BOOKING_CANCELLED", "Booking is cancelled");
+        }
+
+        Payment payment = Payment.builder()
+            .bookingId(booking.bookingId())
+            .amount(booking.amount())
+            .status(PaymentStatus.PENDING)
+            .paymentMethod(request.paymentMethod())
+            .transactionId(transactionId)
+            .build();
+        try {
+            return paymentOutboxRepository.enqueue(payment);
+        } catch (DuplicateKeyException e) {
+            // A concurrent retry with the same key won, or the booking already has a payment
+            Payment raced = paymentRepository.findByTransactionId(transactionId);
+            if (raced != null) {
+                return sameBooking(raced, request);
+            }
+            throw new ConflictException("Booking already has a payment", e);
+        }
+    }
+
+    private static Payment sameBooking(Payment payment, RequestPaymentRequest request) {
+        if (!payment.bookingId().equals(request.bookingId())) {
+            throw new ConflictException("Transaction ID was already used for another booking");
+        }
+        return payment;
+    }
+
+    private void validate(RequestPaymentRequest request) {
+        if (request.bookingId() == null) {
+            throw new ValidationException("booking_id", "Booking is required");
+        }
+        if (request.paymentMethod() == null) {
+            throw new ValidationException("payment_method", "Payment method is required");
+        }
+        if (request.paymentMethod() != PaymentMethod.CARD && request.paymentMethod() != PaymentMethod.ONLINE) {
+            throw new UnprocessableEntityException(
+                "PAYMENT_METHOD_OFFLINE", request.paymentMethod() + " payments are recorded at the desk, not checked out");
+        }
+        if (request.transactionId() != null
+                && (request.transactionId().isBlank() || request.transactionId().length() > MAX_TRANSACTION_ID_LENGTH)) {
+            throw new ValidationException("transaction_id", "Transaction ID must be 1 to 255 characters");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link StubPaymentGateway}.
+ *
+ * @param latency      Simulated round trip of every charge
+ * @param failureRate  Share of calls (0 to 1) failing with a retryable error before any outcome is decided
+ * @param declineRate  Share of first charges per idempotency key (0 to 1) that are declined
+ */
+@ConfigurationProperties(prefix = "meditation.payments.stub-gateway")
+public record StubGatewayProperties(
+    @DefaultValue("150ms") Duration latency,
+    @DefaultValue("0") double failureRate,
+    @DefaultValue("0") double declineRate
+) {
+}
@@ -0,0 +1,72 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process gateway for development and tests, enabled only by {@code meditation.payments.gateway=stub}
+ * (set by the dev and test profiles). It approves charges without taking any money, so it must never
+ * be active in production.
+ * <p>
+ * Sleeps for the configured latency, fails a share of calls with a retryable error, declines a
+ * share of charges, and keeps the first outcome per idempotency key like a real provider, so
+ * retries and duplicate claims can be exercised end to end.
+ */
+@Component
+@ConditionalOnProperty(prefix = "meditation.payments", name = "gateway", havingValue = "stub")
+public class StubPaymentGateway implements PaymentGateway {
+
+    private final StubGatewayProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, GatewayResponse> outcomes = new ConcurrentHashMap<>();
+
+    public StubPaymentGateway(StubGatewayProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public GatewayResponse charge(GatewayCharge charge) {
+        try {
+            Thread.sleep(properties.latency());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("Interrupted while waiting for the gateway", e);
+        }
+        if (ThreadLocalRandom.current().nextDouble() < properties.failureRate()) {
+            throw new PaymentGatewayException("Stub gateway timed out");
+        }
+        return outcomes.computeIfAbsent(charge.idempotencyKey(), key -> decide(charge));
+    }
+
+    /**
+     * Outcomes decided so far, keyed by idempotency key
+     */
+    public int charges() {
+        return outcomes.size();
+    }
+
+    private GatewayResponse decide(GatewayCharge charge) {
+        boolean approved = ThreadLocalRandom.current().nextDouble() >= properties.declineRate();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", "stub_" + UUID.randomUUID());
+        body.put("idempotency_key", charge.idempotencyKey());
+        body.put("amount", charge.amount());
+        body.put("method", charge.paymentMethod());
+        body.put("status", approved ? "approved" : "declined");
+        try {
+            return new GatewayResponse(approved, objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize the stub gateway response", e);
+        }
+    }
+}
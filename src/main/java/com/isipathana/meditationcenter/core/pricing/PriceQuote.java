@@ -0,0 +1,32 @@
+package com.isipathana.meditationcenter.core.pricing;
+
+import com.isipathana.meditationcenter.records.booking.BookingType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Price of a booking spanning one or more dates.
+ *
+ * @param bookingType      The booking type priced
+ * @param participantCount Number of participants each line is multiplied by
+ * @param lines            One line per date, in the order the dates were given
+ * @param total            Sum of all line amounts
+ */
+public record PriceQuote(
+    BookingType bookingType,
+    int participantCount,
+    List<Line> lines,
+    BigDecimal total
+) {
+
+    /**
+     * @param date      The priced date
+     * @param pricingId The pricing row in effect on that date
+     * @param unitPrice Price per participant
+     * @param amount    {@code unitPrice * participantCount}
+     */
+    public record Line(LocalDate date, Long pricingId, BigDecimal unitPrice, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.isipathana.meditationcenter.core.pricing;
+
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.pricing.Pricing;
+import com.isipathana.meditationcenter.repository.PricingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory lookup of the price in effect for a booking type on a date.
+ * <p>
+ * All active pricing rows are loaded into one {@link PricingSegments} per booking type, so a lookup is
+ * a binary search and never touches the database. The whole index is rebuilt off to the side and
+ * swapped in with a single volatile write, so readers always see one consistent snapshot.
+ * <p>
+ * The index reloads at startup, every {@code meditation.pricing.refresh-interval}, and whenever a write
+ * path calls {@link #pricingChanged()} after committing a change to the pricing table.
+ */
+@Component
+@RequiredArgsConstructor
+public class PricingIndex {
+
+    private final Logger logger;
+    private final PricingRepository pricingRepository;
+
+    private volatile Map<BookingType, PricingSegments> segments;
+
+    /**
+     * The pricing row in effect for {@code bookingType} on {@code date}, if any.
+     */
+    public Optional<Pricing> find(BookingType bookingType, LocalDate date) {
+        return Optional.ofNullable(segments().getOrDefault(bookingType, PricingSegments.EMPTY).find(date));
+    }
+
+    /**
+     * The pricing row in effect for {@code bookingType} on {@code date}.
+     *
+     * @throws UnprocessableEntityException if no active pricing covers the date
+     */
+    public Pricing priceFor(BookingType bookingType, LocalDate date) {
+        return find(bookingType, date).orElseThrow(() -> new UnprocessableEntityException(
+            "PRICING_NOT_FOUND", String.format("No %s pricing is in effect on %s", bookingType, date)));
+    }
+
+    /**
+     * Prices every date of a booking against a single snapshot of the index.
+     *
+     * @throws UnprocessableEntityException if any of the dates has no pricing
+     */
+    public PriceQuote quote(BookingType bookingType, Collection<LocalDate> dates, int participantCount) {
+        if (participantCount < 1) {
+            throw new ValidationException("participant_count", "Participant count must be at least 1");
+        }
+        PricingSegments typeSegments = segments().getOrDefault(bookingType, PricingSegments.EMPTY);
+        BigDecimal participants = BigDecimal.valueOf(participantCount);
+
+        List<PriceQuote.Line> lines = new ArrayList<>(dates.size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (LocalDate date : dates) {
+            Pricing pricing = typeSegments.find(date);
+            if (pricing == null) {
+                throw new UnprocessableEntityException(
+                    "PRICING_NOT_FOUND", String.format("No %s pricing is in effect on %s", bookingType, date));
+            }
+            BigDecimal amount = pricing.price().multiply(participants);
+            lines.add(new PriceQuote.Line(date, pricing.pricingId(), pricing.price(), amount));
+            total = total.add(amount);
+        }
+        return new PriceQuote(bookingType, participantCount, List.copyOf(lines), total);
+    }
+
+    /**
+     * Reloads all active pricing rows and swaps in the new index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${meditation.pricing.refresh-interval:PT10M}",
+        fixedDelayString = "${meditation.pricing.refresh-interval:PT10M}")
+    public synchronized void refresh() {
+        List<Pricing> rows = pricingRepository.findActive();
+        Map<BookingType, PricingSegments> rebuilt = new EnumMap<>(BookingType.class);
+        rows.stream()
+            .filter(row -> row.bookingType() != null)
+            .collect(Collectors.groupingBy(Pricing::bookingType))
+            .forEach((type, typeRows) -> rebuilt.put(type, PricingSegments.of(typeRows)));
+
+        segments = rebuilt;
+        logger.info("Pricing index loaded {} active rows for {} booking types", rows.size(), rebuilt.size());
+    }
+
+    /**
+     * To be called after pricing rows were inserted, updated or deactivated.
+     */
+    public void pricingChanged() {
+        refresh();
+    }
+
+    private Map<BookingType, PricingSegments> segments() {
+        Map<BookingType, PricingSegments> current = segments;
+        if (current == null) {
+            synchronized (this) {
+                if (segments == null) {
+                    refresh();
+                }
+                current = segments;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,102 @@
+package com.isipathana.meditationcenter.core.pricing;
+
+import com.isipathana.meditationcenter.records.pricing.Pricing;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Non-overlapping price intervals for one booking type, sorted by start date.
+ * <p>
+ * Pricing rows may overlap in the table; they are flattened so that on any date the row with the
+ * latest {@code effective_from_date} applies (ties go to the higher pricing ID). After flattening,
+ * a lookup is a binary search over the interval start dates.
+ */
+final class PricingSegments {
+
+    static final PricingSegments EMPTY = new PricingSegments(new LocalDate[0], new LocalDate[0], new Pricing[0]);
+
+    private static final Comparator<Pricing> PRECEDENCE = Comparator
+        .comparing(Pricing::effectiveFromDate)
+        .thenComparing(Pricing::pricingId);
+
+    private final LocalDate[] starts;
+    // Inclusive end dates; null for an open end
+    private final LocalDate[] ends;
+    private final Pricing[] prices;
+
+    private PricingSegments(LocalDate[] starts, LocalDate[] ends, Pricing[] prices) {
+        this.starts = starts;
+        this.ends = ends;
+        this.prices = prices;
+    }
+
+    static PricingSegments of(Collection<Pricing> rows) {
+        List<Segment> segments = new ArrayList<>();
+        for (Pricing row : rows.stream().sorted(PRECEDENCE).toList()) {
+            Segment incoming = new Segment(row.effectiveFromDate(), row.effectiveToDate(), row);
+            List<Segment> kept = new ArrayList<>(segments.size() + 2);
+            for (Segment existing : segments) {
+                if (!existing.overlaps(incoming)) {
+                    kept.add(existing);
+                    continue;
+                }
+                // The incoming row takes precedence: keep only what sticks out on either side
+                if (existing.start().isBefore(incoming.start())) {
+                    kept.add(new Segment(existing.start(), incoming.start().minusDays(1), existing.pricing()));
+                }
+                if (incoming.end() != null && (existing.end() == null || existing.end().isAfter(incoming.end()))) {
+                    kept.add(new Segment(incoming.end().plusDays(1), existing.end(), existing.pricing()));
+                }
+            }
+            kept.add(incoming);
+            segments = kept;
+        }
+        segments.sort(Comparator.comparing(Segment::start));
+
+        int size = segments.size();
+        LocalDate[] starts = new LocalDate[size];
+        LocalDate[] ends = new LocalDate[size];
+        Pricing[] prices = new Pricing[size];
+        for (int i = 0; i < size; i++) {
+            Segment segment = segments.get(i);
+            starts[i] = segment.start();
+            ends[i] = segment.end();
+            prices[i] = segment.pricing();
+        }
+        return new PricingSegments(starts, ends, prices);
+    }
+
+    /**
+     * The pricing row in effect on {@code date}, or null if no row covers it.
+     */
+    Pricing find(LocalDate date) {
+        int index = Arrays.binarySearch(starts, date);
+        if (index < 0) {
+            // Insertion point minus one: the last segment starting before the date
+            index = -index - 2;
+        }
+        if (index < 0) {
+            return null;
+        }
+        LocalDate end = ends[index];
+        return end == null || !date.isAfter(end) ? prices[index] : null;
+    }
+
+    int size() {
+        return prices.length;
+    }
+
+    private record Segment(LocalDate start, LocalDate end, Pricing pricing) {
+
+        private boolean overlaps(Segment other) {
+            boolean startsBeforeOtherEnds = other.end == null || !start.isAfter(other.end);
+            boolean endsAfterOtherStarts = end == null || !end.isBefore(other.start);
+            return startsBeforeOtherEnds && endsAfterOtherStarts;
+        }
+    }
+}
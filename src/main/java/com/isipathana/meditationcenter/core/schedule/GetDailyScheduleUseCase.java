@@ -0,0 +1,23 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Returns the resolved schedule for one date, served from the in-memory timeline.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetDailyScheduleUseCase implements UseCase<LocalDate, DailySchedule> {
+
+    private final ScheduleResolver scheduleResolver;
+
+    @Override
+    public DailySchedule handle(LocalDate date) {
+        return scheduleResolver.resolve(date);
+    }
+}
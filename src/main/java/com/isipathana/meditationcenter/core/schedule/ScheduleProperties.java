@@ -0,0 +1,15 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for {@link ScheduleResolver}.
+ *
+ * @param windowDays Number of days, starting today, kept pre-resolved in memory
+ */
+@ConfigurationProperties(prefix = "meditation.schedule")
+public record ScheduleProperties(
+    @DefaultValue("90") int windowDays
+) {
+}
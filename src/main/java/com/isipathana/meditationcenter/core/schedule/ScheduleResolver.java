@@ -0,0 +1,128 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import com.isipathana.meditationcenter.records.schedule.ScheduleOverride;
+import com.isipathana.meditationcenter.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "what is on the schedule on date D" from a pre-resolved in-memory timeline.
+ * <p>
+ * The timeline covers a rolling window of {@code meditation.schedule.window-days} days from today,
+ * built from schedule templates, their activities and overrides. Reads inside the window never touch
+ * the database; dates outside it are resolved on demand with a single override lookup.
+ * <p>
+ * Write paths notify the resolver after committing:
+ * {@link #overridesChanged(LocalDate, LocalDate)} after creating, changing or deleting overrides,
+ * {@link #templatesChanged()} after changing templates, template activities or activities.
+ * Only the dates whose resolved schedule can differ are recomputed; readers keep seeing the
+ * previous timeline until the new one is swapped in.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleResolver {
+
+    private final Logger logger;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleProperties scheduleProperties;
+
+    private volatile ScheduleTimeline timeline;
+
+    /**
+     * Resolved schedule for a single date.
+     */
+    public DailySchedule resolve(LocalDate date) {
+        ScheduleTimeline current = timeline();
+        DailySchedule schedule = current.get(date);
+        if (schedule != null) {
+            return schedule;
+        }
+
+        Map<Long, ScheduleOverride> overrides = scheduleRepository.findOverridesBetween(date, date).stream()
+            .collect(Collectors.toMap(ScheduleOverride::templateScheduleActivityId, Function.identity()));
+        return current.sources().resolve(date, overrides);
+    }
+
+    /**
+     * Resolved schedules for every date in {@code [startDate, endDate]}.
+     */
+    public List<DailySchedule> resolve(LocalDate startDate, LocalDate endDate) {
+        List<DailySchedule> schedules = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            schedules.add(resolve(date));
+        }
+        return schedules;
+    }
+
+    /**
+     * Reloads all schedule tables and rebuilds the window starting today.
+     * Runs at startup and shortly after midnight so the window keeps rolling forward.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${meditation.schedule.rebuild-cron:0 5 0 * * *}")
+    public synchronized void rebuild() {
+        LocalDate startDate = LocalDate.now();
+        int windowDays = scheduleProperties.windowDays();
+
+        ScheduleSources sources = new ScheduleSources(
+            scheduleRepository.findActiveTemplates(),
+            scheduleRepository.findActiveTemplateActivities(),
+            scheduleRepository.findAllActivities(),
+            scheduleRepository.findOverridesBetween(startDate, startDate.plusDays(windowDays - 1L)));
+
+        timeline = ScheduleTimeline.build(startDate, windowDays, sources);
+        logger.info("Schedule timeline built for {} to {}", timeline.startDate(), timeline.endDate());
+    }
+
+    /**
+     * Reloads overrides in {@code [startDate, endDate]} and recomputes the affected dates.
+     */
+    public synchronized void overridesChanged(LocalDate startDate, LocalDate endDate) {
+        ScheduleTimeline current = timeline();
+        LocalDate from = startDate.isBefore(current.startDate()) ? current.startDate() : startDate;
+        LocalDate to = endDate.isAfter(current.endDate()) ? current.endDate() : endDate;
+        if (from.isAfter(to)) {
+            return;
+        }
+
+        List<ScheduleOverride> overrides = scheduleRepository.findOverridesBetween(from, to);
+        timeline = current.update(current.sources().withOverrides(from, to, overrides));
+    }
+
+    /**
+     * Reloads templates, template activities and activities and recomputes the affected dates.
+     */
+    public synchronized void templatesChanged() {
+        ScheduleTimeline current = timeline();
+        ScheduleSources sources = current.sources().withTemplates(
+            scheduleRepository.findActiveTemplates(),
+            scheduleRepository.findActiveTemplateActivities(),
+            scheduleRepository.findAllActivities());
+        timeline = current.update(sources);
+    }
+
+    private ScheduleTimeline timeline() {
+        ScheduleTimeline current = timeline;
+        if (current == null) {
+            synchronized (this) {
+                if (timeline == null) {
+                    rebuild();
+                }
+                current = timeline;
+            }
+        }
+        return current;
+    }
+}
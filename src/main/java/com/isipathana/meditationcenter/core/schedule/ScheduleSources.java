@@ -0,0 +1,193 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import com.isipathana.meditationcenter.records.schedule.Activity;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import com.isipathana.meditationcenter.records.schedule.ScheduleOverride;
+import com.isipathana.meditationcenter.records.schedule.ScheduleTemplate;
+import com.isipathana.meditationcenter.records.schedule.ScheduledActivity;
+import com.isipathana.meditationcenter.records.schedule.TemplateScheduleActivity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the schedule tables a timeline is resolved from.
+ * <p>
+ * Template activities are pre-resolved into one base list per day of week (the "all days" rows,
+ * {@code day_of_week IS NULL}, appear in every list), so resolving a date only has to apply that
+ * date's overrides. Dates without overrides share the base list as-is.
+ */
+public final class ScheduleSources {
+
+    static final Comparator<ScheduledActivity> SCHEDULE_ORDER = Comparator
+        .comparing(ScheduledActivity::startTime)
+        .thenComparing(ScheduledActivity::templateId)
+        .thenComparing(ScheduledActivity::templateScheduleActivityId);
+
+    private final List<ScheduleTemplate> templates;
+    private final List<TemplateScheduleActivity> templateActivities;
+    private final List<Activity> activities;
+    private final Map<LocalDate, Map<Long, ScheduleOverride>> overrides;
+    private final List<List<ScheduledActivity>> baseByDayOfWeek;
+
+    public ScheduleSources(
+            Collection<ScheduleTemplate> templates,
+            Collection<TemplateScheduleActivity> templateActivities,
+            Collection<Activity> activities,
+            Collection<ScheduleOverride> overrides) {
+        this(List.copyOf(templates), List.copyOf(templateActivities), List.copyOf(activities), groupByDate(overrides));
+    }
+
+    private ScheduleSources(
+            List<ScheduleTemplate> templates,
+            List<TemplateScheduleActivity> templateActivities,
+            List<Activity> activities,
+            Map<LocalDate, Map<Long, ScheduleOverride>> overrides) {
+        this.templates = templates;
+        this.templateActivities = templateActivities;
+        this.activities = activities;
+        this.overrides = overrides;
+        this.baseByDayOfWeek = buildBase(templates, templateActivities, activities);
+    }
+
+    /**
+     * Returns a copy with every override in {@code [startDate, endDate]} replaced by {@code fresh}.
+     */
+    public ScheduleSources withOverrides(LocalDate startDate, LocalDate endDate, Collection<ScheduleOverride> fresh) {
+        Map<LocalDate, Map<Long, ScheduleOverride>> merged = new HashMap<>(overrides);
+        merged.keySet().removeIf(date -> !date.isBefore(startDate) && !date.isAfter(endDate));
+        merged.putAll(groupByDate(fresh));
+        return new ScheduleSources(templates, templateActivities, activities, Map.copyOf(merged));
+    }
+
+    /**
+     * Returns a copy with new template, template activity and activity rows and the same overrides.
+     */
+    public ScheduleSources withTemplates(
+            Collection<ScheduleTemplate> templates,
+            Collection<TemplateScheduleActivity> templateActivities,
+            Collection<Activity> activities) {
+        return new ScheduleSources(
+            List.copyOf(templates), List.copyOf(templateActivities), List.copyOf(activities), overrides);
+    }
+
+    /**
+     * Resolves a date using the overrides held in this snapshot.
+     */
+    public DailySchedule resolve(LocalDate date) {
+        return resolve(date, overrides.getOrDefault(date, Map.of()));
+    }
+
+    /**
+     * Resolves a date with explicitly supplied overrides (keyed by template schedule activity ID),
+     * for dates outside the range this snapshot holds overrides for.
+     */
+    public DailySchedule resolve(LocalDate date, Map<Long, ScheduleOverride> overridesOnDate) {
+        List<ScheduledActivity> base = baseByDayOfWeek.get(dayOfWeek(date));
+        if (overridesOnDate.isEmpty()) {
+            return new DailySchedule(date, base);
+        }
+
+        List<ScheduledActivity> resolved = new ArrayList<>(base.size());
+        for (ScheduledActivity activity : base) {
+            ScheduleOverride override = overridesOnDate.get(activity.templateScheduleActivityId());
+            resolved.add(override == null ? activity : applyOverride(activity, override));
+        }
+        resolved.sort(SCHEDULE_ORDER);
+        return new DailySchedule(date, List.copyOf(resolved));
+    }
+
+    /**
+     * Whether a date resolves differently under {@code other} than under this snapshot.
+     */
+    boolean differsOn(LocalDate date, ScheduleSources other) {
+        int dayOfWeek = dayOfWeek(date);
+        return !baseByDayOfWeek.get(dayOfWeek).equals(other.baseByDayOfWeek.get(dayOfWeek))
+            || !overrides.getOrDefault(date, Map.of()).equals(other.overrides.getOrDefault(date, Map.of()));
+    }
+
+    /**
+     * Database day-of-week numbering: 0 = Sunday ... 6 = Saturday.
+     */
+    static int dayOfWeek(LocalDate date) {
+        return date.getDayOfWeek().getValue() % 7;
+    }
+
+    private static ScheduledActivity applyOverride(ScheduledActivity activity, ScheduleOverride override) {
+        boolean cancelled = Boolean.TRUE.equals(override.isCancelled());
+        return ScheduledActivity.builder()
+            .templateScheduleActivityId(activity.templateScheduleActivityId())
+            .templateId(activity.templateId())
+            .templateName(activity.templateName())
+            .activityId(activity.activityId())
+            .title(activity.title())
+            .location(activity.location())
+            .startTime(cancelled || override.newStartTime() == null ? activity.startTime() : override.newStartTime())
+            .endTime(cancelled || override.newEndTime() == null ? activity.endTime() : override.newEndTime())
+            .notes(activity.notes())
+            .cancelled(cancelled)
+            .overrideReason(override.reason())
+            .build();
+    }
+
+    private static List<List<ScheduledActivity>> buildBase(
+            List<ScheduleTemplate> templates,
+            List<TemplateScheduleActivity> templateActivities,
+            List<Activity> activities) {
+        Map<Long, ScheduleTemplate> templatesById = templates.stream()
+            .filter(template -> Boolean.TRUE.equals(template.isActive()))
+            .collect(Collectors.toMap(ScheduleTemplate::templateId, Function.identity()));
+        Map<Long, Activity> activitiesById = activities.stream()
+            .collect(Collectors.toMap(Activity::activityId, Function.identity()));
+
+        List<List<ScheduledActivity>> byDay = new ArrayList<>(7);
+        for (int day = 0; day < 7; day++) {
+            byDay.add(new ArrayList<>());
+        }
+
+        for (TemplateScheduleActivity templateActivity : templateActivities) {
+            ScheduleTemplate template = templatesById.get(templateActivity.templateId());
+            if (template == null) {
+                continue;
+            }
+            Activity activity = activitiesById.get(templateActivity.activityId());
+            ScheduledActivity scheduled = ScheduledActivity.builder()
+                .templateScheduleActivityId(templateActivity.id())
+                .templateId(template.templateId())
+                .templateName(template.name())
+                .activityId(templateActivity.activityId())
+                .title(activity == null ? null : activity.title())
+                .location(activity == null ? null : activity.location())
+                .startTime(templateActivity.startTime())
+                .endTime(templateActivity.endTime())
+                .notes(templateActivity.notes())
+                .build();
+
+            if (templateActivity.dayOfWeek() == null) {
+                byDay.forEach(day -> day.add(scheduled));
+            } else {
+                byDay.get(templateActivity.dayOfWeek()).add(scheduled);
+            }
+        }
+
+        return byDay.stream()
+            .map(day -> day.stream().sorted(SCHEDULE_ORDER).toList())
+            .toList();
+    }
+
+    private static Map<LocalDate, Map<Long, ScheduleOverride>> groupByDate(Collection<ScheduleOverride> overrides) {
+        return overrides.stream()
+            .collect(Collectors.collectingAndThen(
+                Collectors.groupingBy(
+                    ScheduleOverride::overrideDate,
+                    Collectors.toUnmodifiableMap(ScheduleOverride::templateScheduleActivityId, Function.identity())),
+                Map::copyOf));
+    }
+}
@@ -0,0 +1,80 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, date-indexed schedule for a window of consecutive dates.
+ * Updates produce a new timeline that reuses every day whose inputs did not change.
+ */
+public final class ScheduleTimeline {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final ScheduleSources sources;
+    private final Map<LocalDate, DailySchedule> days;
+
+    private ScheduleTimeline(
+            LocalDate startDate, LocalDate endDate, ScheduleSources sources, Map<LocalDate, DailySchedule> days) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.sources = sources;
+        this.days = days;
+    }
+
+    /**
+     * Resolves every date in {@code [startDate, startDate + days)}.
+     */
+    public static ScheduleTimeline build(LocalDate startDate, int days, ScheduleSources sources) {
+        LocalDate endDate = startDate.plusDays(days - 1L);
+        Map<LocalDate, DailySchedule> resolved = new HashMap<>(days * 2);
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            resolved.put(date, sources.resolve(date));
+        }
+        return new ScheduleTimeline(startDate, endDate, sources, Map.copyOf(resolved));
+    }
+
+    /**
+     * Returns a timeline over the same window resolved from {@code newSources},
+     * recomputing only the dates whose templates or overrides changed.
+     */
+    public ScheduleTimeline update(ScheduleSources newSources) {
+        Map<LocalDate, DailySchedule> resolved = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (sources.differsOn(date, newSources)) {
+                if (resolved == null) {
+                    resolved = new HashMap<>(days);
+                }
+                resolved.put(date, newSources.resolve(date));
+            }
+        }
+        return new ScheduleTimeline(
+            startDate, endDate, newSources, resolved == null ? days : Map.copyOf(resolved));
+    }
+
+    /**
+     * The resolved schedule for a date, or null if the date is outside this timeline's window.
+     */
+    public DailySchedule get(LocalDate date) {
+        return days.get(date);
+    }
+
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    public LocalDate startDate() {
+        return startDate;
+    }
+
+    public LocalDate endDate() {
+        return endDate;
+    }
+
+    public ScheduleSources sources() {
+        return sources;
+    }
+}
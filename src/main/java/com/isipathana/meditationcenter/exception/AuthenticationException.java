@@ -10,7 +10,7 @@ package com.isipathana.meditationcenter.exception;
  * - Expired token
  * - Invalid token
  */
-public class AuthenticationException extends RuntimeException {
+public class AuthenticationException extends ClientErrorException {
     public AuthenticationException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.isipathana.meditationcenter.exception;
 
-public class BadRequestException extends RuntimeException{
+public class BadRequestException extends ClientErrorException {
     public BadRequestException(String message) {
         super(message);
     }
@@ -0,0 +1,20 @@
+package com.isipathana.meditationcenter.exception;
+
+/**
+ * Base class for exceptions that map to a 4xx response.
+ * <p>
+ * These are expected outcomes of bad or unauthorised requests, not bugs: they are logged without a
+ * stack trace, so none is captured. Filling in the stack trace is most of the cost of throwing,
+ * and a burst of bad requests (credential stuffing, scrapers) would otherwise pay it on every one.
+ * A cause, when given, keeps its own stack trace.
+ */
+public abstract class ClientErrorException extends RuntimeException {
+
+    protected ClientErrorException(String message) {
+        this(message, null);
+    }
+
+    protected ClientErrorException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
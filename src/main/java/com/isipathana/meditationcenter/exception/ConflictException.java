@@ -9,7 +9,7 @@ package com.isipathana.meditationcenter.exception;
  * - Duplicate booking for same date/time
  * - Resource version conflict
  */
-public class ConflictException extends RuntimeException {
+public class ConflictException extends ClientErrorException {
     public ConflictException(String message) {
         super(message);
     }
@@ -0,0 +1,62 @@
+package com.isipathana.meditationcenter.exception;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rate-limits log lines for repetitive errors, per kind of error.
+ * <p>
+ * Each kind gets {@code maxPerInterval} log lines per {@code sampleInterval}; further errors in the
+ * window are only counted, and the count is handed to the next line that is logged, so a 401 storm
+ * shows up as a few lines saying how much was skipped instead of one line per request.
+ * Kinds are a small fixed set (exception types), so windows are never evicted.
+ */
+@Component
+public class ErrorLogSampler {
+
+    private final long intervalNanos;
+    private final int maxPerInterval;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ErrorLogSampler(ErrorLoggingProperties properties) {
+        this.intervalNanos = properties.sampleInterval().toNanos();
+        this.maxPerInterval = properties.maxPerInterval();
+    }
+
+    /**
+     * Decides whether an error of {@code kind} is logged.
+     *
+     * @return {@code -1} to skip it, otherwise the number of errors of this kind skipped since the last one logged
+     */
+    public long admit(String kind) {
+        return windows.computeIfAbsent(kind, ignored -> new Window(System.nanoTime())).admit(System.nanoTime());
+    }
+
+    private final class Window {
+
+        private long startedAt;
+        private int logged;
+        private long suppressed;
+
+        private Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        synchronized long admit(long now) {
+            if (now - startedAt >= intervalNanos) {
+                startedAt = now;
+                logged = 0;
+            }
+            if (logged < maxPerInterval) {
+                logged++;
+                long skipped = suppressed;
+                suppressed = 0;
+                return skipped;
+            }
+            suppressed++;
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.isipathana.meditationcenter.exception;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link ErrorLogSampler}.
+ *
+ * @param sampleInterval  Length of the window in which repeated client errors of one kind are counted
+ * @param maxPerInterval  Errors of one kind logged per window; the rest are counted and reported with the next one logged
+ */
+@ConfigurationProperties(prefix = "meditation.error-logging")
+public record ErrorLoggingProperties(
+    @DefaultValue("1m") Duration sampleInterval,
+    @DefaultValue("20") int maxPerInterval
+) {
+}
@@ -9,7 +9,7 @@ package com.isipathana.meditationcenter.exception;
  * - User trying to modify another user's data
  * - Insufficient permissions for the operation
  */
-public class ForbiddenException extends RuntimeException {
+public class ForbiddenException extends ClientErrorException {
     public ForbiddenException(String message) {
         super(message);
     }
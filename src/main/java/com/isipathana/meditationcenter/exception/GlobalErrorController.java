@@ -24,6 +24,10 @@ import org.springframework.web.bind.annotation.RestController;
  * Works in conjunction with GlobalExceptionHandler:
  * - GlobalExceptionHandler: Catches exceptions from controllers (95% of errors)
  * - GlobalErrorController: Safety net for everything else (5% of errors)
+ * <p>
+ * Requests outside the served paths, and with unsupported methods, are answered earlier by
+ * {@link UnmappedRouteFilter} with the same bodies. Client errors that do get here are logged
+ * through {@link ErrorLogSampler}.
  */
 @RestController
 @RequestMapping("/error")
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GlobalErrorController implements ErrorController {
 
     private final Logger logger;
+    private final ErrorLogSampler errorLogSampler;
 
     /**
      * Handles all error requests forwarded to /error endpoint.
@@ -73,7 +78,13 @@ public class GlobalErrorController implements ErrorController {
         if (status.is5xxServerError()) {
             logger.error("Server error [{}]: {} - {}", status.value(), requestUri, message);
         } else if (status.is4xxClientError()) {
-            logger.warn("Client error [{}]: {} - {}", status.value(), requestUri, message);
+            long skipped = errorLogSampler.admit("ErrorController" + status.value());
+            if (skipped == 0) {
+                logger.warn("Client error [{}]: {} - {}", status.value(), requestUri, message);
+            } else if (skipped > 0) {
+                logger.warn("Client error [{}]: {} - {} ({} similar errors not logged)",
+                        status.value(), requestUri, message, skipped);
+            }
         }
 
         // Create appropriate ErrorResponse based on status code
@@ -2,12 +2,16 @@ package com.isipathana.meditationcenter.exception;
 
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.isipathana.meditationcenter.exception.response.ErrorResponse;
+import com.isipathana.meditationcenter.exception.response.factory.ConstantErrorBodies;
 import com.isipathana.meditationcenter.exception.response.factory.ErrorResponseFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -28,7 +32,15 @@ import java.util.List;
  * - Authentication/Authorization (401/403) -> WARN logging (security concern)
  * - Not Found (404) -> WARN logging
  * - Business errors (409/422) -> WARN logging (business rule violation)
- * - Internal errors (500) -> ERROR logging (server problem)
+ * - Overload (503) -> WARN logging
+ * - Internal errors (500) -> ERROR logging with stack trace (server problem)
+ * <p>
+ * Client errors and 503s are logged without a stack trace (4xx exceptions do not capture one, see
+ * {@link ClientErrorException}) and through {@link ErrorLogSampler}, so a storm of one kind of
+ * error is logged a few times per interval with a count of what was skipped.
+ * Bodies that never vary (401, 403, 404, 500) are written from {@link ConstantErrorBodies}.
+ * <p>
+ * Every handled exception is counted as {@code api.errors}, tagged with its type and the status.
  */
 @RestControllerAdvice
 @RequiredArgsConstructor
@@ -36,10 +48,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     private final Logger logger;
     private final ErrorResponseFactory errorResponseFactory;
+    private final ConstantErrorBodies constantErrorBodies;
+    private final ErrorLogSampler errorLogSampler;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Override to customize internal exception handling.
      * Converts exception to ErrorResponse using the factory.
+     * All handlers, including Spring MVC's own, end here, so errors are counted here.
+     * Constant bodies are returned as pre-serialized JSON bytes.
      */
     @Override
     protected ResponseEntity<Object> handleExceptionInternal(
@@ -49,9 +66,22 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             HttpStatusCode statusCode,
             WebRequest request) {
 
-        return body == null
-                ? new ResponseEntity<>(errorResponseFactory.createErrorResponse(ex), headers, statusCode)
-                : new ResponseEntity<>(body, headers, statusCode);
+        meterRegistry.counter("api.errors",
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(statusCode.value()))
+            .increment();
+
+        if (body != null) {
+            return new ResponseEntity<>(body, headers, statusCode);
+        }
+        byte[] constantBody = constantErrorBodies.find(ex);
+        if (constantBody != null) {
+            HttpHeaders jsonHeaders = new HttpHeaders();
+            jsonHeaders.addAll(headers);
+            jsonHeaders.setContentType(MediaType.APPLICATION_JSON);
+            return new ResponseEntity<>(constantBody, jsonHeaders, statusCode);
+        }
+        return new ResponseEntity<>(errorResponseFactory.createErrorResponse(ex), headers, statusCode);
     }
 
     /**
@@ -113,7 +143,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<Object> handleValidationException(
             ValidationException ex, WebRequest request) {
 
-        logger.info("Validation error: {}", ex.getMessage(), ex);
+        logSampled(Level.INFO, "Validation error", ex);
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
@@ -127,7 +157,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<Object> handleBadRequestException(
             BadRequestException ex, WebRequest request) {
 
-        logger.info("Bad request: {}", ex.getMessage(), ex);
+        logSampled(Level.INFO, "Bad request", ex);
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
@@ -141,7 +171,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<Object> handleAuthenticationException(
             AuthenticationException ex, WebRequest request) {
 
-        logger.warn("Authentication failed: {}", ex.getMessage(), ex);
+        logSampled(Level.WARN, "Authentication failed", ex);
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.UNAUTHORIZED, request);
@@ -155,7 +185,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<Object> handleForbiddenException(
             ForbiddenException ex, WebRequest request) {
 
-        logger.warn("Forbidden access attempt: {}", ex.getMessage(), ex);
+        logSampled(Level.WARN, "Forbidden access attempt", ex);
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.FORBIDDEN, request);
@@ -169,7 +199,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<Object> handleNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
 
-        logger.warn("Resource not found: {}", ex.getMessage(), ex);
+        logSampled(Level.WARN, "Resource not found", ex);
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.NOT_FOUND, request);
@@ -183,7 +213,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     public ResponseEntity<Object> handleConflictException(
             ConflictException ex, WebRequest request) {
 
-        logger.warn("Conflict detected: {}", ex.getMessage(), ex);
+        logSampled(Level.WARN, "Conflict detected", ex);
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.CONFLICT, request);
@@ -198,13 +228,31 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             UnprocessableEntityException ex, WebRequest request) {
 
         if (!ex.getMessage().isBlank()) {
-            logger.warn("Business rule violation: {} (code: {})", ex.getMessage(), ex.getErrorCode());
+            logSampled(Level.WARN, "Business rule violation (code: " + ex.getErrorCode() + ")", ex);
         }
 
         return handleExceptionInternal(
                 ex, null, new HttpHeaders(), HttpStatus.UNPROCESSABLE_ENTITY, request);
     }
 
+    /**
+     * Handles ServiceUnavailableException - temporary overload.
+     * HTTP 503 Service Unavailable, with Retry-After in seconds when the exception carries one.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Object> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        logSampled(Level.WARN, "Service unavailable", ex);
+
+        HttpHeaders headers = new HttpHeaders();
+        if (ex.getRetryAfter() != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return handleExceptionInternal(
+                ex, null, headers, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
     /**
      * Catches all unhandled exceptions.
      * HTTP 500 Internal Server Error.
@@ -218,11 +266,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 ex, null, new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
     }
 
+    /**
+     * Logs {@code ex}'s message without a stack trace, unless the sampler is skipping its kind of error.
+     */
+    private void logSampled(Level level, String summary, Exception ex) {
+        long skipped = errorLogSampler.admit(ex.getClass().getSimpleName());
+        if (skipped == 0) {
+            logger.atLevel(level).log("{}: {}", summary, ex.getMessage());
+        } else if (skipped > 0) {
+            logger.atLevel(level).log("{}: {} ({} similar errors not logged)", summary, ex.getMessage(), skipped);
+        }
+    }
+
     /**
      * Converts camelCase to snake_case for field names.
      * Example: "userName" -> "user_name"
      */
-    private String convertToSnakeCase(String camelCase) {
+    static String convertToSnakeCase(String camelCase) {
         if (camelCase == null || camelCase.isEmpty()) {
             return camelCase;
         }
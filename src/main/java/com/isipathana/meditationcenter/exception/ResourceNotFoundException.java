@@ -4,7 +4,7 @@ package com.isipathana.meditationcenter.exception;
  * Represents an exception that occurs when a requested resource is not found.
  * Returns an HTTP 404 Not Found status code.
  */
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends ClientErrorException {
     public ResourceNotFoundException(String entityName, Long id) {
         this(entityName, String.valueOf(id));
     }
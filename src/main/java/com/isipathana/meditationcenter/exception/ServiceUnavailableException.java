@@ -0,0 +1,27 @@
+package com.isipathana.meditationcenter.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Represents an exception that occurs when the server is temporarily unable to accept a request.
+ * Returns an HTTP 503 Service Unavailable status code, with a Retry-After header when known.
+ *
+ * Common use cases:
+ * - Ingestion queue is full during a burst
+ * - A dependency is shedding load
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public ServiceUnavailableException(String message) {
+        this(message, null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.isipathana.meditationcenter.exception;
+
+import com.isipathana.meditationcenter.exception.response.factory.ConstantErrorBodies;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers {@link UnmappedRouteFilter}.
+ */
+@Configuration
+public class UnmappedRouteConfig {
+
+    /**
+     * Ordered after Boot's observation filter, so rejected requests still show up in
+     * {@code http.server.requests}, and well before the security filter chain.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "meditation.unmapped-routes", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<UnmappedRouteFilter> unmappedRouteFilter(
+            Logger logger,
+            UnmappedRouteProperties properties,
+            ConstantErrorBodies constantErrorBodies,
+            ErrorLogSampler errorLogSampler,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<UnmappedRouteFilter> registration = new FilterRegistrationBean<>(
+            new UnmappedRouteFilter(logger, properties, constantErrorBodies, errorLogSampler, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,152 @@
+package com.isipathana.meditationcenter.exception;
+
+import com.isipathana.meditationcenter.exception.response.factory.ConstantErrorBodies;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Answers requests that cannot match any handler before they reach security and Spring MVC.
+ * <p>
+ * Scanners probe for {@code /wp-login.php}, {@code /.env} and the like all day. Without this filter
+ * each probe runs the security chain, fails handler lookup and is forwarded to {@code /error}, where
+ * {@link GlobalErrorController} builds and logs the response. Here a path outside
+ * {@link UnmappedRouteProperties#servedPrefixes()} is a 404 and a method outside
+ * {@link UnmappedRouteProperties#allowedMethods()} a 405, with the same JSON bodies the controller
+ * would write, taken pre-serialized from {@link ConstantErrorBodies}.
+ * <p>
+ * Unknown paths under a served prefix still go through Spring MVC; this only removes work for
+ * requests whose outcome is already certain.
+ * <p>
+ * Rejections are counted as {@code http.unmapped.rejected}, tagged with the status and the first path
+ * segment (up to {@code maxTrackedPrefixes} combinations, then {@code other}), and logged through
+ * {@link ErrorLogSampler}.
+ */
+public class UnmappedRouteFilter extends OncePerRequestFilter {
+
+    private final Logger logger;
+
+    private static final int MAX_PREFIX_LENGTH = 32;
+    private static final String OTHER_PREFIX = "other";
+
+    private final List<String> servedPrefixes;
+    private final Set<String> allowedMethods;
+    private final int maxTrackedPrefixes;
+    private final ConstantErrorBodies constantErrorBodies;
+    private final ErrorLogSampler errorLogSampler;
+    private final MeterRegistry meterRegistry;
+    private final String allowHeader;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public UnmappedRouteFilter(
+            Logger logger,
+            UnmappedRouteProperties properties,
+            ConstantErrorBodies constantErrorBodies,
+            ErrorLogSampler errorLogSampler,
+            MeterRegistry meterRegistry) {
+        this.logger = logger;
+        this.servedPrefixes = List.copyOf(properties.servedPrefixes());
+        this.allowedMethods = Set.copyOf(properties.allowedMethods().stream()
+            .map(method -> method.toUpperCase(Locale.ROOT))
+            .toList());
+        this.maxTrackedPrefixes = properties.maxTrackedPrefixes();
+        this.constantErrorBodies = constantErrorBodies;
+        this.errorLogSampler = errorLogSampler;
+        this.meterRegistry = meterRegistry;
+        this.allowHeader = String.join(", ", properties.allowedMethods());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (!isServed(path)) {
+            reject(request, response, path, HttpStatus.NOT_FOUND, constantErrorBodies.notFound());
+        } else if (!allowedMethods.contains(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, allowHeader);
+            reject(request, response, path, HttpStatus.METHOD_NOT_ALLOWED, constantErrorBodies.methodNotAllowed());
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private boolean isServed(String path) {
+        for (String prefix : servedPrefixes) {
+            if (path.startsWith(prefix) && (prefix.endsWith("/")
+                    || path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String path,
+                        HttpStatus status, byte[] body) throws IOException {
+        String prefix = firstSegment(path);
+        counter(status, prefix).increment();
+
+        long skipped = errorLogSampler.admit("UnmappedRoute" + status.value());
+        if (skipped == 0) {
+            logger.warn("Rejected [{}] before dispatch: {} {}", status.value(), request.getMethod(), path);
+        } else if (skipped > 0) {
+            logger.warn("Rejected [{}] before dispatch: {} {} ({} similar requests not logged)",
+                status.value(), request.getMethod(), path, skipped);
+        }
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Counters are cached per status and segment; segments past the first {@code maxTrackedPrefixes}
+     * share one counter so random probe paths cannot grow the registry.
+     */
+    private Counter counter(HttpStatus status, String prefix) {
+        String key = status.value() + prefix;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (counters.size() >= maxTrackedPrefixes) {
+            return counters.computeIfAbsent(status.value() + OTHER_PREFIX, ignored -> register(status, OTHER_PREFIX));
+        }
+        return counters.computeIfAbsent(key, ignored -> register(status, prefix));
+    }
+
+    private Counter register(HttpStatus status, String prefix) {
+        return Counter.builder("http.unmapped.rejected")
+            .tag("status", String.valueOf(status.value()))
+            .tag("prefix", prefix)
+            .register(meterRegistry);
+    }
+
+    /**
+     * {@code /wp-admin/setup.php} becomes {@code /wp-admin}, cut to a bounded length.
+     */
+    static String firstSegment(String path) {
+        int end = path.indexOf('/', 1);
+        String segment = end < 0 ? path : path.substring(0, end);
+        if (segment.isEmpty()) {
+            return "/";
+        }
+        return segment.length() > MAX_PREFIX_LENGTH ? segment.substring(0, MAX_PREFIX_LENGTH) : segment;
+    }
+}
@@ -0,0 +1,26 @@
+package com.isipathana.meditationcenter.exception;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Settings for {@link UnmappedRouteFilter}.
+ *
+ * @param enabled             Whether requests outside the served paths are answered by the filter
+ * @param servedPrefixes      Path prefixes the application has handlers for, including Spring Security's form
+ *                            login pages; anything else is a 404 without reaching Spring MVC. A prefix without a
+ *                            trailing slash matches the path itself and the paths below it ({@code /login},
+ *                            {@code /login/...}), but not {@code /login.php}
+ * @param allowedMethods      HTTP methods any handler accepts; others are a 405 without reaching Spring MVC
+ * @param maxTrackedPrefixes  Distinct status and first path segment pairs counted separately; later ones are counted as "other"
+ */
+@ConfigurationProperties(prefix = "meditation.unmapped-routes")
+public record UnmappedRouteProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue({"/api/", "/actuator", "/error", "/login", "/logout"}) List<String> servedPrefixes,
+    @DefaultValue({"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"}) List<String> allowedMethods,
+    @DefaultValue("50") int maxTrackedPrefixes
+) {
+}
@@ -14,7 +14,7 @@ import lombok.Getter;
  * - User trying to register for event they already registered for
  */
 @Getter
-public class UnprocessableEntityException extends RuntimeException {
+public class UnprocessableEntityException extends ClientErrorException {
     private final String errorCode;
 
     public UnprocessableEntityException(String errorCode, String message) {
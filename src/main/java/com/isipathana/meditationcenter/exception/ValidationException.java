@@ -9,7 +9,7 @@ import lombok.Getter;
  * Returns an HTTP 400 Bad Request status code.
  */
 @Getter
-public class ValidationException extends RuntimeException {
+public class ValidationException extends ClientErrorException {
     private final String field;
 
     public ValidationException(String field, String message) {
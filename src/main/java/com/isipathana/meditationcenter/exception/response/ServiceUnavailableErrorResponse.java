@@ -0,0 +1,8 @@
+package com.isipathana.meditationcenter.exception.response;
+
+/**
+ * Represents HTTP 503 Service Unavailable error response.
+ * Used when the server is overloaded and the client should retry later.
+ */
+public record ServiceUnavailableErrorResponse(String message) implements ErrorResponse {
+}
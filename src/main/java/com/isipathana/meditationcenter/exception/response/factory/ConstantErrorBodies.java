@@ -0,0 +1,89 @@
+package com.isipathana.meditationcenter.exception.response.factory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isipathana.meditationcenter.exception.AuthenticationException;
+import com.isipathana.meditationcenter.exception.BadRequestException;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.exception.ForbiddenException;
+import com.isipathana.meditationcenter.exception.ResourceNotFoundException;
+import com.isipathana.meditationcenter.exception.ServiceUnavailableException;
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.exception.response.BadRequestErrorResponse;
+import com.isipathana.meditationcenter.exception.response.ErrorResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON bodies of the error responses that never depend on the exception, serialized once at startup.
+ * <p>
+ * {@link DefaultErrorResponseFactory} answers 401, 403, 404 and every unmapped exception with a
+ * fixed message, so those bodies are the same bytes every time. They are rendered here with the
+ * application's {@link ObjectMapper} (same output as a per-request write) and handed out as-is;
+ * a 401 or 404 storm then costs neither an allocation of the response nor a Jackson write.
+ * <p>
+ * The switch in {@link #find(Exception)} mirrors {@link ErrorResponseFactory#createErrorResponse(Exception)}:
+ * a factory type whose response carries the exception's details must return {@code null} here.
+ * The 404 and 405 bodies are also used by {@code UnmappedRouteFilter}, which answers without an exception.
+ */
+@Component
+public class ConstantErrorBodies {
+
+    private final byte[] unauthorized;
+    private final byte[] forbidden;
+    private final byte[] notFound;
+    private final byte[] internalServerError;
+    private final byte[] methodNotAllowed;
+
+    public ConstantErrorBodies(ObjectMapper objectMapper, ErrorResponseFactory errorResponseFactory) {
+        this.unauthorized = serialize(objectMapper, errorResponseFactory, new AuthenticationException(""));
+        this.forbidden = serialize(objectMapper, errorResponseFactory, new ForbiddenException(""));
+        this.notFound = serialize(objectMapper, errorResponseFactory, new ResourceNotFoundException(""));
+        this.internalServerError = serialize(objectMapper, errorResponseFactory, new IllegalStateException());
+        this.methodNotAllowed = serialize(objectMapper, new BadRequestErrorResponse("Method Not Allowed"));
+    }
+
+    /**
+     * The pre-serialized body for {@code e}, or {@code null} when its response has to be built per exception.
+     * The returned array is shared and must not be modified.
+     */
+    public byte[] find(Exception e) {
+        return switch (e) {
+            case AuthenticationException ignored -> unauthorized;
+            case ForbiddenException ignored -> forbidden;
+            case ResourceNotFoundException ignored -> notFound;
+            case BadRequestException ignored -> null;
+            case ValidationException ignored -> null;
+            case ConflictException ignored -> null;
+            case UnprocessableEntityException ignored -> null;
+            case ServiceUnavailableException ignored -> null;
+            case null, default -> internalServerError;
+        };
+    }
+
+    /**
+     * The 404 body, as {@code GlobalErrorController} writes it for a URL no controller maps.
+     */
+    public byte[] notFound() {
+        return notFound;
+    }
+
+    /**
+     * The 405 body, as {@code GlobalErrorController} writes it for a method the URL does not support.
+     */
+    public byte[] methodNotAllowed() {
+        return methodNotAllowed;
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, ErrorResponseFactory factory, Exception e) {
+        return serialize(objectMapper, factory.createErrorResponse(e));
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, ErrorResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize " + response.getClass().getSimpleName(), ex);
+        }
+    }
+}
@@ -13,10 +13,22 @@ import org.springframework.stereotype.Component;
  * - Authentication/Forbidden errors use generic messages to avoid information leakage
  * - Internal server errors hide sensitive details from clients
  * - Validation/Business errors expose specific details to help clients fix their requests
+ * <p>
+ * Responses with a generic message are shared instances; their serialized form is cached by
+ * {@link ConstantErrorBodies}.
  */
 @Component
 public class DefaultErrorResponseFactory extends ErrorResponseFactory {
 
+    private static final AuthenticationErrorResponse UNAUTHORIZED =
+            new AuthenticationErrorResponse(HttpStatus.UNAUTHORIZED.getReasonPhrase());
+    private static final ForbiddenErrorResponse FORBIDDEN =
+            new ForbiddenErrorResponse(HttpStatus.FORBIDDEN.getReasonPhrase());
+    private static final NotFoundErrorResponse NOT_FOUND =
+            new NotFoundErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase());
+    private static final InternalServerErrorResponse INTERNAL_SERVER_ERROR =
+            new InternalServerErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+
     @Override
     protected BadRequestErrorResponse createBadRequestErrorResponse(BadRequestException e) {
         return new BadRequestErrorResponse(e.getMessage());
@@ -31,19 +43,19 @@ public class DefaultErrorResponseFactory extends ErrorResponseFactory {
     protected AuthenticationErrorResponse createAuthenticationErrorResponse(
             AuthenticationException e) {
         // Use generic message for security - don't reveal if user exists or not
-        return new AuthenticationErrorResponse(HttpStatus.UNAUTHORIZED.getReasonPhrase());
+        return UNAUTHORIZED;
     }
 
     @Override
     protected ForbiddenErrorResponse createForbiddenErrorResponse(ForbiddenException e) {
         // Use generic message for security - don't reveal resource structure
-        return new ForbiddenErrorResponse(HttpStatus.FORBIDDEN.getReasonPhrase());
+        return FORBIDDEN;
     }
 
     @Override
     protected NotFoundErrorResponse createNotFoundErrorResponse(ResourceNotFoundException e) {
         // Use generic message for security - don't reveal if resource exists
-        return new NotFoundErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase());
+        return NOT_FOUND;
     }
 
     @Override
@@ -57,9 +69,15 @@ public class DefaultErrorResponseFactory extends ErrorResponseFactory {
         return new UnprocessableEntityErrorResponse(e.getErrorCode(), e.getMessage());
     }
 
+    @Override
+    protected ServiceUnavailableErrorResponse createServiceUnavailableErrorResponse(
+            ServiceUnavailableException e) {
+        return new ServiceUnavailableErrorResponse(e.getMessage());
+    }
+
     @Override
     protected InternalServerErrorResponse createInternalServerErrorResponse(Exception e) {
         // Never expose internal error details to clients
-        return new InternalServerErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+        return INTERNAL_SERVER_ERROR;
     }
 }
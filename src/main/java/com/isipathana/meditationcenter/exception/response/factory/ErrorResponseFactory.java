@@ -26,6 +26,9 @@ public abstract class ErrorResponseFactory {
     protected abstract UnprocessableEntityErrorResponse createUnprocessableEntityErrorResponse(
             UnprocessableEntityException e);
 
+    protected abstract ServiceUnavailableErrorResponse createServiceUnavailableErrorResponse(
+            ServiceUnavailableException e);
+
     protected abstract InternalServerErrorResponse createInternalServerErrorResponse(Exception e);
 
     /**
@@ -51,6 +54,8 @@ public abstract class ErrorResponseFactory {
                     createConflictErrorResponse(conflictException);
             case UnprocessableEntityException unprocessableEntityException ->
                     createUnprocessableEntityErrorResponse(unprocessableEntityException);
+            case ServiceUnavailableException serviceUnavailableException ->
+                    createServiceUnavailableErrorResponse(serviceUnavailableException);
             case null, default -> createInternalServerErrorResponse(e);
         };
     }
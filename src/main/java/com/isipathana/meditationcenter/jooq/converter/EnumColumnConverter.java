@@ -1,21 +1,102 @@
 package com.isipathana.meditationcenter.jooq.converter;
 
 import org.jooq.Converter;
+import org.jooq.EnumType;
+import org.jooq.exception.DataTypeException;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Generic converter for converting database VARCHAR columns to Java enums.
+ * Generic converter between enum columns and the application's Java enums.
+ * <p>
+ * Status, role, type and method columns are native PostgreSQL enums (V16), which jOOQ generates
+ * as {@link EnumType} classes in {@code jooq.enums}; those are mapped to and from the Java enum by
+ * ordinal through arrays built here, matching constants by literal. Plain text columns are also
+ * supported and decoded by name as described below.
+ * <p>
+ * Runs for every enum column of every fetched row, so the lookup is precomputed per enum type:
+ * constant names are placed in a small open-addressed table sized so that no two names share a
+ * slot, and a value is decoded with its (cached) {@code String.hashCode()}, one mask and one
+ * {@code equals}. Encoding returns the constant's name from an array indexed by ordinal.
+ * Values that are not a constant name fail with a {@link DataTypeException} naming the enum and
+ * the accepted values.
  *
- * @param <T> The database type (String)
+ * @param <T> The database type (a generated {@link EnumType} or String)
  * @param <U> The Java enum type
  */
 public class EnumColumnConverter<T, U extends Enum<U>> implements Converter<T, U> {
 
+    // Above this table size give up on a collision-free layout and use a map
+    private static final int MAX_TABLE_SIZE = 1 << 12;
+
     private final Class<T> databaseType;
     private final Class<U> javaType;
 
+    private final String[] names;
+    private final String[] slotNames;
+    private final U[] slotConstants;
+    private final int mask;
+    private final Map<String, U> fallback;
+
+    // Only for EnumType database types: Java constant by database ordinal and the reverse
+    private final U[] byDatabaseOrdinal;
+    private final T[] byJavaOrdinal;
+
     public EnumColumnConverter(Class<T> databaseType, Class<U> javaType) {
         this.databaseType = databaseType;
         this.javaType = javaType;
+
+        U[] constants = javaType.getEnumConstants();
+        this.names = Arrays.stream(constants).map(Enum::name).toArray(String[]::new);
+
+        int size = Integer.highestOneBit(Math.max(1, constants.length * 2 - 1)) << 1;
+        while (size <= MAX_TABLE_SIZE && !collisionFree(names, size - 1)) {
+            size <<= 1;
+        }
+        if (size <= MAX_TABLE_SIZE) {
+            this.mask = size - 1;
+            this.slotNames = new String[size];
+            @SuppressWarnings("unchecked")
+            U[] slots = (U[]) Array.newInstance(javaType, size);
+            this.slotConstants = slots;
+            for (U constant : constants) {
+                int slot = slot(constant.name(), mask);
+                slotNames[slot] = constant.name();
+                slotConstants[slot] = constant;
+            }
+            this.fallback = null;
+        } else {
+            this.mask = 0;
+            this.slotNames = null;
+            this.slotConstants = null;
+            this.fallback = new HashMap<>();
+            for (U constant : constants) {
+                fallback.put(constant.name(), constant);
+            }
+        }
+
+        if (databaseType.isEnum() && EnumType.class.isAssignableFrom(databaseType)) {
+            T[] databaseConstants = databaseType.getEnumConstants();
+            @SuppressWarnings("unchecked")
+            U[] javaConstants = (U[]) Array.newInstance(javaType, databaseConstants.length);
+            @SuppressWarnings("unchecked")
+            T[] databaseByJava = (T[]) Array.newInstance(databaseType, constants.length);
+            for (int i = 0; i < databaseConstants.length; i++) {
+                U constant = lookup(((EnumType) databaseConstants[i]).getLiteral());
+                javaConstants[i] = constant;
+                if (constant != null) {
+                    databaseByJava[constant.ordinal()] = databaseConstants[i];
+                }
+            }
+            this.byDatabaseOrdinal = javaConstants;
+            this.byJavaOrdinal = databaseByJava;
+        } else {
+            this.byDatabaseOrdinal = null;
+            this.byJavaOrdinal = null;
+        }
     }
 
     @Override
@@ -23,7 +104,20 @@ public class EnumColumnConverter<T, U extends Enum<U>> implements Converter<T, U
         if (databaseObject == null) {
             return null;
         }
-        return Enum.valueOf(javaType, databaseObject.toString());
+        if (byDatabaseOrdinal != null) {
+            U constant = byDatabaseOrdinal[((Enum<?>) databaseObject).ordinal()];
+            if (constant == null) {
+                throw unknown(((EnumType) databaseObject).getLiteral());
+            }
+            return constant;
+        }
+
+        String value = databaseObject instanceof String string ? string : databaseObject.toString();
+        U constant = lookup(value);
+        if (constant == null) {
+            throw unknown(value);
+        }
+        return constant;
     }
 
     @Override
@@ -31,8 +125,16 @@ public class EnumColumnConverter<T, U extends Enum<U>> implements Converter<T, U
         if (userObject == null) {
             return null;
         }
+        if (byJavaOrdinal != null) {
+            T databaseObject = byJavaOrdinal[userObject.ordinal()];
+            if (databaseObject == null) {
+                throw new DataTypeException(String.format("%s.%s has no value in database type %s",
+                    javaType.getSimpleName(), userObject.name(), databaseType.getSimpleName()));
+            }
+            return databaseObject;
+        }
         @SuppressWarnings("unchecked")
-        T result = (T) userObject.name();
+        T result = (T) names[userObject.ordinal()];
         return result;
     }
 
@@ -45,4 +147,34 @@ public class EnumColumnConverter<T, U extends Enum<U>> implements Converter<T, U
     public Class<U> toType() {
         return javaType;
     }
+
+    private U lookup(String value) {
+        if (fallback != null) {
+            return fallback.get(value);
+        }
+        int slot = slot(value, mask);
+        return value.equals(slotNames[slot]) ? slotConstants[slot] : null;
+    }
+
+    private DataTypeException unknown(String value) {
+        return new DataTypeException(String.format("Unknown %s value '%s' in database, expected one of %s",
+            javaType.getSimpleName(), value, Arrays.toString(names)));
+    }
+
+    private static boolean collisionFree(String[] names, int mask) {
+        boolean[] taken = new boolean[mask + 1];
+        for (String name : names) {
+            int slot = slot(name, mask);
+            if (taken[slot]) {
+                return false;
+            }
+            taken[slot] = true;
+        }
+        return true;
+    }
+
+    private static int slot(String value, int mask) {
+        int hash = value.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
 }
@@ -0,0 +1,50 @@
+package com.isipathana.meditationcenter.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.ExecuteListenerProvider;
+import org.slf4j.Logger;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers {@link QueryTimingListener} and {@link QueryGuardListener} with the jOOQ configuration
+ * Spring Boot builds, and the filter that scopes the guard's counts to a request.
+ * <p>
+ * Everything else is auto-configured once Micrometer is on the classpath: HTTP server timers,
+ * JVM metrics and the Hikari pool gauges ({@code hikaricp.connections.*}, found through the
+ * connection-limiting wrapper), all served at {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Boot adds every {@link ExecuteListenerProvider} bean to its jOOQ configuration, after its own
+     * exception translator.
+     */
+    @Bean
+    public ExecuteListenerProvider queryTimingListenerProvider(MeterRegistry meterRegistry) {
+        return new DefaultExecuteListenerProvider(new QueryTimingListener(meterRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "meditation.query-guard", name = "enabled", matchIfMissing = true)
+    public ExecuteListenerProvider queryGuardListenerProvider(Logger logger, QueryGuardProperties properties) {
+        return new DefaultExecuteListenerProvider(new QueryGuardListener(logger, properties));
+    }
+
+    /**
+     * Runs first, so queries made by later filters are counted towards the request too.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "meditation.query-guard", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<RequestQueryStatsFilter> requestQueryStatsFilter(Logger logger) {
+        FilterRegistrationBean<RequestQueryStatsFilter> registration =
+            new FilterRegistrationBean<>(new RequestQueryStatsFilter(logger));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
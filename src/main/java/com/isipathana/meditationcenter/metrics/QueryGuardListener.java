@@ -0,0 +1,89 @@
+package com.isipathana.meditationcenter.metrics;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+
+import java.util.regex.Pattern;
+
+/**
+ * Counts queries per HTTP request, flags statements a request repeats too often, and logs slow queries.
+ * <p>
+ * A statement is identified by its SQL with bind placeholders, so {@code findById} called once per
+ * row of an earlier result counts as the same statement each time. When a request runs one more
+ * than {@link QueryGuardProperties#maxSimilarStatements()} times it is logged once as a likely N+1,
+ * or, with {@code fail-on-repeated-statements}, every further execution throws
+ * {@link RepeatedStatementException} before it reaches the database.
+ * <p>
+ * Slow queries are logged with bind values left as placeholders and string literals masked, so
+ * names, emails and payment details do not end up in the log.
+ */
+public class QueryGuardListener implements ExecuteListener {
+
+    private final Logger logger;
+
+    private static final String STARTED = QueryGuardListener.class.getName() + ".started";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    private final QueryGuardProperties properties;
+    private final long slowQueryNanos;
+
+    public QueryGuardListener(Logger logger, QueryGuardProperties properties) {
+        this.logger = logger;
+        this.properties = properties;
+        this.slowQueryNanos = properties.slowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null || ctx.sql() == null) {
+            return;
+        }
+        int executions = stats.countExecution(ctx.sql());
+        if (executions <= properties.maxSimilarStatements()) {
+            return;
+        }
+        if (properties.failOnRepeatedStatements()) {
+            throw new RepeatedStatementException(String.format(
+                "Statement ran %d times in one request (limit %d), likely an N+1: %s",
+                executions, properties.maxSimilarStatements(), redactedSql(ctx)));
+        }
+        if (executions == properties.maxSimilarStatements() + 1) {
+            logger.warn("Statement ran more than {} times in one request, likely an N+1: {}",
+                properties.maxSimilarStatements(), redactedSql(ctx));
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        if (!(ctx.data(STARTED) instanceof Long started)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.addTime(elapsed);
+        }
+        if (elapsed >= slowQueryNanos) {
+            RepositoryMethodTracker.RepositoryMethod method = RepositoryMethodTracker.current();
+            logger.warn("Slow query ({} ms, {}.{}): {}", elapsed / 1_000_000,
+                method.repository(), method.method(), redactedSql(ctx));
+        }
+    }
+
+    /**
+     * Re-renders the query with bind placeholders, whatever the statement type, and masks the
+     * string literals that remain (inlined values, plain SQL).
+     */
+    static String redactedSql(ExecuteContext ctx) {
+        String sql = ctx.query() != null ? DSL.using(ctx.dialect()).render(ctx.query()) : ctx.sql();
+        return sql == null ? "<no sql>" : STRING_LITERAL.matcher(sql).replaceAll("'?'");
+    }
+}
@@ -0,0 +1,25 @@
+package com.isipathana.meditationcenter.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link QueryGuardListener}.
+ *
+ * @param enabled                   Whether queries are counted per request and slow ones logged
+ * @param slowQueryThreshold        Queries taking at least this long are logged with their values redacted
+ * @param maxSimilarStatements      How often one statement (same SQL, any bind values) may run in a request
+ *                                  before it is reported as a likely N+1
+ * @param failOnRepeatedStatements  Throw instead of logging when {@code maxSimilarStatements} is exceeded;
+ *                                  set in the {@code test} profile so an N+1 fails the test that causes it
+ */
+@ConfigurationProperties(prefix = "meditation.query-guard")
+public record QueryGuardProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500ms") Duration slowQueryThreshold,
+    @DefaultValue("20") int maxSimilarStatements,
+    @DefaultValue("false") boolean failOnRepeatedStatements
+) {
+}
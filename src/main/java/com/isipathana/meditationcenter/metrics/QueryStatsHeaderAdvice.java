@@ -0,0 +1,44 @@
+package com.isipathana.meditationcenter.metrics;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's query summary as an {@code X-Query-Stats} header in the {@code dev} profile,
+ * e.g. {@code X-Query-Stats: queries=12; distinct=4; max-repeated=3; time=8.4ms}.
+ * <p>
+ * Written just before the body, as headers cannot be added once the response is committed; queries
+ * run while the body is serialized are not included.
+ */
+@Profile("dev")
+@RestControllerAdvice
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String HEADER = "X-Query-Stats";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(HEADER, stats.summary());
+        }
+        return body;
+    }
+}
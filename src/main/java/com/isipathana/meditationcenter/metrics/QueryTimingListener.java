@@ -0,0 +1,49 @@
+package com.isipathana.meditationcenter.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every jOOQ execution, from rendering to the last fetched row, as {@code db.query},
+ * tagged with the repository and method that issued it (see {@link RepositoryMethodTracker}),
+ * the execute type ({@code read}, {@code write}, {@code batch}, ...) and the outcome.
+ * <p>
+ * jOOQ calls {@code end} also when the execution fails, after {@code exception}.
+ */
+public class QueryTimingListener implements ExecuteListener {
+
+    private static final String STARTED = QueryTimingListener.class.getName() + ".started";
+
+    private final Meter.MeterProvider<Timer> timers;
+
+    public QueryTimingListener(MeterRegistry meterRegistry) {
+        this.timers = Timer.builder("db.query")
+            .description("Time to execute a jOOQ query and fetch its results")
+            .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        if (!(ctx.data(STARTED) instanceof Long started)) {
+            return;
+        }
+        RepositoryMethodTracker.RepositoryMethod method = RepositoryMethodTracker.current();
+        timers.withTags(
+                "repository", method.repository(),
+                "method", method.method(),
+                "type", ctx.type().name().toLowerCase(Locale.ROOT),
+                "outcome", ctx.exception() == null && ctx.sqlException() == null ? "success" : "error")
+            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+}
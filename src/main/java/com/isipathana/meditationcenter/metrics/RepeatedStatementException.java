@@ -0,0 +1,12 @@
+package com.isipathana.meditationcenter.metrics;
+
+/**
+ * Thrown by {@link QueryGuardListener} when one request runs the same statement more often than
+ * {@code meditation.query-guard.max-similar-statements} and failing is enabled.
+ */
+public class RepeatedStatementException extends IllegalStateException {
+
+    public RepeatedStatementException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,72 @@
+package com.isipathana.meditationcenter.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Remembers which repository method the current thread is in, so {@link QueryTimingListener}
+ * can tag the queries it times with it.
+ * <p>
+ * Calls that nest (one repository method calling another through its proxy) restore the outer
+ * method on return. Queries issued outside a repository method, such as a lazy result consumed
+ * after the method returned, are attributed to {@link RepositoryMethod#UNKNOWN} unless the
+ * repository tags them itself with {@link #runAs}.
+ */
+@Aspect
+@Component
+public class RepositoryMethodTracker {
+
+    private static final ThreadLocal<RepositoryMethod> current = new ThreadLocal<>();
+
+    /**
+     * The repository method running on this thread, or {@link RepositoryMethod#UNKNOWN}.
+     */
+    public static RepositoryMethod current() {
+        RepositoryMethod method = current.get();
+        return method != null ? method : RepositoryMethod.UNKNOWN;
+    }
+
+    /**
+     * Runs {@code call} attributed to {@code method}. For queries a repository issues outside its
+     * proxied methods, such as a lazy load that runs after the finder returned.
+     */
+    public static <T> T runAs(RepositoryMethod method, Supplier<T> call) {
+        RepositoryMethod outer = current.get();
+        current.set(method);
+        try {
+            return call.get();
+        } finally {
+            restore(outer);
+        }
+    }
+
+    @Around("@within(org.springframework.stereotype.Repository) && execution(public * *(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryMethod outer = current.get();
+        current.set(new RepositoryMethod(
+            joinPoint.getSignature().getDeclaringType().getSimpleName(),
+            joinPoint.getSignature().getName()));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            restore(outer);
+        }
+    }
+
+    private static void restore(RepositoryMethod outer) {
+        if (outer == null) {
+            current.remove();
+        } else {
+            current.set(outer);
+        }
+    }
+
+    public record RepositoryMethod(String repository, String method) {
+
+        public static final RepositoryMethod UNKNOWN = new RepositoryMethod("none", "none");
+    }
+}
@@ -0,0 +1,79 @@
+package com.isipathana.meditationcenter.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Queries issued by the HTTP request running on the current thread.
+ * <p>
+ * Opened and closed by {@link RequestQueryStatsFilter} and filled in by {@link QueryGuardListener}.
+ * Only the request thread updates it; queries a request hands to other threads (such as the
+ * admin dashboard's section loads) are not counted.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> current = new ThreadLocal<>();
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int queries;
+    private long nanos;
+    private int maxRepeated;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats open() {
+        RequestQueryStats stats = new RequestQueryStats();
+        current.set(stats);
+        return stats;
+    }
+
+    static void close() {
+        current.remove();
+    }
+
+    /**
+     * Stats of the request on this thread, or {@code null} outside a request.
+     */
+    public static RequestQueryStats current() {
+        return current.get();
+    }
+
+    /**
+     * Counts one execution of {@code sql} and returns how often it has now run in this request.
+     */
+    int countExecution(String sql) {
+        queries++;
+        int executions = executionsBySql.merge(sql, 1, Integer::sum);
+        maxRepeated = Math.max(maxRepeated, executions);
+        return executions;
+    }
+
+    void addTime(long elapsedNanos) {
+        nanos += elapsedNanos;
+    }
+
+    public int queries() {
+        return queries;
+    }
+
+    public int distinctStatements() {
+        return executionsBySql.size();
+    }
+
+    public int maxRepeated() {
+        return maxRepeated;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * E.g. {@code queries=12; distinct=4; max-repeated=3; time=8.4ms}.
+     */
+    public String summary() {
+        return String.format("queries=%d; distinct=%d; max-repeated=%d; time=%.1fms",
+            queries, executionsBySql.size(), maxRepeated, nanos / 1_000_000.0);
+    }
+}
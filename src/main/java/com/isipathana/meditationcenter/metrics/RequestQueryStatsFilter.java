@@ -0,0 +1,36 @@
+package com.isipathana.meditationcenter.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link RequestQueryStats} for each request and logs its summary at DEBUG when the request ends.
+ */
+public class RequestQueryStatsFilter extends OncePerRequestFilter {
+
+    private final Logger logger;
+
+    public RequestQueryStatsFilter(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.close();
+            if (logger.isDebugEnabled() && stats.queries() > 0) {
+                logger.debug("{} {}: {}", request.getMethod(), request.getRequestURI(), stats.summary());
+            }
+        }
+    }
+}
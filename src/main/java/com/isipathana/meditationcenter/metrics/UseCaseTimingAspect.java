@@ -0,0 +1,52 @@
+package com.isipathana.meditationcenter.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every {@code UseCase.handle} and {@code AuthenticatedUseCase.handle} call as
+ * {@code usecase.handle}, tagged with the use case class, the outcome and, for failures,
+ * the exception type.
+ * <p>
+ * Exceptions are rethrown unchanged, so {@code GlobalExceptionHandler} still maps them.
+ */
+@Aspect
+@Component
+public class UseCaseTimingAspect {
+
+    private final Meter.MeterProvider<Timer> timers;
+
+    public UseCaseTimingAspect(MeterRegistry meterRegistry) {
+        this.timers = Timer.builder("usecase.handle")
+            .description("Time spent in a use case's handle method")
+            .withRegistry(meterRegistry);
+    }
+
+    @Around("execution(* com.isipathana.meditationcenter.architecture.UseCase+.handle(..))"
+        + " || execution(* com.isipathana.meditationcenter.architecture.AuthenticatedUseCase+.handle(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        long started = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            record(useCase, "success", "none", started);
+            return result;
+        } catch (Throwable e) {
+            record(useCase, "error", e.getClass().getSimpleName(), started);
+            throw e;
+        }
+    }
+
+    private void record(String useCase, String outcome, String exception, long started) {
+        timers.withTags("usecase", useCase, "outcome", outcome, "exception", exception)
+            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+}
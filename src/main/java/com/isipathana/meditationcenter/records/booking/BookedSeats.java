@@ -0,0 +1,12 @@
+package com.isipathana.meditationcenter.records.booking;
+
+import java.time.LocalDate;
+
+/**
+ * Seats taken by non-cancelled bookings of one program on one date.
+ */
+public record BookedSeats(
+    Long meditationProgramId,
+    LocalDate bookingDate,
+    int seats
+) {}
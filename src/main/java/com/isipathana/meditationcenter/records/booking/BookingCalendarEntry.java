@@ -0,0 +1,15 @@
+package com.isipathana.meditationcenter.records.booking;
+
+import java.time.LocalDate;
+
+/**
+ * Slim view of a booking for calendar and list screens: no amounts, no free-text columns.
+ */
+public record BookingCalendarEntry(
+    Long bookingId,
+    Long meditationProgramId,
+    Long userId,
+    LocalDate bookingDate,
+    BookingStatus status,
+    Integer participantCount
+) {}
@@ -0,0 +1,18 @@
+package com.isipathana.meditationcenter.records.booking;
+
+import java.time.LocalDate;
+
+/**
+ * Keyset position in a booking listing.
+ * Points at the last row of a page; the next page starts strictly after it
+ * in {@code (booking_date, booking_id)} order.
+ */
+public record BookingCursor(
+    LocalDate bookingDate,
+    Long bookingId
+) {
+
+    public static BookingCursor of(Booking booking) {
+        return new BookingCursor(booking.bookingDate(), booking.bookingId());
+    }
+}
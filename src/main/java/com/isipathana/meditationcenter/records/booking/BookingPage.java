@@ -0,0 +1,19 @@
+package com.isipathana.meditationcenter.records.booking;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated booking listing.
+ *
+ * @param bookings   The bookings on this page
+ * @param nextCursor Cursor to pass back for the next page, or null when this is the last page
+ */
+public record BookingPage(
+    List<Booking> bookings,
+    BookingCursor nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
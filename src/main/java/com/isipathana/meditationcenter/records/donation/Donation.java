@@ -1,5 +1,7 @@
 package com.isipathana.meditationcenter.records.donation;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse;
 import com.isipathana.meditationcenter.records.payment.PaymentMethod;
 import com.isipathana.meditationcenter.records.payment.PaymentStatus;
 import lombok.Builder;
@@ -16,8 +18,18 @@ public record Donation(
     PaymentMethod paymentMethod,
     String transactionId,
     PaymentStatus paymentStatus,
-    String paymentGatewayResponse,
+    @JsonIgnore LazyGatewayResponse paymentGatewayResponse,
     Boolean isAnonymous,
     String donorMessage,
     LocalDateTime createdAt
-) {}
+) {
+
+    /**
+     * Built without a gateway response (e.g. through the builder), a donation gets {@link LazyGatewayResponse#none()}
+     */
+    public Donation {
+        if (paymentGatewayResponse == null) {
+            paymentGatewayResponse = LazyGatewayResponse.none();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.isipathana.meditationcenter.records.payment;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Handle on the raw gateway response of a payment or donation, loaded from its side table (V18)
+ * the first time {@link #get()} is called and kept afterwards.
+ * <p>
+ * Mapping a payment or donation costs no extra query; only callers that actually need the
+ * response pay for reading and decompressing it. The load runs on the caller's thread with the
+ * repository's {@code DSLContext}, so call it while a database connection can still be obtained.
+ * <p>
+ * Two handles are equal when they belong to the same payment or donation, whether or not either
+ * has been loaded, so the records holding them keep value semantics and comparing them never
+ * queries the database.
+ */
+public final class LazyGatewayResponse {
+
+    private static final LazyGatewayResponse NONE = new LazyGatewayResponse(null, null, null, null);
+
+    /**
+     * The kind of row a response belongs to
+     */
+    public enum Owner {
+        PAYMENT,
+        DONATION
+    }
+
+    private final Owner owner;
+    private final Long ownerId;
+    private Supplier<String> loader;
+    private String value;
+
+    private LazyGatewayResponse(Owner owner, Long ownerId, Supplier<String> loader, String value) {
+        this.owner = owner;
+        this.ownerId = ownerId;
+        this.loader = loader;
+        this.value = value;
+    }
+
+    /**
+     * A handle on the response of {@code owner} {@code ownerId} that runs {@code loader} on the first {@link #get()}
+     */
+    public static LazyGatewayResponse of(Owner owner, Long ownerId, Supplier<String> loader) {
+        return new LazyGatewayResponse(Objects.requireNonNull(owner), Objects.requireNonNull(ownerId), loader, null);
+    }
+
+    /**
+     * A handle on a response that is already in memory, such as one just received from the gateway
+     */
+    public static LazyGatewayResponse loaded(Owner owner, Long ownerId, String value) {
+        return new LazyGatewayResponse(Objects.requireNonNull(owner), Objects.requireNonNull(ownerId), null, value);
+    }
+
+    /**
+     * A handle for a payment or donation without a response yet
+     */
+    public static LazyGatewayResponse none() {
+        return NONE;
+    }
+
+    /**
+     * @return The response JSON, or null if none was stored
+     */
+    public synchronized String get() {
+        if (loader != null) {
+            value = loader.get();
+            loader = null;
+        }
+        return value;
+    }
+
+    public synchronized boolean isLoaded() {
+        return loader == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LazyGatewayResponse other && owner == other.owner && Objects.equals(ownerId, other.ownerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(owner, ownerId);
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (owner == null) {
+            return "LazyGatewayResponse[none]";
+        }
+        String state = loader != null ? "not loaded" : value == null ? "none" : value.length() + " chars";
+        return "LazyGatewayResponse[" + owner + " " + ownerId + ", " + state + "]";
+    }
+}
@@ -1,5 +1,6 @@
 package com.isipathana.meditationcenter.records.payment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -14,9 +15,19 @@ public record Payment(
     PaymentMethod paymentMethod,
     String transactionId,
     LocalDateTime paymentDate,
-    String paymentGatewayResponse,
+    @JsonIgnore LazyGatewayResponse paymentGatewayResponse,
     BigDecimal refundAmount,
     LocalDateTime refundDate,
     LocalDateTime createdAt,
     LocalDateTime updatedAt
-) {}
+) {
+
+    /**
+     * Built without a gateway response (e.g. through the builder), a payment gets {@link LazyGatewayResponse#none()}
+     */
+    public Payment {
+        if (paymentGatewayResponse == null) {
+            paymentGatewayResponse = LazyGatewayResponse.none();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.isipathana.meditationcenter.records.payment;
+
+import java.time.Duration;
+
+/**
+ * Outbox rows still PENDING and how long the oldest of them has been waiting ({@link Duration#ZERO} when none).
+ */
+public record PaymentOutboxBacklog(
+    int pending,
+    Duration oldestAge
+) {}
@@ -0,0 +1,13 @@
+package com.isipathana.meditationcenter.records.payment;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox row claimed by a worker: the payment whose gateway call is due and how many times it has been claimed.
+ */
+public record PaymentOutboxEntry(
+    Long outboxId,
+    Long paymentId,
+    int attempts,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,7 @@
+package com.isipathana.meditationcenter.records.payment;
+
+public enum PaymentOutboxStatus {
+    PENDING,
+    DONE,
+    DEAD
+}
@@ -0,0 +1,12 @@
+package com.isipathana.meditationcenter.records.schedule;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Everything on the schedule for one date, ordered by start time.
+ */
+public record DailySchedule(
+    LocalDate date,
+    List<ScheduledActivity> activities
+) {}
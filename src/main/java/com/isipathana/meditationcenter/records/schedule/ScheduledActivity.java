@@ -0,0 +1,24 @@
+package com.isipathana.meditationcenter.records.schedule;
+
+import lombok.Builder;
+
+import java.time.LocalTime;
+
+/**
+ * A template activity as it takes place on one specific date, after applying any override.
+ * Cancelled activities are kept (with {@code cancelled = true}) so the schedule can show them.
+ */
+@Builder
+public record ScheduledActivity(
+    Long templateScheduleActivityId,
+    Long templateId,
+    String templateName,
+    Long activityId,
+    String title,
+    String location,
+    LocalTime startTime,
+    LocalTime endTime,
+    String notes,
+    boolean cancelled,
+    String overrideReason
+) {}
@@ -0,0 +1,11 @@
+package com.isipathana.meditationcenter.records.user;
+
+/**
+ * Slim view of a user for directory listings and pickers.
+ */
+public record UserDirectoryEntry(
+    Long userId,
+    String name,
+    String email,
+    UserRole role
+) {}
@@ -1,13 +1,26 @@
 package com.isipathana.meditationcenter.repository;
 
+import com.isipathana.meditationcenter.config.RepositoryProperties;
+import com.isipathana.meditationcenter.records.booking.BookedSeats;
 import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingCalendarEntry;
+import com.isipathana.meditationcenter.records.booking.BookingCursor;
+import com.isipathana.meditationcenter.records.booking.BookingPage;
 import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.jooq.tables.records.BookingRecord;
+import com.isipathana.meditationcenter.repository.mapper.BookingCalendarEntryMapper;
+import com.isipathana.meditationcenter.repository.mapper.BookingMapper;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
 
@@ -16,46 +29,17 @@ import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
 public class BookingRepository {
 
     private final DSLContext dslContext;
+    private final RepositoryProperties repositoryProperties;
 
     /**
      * Find booking by ID
      */
     public Booking findById(Long bookingId) {
         return dslContext
-            .select(
-                BOOKING.BOOKING_ID,
-                BOOKING.MEDITATION_PROGRAM_ID,
-                BOOKING.PRICING_ID,
-                BOOKING.USER_ID,
-                BOOKING.BOOKING_TYPE,
-                BOOKING.BOOKING_DATE,
-                BOOKING.STATUS,
-                BOOKING.PARTICIPANT_COUNT,
-                BOOKING.AMOUNT,
-                BOOKING.SPECIAL_REQUIREMENTS,
-                BOOKING.CANCELLATION_REASON,
-                BOOKING.CREATED_AT,
-                BOOKING.UPDATED_AT
-            )
+            .select(BookingMapper.FIELDS)
             .from(BOOKING)
             .where(BOOKING.BOOKING_ID.eq(bookingId))
-            .fetchOne(record ->
-                Booking.builder()
-                    .bookingId(record.get(BOOKING.BOOKING_ID))
-                    .meditationProgramId(record.get(BOOKING.MEDITATION_PROGRAM_ID))
-                    .pricingId(record.get(BOOKING.PRICING_ID))
-                    .userId(record.get(BOOKING.USER_ID))
-                    .bookingType(record.get(BOOKING.BOOKING_TYPE))
-                    .bookingDate(record.get(BOOKING.BOOKING_DATE))
-                    .status(record.get(BOOKING.STATUS))
-                    .participantCount(record.get(BOOKING.PARTICIPANT_COUNT))
-                    .amount(record.get(BOOKING.AMOUNT))
-                    .specialRequirements(record.get(BOOKING.SPECIAL_REQUIREMENTS))
-                    .cancellationReason(record.get(BOOKING.CANCELLATION_REASON))
-                    .createdAt(record.get(BOOKING.CREATED_AT))
-                    .updatedAt(record.get(BOOKING.UPDATED_AT))
-                    .build()
-            );
+            .fetchOne(BookingMapper.INSTANCE);
     }
 
     /**
@@ -63,41 +47,11 @@ public class BookingRepository {
      */
     public List<Booking> findByUserId(Long userId) {
         return dslContext
-            .select(
-                BOOKING.BOOKING_ID,
-                BOOKING.MEDITATION_PROGRAM_ID,
-                BOOKING.PRICING_ID,
-                BOOKING.USER_ID,
-                BOOKING.BOOKING_TYPE,
-                BOOKING.BOOKING_DATE,
-                BOOKING.STATUS,
-                BOOKING.PARTICIPANT_COUNT,
-                BOOKING.AMOUNT,
-                BOOKING.SPECIAL_REQUIREMENTS,
-                BOOKING.CANCELLATION_REASON,
-                BOOKING.CREATED_AT,
-                BOOKING.UPDATED_AT
-            )
+            .select(BookingMapper.FIELDS)
             .from(BOOKING)
             .where(BOOKING.USER_ID.eq(userId))
             .orderBy(BOOKING.BOOKING_DATE.desc())
-            .fetch(record ->
-                Booking.builder()
-                    .bookingId(record.get(BOOKING.BOOKING_ID))
-                    .meditationProgramId(record.get(BOOKING.MEDITATION_PROGRAM_ID))
-                    .pricingId(record.get(BOOKING.PRICING_ID))
-                    .userId(record.get(BOOKING.USER_ID))
-                    .bookingType(record.get(BOOKING.BOOKING_TYPE))
-                    .bookingDate(record.get(BOOKING.BOOKING_DATE))
-                    .status(record.get(BOOKING.STATUS))
-                    .participantCount(record.get(BOOKING.PARTICIPANT_COUNT))
-                    .amount(record.get(BOOKING.AMOUNT))
-                    .specialRequirements(record.get(BOOKING.SPECIAL_REQUIREMENTS))
-                    .cancellationReason(record.get(BOOKING.CANCELLATION_REASON))
-                    .createdAt(record.get(BOOKING.CREATED_AT))
-                    .updatedAt(record.get(BOOKING.UPDATED_AT))
-                    .build()
-            );
+            .fetch(BookingMapper.INSTANCE);
     }
 
     /**
@@ -105,41 +59,11 @@ public class BookingRepository {
      */
     public List<Booking> findByStatus(BookingStatus status) {
         return dslContext
-            .select(
-                BOOKING.BOOKING_ID,
-                BOOKING.MEDITATION_PROGRAM_ID,
-                BOOKING.PRICING_ID,
-                BOOKING.USER_ID,
-                BOOKING.BOOKING_TYPE,
-                BOOKING.BOOKING_DATE,
-                BOOKING.STATUS,
-                BOOKING.PARTICIPANT_COUNT,
-                BOOKING.AMOUNT,
-                BOOKING.SPECIAL_REQUIREMENTS,
-                BOOKING.CANCELLATION_REASON,
-                BOOKING.CREATED_AT,
-                BOOKING.UPDATED_AT
-            )
+            .select(BookingMapper.FIELDS)
             .from(BOOKING)
             .where(BOOKING.STATUS.eq(status))
             .orderBy(BOOKING.BOOKING_DATE.desc())
-            .fetch(record ->
-                Booking.builder()
-                    .bookingId(record.get(BOOKING.BOOKING_ID))
-                    .meditationProgramId(record.get(BOOKING.MEDITATION_PROGRAM_ID))
-                    .pricingId(record.get(BOOKING.PRICING_ID))
-                    .userId(record.get(BOOKING.USER_ID))
-                    .bookingType(record.get(BOOKING.BOOKING_TYPE))
-                    .bookingDate(record.get(BOOKING.BOOKING_DATE))
-                    .status(record.get(BOOKING.STATUS))
-                    .participantCount(record.get(BOOKING.PARTICIPANT_COUNT))
-                    .amount(record.get(BOOKING.AMOUNT))
-                    .specialRequirements(record.get(BOOKING.SPECIAL_REQUIREMENTS))
-                    .cancellationReason(record.get(BOOKING.CANCELLATION_REASON))
-                    .createdAt(record.get(BOOKING.CREATED_AT))
-                    .updatedAt(record.get(BOOKING.UPDATED_AT))
-                    .build()
-            );
+            .fetch(BookingMapper.INSTANCE);
     }
 
     /**
@@ -147,40 +71,243 @@ public class BookingRepository {
      */
     public List<Booking> findByDateRange(LocalDate startDate, LocalDate endDate) {
         return dslContext
-            .select(
-                BOOKING.BOOKING_ID,
-                BOOKING.MEDITATION_PROGRAM_ID,
-                BOOKING.PRICING_ID,
-                BOOKING.USER_ID,
-                BOOKING.BOOKING_TYPE,
-                BOOKING.BOOKING_DATE,
-                BOOKING.STATUS,
-                BOOKING.PARTICIPANT_COUNT,
-                BOOKING.AMOUNT,
-                BOOKING.SPECIAL_REQUIREMENTS,
-                BOOKING.CANCELLATION_REASON,
-                BOOKING.CREATED_AT,
-                BOOKING.UPDATED_AT
-            )
+            .select(BookingMapper.FIELDS)
             .from(BOOKING)
             .where(BOOKING.BOOKING_DATE.between(startDate, endDate))
             .orderBy(BOOKING.BOOKING_DATE.asc())
-            .fetch(record ->
-                Booking.builder()
-                    .bookingId(record.get(BOOKING.BOOKING_ID))
-                    .meditationProgramId(record.get(BOOKING.MEDITATION_PROGRAM_ID))
-                    .pricingId(record.get(BOOKING.PRICING_ID))
-                    .userId(record.get(BOOKING.USER_ID))
-                    .bookingType(record.get(BOOKING.BOOKING_TYPE))
-                    .bookingDate(record.get(BOOKING.BOOKING_DATE))
-                    .status(record.get(BOOKING.STATUS))
-                    .participantCount(record.get(BOOKING.PARTICIPANT_COUNT))
-                    .amount(record.get(BOOKING.AMOUNT))
-                    .specialRequirements(record.get(BOOKING.SPECIAL_REQUIREMENTS))
-                    .cancellationReason(record.get(BOOKING.CANCELLATION_REASON))
-                    .createdAt(record.get(BOOKING.CREATED_AT))
-                    .updatedAt(record.get(BOOKING.UPDATED_AT))
-                    .build()
-            );
+            .fetch(BookingMapper.INSTANCE);
+    }
+
+    /**
+     * Find one page of bookings by status, newest booking date first.
+     * Uses keyset pagination on (booking_date, booking_id), so deep pages cost the same as the first one.
+     *
+     * @param status   The booking status to filter on
+     * @param after    Cursor returned with the previous page, or null for the first page
+     * @param pageSize Requested page size, clamped to the configured maximum
+     */
+    public BookingPage findByStatus(BookingStatus status, BookingCursor after, Integer pageSize) {
+        Condition seek = after == null
+            ? DSL.noCondition()
+            : DSL.row(BOOKING.BOOKING_DATE, BOOKING.BOOKING_ID).lt(after.bookingDate(), after.bookingId());
+
+        int limit = repositoryProperties.pageSize(pageSize);
+        List<Booking> bookings = dslContext
+            .select(BookingMapper.FIELDS)
+            .from(BOOKING)
+            .where(BOOKING.STATUS.eq(status))
+            .and(seek)
+            .orderBy(BOOKING.BOOKING_DATE.desc(), BOOKING.BOOKING_ID.desc())
+            .limit(limit + 1)
+            .fetch(BookingMapper.INSTANCE);
+
+        return toPage(bookings, limit);
+    }
+
+    /**
+     * Find one page of bookings in a date range, oldest booking date first.
+     * Uses keyset pagination on (booking_date, booking_id), so deep pages cost the same as the first one.
+     *
+     * @param startDate First booking date (inclusive)
+     * @param endDate   Last booking date (inclusive)
+     * @param after     Cursor returned with the previous page, or null for the first page
+     * @param pageSize  Requested page size, clamped to the configured maximum
+     */
+    public BookingPage findByDateRange(LocalDate startDate, LocalDate endDate, BookingCursor after, Integer pageSize) {
+        Condition seek = after == null
+            ? DSL.noCondition()
+            : DSL.row(BOOKING.BOOKING_DATE, BOOKING.BOOKING_ID).gt(after.bookingDate(), after.bookingId());
+
+        int limit = repositoryProperties.pageSize(pageSize);
+        List<Booking> bookings = dslContext
+            .select(BookingMapper.FIELDS)
+            .from(BOOKING)
+            .where(BOOKING.BOOKING_DATE.between(startDate, endDate))
+            .and(seek)
+            .orderBy(BOOKING.BOOKING_DATE.asc(), BOOKING.BOOKING_ID.asc())
+            .limit(limit + 1)
+            .fetch(BookingMapper.INSTANCE);
+
+        return toPage(bookings, limit);
+    }
+
+    /**
+     * Stream bookings by status through a server-side cursor.
+     * <p>
+     * Rows are fetched {@code meditation.repository.fetch-size} at a time, so memory stays flat
+     * regardless of how many bookings match. PostgreSQL only honours the fetch size inside a
+     * transaction: call this from transactional code and close the stream (try-with-resources),
+     * or use {@link #forEachByStatus(BookingStatus, Consumer)} which does both.
+     */
+    public Stream<Booking> streamByStatus(BookingStatus status) {
+        return streamByStatus(dslContext, status);
+    }
+
+    /**
+     * Stream bookings in a date range through a server-side cursor.
+     * Same transaction and closing rules as {@link #streamByStatus(BookingStatus)}.
+     */
+    public Stream<Booking> streamByDateRange(LocalDate startDate, LocalDate endDate) {
+        return streamByDateRange(dslContext, startDate, endDate);
+    }
+
+    /**
+     * Visit every booking with the given status without materializing them as a list.
+     * Opens its own transaction (or joins the current one) so the cursor fetch size applies.
+     */
+    public void forEachByStatus(BookingStatus status, Consumer<? super Booking> action) {
+        dslContext.transaction(configuration -> {
+            try (Stream<Booking> bookings = streamByStatus(DSL.using(configuration), status)) {
+                bookings.forEach(action);
+            }
+        });
+    }
+
+    /**
+     * Visit every booking in a date range without materializing them as a list.
+     * Opens its own transaction (or joins the current one) so the cursor fetch size applies.
+     */
+    public void forEachByDateRange(LocalDate startDate, LocalDate endDate, Consumer<? super Booking> action) {
+        dslContext.transaction(configuration -> {
+            try (Stream<Booking> bookings = streamByDateRange(DSL.using(configuration), startDate, endDate)) {
+                bookings.forEach(action);
+            }
+        });
+    }
+
+    private Stream<Booking> streamByStatus(DSLContext context, BookingStatus status) {
+        return context
+            .select(BookingMapper.FIELDS)
+            .from(BOOKING)
+            .where(BOOKING.STATUS.eq(status))
+            .orderBy(BOOKING.BOOKING_DATE.desc(), BOOKING.BOOKING_ID.desc())
+            .fetchSize(repositoryProperties.fetchSize())
+            .fetchStream()
+            .map(BookingMapper.INSTANCE::map);
+    }
+
+    private Stream<Booking> streamByDateRange(DSLContext context, LocalDate startDate, LocalDate endDate) {
+        return context
+            .select(BookingMapper.FIELDS)
+            .from(BOOKING)
+            .where(BOOKING.BOOKING_DATE.between(startDate, endDate))
+            .orderBy(BOOKING.BOOKING_DATE.asc(), BOOKING.BOOKING_ID.asc())
+            .fetchSize(repositoryProperties.fetchSize())
+            .fetchStream()
+            .map(BookingMapper.INSTANCE::map);
+    }
+
+    /**
+     * Calendar projection of bookings in a date range, ordered by date.
+     * Reads only the columns of {@link BookingCalendarEntry}.
+     */
+    public List<BookingCalendarEntry> findCalendarEntries(LocalDate startDate, LocalDate endDate) {
+        return dslContext
+            .select(BookingCalendarEntryMapper.FIELDS)
+            .from(BOOKING)
+            .where(BOOKING.BOOKING_DATE.between(startDate, endDate))
+            .orderBy(BOOKING.BOOKING_DATE.asc(), BOOKING.BOOKING_ID.asc())
+            .fetch(BookingCalendarEntryMapper.INSTANCE);
+    }
+
+    /**
+     * Calendar projection of one program's bookings in a date range, ordered by date
+     */
+    public List<BookingCalendarEntry> findCalendarEntries(Long meditationProgramId, LocalDate startDate, LocalDate endDate) {
+        return dslContext
+            .select(BookingCalendarEntryMapper.FIELDS)
+            .from(BOOKING)
+            .where(BOOKING.MEDITATION_PROGRAM_ID.eq(meditationProgramId))
+            .and(BOOKING.BOOKING_DATE.between(startDate, endDate))
+            .orderBy(BOOKING.BOOKING_DATE.asc(), BOOKING.BOOKING_ID.asc())
+            .fetch(BookingCalendarEntryMapper.INSTANCE);
+    }
+
+    /**
+     * Sum participants of non-cancelled bookings for one program on one date
+     */
+    public int countBookedSeats(Long meditationProgramId, LocalDate bookingDate) {
+        BigDecimal seats = dslContext
+            .select(DSL.sum(BOOKING.PARTICIPANT_COUNT))
+            .from(BOOKING)
+            .where(BOOKING.MEDITATION_PROGRAM_ID.eq(meditationProgramId))
+            .and(BOOKING.BOOKING_DATE.eq(bookingDate))
+            .and(BOOKING.STATUS.ne(BookingStatus.CANCELLED))
+            .fetchOne(0, BigDecimal.class);
+
+        return seats == null ? 0 : seats.intValue();
+    }
+
+    /**
+     * Sum participants of non-cancelled bookings per program and date, from the given date onwards
+     */
+    public List<BookedSeats> findBookedSeatsFrom(LocalDate fromDate) {
+        return dslContext
+            .select(BOOKING.MEDITATION_PROGRAM_ID, BOOKING.BOOKING_DATE, DSL.sum(BOOKING.PARTICIPANT_COUNT))
+            .from(BOOKING)
+            .where(BOOKING.BOOKING_DATE.ge(fromDate))
+            .and(BOOKING.STATUS.ne(BookingStatus.CANCELLED))
+            .groupBy(BOOKING.MEDITATION_PROGRAM_ID, BOOKING.BOOKING_DATE)
+            .fetch(record -> new BookedSeats(record.value1(), record.value2(), record.value3().intValue()));
+    }
+
+    /**
+     * Insert a new booking and return it with its generated ID and timestamps
+     */
+    public Booking insert(Booking booking) {
+        return dslContext
+            .insertInto(BOOKING)
+            .set(BOOKING.MEDITATION_PROGRAM_ID, booking.meditationProgramId())
+            .set(BOOKING.PRICING_ID, booking.pricingId())
+            .set(BOOKING.USER_ID, booking.userId())
+            .set(BOOKING.BOOKING_TYPE, booking.bookingType())
+            .set(BOOKING.BOOKING_DATE, booking.bookingDate())
+            .set(BOOKING.STATUS, booking.status())
+            .set(BOOKING.PARTICIPANT_COUNT, booking.participantCount())
+            .set(BOOKING.AMOUNT, booking.amount())
+            .set(BOOKING.SPECIAL_REQUIREMENTS, booking.specialRequirements())
+            .returningResult(BookingMapper.FIELDS)
+            .fetchOne(BookingMapper.INSTANCE);
+    }
+
+    /**
+     * Insert bookings as one JDBC batch in a single transaction; either all rows are written or none.
+     * Generated IDs are not read back.
+     * <p>
+     * Returns {@code bookings.size()} once the transaction has committed. The driver's per-statement
+     * counts are not summed: with {@code reWriteBatchedInserts} they are {@code SUCCESS_NO_INFO} (-2).
+     */
+    public int insertAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return 0;
+        }
+        dslContext.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+            List<BookingRecord> records = bookings.stream()
+                .map(booking -> {
+                    BookingRecord record = context.newRecord(BOOKING);
+                    record.setMeditationProgramId(booking.meditationProgramId());
+                    record.setPricingId(booking.pricingId());
+                    record.setUserId(booking.userId());
+                    record.setBookingType(booking.bookingType());
+                    record.setBookingDate(booking.bookingDate());
+                    record.setStatus(booking.status());
+                    record.setParticipantCount(booking.participantCount());
+                    record.setAmount(booking.amount());
+                    record.setSpecialRequirements(booking.specialRequirements());
+                    return record;
+                })
+                .toList();
+            context.batchInsert(records).execute();
+        });
+        return bookings.size();
+    }
+
+    private BookingPage toPage(List<Booking> bookings, int limit) {
+        if (bookings.size() <= limit) {
+            return new BookingPage(bookings, null);
+        }
+        List<Booking> page = bookings.subList(0, limit);
+        return new BookingPage(page, BookingCursor.of(page.getLast()));
     }
 }
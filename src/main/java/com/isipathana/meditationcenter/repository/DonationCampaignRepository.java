@@ -0,0 +1,77 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.donation.DonationCampaign;
+import com.isipathana.meditationcenter.repository.mapper.DonationCampaignMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static com.isipathana.meditationcenter.jooq.Tables.DONATION_CAMPAIGN;
+
+@Repository
+@RequiredArgsConstructor
+public class DonationCampaignRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * Find donation campaign by ID
+     */
+    public DonationCampaign findById(Long campaignId) {
+        return dslContext
+            .select(DonationCampaignMapper.FIELDS)
+            .from(DONATION_CAMPAIGN)
+            .where(DONATION_CAMPAIGN.CAMPAIGN_ID.eq(campaignId))
+            .fetchOne(DonationCampaignMapper.INSTANCE);
+    }
+
+    /**
+     * Find all active campaigns
+     */
+    public List<DonationCampaign> findActive() {
+        return dslContext
+            .select(DonationCampaignMapper.FIELDS)
+            .from(DONATION_CAMPAIGN)
+            .where(DONATION_CAMPAIGN.IS_ACTIVE.isTrue())
+            .orderBy(DONATION_CAMPAIGN.CAMPAIGN_ID.asc())
+            .fetch(DonationCampaignMapper.INSTANCE);
+    }
+
+    /**
+     * Add amounts (campaign ID to signed change) to current_amount in one JDBC batch
+     */
+    public void addToCurrentAmount(Map<Long, BigDecimal> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Query> updates = deltas.entrySet().stream()
+            .map(delta -> (Query) dslContext
+                .update(DONATION_CAMPAIGN)
+                .set(DONATION_CAMPAIGN.CURRENT_AMOUNT, DONATION_CAMPAIGN.CURRENT_AMOUNT.plus(delta.getValue()))
+                .set(DONATION_CAMPAIGN.UPDATED_AT, DSL.currentLocalDateTime())
+                .where(DONATION_CAMPAIGN.CAMPAIGN_ID.eq(delta.getKey())))
+            .toList();
+        dslContext.batch(updates).execute();
+    }
+
+    /**
+     * Overwrite current_amount with an exact total
+     *
+     * @return Whether the stored value was different and has been corrected
+     */
+    public boolean setCurrentAmount(Long campaignId, BigDecimal amount) {
+        return dslContext
+            .update(DONATION_CAMPAIGN)
+            .set(DONATION_CAMPAIGN.CURRENT_AMOUNT, amount)
+            .set(DONATION_CAMPAIGN.UPDATED_AT, DSL.currentLocalDateTime())
+            .where(DONATION_CAMPAIGN.CAMPAIGN_ID.eq(campaignId))
+            .and(DONATION_CAMPAIGN.CURRENT_AMOUNT.ne(amount))
+            .execute() > 0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.metrics.RepositoryMethodTracker;
+import com.isipathana.meditationcenter.metrics.RepositoryMethodTracker.RepositoryMethod;
+import com.isipathana.meditationcenter.records.donation.Donation;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.repository.mapper.DonationMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static com.isipathana.meditationcenter.jooq.Tables.DONATION;
+import static com.isipathana.meditationcenter.jooq.Tables.DONATION_GATEWAY_RESPONSE;
+
+@Repository
+@RequiredArgsConstructor
+public class DonationRepository {
+
+    private static final RepositoryMethod LAZY_GATEWAY_RESPONSE = new RepositoryMethod("DonationRepository", "findGatewayResponse");
+
+    private final DSLContext dslContext;
+    // Lazy loads run after the finder returned, outside the repository proxy, so they tag their own query
+    private final DonationMapper donationMapper = new DonationMapper(donationId ->
+        RepositoryMethodTracker.runAs(LAZY_GATEWAY_RESPONSE, () -> findGatewayResponse(donationId)));
+
+    /**
+     * Find donation by ID
+     */
+    public Donation findById(Long donationId) {
+        return dslContext
+            .select(DonationMapper.FIELDS)
+            .from(DONATION)
+            .where(DONATION.DONATION_ID.eq(donationId))
+            .fetchOne(donationMapper);
+    }
+
+    /**
+     * Find donations for a campaign, newest first
+     */
+    public List<Donation> findByCampaignId(Long campaignId) {
+        return dslContext
+            .select(DonationMapper.FIELDS)
+            .from(DONATION)
+            .where(DONATION.CAMPAIGN_ID.eq(campaignId))
+            .orderBy(DONATION.CREATED_AT.desc(), DONATION.DONATION_ID.desc())
+            .fetch(donationMapper);
+    }
+
+    /**
+     * Move a PENDING donation to COMPLETED
+     *
+     * @return The completed donation, or null if it does not exist or was not PENDING
+     */
+    public Donation complete(Long donationId, String transactionId) {
+        return dslContext
+            .update(DONATION)
+            .set(DONATION.PAYMENT_STATUS, PaymentStatus.COMPLETED)
+            .set(DONATION.TRANSACTION_ID, transactionId)
+            .where(DONATION.DONATION_ID.eq(donationId))
+            .and(DONATION.PAYMENT_STATUS.eq(PaymentStatus.PENDING))
+            .returningResult(DonationMapper.FIELDS)
+            .fetchOne(donationMapper);
+    }
+
+    /**
+     * Store the gateway's response for a donation, gzip compressed, replacing any earlier one
+     */
+    public void saveGatewayResponse(Long donationId, String response) {
+        byte[] body = GatewayResponseCodec.encode(response);
+        dslContext
+            .insertInto(DONATION_GATEWAY_RESPONSE)
+            .set(DONATION_GATEWAY_RESPONSE.DONATION_ID, donationId)
+            .set(DONATION_GATEWAY_RESPONSE.BODY, body)
+            .set(DONATION_GATEWAY_RESPONSE.COMPRESSED, true)
+            .onConflict(DONATION_GATEWAY_RESPONSE.DONATION_ID)
+            .doUpdate()
+            .set(DONATION_GATEWAY_RESPONSE.BODY, body)
+            .set(DONATION_GATEWAY_RESPONSE.COMPRESSED, true)
+            .execute();
+    }
+
+    /**
+     * Load and decompress the gateway response of a donation, called lazily through
+     * {@link Donation#paymentGatewayResponse()}
+     *
+     * @return The response JSON, or null if the donation has none
+     */
+    public String findGatewayResponse(Long donationId) {
+        return dslContext
+            .select(DONATION_GATEWAY_RESPONSE.BODY, DONATION_GATEWAY_RESPONSE.COMPRESSED)
+            .from(DONATION_GATEWAY_RESPONSE)
+            .where(DONATION_GATEWAY_RESPONSE.DONATION_ID.eq(donationId))
+            .fetchOptional(record -> GatewayResponseCodec.decode(record.value1(), record.value2()))
+            .orElse(null);
+    }
+
+    /**
+     * Sum of COMPLETED donation amounts per campaign. Campaigns without completed donations are not included.
+     */
+    public Map<Long, BigDecimal> sumCompletedByCampaign() {
+        return dslContext
+            .select(DONATION.CAMPAIGN_ID, DSL.sum(DONATION.DONATION_AMOUNT))
+            .from(DONATION)
+            .where(DONATION.CAMPAIGN_ID.isNotNull())
+            .and(DONATION.PAYMENT_STATUS.eq(PaymentStatus.COMPLETED))
+            .groupBy(DONATION.CAMPAIGN_ID)
+            .fetchMap(DONATION.CAMPAIGN_ID, DSL.sum(DONATION.DONATION_AMOUNT));
+    }
+}
@@ -0,0 +1,125 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import com.isipathana.meditationcenter.repository.mapper.EventRegistrationMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.isipathana.meditationcenter.jooq.Tables.EVENTS;
+import static com.isipathana.meditationcenter.jooq.Tables.EVENT_REGISTRATION;
+
+@Repository
+@RequiredArgsConstructor
+public class EventRegistrationRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * Find event registration by ID
+     */
+    public EventRegistration findById(Long registrationId) {
+        return dslContext
+            .select(EventRegistrationMapper.FIELDS)
+            .from(EVENT_REGISTRATION)
+            .where(EVENT_REGISTRATION.REGISTRATION_ID.eq(registrationId))
+            .fetchOne(EventRegistrationMapper.INSTANCE);
+    }
+
+    /**
+     * Find all registrations for an event
+     */
+    public List<EventRegistration> findByEventId(Long eventId) {
+        return dslContext
+            .select(EventRegistrationMapper.FIELDS)
+            .from(EVENT_REGISTRATION)
+            .where(EVENT_REGISTRATION.EVENT_ID.eq(eventId))
+            .orderBy(EVENT_REGISTRATION.REGISTRATION_ID.asc())
+            .fetch(EventRegistrationMapper.INSTANCE);
+    }
+
+    /**
+     * Count non-cancelled registrations for one event
+     */
+    public int countActive(Long eventId) {
+        return dslContext.fetchCount(
+            EVENT_REGISTRATION,
+            EVENT_REGISTRATION.EVENT_ID.eq(eventId)
+                .and(EVENT_REGISTRATION.STATUS.ne(EventRegistrationStatus.CANCELLED)));
+    }
+
+    /**
+     * Count non-cancelled registrations per event, for events on or after the given date.
+     * Events without registrations are not included.
+     */
+    public Map<Long, Integer> countActiveByEventFrom(LocalDate fromDate) {
+        return dslContext
+            .select(EVENT_REGISTRATION.EVENT_ID, DSL.count())
+            .from(EVENT_REGISTRATION)
+            .join(EVENTS).on(EVENTS.EVENT_ID.eq(EVENT_REGISTRATION.EVENT_ID))
+            .where(EVENTS.EVENT_DATE.ge(fromDate))
+            .and(EVENT_REGISTRATION.STATUS.ne(EventRegistrationStatus.CANCELLED))
+            .groupBy(EVENT_REGISTRATION.EVENT_ID)
+            .fetchMap(EVENT_REGISTRATION.EVENT_ID, DSL.count());
+    }
+
+    /**
+     * Insert a new registration and return it with its generated ID and timestamps
+     */
+    public EventRegistration insert(EventRegistration registration) {
+        return dslContext
+            .insertInto(EVENT_REGISTRATION)
+            .set(EVENT_REGISTRATION.EVENT_ID, registration.eventId())
+            .set(EVENT_REGISTRATION.USER_ID, registration.userId())
+            .set(EVENT_REGISTRATION.STATUS, registration.status())
+            .returningResult(EventRegistrationMapper.FIELDS)
+            .fetchOne(EventRegistrationMapper.INSTANCE);
+    }
+
+    /**
+     * Cancel a registration that is not cancelled yet
+     *
+     * @return Whether the registration was changed
+     */
+    public boolean cancel(Long registrationId, String reason) {
+        return dslContext
+            .update(EVENT_REGISTRATION)
+            .set(EVENT_REGISTRATION.STATUS, EventRegistrationStatus.CANCELLED)
+            .set(EVENT_REGISTRATION.CANCELLATION_DATE, DSL.currentLocalDateTime())
+            .set(EVENT_REGISTRATION.CANCELLATION_REASON, reason)
+            .where(EVENT_REGISTRATION.REGISTRATION_ID.eq(registrationId))
+            .and(EVENT_REGISTRATION.STATUS.ne(EventRegistrationStatus.CANCELLED))
+            .execute() > 0;
+    }
+
+    /**
+     * Mark registrations of one event as attended in a single statement
+     * ({@code WHERE event_id = ? AND registration_id = ANY(?)}).
+     * Only REGISTERED rows change, so repeated check-ins keep the first check-in time.
+     *
+     * @return IDs of the registrations that changed to ATTENDED
+     */
+    public Set<Long> markAttended(Long eventId, Collection<Long> registrationIds, LocalDateTime checkedInAt) {
+        if (registrationIds.isEmpty()) {
+            return Set.of();
+        }
+        return dslContext
+            .update(EVENT_REGISTRATION)
+            .set(EVENT_REGISTRATION.STATUS, EventRegistrationStatus.ATTENDED)
+            .set(EVENT_REGISTRATION.CHECKED_IN_AT, checkedInAt)
+            .where(EVENT_REGISTRATION.EVENT_ID.eq(eventId))
+            .and(EVENT_REGISTRATION.REGISTRATION_ID.eq(DSL.any(registrationIds.toArray(Long[]::new))))
+            .and(EVENT_REGISTRATION.STATUS.eq(EventRegistrationStatus.REGISTERED))
+            .returningResult(EVENT_REGISTRATION.REGISTRATION_ID)
+            .fetchSet(EVENT_REGISTRATION.REGISTRATION_ID);
+    }
+}
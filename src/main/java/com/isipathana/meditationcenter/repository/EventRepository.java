@@ -0,0 +1,95 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.event.Event;
+import com.isipathana.meditationcenter.repository.mapper.EventMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.isipathana.meditationcenter.jooq.Tables.EVENTS;
+
+@Repository
+@RequiredArgsConstructor
+public class EventRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * Find event by ID
+     */
+    public Event findById(Long eventId) {
+        return dslContext
+            .select(EventMapper.FIELDS)
+            .from(EVENTS)
+            .where(EVENTS.EVENT_ID.eq(eventId))
+            .fetchOne(EventMapper.INSTANCE);
+    }
+
+    /**
+     * Find events taking place on or after the given date, soonest first
+     */
+    public List<Event> findFrom(LocalDate fromDate) {
+        return dslContext
+            .select(EventMapper.FIELDS)
+            .from(EVENTS)
+            .where(EVENTS.EVENT_DATE.ge(fromDate))
+            .orderBy(EVENTS.EVENT_DATE.asc(), EVENTS.START_TIME.asc(), EVENTS.EVENT_ID.asc())
+            .fetch(EventMapper.INSTANCE);
+    }
+
+    /**
+     * Find active events on or after the given date, soonest first, at most {@code limit} rows
+     */
+    public List<Event> findActiveFrom(LocalDate fromDate, int limit) {
+        return dslContext
+            .select(EventMapper.FIELDS)
+            .from(EVENTS)
+            .where(EVENTS.EVENT_DATE.ge(fromDate))
+            .and(EVENTS.IS_ACTIVE.isTrue())
+            .orderBy(EVENTS.EVENT_DATE.asc(), EVENTS.START_TIME.asc(), EVENTS.EVENT_ID.asc())
+            .limit(limit)
+            .fetch(EventMapper.INSTANCE);
+    }
+
+    /**
+     * Add participant deltas (event ID to signed change) to current_participants in one JDBC batch.
+     * The batch runs in one transaction, so either every delta is applied or none is.
+     */
+    public void addParticipants(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        dslContext.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+            List<Query> updates = deltas.entrySet().stream()
+                .map(delta -> (Query) context
+                    .update(EVENTS)
+                    .set(EVENTS.CURRENT_PARTICIPANTS, EVENTS.CURRENT_PARTICIPANTS.plus(delta.getValue()))
+                    .set(EVENTS.UPDATED_AT, DSL.currentLocalDateTime())
+                    .where(EVENTS.EVENT_ID.eq(delta.getKey())))
+                .toList();
+            context.batch(updates).execute();
+        });
+    }
+
+    /**
+     * Overwrite current_participants with an exact count
+     *
+     * @return Whether the stored value was different and has been corrected
+     */
+    public boolean setParticipants(Long eventId, int participants) {
+        return dslContext
+            .update(EVENTS)
+            .set(EVENTS.CURRENT_PARTICIPANTS, participants)
+            .set(EVENTS.UPDATED_AT, DSL.currentLocalDateTime())
+            .where(EVENTS.EVENT_ID.eq(eventId))
+            .and(EVENTS.CURRENT_PARTICIPANTS.ne(participants))
+            .execute() > 0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.isipathana.meditationcenter.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip encoding of the {@code body} column of the gateway response side tables (V18).
+ * Rows copied by the migration are plain UTF-8 and flagged {@code compressed = false}.
+ */
+final class GatewayResponseCodec {
+
+    private GatewayResponseCodec() {
+    }
+
+    static byte[] encode(String response) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, response.length() / 3));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(response.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static String decode(byte[] body, boolean compressed) {
+        if (!compressed) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt gateway response", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.program.MeditationProgram;
+import com.isipathana.meditationcenter.repository.mapper.MeditationProgramMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.MEDITATION_PROGRAM;
+
+@Repository
+@RequiredArgsConstructor
+public class MeditationProgramRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * Find meditation program by ID
+     */
+    public MeditationProgram findById(Long meditationProgramId) {
+        return dslContext
+            .select(MeditationProgramMapper.FIELDS)
+            .from(MEDITATION_PROGRAM)
+            .where(MEDITATION_PROGRAM.MEDITATION_PROGRAM_ID.eq(meditationProgramId))
+            .fetchOne(MeditationProgramMapper.INSTANCE);
+    }
+
+    /**
+     * Find all meditation programs, active or not
+     */
+    public List<MeditationProgram> findAll() {
+        return dslContext
+            .select(MeditationProgramMapper.FIELDS)
+            .from(MEDITATION_PROGRAM)
+            .orderBy(MEDITATION_PROGRAM.MEDITATION_PROGRAM_ID.asc())
+            .fetch(MeditationProgramMapper.INSTANCE);
+    }
+}
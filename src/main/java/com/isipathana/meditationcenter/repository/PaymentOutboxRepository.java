@@ -0,0 +1,191 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxBacklog;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxEntry;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxStatus;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.repository.mapper.PaymentMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.DatePart;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT;
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT_GATEWAY_RESPONSE;
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT_OUTBOX;
+
+/**
+ * Outbox of payments waiting for their gateway call (V17).
+ * <p>
+ * Times are the database's ({@code LOCALTIMESTAMP}), the same clock that fills {@code created_at},
+ * so lease and backoff deadlines do not depend on the application's clock or time zone.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentOutboxRepository {
+
+    /** A payment just inserted has no gateway response to load */
+    private static final PaymentMapper NEW_PAYMENT_MAPPER = new PaymentMapper(paymentId -> null);
+
+    private final DSLContext dslContext;
+
+    /**
+     * Insert a PENDING payment and its outbox row in one transaction, and return the payment
+     */
+    public Payment enqueue(Payment payment) {
+        return dslContext.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+            Payment inserted = context
+                .insertInto(PAYMENT)
+                .set(PAYMENT.BOOKING_ID, payment.bookingId())
+                .set(PAYMENT.AMOUNT, payment.amount())
+                .set(PAYMENT.STATUS, PaymentStatus.PENDING)
+                .set(PAYMENT.PAYMENT_METHOD, payment.paymentMethod())
+                .set(PAYMENT.TRANSACTION_ID, payment.transactionId())
+                .returningResult(PaymentMapper.FIELDS)
+                .fetchOne(NEW_PAYMENT_MAPPER);
+            context
+                .insertInto(PAYMENT_OUTBOX)
+                .set(PAYMENT_OUTBOX.PAYMENT_ID, inserted.paymentId())
+                .execute();
+            return inserted;
+        });
+    }
+
+    /**
+     * Claim up to {@code limit} due rows, oldest deadline first, skipping rows other workers hold.
+     * Each claimed row's attempt count goes up by one and its deadline moves {@code lease} ahead,
+     * so the row comes back if the worker never settles or reschedules it.
+     */
+    public List<PaymentOutboxEntry> claimDue(int limit, Duration lease) {
+        return dslContext
+            .update(PAYMENT_OUTBOX)
+            .set(PAYMENT_OUTBOX.ATTEMPTS, PAYMENT_OUTBOX.ATTEMPTS.plus(1))
+            .set(PAYMENT_OUTBOX.NEXT_ATTEMPT_AT, inFromNow(lease))
+            .where(PAYMENT_OUTBOX.OUTBOX_ID.in(
+                DSL.select(PAYMENT_OUTBOX.OUTBOX_ID)
+                    .from(PAYMENT_OUTBOX)
+                    .where(PAYMENT_OUTBOX.STATUS.eq(PaymentOutboxStatus.PENDING))
+                    .and(PAYMENT_OUTBOX.NEXT_ATTEMPT_AT.le(DSL.currentLocalDateTime()))
+                    .orderBy(PAYMENT_OUTBOX.NEXT_ATTEMPT_AT)
+                    .limit(limit)
+                    .forUpdate()
+                    .skipLocked()))
+            .returningResult(
+                PAYMENT_OUTBOX.OUTBOX_ID,
+                PAYMENT_OUTBOX.PAYMENT_ID,
+                PAYMENT_OUTBOX.ATTEMPTS,
+                PAYMENT_OUTBOX.CREATED_AT)
+            .fetch(record -> new PaymentOutboxEntry(record.value1(), record.value2(), record.value3(), record.value4()));
+    }
+
+    /**
+     * Mark a claimed row DONE, record the gateway's answer on the payment (only if it is still PENDING)
+     * and store the response gzip compressed in {@code payment_gateway_response}, in one transaction.
+     * Under the same PENDING and attempt count guard as {@link #scheduleRetry}: when the row was
+     * re-claimed by another worker after the lease ran out, or already marked DEAD, nothing is written.
+     *
+     * @return When the row was settled, by the database clock, or null if it had moved on
+     */
+    public LocalDateTime settle(PaymentOutboxEntry entry, PaymentStatus status, String gatewayResponse) {
+        return dslContext.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+            LocalDateTime settledAt = context
+                .update(PAYMENT_OUTBOX)
+                .set(PAYMENT_OUTBOX.STATUS, PaymentOutboxStatus.DONE)
+                .set(PAYMENT_OUTBOX.PROCESSED_AT, DSL.currentLocalDateTime())
+                .set(PAYMENT_OUTBOX.LAST_ERROR, (String) null)
+                .where(PAYMENT_OUTBOX.OUTBOX_ID.eq(entry.outboxId()))
+                .and(PAYMENT_OUTBOX.STATUS.eq(PaymentOutboxStatus.PENDING))
+                .and(PAYMENT_OUTBOX.ATTEMPTS.eq(entry.attempts()))
+                .returningResult(PAYMENT_OUTBOX.PROCESSED_AT)
+                .fetchOne(PAYMENT_OUTBOX.PROCESSED_AT);
+            if (settledAt == null) {
+                return null;
+            }
+
+            int updated = context
+                .update(PAYMENT)
+                .set(PAYMENT.STATUS, status)
+                .set(PAYMENT.PAYMENT_DATE, status == PaymentStatus.COMPLETED
+                    ? DSL.currentLocalDateTime()
+                    : DSL.castNull(PAYMENT.PAYMENT_DATE))
+                .set(PAYMENT.UPDATED_AT, DSL.currentLocalDateTime())
+                .where(PAYMENT.PAYMENT_ID.eq(entry.paymentId()))
+                .and(PAYMENT.STATUS.eq(PaymentStatus.PENDING))
+                .execute();
+            if (updated > 0 && gatewayResponse != null) {
+                context
+                    .insertInto(PAYMENT_GATEWAY_RESPONSE)
+                    .set(PAYMENT_GATEWAY_RESPONSE.PAYMENT_ID, entry.paymentId())
+                    .set(PAYMENT_GATEWAY_RESPONSE.BODY, GatewayResponseCodec.encode(gatewayResponse))
+                    .set(PAYMENT_GATEWAY_RESPONSE.COMPRESSED, true)
+                    .onConflictDoNothing()
+                    .execute();
+            }
+            return settledAt;
+        });
+    }
+
+    /**
+     * Make a claimed row due again after {@code delay}, keeping the error of the failed attempt.
+     * Only applies while the row is still PENDING with the attempt count of this claim; a row that
+     * was settled meanwhile, or re-claimed by another worker after the lease ran out, is left alone.
+     *
+     * @return Whether the row was rescheduled
+     */
+    public boolean scheduleRetry(PaymentOutboxEntry entry, Duration delay, String error) {
+        return dslContext
+            .update(PAYMENT_OUTBOX)
+            .set(PAYMENT_OUTBOX.NEXT_ATTEMPT_AT, inFromNow(delay))
+            .set(PAYMENT_OUTBOX.LAST_ERROR, error)
+            .where(PAYMENT_OUTBOX.OUTBOX_ID.eq(entry.outboxId()))
+            .and(PAYMENT_OUTBOX.STATUS.eq(PaymentOutboxStatus.PENDING))
+            .and(PAYMENT_OUTBOX.ATTEMPTS.eq(entry.attempts()))
+            .execute() > 0;
+    }
+
+    /**
+     * Stop retrying a claimed row, under the same PENDING and attempt count guard as
+     * {@link #scheduleRetry}. The payment stays PENDING: whether the gateway charged it is unknown,
+     * and the same idempotency key can be replayed once the gateway is reachable.
+     *
+     * @return Whether the row was marked DEAD
+     */
+    public boolean markDead(PaymentOutboxEntry entry, String error) {
+        return dslContext
+            .update(PAYMENT_OUTBOX)
+            .set(PAYMENT_OUTBOX.STATUS, PaymentOutboxStatus.DEAD)
+            .set(PAYMENT_OUTBOX.PROCESSED_AT, DSL.currentLocalDateTime())
+            .set(PAYMENT_OUTBOX.LAST_ERROR, error)
+            .where(PAYMENT_OUTBOX.OUTBOX_ID.eq(entry.outboxId()))
+            .and(PAYMENT_OUTBOX.STATUS.eq(PaymentOutboxStatus.PENDING))
+            .and(PAYMENT_OUTBOX.ATTEMPTS.eq(entry.attempts()))
+            .execute() > 0;
+    }
+
+    /**
+     * Count of PENDING rows and the age of the oldest, for the backlog gauges
+     */
+    public PaymentOutboxBacklog backlog() {
+        Record3<Integer, LocalDateTime, LocalDateTime> record = dslContext
+            .select(DSL.count(), DSL.min(PAYMENT_OUTBOX.CREATED_AT), DSL.currentLocalDateTime())
+            .from(PAYMENT_OUTBOX)
+            .where(PAYMENT_OUTBOX.STATUS.eq(PaymentOutboxStatus.PENDING))
+            .fetchOne();
+        Duration oldestAge = record.value2() == null ? Duration.ZERO : Duration.between(record.value2(), record.value3());
+        return new PaymentOutboxBacklog(record.value1(), oldestAge);
+    }
+
+    private static Field<LocalDateTime> inFromNow(Duration delay) {
+        return DSL.localDateTimeAdd(DSL.currentLocalDateTime(), delay.toMillis(), DatePart.MILLISECOND);
+    }
+}
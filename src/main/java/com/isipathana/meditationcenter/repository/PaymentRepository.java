@@ -0,0 +1,88 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.metrics.RepositoryMethodTracker;
+import com.isipathana.meditationcenter.metrics.RepositoryMethodTracker.RepositoryMethod;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.repository.mapper.PaymentMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT;
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT_GATEWAY_RESPONSE;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentRepository {
+
+    private static final RepositoryMethod LAZY_GATEWAY_RESPONSE = new RepositoryMethod("PaymentRepository", "findGatewayResponse");
+
+    private final DSLContext dslContext;
+    // Lazy loads run after the finder returned, outside the repository proxy, so they tag their own query
+    private final PaymentMapper paymentMapper = new PaymentMapper(paymentId ->
+        RepositoryMethodTracker.runAs(LAZY_GATEWAY_RESPONSE, () -> findGatewayResponse(paymentId)));
+
+    /**
+     * Find payment by ID
+     */
+    public Payment findById(Long paymentId) {
+        return dslContext
+            .select(PaymentMapper.FIELDS)
+            .from(PAYMENT)
+            .where(PAYMENT.PAYMENT_ID.eq(paymentId))
+            .fetchOne(paymentMapper);
+    }
+
+    /**
+     * Find payment for a booking
+     */
+    public Payment findByBookingId(Long bookingId) {
+        return dslContext
+            .select(PaymentMapper.FIELDS)
+            .from(PAYMENT)
+            .where(PAYMENT.BOOKING_ID.eq(bookingId))
+            .fetchOne(paymentMapper);
+    }
+
+    /**
+     * Find the payment sent to the gateway under an idempotency key
+     */
+    public Payment findByTransactionId(String transactionId) {
+        return dslContext
+            .select(PaymentMapper.FIELDS)
+            .from(PAYMENT)
+            .where(PAYMENT.TRANSACTION_ID.eq(transactionId))
+            .fetchOne(paymentMapper);
+    }
+
+    /**
+     * Find payments by status, oldest first, at most {@code limit} rows
+     */
+    public List<Payment> findByStatus(PaymentStatus status, int limit) {
+        return dslContext
+            .select(PaymentMapper.FIELDS)
+            .from(PAYMENT)
+            .where(PAYMENT.STATUS.eq(status))
+            .orderBy(PAYMENT.CREATED_AT.asc(), PAYMENT.PAYMENT_ID.asc())
+            .limit(limit)
+            .fetch(paymentMapper);
+    }
+
+    /**
+     * Load and decompress the gateway response of a payment. Payments returned by the other
+     * methods call this lazily through {@link Payment#paymentGatewayResponse()}.
+     *
+     * @return The response JSON, or null if the payment has none
+     */
+    public String findGatewayResponse(Long paymentId) {
+        return dslContext
+            .select(PAYMENT_GATEWAY_RESPONSE.BODY, PAYMENT_GATEWAY_RESPONSE.COMPRESSED)
+            .from(PAYMENT_GATEWAY_RESPONSE)
+            .where(PAYMENT_GATEWAY_RESPONSE.PAYMENT_ID.eq(paymentId))
+            .fetchOptional(record -> GatewayResponseCodec.decode(record.value1(), record.value2()))
+            .orElse(null);
+    }
+}
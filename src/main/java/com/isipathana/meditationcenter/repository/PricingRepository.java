@@ -0,0 +1,41 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.pricing.Pricing;
+import com.isipathana.meditationcenter.repository.mapper.PricingMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.PRICING;
+
+@Repository
+@RequiredArgsConstructor
+public class PricingRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * Find pricing by ID
+     */
+    public Pricing findById(Long pricingId) {
+        return dslContext
+            .select(PricingMapper.FIELDS)
+            .from(PRICING)
+            .where(PRICING.PRICING_ID.eq(pricingId))
+            .fetchOne(PricingMapper.INSTANCE);
+    }
+
+    /**
+     * Find all active pricing rows, ordered by booking type and effective start date
+     */
+    public List<Pricing> findActive() {
+        return dslContext
+            .select(PricingMapper.FIELDS)
+            .from(PRICING)
+            .where(PRICING.IS_ACTIVE.isTrue())
+            .orderBy(PRICING.BOOKING_TYPE.asc(), PRICING.EFFECTIVE_FROM_DATE.asc(), PRICING.PRICING_ID.asc())
+            .fetch(PricingMapper.INSTANCE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.records.schedule.Activity;
+import com.isipathana.meditationcenter.records.schedule.ScheduleOverride;
+import com.isipathana.meditationcenter.records.schedule.ScheduleTemplate;
+import com.isipathana.meditationcenter.records.schedule.TemplateScheduleActivity;
+import com.isipathana.meditationcenter.repository.mapper.ActivityMapper;
+import com.isipathana.meditationcenter.repository.mapper.ScheduleOverrideMapper;
+import com.isipathana.meditationcenter.repository.mapper.ScheduleTemplateMapper;
+import com.isipathana.meditationcenter.repository.mapper.TemplateScheduleActivityMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.ACTIVITY;
+import static com.isipathana.meditationcenter.jooq.Tables.SCHEDULE_OVERRIDE;
+import static com.isipathana.meditationcenter.jooq.Tables.SCHEDULE_TEMPLATE;
+import static com.isipathana.meditationcenter.jooq.Tables.TEMPLATE_SCHEDULE_ACTIVITY;
+
+/**
+ * Reads schedule templates, their activities and date-specific overrides.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleRepository {
+
+    private final DSLContext dslContext;
+
+    /**
+     * Find all active schedule templates
+     */
+    public List<ScheduleTemplate> findActiveTemplates() {
+        return dslContext
+            .select(ScheduleTemplateMapper.FIELDS)
+            .from(SCHEDULE_TEMPLATE)
+            .where(SCHEDULE_TEMPLATE.IS_ACTIVE.eq(true))
+            .orderBy(SCHEDULE_TEMPLATE.TEMPLATE_ID.asc())
+            .fetch(ScheduleTemplateMapper.INSTANCE);
+    }
+
+    /**
+     * Find all scheduled activities of active templates, ordered by start time
+     */
+    public List<TemplateScheduleActivity> findActiveTemplateActivities() {
+        return dslContext
+            .select(TemplateScheduleActivityMapper.FIELDS)
+            .from(TEMPLATE_SCHEDULE_ACTIVITY)
+            .join(SCHEDULE_TEMPLATE).on(SCHEDULE_TEMPLATE.TEMPLATE_ID.eq(TEMPLATE_SCHEDULE_ACTIVITY.TEMPLATE_ID))
+            .where(SCHEDULE_TEMPLATE.IS_ACTIVE.eq(true))
+            .orderBy(TEMPLATE_SCHEDULE_ACTIVITY.START_TIME.asc(), TEMPLATE_SCHEDULE_ACTIVITY.ID.asc())
+            .fetch(TemplateScheduleActivityMapper.INSTANCE);
+    }
+
+    /**
+     * Find all activity definitions
+     */
+    public List<Activity> findAllActivities() {
+        return dslContext
+            .select(ActivityMapper.FIELDS)
+            .from(ACTIVITY)
+            .fetch(ActivityMapper.INSTANCE);
+    }
+
+    /**
+     * Find overrides falling in a date range (inclusive)
+     */
+    public List<ScheduleOverride> findOverridesBetween(LocalDate startDate, LocalDate endDate) {
+        return dslContext
+            .select(ScheduleOverrideMapper.FIELDS)
+            .from(SCHEDULE_OVERRIDE)
+            .where(SCHEDULE_OVERRIDE.OVERRIDE_DATE.between(startDate, endDate))
+            .fetch(ScheduleOverrideMapper.INSTANCE);
+    }
+}
@@ -1,7 +1,10 @@
 package com.isipathana.meditationcenter.repository;
 
 import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserDirectoryEntry;
 import com.isipathana.meditationcenter.records.user.UserRole;
+import com.isipathana.meditationcenter.repository.mapper.UserDirectoryEntryMapper;
+import com.isipathana.meditationcenter.repository.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.springframework.stereotype.Repository;
@@ -21,32 +24,10 @@ public class UserRepository {
      */
     public User findById(Long userId) {
         return dslContext
-            .select(
-                USERS.USER_ID,
-                USERS.EMAIL,
-                USERS.NAME,
-                USERS.MOBILE_NUMBER,
-                USERS.ROLE,
-                USERS.IS_ACTIVE,
-                USERS.EMAIL_VERIFIED,
-                USERS.CREATED_AT,
-                USERS.UPDATED_AT
-            )
+            .select(UserMapper.FIELDS)
             .from(USERS)
             .where(USERS.USER_ID.eq(userId))
-            .fetchOne(record ->
-                User.builder()
-                    .userId(record.get(USERS.USER_ID))
-                    .email(record.get(USERS.EMAIL))
-                    .name(record.get(USERS.NAME))
-                    .mobileNumber(record.get(USERS.MOBILE_NUMBER))
-                    .role(record.get(USERS.ROLE))
-                    .isActive(record.get(USERS.IS_ACTIVE))
-                    .emailVerified(record.get(USERS.EMAIL_VERIFIED))
-                    .createdAt(record.get(USERS.CREATED_AT))
-                    .updatedAt(record.get(USERS.UPDATED_AT))
-                    .build()
-            );
+            .fetchOne(UserMapper.INSTANCE);
     }
 
     /**
@@ -54,33 +35,11 @@ public class UserRepository {
      */
     public User findByEmail(String email) {
         return dslContext
-            .select(
-                USERS.USER_ID,
-                USERS.EMAIL,
-                USERS.NAME,
-                USERS.MOBILE_NUMBER,
-                USERS.ROLE,
-                USERS.IS_ACTIVE,
-                USERS.EMAIL_VERIFIED,
-                USERS.CREATED_AT,
-                USERS.UPDATED_AT
-            )
+            .select(UserMapper.FIELDS)
             .from(USERS)
             .where(USERS.EMAIL.eq(email))
             .and(USERS.IS_ACTIVE.eq(true))
-            .fetchOne(record ->
-                User.builder()
-                    .userId(record.get(USERS.USER_ID))
-                    .email(record.get(USERS.EMAIL))
-                    .name(record.get(USERS.NAME))
-                    .mobileNumber(record.get(USERS.MOBILE_NUMBER))
-                    .role(record.get(USERS.ROLE))
-                    .isActive(record.get(USERS.IS_ACTIVE))
-                    .emailVerified(record.get(USERS.EMAIL_VERIFIED))
-                    .createdAt(record.get(USERS.CREATED_AT))
-                    .updatedAt(record.get(USERS.UPDATED_AT))
-                    .build()
-            );
+            .fetchOne(UserMapper.INSTANCE);
     }
 
     /**
@@ -88,34 +47,12 @@ public class UserRepository {
      */
     public List<User> findByRole(UserRole role) {
         return dslContext
-            .select(
-                USERS.USER_ID,
-                USERS.EMAIL,
-                USERS.NAME,
-                USERS.MOBILE_NUMBER,
-                USERS.ROLE,
-                USERS.IS_ACTIVE,
-                USERS.EMAIL_VERIFIED,
-                USERS.CREATED_AT,
-                USERS.UPDATED_AT
-            )
+            .select(UserMapper.FIELDS)
             .from(USERS)
             .where(USERS.ROLE.eq(role))
             .and(USERS.IS_ACTIVE.eq(true))
             .orderBy(USERS.CREATED_AT.desc())
-            .fetch(record ->
-                User.builder()
-                    .userId(record.get(USERS.USER_ID))
-                    .email(record.get(USERS.EMAIL))
-                    .name(record.get(USERS.NAME))
-                    .mobileNumber(record.get(USERS.MOBILE_NUMBER))
-                    .role(record.get(USERS.ROLE))
-                    .isActive(record.get(USERS.IS_ACTIVE))
-                    .emailVerified(record.get(USERS.EMAIL_VERIFIED))
-                    .createdAt(record.get(USERS.CREATED_AT))
-                    .updatedAt(record.get(USERS.UPDATED_AT))
-                    .build()
-            );
+            .fetch(UserMapper.INSTANCE);
     }
 
     /**
@@ -123,33 +60,37 @@ public class UserRepository {
      */
     public List<User> findAllActive() {
         return dslContext
-            .select(
-                USERS.USER_ID,
-                USERS.EMAIL,
-                USERS.NAME,
-                USERS.MOBILE_NUMBER,
-                USERS.ROLE,
-                USERS.IS_ACTIVE,
-                USERS.EMAIL_VERIFIED,
-                USERS.CREATED_AT,
-                USERS.UPDATED_AT
-            )
+            .select(UserMapper.FIELDS)
             .from(USERS)
             .where(USERS.IS_ACTIVE.eq(true))
             .orderBy(USERS.NAME.asc())
-            .fetch(record ->
-                User.builder()
-                    .userId(record.get(USERS.USER_ID))
-                    .email(record.get(USERS.EMAIL))
-                    .name(record.get(USERS.NAME))
-                    .mobileNumber(record.get(USERS.MOBILE_NUMBER))
-                    .role(record.get(USERS.ROLE))
-                    .isActive(record.get(USERS.IS_ACTIVE))
-                    .emailVerified(record.get(USERS.EMAIL_VERIFIED))
-                    .createdAt(record.get(USERS.CREATED_AT))
-                    .updatedAt(record.get(USERS.UPDATED_AT))
-                    .build()
-            );
+            .fetch(UserMapper.INSTANCE);
+    }
+
+    /**
+     * Directory projection of active users, ordered by name.
+     * Reads only the columns of {@link UserDirectoryEntry}.
+     */
+    public List<UserDirectoryEntry> findDirectory() {
+        return dslContext
+            .select(UserDirectoryEntryMapper.FIELDS)
+            .from(USERS)
+            .where(USERS.IS_ACTIVE.eq(true))
+            .orderBy(USERS.NAME.asc())
+            .fetch(UserDirectoryEntryMapper.INSTANCE);
+    }
+
+    /**
+     * Directory projection of active users with a role, ordered by name
+     */
+    public List<UserDirectoryEntry> findDirectoryByRole(UserRole role) {
+        return dslContext
+            .select(UserDirectoryEntryMapper.FIELDS)
+            .from(USERS)
+            .where(USERS.ROLE.eq(role))
+            .and(USERS.IS_ACTIVE.eq(true))
+            .orderBy(USERS.NAME.asc())
+            .fetch(UserDirectoryEntryMapper.INSTANCE);
     }
 
     /**
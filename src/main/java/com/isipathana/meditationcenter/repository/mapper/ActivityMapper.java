@@ -0,0 +1,43 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.schedule.Activity;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.ACTIVITY;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link Activity} records by column position.
+ */
+public final class ActivityMapper implements RecordMapper<Record, Activity> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        ACTIVITY.ACTIVITY_ID,
+        ACTIVITY.TITLE,
+        ACTIVITY.DESCRIPTION,
+        ACTIVITY.LOCATION,
+        ACTIVITY.CREATED_AT,
+        ACTIVITY.UPDATED_AT
+    );
+
+    public static final ActivityMapper INSTANCE = new ActivityMapper();
+
+    private ActivityMapper() {
+    }
+
+    @Override
+    public Activity map(Record record) {
+        return new Activity(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (String) record.get(3),
+            (LocalDateTime) record.get(4),
+            (LocalDateTime) record.get(5)
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.booking.BookingCalendarEntry;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link BookingCalendarEntry} projections by column position.
+ * Selects 6 of the 13 booking columns and none of the TEXT ones.
+ */
+public final class BookingCalendarEntryMapper implements RecordMapper<Record, BookingCalendarEntry> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        BOOKING.BOOKING_ID,
+        BOOKING.MEDITATION_PROGRAM_ID,
+        BOOKING.USER_ID,
+        BOOKING.BOOKING_DATE,
+        BOOKING.STATUS,
+        BOOKING.PARTICIPANT_COUNT
+    );
+
+    public static final BookingCalendarEntryMapper INSTANCE = new BookingCalendarEntryMapper();
+
+    private BookingCalendarEntryMapper() {
+    }
+
+    @Override
+    public BookingCalendarEntry map(Record record) {
+        return new BookingCalendarEntry(
+            (Long) record.get(0),
+            (Long) record.get(1),
+            (Long) record.get(2),
+            (LocalDate) record.get(3),
+            (BookingStatus) record.get(4),
+            (Integer) record.get(5)
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link Booking} records.
+ * <p>
+ * Columns are read by position and passed straight to the canonical constructor,
+ * so mapping a row costs no field lookups and no intermediate builder.
+ * The order of {@link #FIELDS} is the contract: select exactly this list.
+ */
+public final class BookingMapper implements RecordMapper<Record, Booking> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        BOOKING.BOOKING_ID,
+        BOOKING.MEDITATION_PROGRAM_ID,
+        BOOKING.PRICING_ID,
+        BOOKING.USER_ID,
+        BOOKING.BOOKING_TYPE,
+        BOOKING.BOOKING_DATE,
+        BOOKING.STATUS,
+        BOOKING.PARTICIPANT_COUNT,
+        BOOKING.AMOUNT,
+        BOOKING.SPECIAL_REQUIREMENTS,
+        BOOKING.CANCELLATION_REASON,
+        BOOKING.CREATED_AT,
+        BOOKING.UPDATED_AT
+    );
+
+    public static final BookingMapper INSTANCE = new BookingMapper();
+
+    private BookingMapper() {
+    }
+
+    @Override
+    public Booking map(Record record) {
+        return new Booking(
+            (Long) record.get(0),
+            (Long) record.get(1),
+            (Long) record.get(2),
+            (Long) record.get(3),
+            (BookingType) record.get(4),
+            (LocalDate) record.get(5),
+            (BookingStatus) record.get(6),
+            (Integer) record.get(7),
+            (BigDecimal) record.get(8),
+            (String) record.get(9),
+            (String) record.get(10),
+            (LocalDateTime) record.get(11),
+            (LocalDateTime) record.get(12)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.donation.DonationCampaign;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.DONATION_CAMPAIGN;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link DonationCampaign} records by column position.
+ */
+public final class DonationCampaignMapper implements RecordMapper<Record, DonationCampaign> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        DONATION_CAMPAIGN.CAMPAIGN_ID,
+        DONATION_CAMPAIGN.CAMPAIGN_NAME,
+        DONATION_CAMPAIGN.DESCRIPTION,
+        DONATION_CAMPAIGN.TARGET_AMOUNT,
+        DONATION_CAMPAIGN.CURRENT_AMOUNT,
+        DONATION_CAMPAIGN.START_DATE,
+        DONATION_CAMPAIGN.END_DATE,
+        DONATION_CAMPAIGN.IS_ACTIVE,
+        DONATION_CAMPAIGN.CREATED_AT,
+        DONATION_CAMPAIGN.UPDATED_AT
+    );
+
+    public static final DonationCampaignMapper INSTANCE = new DonationCampaignMapper();
+
+    private DonationCampaignMapper() {
+    }
+
+    @Override
+    public DonationCampaign map(Record record) {
+        return new DonationCampaign(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (BigDecimal) record.get(3),
+            (BigDecimal) record.get(4),
+            (LocalDate) record.get(5),
+            (LocalDate) record.get(6),
+            (Boolean) record.get(7),
+            (LocalDateTime) record.get(8),
+            (LocalDateTime) record.get(9)
+        );
+    }
+}
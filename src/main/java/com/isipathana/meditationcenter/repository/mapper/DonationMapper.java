@@ -0,0 +1,66 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.donation.Donation;
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse;
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse.Owner;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static com.isipathana.meditationcenter.jooq.Tables.DONATION;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link Donation} records by column position.
+ * <p>
+ * The gateway response is not among the fields: each donation gets a {@link LazyGatewayResponse}
+ * that runs the mapper's loader with the donation id when it is first read.
+ */
+public final class DonationMapper implements RecordMapper<Record, Donation> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        DONATION.DONATION_ID,
+        DONATION.CAMPAIGN_ID,
+        DONATION.USER_ID,
+        DONATION.DONATION_AMOUNT,
+        DONATION.PAYMENT_METHOD,
+        DONATION.TRANSACTION_ID,
+        DONATION.PAYMENT_STATUS,
+        DONATION.IS_ANONYMOUS,
+        DONATION.DONOR_MESSAGE,
+        DONATION.CREATED_AT
+    );
+
+    private final LongFunction<String> gatewayResponseLoader;
+
+    /**
+     * @param gatewayResponseLoader Loads the gateway response of a donation by id, null if there is none
+     */
+    public DonationMapper(LongFunction<String> gatewayResponseLoader) {
+        this.gatewayResponseLoader = gatewayResponseLoader;
+    }
+
+    @Override
+    public Donation map(Record record) {
+        Long donationId = (Long) record.get(0);
+        return new Donation(
+            donationId,
+            (Long) record.get(1),
+            (Long) record.get(2),
+            (BigDecimal) record.get(3),
+            (PaymentMethod) record.get(4),
+            (String) record.get(5),
+            (PaymentStatus) record.get(6),
+            LazyGatewayResponse.of(Owner.DONATION, donationId, () -> gatewayResponseLoader.apply(donationId)),
+            (Boolean) record.get(7),
+            (String) record.get(8),
+            (LocalDateTime) record.get(9)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.event.Event;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.EVENTS;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link Event} records by column position.
+ */
+public final class EventMapper implements RecordMapper<Record, Event> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        EVENTS.EVENT_ID,
+        EVENTS.NAME,
+        EVENTS.DESCRIPTION,
+        EVENTS.EVENT_DATE,
+        EVENTS.START_TIME,
+        EVENTS.END_TIME,
+        EVENTS.LOCATION,
+        EVENTS.MAX_PARTICIPANTS,
+        EVENTS.CURRENT_PARTICIPANTS,
+        EVENTS.IMAGES,
+        EVENTS.IS_ACTIVE,
+        EVENTS.REQUIRES_REGISTRATION,
+        EVENTS.CREATED_AT,
+        EVENTS.UPDATED_AT
+    );
+
+    public static final EventMapper INSTANCE = new EventMapper();
+
+    private EventMapper() {
+    }
+
+    @Override
+    public Event map(Record record) {
+        return new Event(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (LocalDate) record.get(3),
+            (LocalTime) record.get(4),
+            (LocalTime) record.get(5),
+            (String) record.get(6),
+            (Integer) record.get(7),
+            (Integer) record.get(8),
+            (String) record.get(9),
+            (Boolean) record.get(10),
+            (Boolean) record.get(11),
+            (LocalDateTime) record.get(12),
+            (LocalDateTime) record.get(13)
+        );
+    }
+}
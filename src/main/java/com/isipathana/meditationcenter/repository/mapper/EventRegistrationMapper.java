@@ -0,0 +1,48 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.EVENT_REGISTRATION;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link EventRegistration} records by column position.
+ */
+public final class EventRegistrationMapper implements RecordMapper<Record, EventRegistration> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        EVENT_REGISTRATION.REGISTRATION_ID,
+        EVENT_REGISTRATION.EVENT_ID,
+        EVENT_REGISTRATION.USER_ID,
+        EVENT_REGISTRATION.STATUS,
+        EVENT_REGISTRATION.CHECKED_IN_AT,
+        EVENT_REGISTRATION.REGISTRATION_DATE,
+        EVENT_REGISTRATION.CANCELLATION_DATE,
+        EVENT_REGISTRATION.CANCELLATION_REASON
+    );
+
+    public static final EventRegistrationMapper INSTANCE = new EventRegistrationMapper();
+
+    private EventRegistrationMapper() {
+    }
+
+    @Override
+    public EventRegistration map(Record record) {
+        return new EventRegistration(
+            (Long) record.get(0),
+            (Long) record.get(1),
+            (Long) record.get(2),
+            (EventRegistrationStatus) record.get(3),
+            (LocalDateTime) record.get(4),
+            (LocalDateTime) record.get(5),
+            (LocalDateTime) record.get(6),
+            (String) record.get(7)
+        );
+    }
+}
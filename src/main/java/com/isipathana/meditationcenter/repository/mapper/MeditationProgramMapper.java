@@ -0,0 +1,51 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.program.MeditationProgram;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.MEDITATION_PROGRAM;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link MeditationProgram} records by column position.
+ */
+public final class MeditationProgramMapper implements RecordMapper<Record, MeditationProgram> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        MEDITATION_PROGRAM.MEDITATION_PROGRAM_ID,
+        MEDITATION_PROGRAM.NAME,
+        MEDITATION_PROGRAM.DESCRIPTION,
+        MEDITATION_PROGRAM.MAX_SEATS,
+        MEDITATION_PROGRAM.DURATION_MINUTES,
+        MEDITATION_PROGRAM.INSTRUCTOR_ID,
+        MEDITATION_PROGRAM.IMAGE_URL,
+        MEDITATION_PROGRAM.IS_ACTIVE,
+        MEDITATION_PROGRAM.CREATED_AT,
+        MEDITATION_PROGRAM.UPDATED_AT
+    );
+
+    public static final MeditationProgramMapper INSTANCE = new MeditationProgramMapper();
+
+    private MeditationProgramMapper() {
+    }
+
+    @Override
+    public MeditationProgram map(Record record) {
+        return new MeditationProgram(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (Integer) record.get(3),
+            (Integer) record.get(4),
+            (Long) record.get(5),
+            (String) record.get(6),
+            (Boolean) record.get(7),
+            (LocalDateTime) record.get(8),
+            (LocalDateTime) record.get(9)
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse;
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse.Owner;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link Payment} records by column position.
+ * <p>
+ * The gateway response is not among the fields: each payment gets a {@link LazyGatewayResponse}
+ * that runs the mapper's loader with the payment id when it is first read.
+ */
+public final class PaymentMapper implements RecordMapper<Record, Payment> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        PAYMENT.PAYMENT_ID,
+        PAYMENT.BOOKING_ID,
+        PAYMENT.AMOUNT,
+        PAYMENT.STATUS,
+        PAYMENT.PAYMENT_METHOD,
+        PAYMENT.TRANSACTION_ID,
+        PAYMENT.PAYMENT_DATE,
+        PAYMENT.REFUND_AMOUNT,
+        PAYMENT.REFUND_DATE,
+        PAYMENT.CREATED_AT,
+        PAYMENT.UPDATED_AT
+    );
+
+    private final LongFunction<String> gatewayResponseLoader;
+
+    /**
+     * @param gatewayResponseLoader Loads the gateway response of a payment by id, null if there is none
+     */
+    public PaymentMapper(LongFunction<String> gatewayResponseLoader) {
+        this.gatewayResponseLoader = gatewayResponseLoader;
+    }
+
+    @Override
+    public Payment map(Record record) {
+        Long paymentId = (Long) record.get(0);
+        return new Payment(
+            paymentId,
+            (Long) record.get(1),
+            (BigDecimal) record.get(2),
+            (PaymentStatus) record.get(3),
+            (PaymentMethod) record.get(4),
+            (String) record.get(5),
+            (LocalDateTime) record.get(6),
+            LazyGatewayResponse.of(Owner.PAYMENT, paymentId, () -> gatewayResponseLoader.apply(paymentId)),
+            (BigDecimal) record.get(7),
+            (LocalDateTime) record.get(8),
+            (LocalDateTime) record.get(9),
+            (LocalDateTime) record.get(10)
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.pricing.Pricing;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.PRICING;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link Pricing} records by column position.
+ */
+public final class PricingMapper implements RecordMapper<Record, Pricing> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        PRICING.PRICING_ID,
+        PRICING.BOOKING_TYPE,
+        PRICING.PRICE,
+        PRICING.EFFECTIVE_FROM_DATE,
+        PRICING.EFFECTIVE_TO_DATE,
+        PRICING.IS_ACTIVE,
+        PRICING.CREATED_AT
+    );
+
+    public static final PricingMapper INSTANCE = new PricingMapper();
+
+    private PricingMapper() {
+    }
+
+    @Override
+    public Pricing map(Record record) {
+        return new Pricing(
+            (Long) record.get(0),
+            (BookingType) record.get(1),
+            (BigDecimal) record.get(2),
+            (LocalDate) record.get(3),
+            (LocalDate) record.get(4),
+            (Boolean) record.get(5),
+            (LocalDateTime) record.get(6)
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.schedule.ScheduleOverride;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.SCHEDULE_OVERRIDE;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link ScheduleOverride} records by column position.
+ */
+public final class ScheduleOverrideMapper implements RecordMapper<Record, ScheduleOverride> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        SCHEDULE_OVERRIDE.OVERRIDE_ID,
+        SCHEDULE_OVERRIDE.TEMPLATE_SCHEDULE_ACTIVITY_ID,
+        SCHEDULE_OVERRIDE.OVERRIDE_DATE,
+        SCHEDULE_OVERRIDE.NEW_START_TIME,
+        SCHEDULE_OVERRIDE.NEW_END_TIME,
+        SCHEDULE_OVERRIDE.IS_CANCELLED,
+        SCHEDULE_OVERRIDE.REASON,
+        SCHEDULE_OVERRIDE.CREATED_AT,
+        SCHEDULE_OVERRIDE.UPDATED_AT
+    );
+
+    public static final ScheduleOverrideMapper INSTANCE = new ScheduleOverrideMapper();
+
+    private ScheduleOverrideMapper() {
+    }
+
+    @Override
+    public ScheduleOverride map(Record record) {
+        return new ScheduleOverride(
+            (Long) record.get(0),
+            (Long) record.get(1),
+            (LocalDate) record.get(2),
+            (LocalTime) record.get(3),
+            (LocalTime) record.get(4),
+            (Boolean) record.get(5),
+            (String) record.get(6),
+            (LocalDateTime) record.get(7),
+            (LocalDateTime) record.get(8)
+        );
+    }
+}
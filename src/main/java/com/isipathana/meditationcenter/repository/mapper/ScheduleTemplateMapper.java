@@ -0,0 +1,43 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.schedule.ScheduleTemplate;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.SCHEDULE_TEMPLATE;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link ScheduleTemplate} records by column position.
+ */
+public final class ScheduleTemplateMapper implements RecordMapper<Record, ScheduleTemplate> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        SCHEDULE_TEMPLATE.TEMPLATE_ID,
+        SCHEDULE_TEMPLATE.NAME,
+        SCHEDULE_TEMPLATE.DESCRIPTION,
+        SCHEDULE_TEMPLATE.IS_ACTIVE,
+        SCHEDULE_TEMPLATE.CREATED_AT,
+        SCHEDULE_TEMPLATE.UPDATED_AT
+    );
+
+    public static final ScheduleTemplateMapper INSTANCE = new ScheduleTemplateMapper();
+
+    private ScheduleTemplateMapper() {
+    }
+
+    @Override
+    public ScheduleTemplate map(Record record) {
+        return new ScheduleTemplate(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (Boolean) record.get(3),
+            (LocalDateTime) record.get(4),
+            (LocalDateTime) record.get(5)
+        );
+    }
+}
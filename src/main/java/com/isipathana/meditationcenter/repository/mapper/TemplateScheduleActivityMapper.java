@@ -0,0 +1,50 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.schedule.TemplateScheduleActivity;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.TEMPLATE_SCHEDULE_ACTIVITY;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link TemplateScheduleActivity} records by column position.
+ */
+public final class TemplateScheduleActivityMapper implements RecordMapper<Record, TemplateScheduleActivity> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        TEMPLATE_SCHEDULE_ACTIVITY.ID,
+        TEMPLATE_SCHEDULE_ACTIVITY.TEMPLATE_ID,
+        TEMPLATE_SCHEDULE_ACTIVITY.ACTIVITY_ID,
+        TEMPLATE_SCHEDULE_ACTIVITY.START_TIME,
+        TEMPLATE_SCHEDULE_ACTIVITY.END_TIME,
+        TEMPLATE_SCHEDULE_ACTIVITY.DAY_OF_WEEK,
+        TEMPLATE_SCHEDULE_ACTIVITY.NOTES,
+        TEMPLATE_SCHEDULE_ACTIVITY.CREATED_AT,
+        TEMPLATE_SCHEDULE_ACTIVITY.UPDATED_AT
+    );
+
+    public static final TemplateScheduleActivityMapper INSTANCE = new TemplateScheduleActivityMapper();
+
+    private TemplateScheduleActivityMapper() {
+    }
+
+    @Override
+    public TemplateScheduleActivity map(Record record) {
+        return new TemplateScheduleActivity(
+            (Long) record.get(0),
+            (Long) record.get(1),
+            (Long) record.get(2),
+            (LocalTime) record.get(3),
+            (LocalTime) record.get(4),
+            (Integer) record.get(5),
+            (String) record.get(6),
+            (LocalDateTime) record.get(7),
+            (LocalDateTime) record.get(8)
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.user.UserDirectoryEntry;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.USERS;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link UserDirectoryEntry} projections by column position.
+ */
+public final class UserDirectoryEntryMapper implements RecordMapper<Record, UserDirectoryEntry> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        USERS.USER_ID,
+        USERS.NAME,
+        USERS.EMAIL,
+        USERS.ROLE
+    );
+
+    public static final UserDirectoryEntryMapper INSTANCE = new UserDirectoryEntryMapper();
+
+    private UserDirectoryEntryMapper() {
+    }
+
+    @Override
+    public UserDirectoryEntry map(Record record) {
+        return new UserDirectoryEntry(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (UserRole) record.get(3)
+        );
+    }
+}
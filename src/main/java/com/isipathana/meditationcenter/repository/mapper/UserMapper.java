@@ -0,0 +1,51 @@
+package com.isipathana.meditationcenter.repository.mapper;
+
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.isipathana.meditationcenter.jooq.Tables.USERS;
+
+/**
+ * Maps rows selected with {@link #FIELDS} to {@link User} records by column position.
+ * Same contract as {@link BookingMapper}: select exactly {@link #FIELDS}, in order.
+ */
+public final class UserMapper implements RecordMapper<Record, User> {
+
+    public static final List<Field<?>> FIELDS = List.of(
+        USERS.USER_ID,
+        USERS.EMAIL,
+        USERS.NAME,
+        USERS.MOBILE_NUMBER,
+        USERS.ROLE,
+        USERS.IS_ACTIVE,
+        USERS.EMAIL_VERIFIED,
+        USERS.CREATED_AT,
+        USERS.UPDATED_AT
+    );
+
+    public static final UserMapper INSTANCE = new UserMapper();
+
+    private UserMapper() {
+    }
+
+    @Override
+    public User map(Record record) {
+        return new User(
+            (Long) record.get(0),
+            (String) record.get(1),
+            (String) record.get(2),
+            (String) record.get(3),
+            (UserRole) record.get(4),
+            (Boolean) record.get(5),
+            (Boolean) record.get(6),
+            (LocalDateTime) record.get(7),
+            (LocalDateTime) record.get(8)
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.isipathana.meditationcenter.rest;
+
+import com.isipathana.meditationcenter.core.donation.CampaignProgress;
+import com.isipathana.meditationcenter.core.donation.GetCampaignProgressUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/campaigns")
+@RequiredArgsConstructor
+public class CampaignController {
+
+    private final GetCampaignProgressUseCase getCampaignProgressUseCase;
+
+    /**
+     * Live fundraising progress of a campaign
+     */
+    @GetMapping("/{campaignId}/progress")
+    public CampaignProgress getProgress(@PathVariable Long campaignId) {
+        return getCampaignProgressUseCase.handle(campaignId);
+    }
+}
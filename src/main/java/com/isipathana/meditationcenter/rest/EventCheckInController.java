@@ -0,0 +1,30 @@
+package com.isipathana.meditationcenter.rest;
+
+import com.isipathana.meditationcenter.core.event.CheckInAck;
+import com.isipathana.meditationcenter.core.event.CheckInRequest;
+import com.isipathana.meditationcenter.core.event.CheckInUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/registrations")
+@RequiredArgsConstructor
+public class EventCheckInController {
+
+    private final CheckInUseCase checkInUseCase;
+
+    /**
+     * Check a registration in at the event door. Answers 202 once the scan is queued;
+     * repeat scans return the original acknowledgement.
+     */
+    @PostMapping("/{registrationId}/check-in")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CheckInAck checkIn(@PathVariable Long eventId, @PathVariable Long registrationId) {
+        return checkInUseCase.handle(new CheckInRequest(eventId, registrationId));
+    }
+}
@@ -0,0 +1,36 @@
+package com.isipathana.meditationcenter.rest;
+
+import com.isipathana.meditationcenter.core.payment.RequestPaymentRequest;
+import com.isipathana.meditationcenter.core.payment.RequestPaymentUseCase;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/bookings/{bookingId}/payment")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final RequestPaymentUseCase requestPaymentUseCase;
+
+    /**
+     * Check out a booking. Answers 202 with the PENDING payment once the gateway call is queued;
+     * a retry with the same Idempotency-Key returns the same payment.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Payment checkout(
+            @PathVariable Long bookingId,
+            @RequestParam PaymentMethod method,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        return requestPaymentUseCase.handle(new RequestPaymentRequest(bookingId, method, idempotencyKey));
+    }
+}
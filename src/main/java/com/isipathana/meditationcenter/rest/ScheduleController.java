@@ -0,0 +1,28 @@
+package com.isipathana.meditationcenter.rest;
+
+import com.isipathana.meditationcenter.core.schedule.GetDailyScheduleUseCase;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/schedule")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private final GetDailyScheduleUseCase getDailyScheduleUseCase;
+
+    /**
+     * Schedule for one date (ISO format, e.g. 2025-06-01)
+     */
+    @GetMapping("/{date}")
+    public DailySchedule getSchedule(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return getDailyScheduleUseCase.handle(date);
+    }
+}
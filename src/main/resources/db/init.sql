@@ -1,5 +1,5 @@
 -- Consolidated Flyway migrations for jOOQ code generation
--- This file combines all V1-V13 migrations in order
+-- This file combines all V1-V18 migrations in order
 
 -- V1: Create users table
 CREATE TABLE users (
@@ -323,3 +323,178 @@ COMMENT ON COLUMN schedule_override.new_end_time IS 'Override end time (NULL if
 COMMENT ON COLUMN schedule_override.is_cancelled IS 'Whether this activity is cancelled on this date';
 COMMENT ON COLUMN schedule_override.reason IS 'Reason for time change or cancellation';
 COMMENT ON CONSTRAINT uk_override_activity_date ON schedule_override IS 'One override per activity per date';
+
+-- V14: Align status column names (booking, payment and event_registration above already use status)
+
+-- V15: Add access pattern indexes
+-- booking: WHERE user_id = ? ORDER BY booking_date DESC
+DROP INDEX IF EXISTS idx_booking_user;
+CREATE INDEX idx_booking_user_date ON booking(user_id, booking_date DESC);
+
+-- booking: WHERE status = ? ORDER BY booking_date DESC, booking_id DESC (list, keyset page, stream)
+DROP INDEX IF EXISTS idx_booking_status;
+CREATE INDEX idx_booking_status_date ON booking(status, booking_date DESC, booking_id DESC);
+
+-- booking: WHERE booking_date BETWEEN ? AND ? ORDER BY booking_date, booking_id (keyset page, calendar)
+DROP INDEX IF EXISTS idx_booking_date;
+CREATE INDEX idx_booking_date_id ON booking(booking_date, booking_id);
+
+-- booking: WHERE meditation_program_id = ? AND booking_date BETWEEN ? AND ? (program calendar, FK)
+DROP INDEX IF EXISTS idx_booking_program;
+CREATE INDEX idx_booking_program_date ON booking(meditation_program_id, booking_date);
+
+-- booking: seat counts per program and date ignore cancelled bookings and only need participant_count
+CREATE INDEX idx_booking_seats ON booking(meditation_program_id, booking_date)
+    INCLUDE (participant_count)
+    WHERE status <> 'CANCELLED';
+
+-- users: WHERE role = ? AND is_active ORDER BY created_at DESC
+DROP INDEX IF EXISTS idx_users_role;
+CREATE INDEX idx_users_role_created_active ON users(role, created_at DESC)
+    WHERE is_active = true;
+
+-- users: WHERE is_active ORDER BY name; covers the directory projection
+CREATE INDEX idx_users_active_name ON users(name)
+    INCLUDE (user_id, email, role)
+    WHERE is_active = true;
+
+-- users.email is already indexed by its UNIQUE constraint
+DROP INDEX IF EXISTS idx_users_email;
+
+-- payment: WHERE status = ? ORDER BY created_at, payment_id
+DROP INDEX IF EXISTS idx_payment_status;
+CREATE INDEX idx_payment_status_created ON payment(status, created_at, payment_id);
+
+-- payment.booking_id is already indexed by its UNIQUE constraint
+DROP INDEX IF EXISTS idx_payment_booking;
+
+-- donation: WHERE campaign_id = ? ORDER BY created_at DESC, donation_id DESC
+DROP INDEX IF EXISTS idx_donation_campaign;
+CREATE INDEX idx_donation_campaign_created ON donation(campaign_id, created_at DESC, donation_id DESC);
+
+-- donation: campaign totals sum COMPLETED donations per campaign
+CREATE INDEX idx_donation_completed_campaign ON donation(campaign_id)
+    INCLUDE (donation_amount)
+    WHERE payment_status = 'COMPLETED' AND campaign_id IS NOT NULL;
+
+-- events: WHERE event_date >= ? [AND is_active] ORDER BY event_date, start_time, event_id
+DROP INDEX IF EXISTS idx_events_date;
+DROP INDEX IF EXISTS idx_events_active;
+CREATE INDEX idx_events_date_time ON events(event_date, start_time, event_id);
+CREATE INDEX idx_events_active_date_time ON events(event_date, start_time, event_id)
+    WHERE is_active = true;
+
+-- event_registration: WHERE event_id = ? ORDER BY registration_id
+DROP INDEX IF EXISTS idx_event_registration_event;
+CREATE INDEX idx_event_registration_event_id ON event_registration(event_id, registration_id);
+
+-- V16: Use native enum types
+CREATE TYPE user_role AS ENUM ('USER', 'ADMIN', 'INSTRUCTOR');
+CREATE TYPE booking_type AS ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'EVENT', 'RETREAT');
+CREATE TYPE booking_status AS ENUM ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED');
+CREATE TYPE payment_status AS ENUM ('PENDING', 'COMPLETED', 'FAILED', 'REFUNDED');
+CREATE TYPE payment_method AS ENUM ('CASH', 'CARD', 'BANK_TRANSFER', 'ONLINE');
+CREATE TYPE event_registration_status AS ENUM ('REGISTERED', 'ATTENDED', 'CANCELLED', 'NO_SHOW');
+
+-- Partial index predicates would be rebuilt as text comparisons ((status)::text <> 'CANCELLED'),
+-- which queries on the enum column no longer match, so they are recreated after the type change
+DROP INDEX IF EXISTS idx_booking_seats;
+DROP INDEX IF EXISTS idx_donation_completed_campaign;
+
+-- One ALTER TABLE per table so each is rewritten once, and its other indexes are rebuilt with it
+ALTER TABLE users
+    ALTER COLUMN role DROP DEFAULT,
+    ALTER COLUMN role TYPE user_role USING role::user_role,
+    ALTER COLUMN role SET DEFAULT 'USER';
+
+ALTER TABLE pricing
+    ALTER COLUMN booking_type TYPE booking_type USING booking_type::booking_type;
+
+ALTER TABLE booking
+    ALTER COLUMN booking_type TYPE booking_type USING booking_type::booking_type,
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN status TYPE booking_status USING status::booking_status,
+    ALTER COLUMN status SET DEFAULT 'PENDING';
+
+ALTER TABLE payment
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN status TYPE payment_status USING status::payment_status,
+    ALTER COLUMN status SET DEFAULT 'PENDING',
+    ALTER COLUMN payment_method TYPE payment_method USING payment_method::payment_method;
+
+ALTER TABLE donation
+    ALTER COLUMN payment_status DROP DEFAULT,
+    ALTER COLUMN payment_status TYPE payment_status USING payment_status::payment_status,
+    ALTER COLUMN payment_status SET DEFAULT 'PENDING',
+    ALTER COLUMN payment_method TYPE payment_method USING payment_method::payment_method;
+
+ALTER TABLE event_registration
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN status TYPE event_registration_status USING status::event_registration_status,
+    ALTER COLUMN status SET DEFAULT 'REGISTERED';
+
+CREATE INDEX idx_booking_seats ON booking(meditation_program_id, booking_date)
+    INCLUDE (participant_count)
+    WHERE status <> 'CANCELLED';
+
+CREATE INDEX idx_donation_completed_campaign ON donation(campaign_id)
+    INCLUDE (donation_amount)
+    WHERE payment_status = 'COMPLETED' AND campaign_id IS NOT NULL;
+
+-- V17: Create payment outbox table
+CREATE TYPE payment_outbox_status AS ENUM ('PENDING', 'DONE', 'DEAD');
+
+CREATE TABLE payment_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    payment_id BIGINT NOT NULL UNIQUE,
+    status payment_outbox_status NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+    CONSTRAINT fk_payment_outbox_payment FOREIGN KEY (payment_id) REFERENCES payment(payment_id) ON DELETE CASCADE,
+    CONSTRAINT chk_payment_outbox_attempts CHECK (attempts >= 0)
+);
+
+-- Claim query: WHERE status = 'PENDING' AND next_attempt_at <= now() ORDER BY next_attempt_at
+CREATE INDEX idx_payment_outbox_due ON payment_outbox(next_attempt_at) WHERE status = 'PENDING';
+
+-- transaction_id is the idempotency key sent to the gateway, one payment per key
+DROP INDEX IF EXISTS idx_payment_transaction;
+ALTER TABLE payment ADD CONSTRAINT uk_payment_transaction UNIQUE (transaction_id);
+
+COMMENT ON TABLE payment_outbox IS 'Payments waiting for their gateway call, claimed by the outbox workers';
+COMMENT ON COLUMN payment_outbox.status IS 'Status: PENDING (due at next_attempt_at), DONE (payment settled), DEAD (gave up after max attempts)';
+COMMENT ON COLUMN payment_outbox.next_attempt_at IS 'When the row is next due, pushed forward by the claim lease and by retry backoff';
+COMMENT ON COLUMN payment.transaction_id IS 'Idempotency key sent to the payment gateway, unique per payment';
+
+-- V18: Move gateway responses off row (existing responses are copied by the migration, not here)
+CREATE TABLE payment_gateway_response (
+    payment_id BIGINT PRIMARY KEY,
+    body BYTEA NOT NULL,
+    compressed BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_payment_gateway_response_payment FOREIGN KEY (payment_id) REFERENCES payment(payment_id) ON DELETE CASCADE
+);
+
+CREATE TABLE donation_gateway_response (
+    donation_id BIGINT PRIMARY KEY,
+    body BYTEA NOT NULL,
+    compressed BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_donation_gateway_response_donation FOREIGN KEY (donation_id) REFERENCES donation(donation_id) ON DELETE CASCADE
+);
+
+ALTER TABLE payment_gateway_response ALTER COLUMN body SET STORAGE EXTERNAL;
+ALTER TABLE donation_gateway_response ALTER COLUMN body SET STORAGE EXTERNAL;
+
+ALTER TABLE payment DROP COLUMN payment_gateway_response;
+ALTER TABLE donation DROP COLUMN payment_gateway_response;
+
+COMMENT ON TABLE payment_gateway_response IS 'Gateway response for a payment, read only on demand';
+COMMENT ON COLUMN payment_gateway_response.body IS 'Response JSON as UTF-8, gzip compressed when compressed is true';
+COMMENT ON COLUMN payment_gateway_response.compressed IS 'False for responses copied from payment.payment_gateway_response by V18';
+COMMENT ON TABLE donation_gateway_response IS 'Gateway response for a donation, read only on demand';
+COMMENT ON COLUMN donation_gateway_response.body IS 'Response JSON as UTF-8, gzip compressed when compressed is true';
+COMMENT ON COLUMN donation_gateway_response.compressed IS 'False for responses copied from donation.payment_gateway_response by V18';
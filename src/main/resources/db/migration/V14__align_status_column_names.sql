@@ -0,0 +1,12 @@
+-- Align status column names with the schema the application is generated against (db/init.sql).
+-- V4, V5 and V9 created them as booking_status, payment_status and registration_status,
+-- while every query reads booking.status, payment.status and event_registration.status.
+-- donation.payment_status is named the same in both and is left as is.
+
+ALTER TABLE booking RENAME COLUMN booking_status TO status;
+ALTER TABLE payment RENAME COLUMN payment_status TO status;
+ALTER TABLE event_registration RENAME COLUMN registration_status TO status;
+
+COMMENT ON COLUMN booking.status IS 'Status: PENDING, CONFIRMED, CANCELLED, COMPLETED';
+COMMENT ON COLUMN payment.status IS 'Status: PENDING, COMPLETED, FAILED, REFUNDED';
+COMMENT ON COLUMN event_registration.status IS 'Status: REGISTERED, ATTENDED, CANCELLED, NO_SHOW';
@@ -0,0 +1,65 @@
+-- Replace single-column indexes with composite, partial and covering indexes that match
+-- the WHERE and ORDER BY clauses the repositories actually issue, so those queries are
+-- answered by an index range scan in result order instead of a scan plus sort.
+-- Guarded by QueryPlanRegressionTest.
+
+-- booking: WHERE user_id = ? ORDER BY booking_date DESC
+DROP INDEX IF EXISTS idx_booking_user;
+CREATE INDEX idx_booking_user_date ON booking(user_id, booking_date DESC);
+
+-- booking: WHERE status = ? ORDER BY booking_date DESC, booking_id DESC (list, keyset page, stream)
+DROP INDEX IF EXISTS idx_booking_status;
+CREATE INDEX idx_booking_status_date ON booking(status, booking_date DESC, booking_id DESC);
+
+-- booking: WHERE booking_date BETWEEN ? AND ? ORDER BY booking_date, booking_id (keyset page, calendar)
+DROP INDEX IF EXISTS idx_booking_date;
+CREATE INDEX idx_booking_date_id ON booking(booking_date, booking_id);
+
+-- booking: WHERE meditation_program_id = ? AND booking_date BETWEEN ? AND ? (program calendar, FK)
+DROP INDEX IF EXISTS idx_booking_program;
+CREATE INDEX idx_booking_program_date ON booking(meditation_program_id, booking_date);
+
+-- booking: seat counts per program and date ignore cancelled bookings and only need participant_count
+CREATE INDEX idx_booking_seats ON booking(meditation_program_id, booking_date)
+    INCLUDE (participant_count)
+    WHERE status <> 'CANCELLED';
+
+-- users: WHERE role = ? AND is_active ORDER BY created_at DESC
+DROP INDEX IF EXISTS idx_users_role;
+CREATE INDEX idx_users_role_created_active ON users(role, created_at DESC)
+    WHERE is_active = true;
+
+-- users: WHERE is_active ORDER BY name; covers the directory projection
+CREATE INDEX idx_users_active_name ON users(name)
+    INCLUDE (user_id, email, role)
+    WHERE is_active = true;
+
+-- users.email is already indexed by its UNIQUE constraint
+DROP INDEX IF EXISTS idx_users_email;
+
+-- payment: WHERE status = ? ORDER BY created_at, payment_id
+DROP INDEX IF EXISTS idx_payment_status;
+CREATE INDEX idx_payment_status_created ON payment(status, created_at, payment_id);
+
+-- payment.booking_id is already indexed by its UNIQUE constraint
+DROP INDEX IF EXISTS idx_payment_booking;
+
+-- donation: WHERE campaign_id = ? ORDER BY created_at DESC, donation_id DESC
+DROP INDEX IF EXISTS idx_donation_campaign;
+CREATE INDEX idx_donation_campaign_created ON donation(campaign_id, created_at DESC, donation_id DESC);
+
+-- donation: campaign totals sum COMPLETED donations per campaign
+CREATE INDEX idx_donation_completed_campaign ON donation(campaign_id)
+    INCLUDE (donation_amount)
+    WHERE payment_status = 'COMPLETED' AND campaign_id IS NOT NULL;
+
+-- events: WHERE event_date >= ? [AND is_active] ORDER BY event_date, start_time, event_id
+DROP INDEX IF EXISTS idx_events_date;
+DROP INDEX IF EXISTS idx_events_active;
+CREATE INDEX idx_events_date_time ON events(event_date, start_time, event_id);
+CREATE INDEX idx_events_active_date_time ON events(event_date, start_time, event_id)
+    WHERE is_active = true;
+
+-- event_registration: WHERE event_id = ? ORDER BY registration_id
+DROP INDEX IF EXISTS idx_event_registration_event;
+CREATE INDEX idx_event_registration_event_id ON event_registration(event_id, registration_id);
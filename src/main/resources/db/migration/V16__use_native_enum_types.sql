@@ -0,0 +1,57 @@
+-- Store status, role, type and method columns as native PostgreSQL enums instead of VARCHAR(50).
+-- An enum value takes 4 bytes in the row and in every index that contains it, compares as an
+-- integer, and rejects values the application does not know. Labels are the Java enum constant
+-- names, so SQL literals such as status = 'CANCELLED' keep working unchanged.
+-- Appending a value later: ALTER TYPE ... ADD VALUE (cannot run inside a transaction before PG 12).
+
+CREATE TYPE user_role AS ENUM ('USER', 'ADMIN', 'INSTRUCTOR');
+CREATE TYPE booking_type AS ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'EVENT', 'RETREAT');
+CREATE TYPE booking_status AS ENUM ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED');
+CREATE TYPE payment_status AS ENUM ('PENDING', 'COMPLETED', 'FAILED', 'REFUNDED');
+CREATE TYPE payment_method AS ENUM ('CASH', 'CARD', 'BANK_TRANSFER', 'ONLINE');
+CREATE TYPE event_registration_status AS ENUM ('REGISTERED', 'ATTENDED', 'CANCELLED', 'NO_SHOW');
+
+-- Partial index predicates would be rebuilt as text comparisons ((status)::text <> 'CANCELLED'),
+-- which queries on the enum column no longer match, so they are recreated after the type change
+DROP INDEX IF EXISTS idx_booking_seats;
+DROP INDEX IF EXISTS idx_donation_completed_campaign;
+
+-- One ALTER TABLE per table so each is rewritten once, and its other indexes are rebuilt with it
+ALTER TABLE users
+    ALTER COLUMN role DROP DEFAULT,
+    ALTER COLUMN role TYPE user_role USING role::user_role,
+    ALTER COLUMN role SET DEFAULT 'USER';
+
+ALTER TABLE pricing
+    ALTER COLUMN booking_type TYPE booking_type USING booking_type::booking_type;
+
+ALTER TABLE booking
+    ALTER COLUMN booking_type TYPE booking_type USING booking_type::booking_type,
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN status TYPE booking_status USING status::booking_status,
+    ALTER COLUMN status SET DEFAULT 'PENDING';
+
+ALTER TABLE payment
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN status TYPE payment_status USING status::payment_status,
+    ALTER COLUMN status SET DEFAULT 'PENDING',
+    ALTER COLUMN payment_method TYPE payment_method USING payment_method::payment_method;
+
+ALTER TABLE donation
+    ALTER COLUMN payment_status DROP DEFAULT,
+    ALTER COLUMN payment_status TYPE payment_status USING payment_status::payment_status,
+    ALTER COLUMN payment_status SET DEFAULT 'PENDING',
+    ALTER COLUMN payment_method TYPE payment_method USING payment_method::payment_method;
+
+ALTER TABLE event_registration
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN status TYPE event_registration_status USING status::event_registration_status,
+    ALTER COLUMN status SET DEFAULT 'REGISTERED';
+
+CREATE INDEX idx_booking_seats ON booking(meditation_program_id, booking_date)
+    INCLUDE (participant_count)
+    WHERE status <> 'CANCELLED';
+
+CREATE INDEX idx_donation_completed_campaign ON donation(campaign_id)
+    INCLUDE (donation_amount)
+    WHERE payment_status = 'COMPLETED' AND campaign_id IS NOT NULL;
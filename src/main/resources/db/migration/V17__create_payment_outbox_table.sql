@@ -0,0 +1,31 @@
+-- Transactional outbox for payment gateway calls.
+-- A checkout writes the PENDING payment and its outbox row in one transaction and returns without
+-- calling the gateway. Workers claim due rows with FOR UPDATE SKIP LOCKED, call the gateway and
+-- settle the payment. A claimed row is pushed back by a lease (next_attempt_at), so a worker that
+-- dies mid-call leaves it to be retried, and the retry reuses the same idempotency key.
+CREATE TYPE payment_outbox_status AS ENUM ('PENDING', 'DONE', 'DEAD');
+
+CREATE TABLE payment_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    payment_id BIGINT NOT NULL UNIQUE,
+    status payment_outbox_status NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+    CONSTRAINT fk_payment_outbox_payment FOREIGN KEY (payment_id) REFERENCES payment(payment_id) ON DELETE CASCADE,
+    CONSTRAINT chk_payment_outbox_attempts CHECK (attempts >= 0)
+);
+
+-- Claim query: WHERE status = 'PENDING' AND next_attempt_at <= now() ORDER BY next_attempt_at
+CREATE INDEX idx_payment_outbox_due ON payment_outbox(next_attempt_at) WHERE status = 'PENDING';
+
+-- transaction_id is the idempotency key sent to the gateway, one payment per key
+DROP INDEX IF EXISTS idx_payment_transaction;
+ALTER TABLE payment ADD CONSTRAINT uk_payment_transaction UNIQUE (transaction_id);
+
+COMMENT ON TABLE payment_outbox IS 'Payments waiting for their gateway call, claimed by the outbox workers';
+COMMENT ON COLUMN payment_outbox.status IS 'Status: PENDING (due at next_attempt_at), DONE (payment settled), DEAD (gave up after max attempts)';
+COMMENT ON COLUMN payment_outbox.next_attempt_at IS 'When the row is next due, pushed forward by the claim lease and by retry backoff';
+COMMENT ON COLUMN payment.transaction_id IS 'Idempotency key sent to the payment gateway, unique per payment';
@@ -0,0 +1,46 @@
+-- Gateway responses move out of payment and donation into side tables.
+-- The responses are only read when someone asks for them, but as TEXT columns they widened every
+-- payment and donation row that listings and scans read. The side tables hold them gzip compressed
+-- as BYTEA, written and decompressed by the application. Rows copied from the old columns here are
+-- kept uncompressed (compressed = false), since PostgreSQL cannot gzip, and are read the same way.
+CREATE TABLE payment_gateway_response (
+    payment_id BIGINT PRIMARY KEY,
+    body BYTEA NOT NULL,
+    compressed BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_payment_gateway_response_payment FOREIGN KEY (payment_id) REFERENCES payment(payment_id) ON DELETE CASCADE
+);
+
+CREATE TABLE donation_gateway_response (
+    donation_id BIGINT PRIMARY KEY,
+    body BYTEA NOT NULL,
+    compressed BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_donation_gateway_response_donation FOREIGN KEY (donation_id) REFERENCES donation(donation_id) ON DELETE CASCADE
+);
+
+-- gzip output does not compress further, so keep PostgreSQL from trying (pglz) when it is TOASTed
+ALTER TABLE payment_gateway_response ALTER COLUMN body SET STORAGE EXTERNAL;
+ALTER TABLE donation_gateway_response ALTER COLUMN body SET STORAGE EXTERNAL;
+
+INSERT INTO payment_gateway_response (payment_id, body, compressed, created_at)
+SELECT payment_id, convert_to(payment_gateway_response, 'UTF8'), FALSE, updated_at
+FROM payment
+WHERE payment_gateway_response IS NOT NULL;
+
+INSERT INTO donation_gateway_response (donation_id, body, compressed, created_at)
+SELECT donation_id, convert_to(payment_gateway_response, 'UTF8'), FALSE, created_at
+FROM donation
+WHERE payment_gateway_response IS NOT NULL;
+
+-- Dropping a column does not rewrite the table: existing rows shrink once they are next updated,
+-- or all at once with VACUUM FULL payment, donation during a maintenance window
+ALTER TABLE payment DROP COLUMN payment_gateway_response;
+ALTER TABLE donation DROP COLUMN payment_gateway_response;
+
+COMMENT ON TABLE payment_gateway_response IS 'Gateway response for a payment, read only on demand';
+COMMENT ON COLUMN payment_gateway_response.body IS 'Response JSON as UTF-8, gzip compressed when compressed is true';
+COMMENT ON COLUMN payment_gateway_response.compressed IS 'False for responses copied from payment.payment_gateway_response by V18';
+COMMENT ON TABLE donation_gateway_response IS 'Gateway response for a donation, read only on demand';
+COMMENT ON COLUMN donation_gateway_response.body IS 'Response JSON as UTF-8, gzip compressed when compressed is true';
+COMMENT ON COLUMN donation_gateway_response.compressed IS 'False for responses copied from donation.payment_gateway_response by V18';
@@ -0,0 +1,134 @@
+package com.isipathana.meditationcenter.cache;
+
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import com.isipathana.meditationcenter.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    private final User alice = User.builder()
+        .userId(1L).email("alice@example.com").name("Alice").role(UserRole.USER).isActive(true).build();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache = new UserCache(userRepository, new UserCacheProperties(100, TTL, NEGATIVE_TTL),
+            new SimpleMeterRegistry(), nanos::get);
+    }
+
+    @Test
+    void userLoadedByIdIsServedFromCacheUnderBothKeys() {
+        when(userRepository.findById(1L)).thenReturn(alice);
+
+        assertSame(alice, userCache.findById(1L));
+        assertSame(alice, userCache.findById(1L));
+        assertSame(alice, userCache.findByEmail("alice@example.com"));
+        assertTrue(userCache.existsByEmail("alice@example.com"));
+
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, never()).findByEmail("alice@example.com");
+        verify(userRepository, never()).existsByEmail("alice@example.com");
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(alice);
+
+        userCache.findByEmail("alice@example.com");
+        advance(TTL.minusSeconds(1));
+        userCache.findByEmail("alice@example.com");
+        verify(userRepository, times(1)).findByEmail("alice@example.com");
+
+        advance(Duration.ofSeconds(2));
+        userCache.findByEmail("alice@example.com");
+        verify(userRepository, times(2)).findByEmail("alice@example.com");
+    }
+
+    @Test
+    void unregisteredEmailIsRememberedForNegativeTtl() {
+        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
+
+        assertFalse(userCache.existsByEmail("new@example.com"));
+        assertFalse(userCache.existsByEmail("new@example.com"));
+        verify(userRepository, times(1)).existsByEmail("new@example.com");
+
+        advance(NEGATIVE_TTL.plusSeconds(1));
+        when(userRepository.existsByEmail("new@example.com")).thenReturn(true);
+        assertTrue(userCache.existsByEmail("new@example.com"));
+        verify(userRepository, times(2)).existsByEmail("new@example.com");
+    }
+
+    @Test
+    void registeredEmailIsNotNegativelyCached() {
+        when(userRepository.existsByEmail("alice@example.com")).thenReturn(true);
+
+        assertTrue(userCache.existsByEmail("alice@example.com"));
+        assertTrue(userCache.existsByEmail("alice@example.com"));
+        verify(userRepository, times(2)).existsByEmail("alice@example.com");
+    }
+
+    @Test
+    void invalidateByEmailDropsNegativeAnswerAfterSignup() {
+        when(userRepository.existsByEmail("alice@example.com")).thenReturn(false);
+        assertFalse(userCache.existsByEmail("alice@example.com"));
+
+        userCache.invalidateByEmail("alice@example.com");
+        when(userRepository.existsByEmail("alice@example.com")).thenReturn(true);
+
+        assertTrue(userCache.existsByEmail("alice@example.com"));
+    }
+
+    @Test
+    void invalidateDropsUserUnderBothKeys() {
+        User renamed = User.builder()
+            .userId(1L).email("alice@example.com").name("Alice B").role(UserRole.USER).isActive(true).build();
+        when(userRepository.findById(1L)).thenReturn(alice, renamed);
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(renamed);
+        userCache.findById(1L);
+
+        userCache.invalidate(renamed);
+
+        assertEquals("Alice B", userCache.findById(1L).name());
+        assertEquals("Alice B", userCache.findByEmail("alice@example.com").name());
+    }
+
+    @Test
+    void invalidateByIdDropsTheEmailEntryToo() {
+        when(userRepository.findById(1L)).thenReturn(alice);
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(null);
+        userCache.findById(1L);
+
+        userCache.invalidateById(1L);
+
+        assertNull(userCache.findByEmail("alice@example.com"));
+        verify(userRepository).findByEmail("alice@example.com");
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
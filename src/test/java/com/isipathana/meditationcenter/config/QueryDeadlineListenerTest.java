@@ -0,0 +1,67 @@
+package com.isipathana.meditationcenter.config;
+
+import org.jooq.ExecuteContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryDeadlineListenerTest {
+
+    private final QueryDeadlineListener listener = new QueryDeadlineListener();
+    private ExecuteContext ctx;
+    private PreparedStatement statement;
+
+    @BeforeEach
+    void setUp() {
+        ctx = mock(ExecuteContext.class);
+        statement = mock(PreparedStatement.class);
+        when(ctx.statement()).thenReturn(statement);
+        when(ctx.sql()).thenReturn("select 1");
+    }
+
+    @Test
+    void statementsOutsideADeadlineKeepTheirTimeout() throws Exception {
+        listener.executeStart(ctx);
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void timeLeftIsRoundedUpToWholeSeconds() throws Exception {
+        QueryDeadline.within(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1_500), () -> {
+            listener.executeStart(ctx);
+            return null;
+        });
+
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void statementPastItsDeadlineIsNotSent() throws Exception {
+        assertThrows(QueryTimeoutException.class, () -> QueryDeadline.within(System.nanoTime() - 1, () -> {
+            listener.executeStart(ctx);
+            return null;
+        }));
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void deadlineEndsWithItsWork() throws Exception {
+        QueryDeadline.within(System.nanoTime() + TimeUnit.SECONDS.toNanos(5), () -> null);
+
+        listener.executeStart(ctx);
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+}
@@ -0,0 +1,146 @@
+package com.isipathana.meditationcenter.config;
+
+import com.isipathana.meditationcenter.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static com.isipathana.meditationcenter.jooq.Tables.USERS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing against one PostgreSQL instance with two databases standing in for primary and replica.
+ * <p>
+ * Nothing replicates between them, so a row written to the primary is never visible on the
+ * "replica": whether a read sees it shows which side served the read. Lag is simulated by
+ * handing the data source a measured lag above the limit. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadWriteRoutingTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private static HikariDataSource primary;
+    private static ReadWriteRoutingDataSource routing;
+    private static DSLContext dslContext;
+    private static UserRepository userRepository;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE replica");
+        }
+        String replicaUrl = postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/replica");
+
+        primary = pool(postgres.getJdbcUrl());
+        HikariDataSource replica = pool(replicaUrl);
+        for (HikariDataSource dataSource : new HikariDataSource[] { primary, replica }) {
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        }
+
+        routing = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(2));
+        dslContext = DSL.using(routing, SQLDialect.POSTGRES)
+            .configuration()
+            .derive(new DefaultExecuteListenerProvider(new WriteTrackingListener()))
+            .dsl();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new UserRepository(dslContext));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ReplicaReadAspect());
+        userRepository = factory.getProxy();
+
+        DSL.using(primary, SQLDialect.POSTGRES)
+            .insertInto(USERS, USERS.EMAIL, USERS.PASSWORD, USERS.NAME)
+            .values("existing@example.com", "secret", "Existing")
+            .execute();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (routing != null) {
+            routing.close();
+        }
+        if (primary != null) {
+            primary.close();
+        }
+    }
+
+    @BeforeEach
+    void replicaCaughtUp() {
+        new ReplicaLagProbe(LoggerFactory.getLogger(ReplicaLagProbe.class), routing).probe();
+        ReadWriteRouting.open(false);
+    }
+
+    @AfterEach
+    void closeRequest() {
+        ReadWriteRouting.close();
+    }
+
+    @Test
+    void readOnlyMethodsReadFromTheReplica() {
+        assertTrue(routing.replicaUsable());
+        assertFalse(userRepository.existsByEmail("existing@example.com"));
+    }
+
+    @Test
+    void readsAfterAWriteInTheSameRequestGoToThePrimary() {
+        dslContext.insertInto(USERS, USERS.EMAIL, USERS.PASSWORD, USERS.NAME)
+            .values("new@example.com", "secret", "New")
+            .execute();
+
+        assertTrue(userRepository.existsByEmail("new@example.com"));
+    }
+
+    @Test
+    void stickyRequestsReadFromThePrimary() {
+        ReadWriteRouting.open(true);
+
+        assertTrue(userRepository.existsByEmail("existing@example.com"));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        routing.updateReplicaLag(Duration.ofSeconds(30));
+
+        assertFalse(routing.replicaUsable());
+        assertTrue(userRepository.existsByEmail("existing@example.com"));
+    }
+
+    @Test
+    void workOutsideARequestUsesThePrimary() {
+        ReadWriteRouting.close();
+
+        assertTrue(userRepository.existsByEmail("existing@example.com"));
+    }
+
+    private static HikariDataSource pool(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
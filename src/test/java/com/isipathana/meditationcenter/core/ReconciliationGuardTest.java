@@ -0,0 +1,43 @@
+package com.isipathana.meditationcenter.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReconciliationGuardTest {
+
+    private final ReconciliationGuard guard = new ReconciliationGuard();
+
+    @Test
+    void quietWhenNothingRanSinceTheVersionWasRead() {
+        long version = guard.version();
+
+        assertTrue(guard.quiet(version));
+        assertFalse(guard.busy());
+    }
+
+    @Test
+    void notQuietWhileAChangeIsRunning() {
+        guard.begin();
+        long version = guard.version();
+
+        assertTrue(guard.busy());
+        assertFalse(guard.quiet(version));
+
+        guard.end();
+        assertFalse(guard.busy());
+    }
+
+    @Test
+    void notQuietAfterAChangeThatStartedAndEndedSinceTheVersionWasRead() {
+        long version = guard.version();
+
+        guard.begin();
+        guard.end();
+
+        assertFalse(guard.busy());
+        assertFalse(guard.quiet(version));
+        assertTrue(guard.quiet(guard.version()));
+    }
+}
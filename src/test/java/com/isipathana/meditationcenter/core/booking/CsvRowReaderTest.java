@@ -0,0 +1,83 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRowReaderTest {
+
+    @Test
+    void headerIsNormalisedAndRowsAreKeyedByIt() {
+        CsvRowReader reader = reader(" User_ID ,Amount\n7, 12.50 \n");
+
+        assertEquals(List.of("user_id", "amount"), reader.header());
+        assertEquals(Map.of("user_id", "7", "amount", "12.50"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void leadingByteOrderMarkIsIgnored() {
+        CsvRowReader reader = reader("\uFEFFuser_id,amount\n7,12.50\n");
+
+        assertEquals(List.of("user_id", "amount"), reader.header());
+        assertEquals("7", reader.next().get("user_id"));
+    }
+
+    @Test
+    void byteOrderMarkBeforeQuotedHeaderIsIgnored() {
+        CsvRowReader reader = reader("\uFEFF\"user_id\",amount\n7,12.50\n");
+
+        assertEquals(List.of("user_id", "amount"), reader.header());
+    }
+
+    @Test
+    void quotedFieldsKeepCommasAndDoubledQuotes() {
+        CsvRowReader reader = reader("user_id,special_requirements\n7,\"Quiet room, \"\"please\"\"\"\n");
+
+        assertEquals("Quiet room, \"please\"", reader.next().get("special_requirements"));
+    }
+
+    @Test
+    void quotedFieldMaySpanLinesAndLineNumbersFollowTheRowStart() {
+        CsvRowReader reader = reader("user_id,special_requirements\n7,\"first\nsecond\"\n8,none\n");
+
+        assertEquals("first\nsecond", reader.next().get("special_requirements"));
+        assertEquals(2, reader.lineNumber());
+        assertEquals("8", reader.next().get("user_id"));
+        assertEquals(4, reader.lineNumber());
+    }
+
+    @Test
+    void blankLinesAreSkippedAndMissingValuesAreNull() {
+        CsvRowReader reader = reader("user_id,amount\n\n7\n");
+
+        Map<String, String> row = reader.next();
+        assertEquals("7", row.get("user_id"));
+        assertNull(row.get("amount"));
+        assertEquals(3, reader.lineNumber());
+    }
+
+    @Test
+    void unterminatedQuoteIsRejected() {
+        CsvRowReader reader = reader("user_id,special_requirements\n7,\"never closed\n");
+
+        assertThrows(ValidationException.class, reader::next);
+    }
+
+    @Test
+    void emptyFileIsRejected() {
+        assertThrows(ValidationException.class, () -> reader(""));
+    }
+
+    private static CsvRowReader reader(String csv) {
+        return new CsvRowReader(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,165 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.exception.ValidationException;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.program.MeditationProgram;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.MeditationProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImportBookingsUseCaseTest {
+
+    private static final String HEADER =
+        "meditation_program_id,pricing_id,user_id,booking_type,booking_date,participant_count,amount\n";
+    private static final int CAPACITY = 10;
+
+    private final LocalDate bookingDate = LocalDate.now().plusDays(7);
+    private BookingRepository bookingRepository;
+    private SeatInventory seatInventory;
+    private ImportBookingsUseCase importBookings;
+
+    @BeforeEach
+    void setUp() {
+        MeditationProgramRepository programRepository = mock(MeditationProgramRepository.class);
+        bookingRepository = mock(BookingRepository.class);
+        when(programRepository.findById(1L)).thenReturn(
+            MeditationProgram.builder().meditationProgramId(1L).maxSeats(CAPACITY).isActive(true).build());
+        when(bookingRepository.countBookedSeats(anyLong(), any())).thenReturn(0);
+        when(bookingRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<Booking>>getArgument(0).size());
+
+        seatInventory = new SeatInventory(
+            LoggerFactory.getLogger(SeatInventory.class), programRepository, bookingRepository);
+        importBookings = new ImportBookingsUseCase(LoggerFactory.getLogger(ImportBookingsUseCase.class),
+            seatInventory, bookingRepository, new BookingImportProperties(500, 5000, 1000));
+    }
+
+    @Test
+    void invalidRowsAreRejectedWithLineAndColumn() {
+        ImportBookingsResult result = importBookings.handle(request(
+            row(1, "DAILY", bookingDate, 2, "25.00")
+                + row(1, "HOURLY", bookingDate, 1, "25.00")
+                + row(1, "DAILY", bookingDate, 0, "25.00")
+                + row(1, "DAILY", bookingDate, 1, "-1")
+                + "1,1,1,DAILY,not-a-date,1,25.00\n", null));
+
+        assertEquals(5, result.rowsRead());
+        assertEquals(1, result.rowsImported());
+        assertEquals(4, result.rowsRejected());
+        assertEquals(List.of(3L, 4L, 5L, 6L), result.errors().stream().map(ImportBookingsResult.RowError::line).toList());
+        assertEquals(List.of("booking_type", "participant_count", "amount", "booking_date"),
+            result.errors().stream().map(ImportBookingsResult.RowError::field).toList());
+    }
+
+    @Test
+    void unreadableRestOfFileEndsTheImportWithAResult() {
+        ImportBookingsResult result = importBookings.handle(request(
+            row(1, "DAILY", bookingDate, 1, "25.00")
+                + row(1, "DAILY", bookingDate, 1, "25.00")
+                + "1,1,1,DAILY," + bookingDate + ",1,\"25.00\n"
+                + row(1, "DAILY", bookingDate, 1, "25.00"), 1));
+
+        assertEquals(3, result.rowsRead());
+        assertEquals(2, result.rowsImported());
+        assertEquals(1, result.rowsRejected());
+        assertEquals(4L, result.errors().getFirst().line());
+        assertTrue(result.errors().getFirst().message().contains("Unterminated quoted field"));
+        assertEquals(CAPACITY - 2, seatInventory.remainingSeats(1L, bookingDate));
+    }
+
+    @Test
+    void unreadableRestOfFileStillWritesThePendingChunk() {
+        ImportBookingsResult result = importBookings.handle(request(
+            row(1, "DAILY", bookingDate, 3, "25.00")
+                + "1,1,1,DAILY," + bookingDate + ",1,\"25.00\n", null));
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(1, result.chunks().size());
+        assertTrue(result.chunks().getFirst().committed());
+        assertEquals(CAPACITY - 3, seatInventory.remainingSeats(1L, bookingDate));
+    }
+
+    @Test
+    void missingColumnsFailTheWholeImport() {
+        ValidationException e = assertThrows(ValidationException.class, () -> importBookings.handle(
+            new ImportBookingsRequest(new StringReader("user_id,amount\n1,25.00\n"), null)));
+
+        assertTrue(e.getMessage().contains("booking_date"));
+    }
+
+    @Test
+    void rowsBeyondCapacityAreRejectedAndKeepNoSeats() {
+        ImportBookingsResult result = importBookings.handle(request(
+            row(1, "DAILY", bookingDate, 6, "25.00")
+                + row(1, "DAILY", bookingDate, 6, "25.00")
+                + row(2, "DAILY", bookingDate, 1, "25.00"), null));
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(List.of("meditation_program_id", "meditation_program_id"),
+            result.errors().stream().map(ImportBookingsResult.RowError::field).toList());
+        assertEquals(CAPACITY - 6, seatInventory.remainingSeats(1L, bookingDate));
+    }
+
+    @Test
+    void failedChunkIsReportedAndHandsItsSeatsBack() {
+        when(bookingRepository.insertAll(anyList()))
+            .thenAnswer(invocation -> invocation.<List<Booking>>getArgument(0).size())
+            .thenThrow(new DataIntegrityViolationException("fk_booking_user"));
+
+        ImportBookingsResult result = importBookings.handle(request(
+            row(1, "DAILY", bookingDate, 2, "25.00")
+                + row(1, "DAILY", bookingDate, 3, "25.00"), 1));
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(1, result.rowsRejected());
+        assertTrue(result.chunks().getFirst().committed());
+        assertFalse(result.chunks().get(1).committed());
+        assertNull(result.errors().getFirst().field());
+        assertEquals(CAPACITY - 2, seatInventory.remainingSeats(1L, bookingDate));
+    }
+
+    @Test
+    void unexpectedWriteFailureStillHandsSeatsBack() {
+        when(bookingRepository.insertAll(anyList())).thenThrow(new IllegalStateException("driver bug"));
+
+        assertThrows(IllegalStateException.class, () -> importBookings.handle(request(
+            row(1, "DAILY", bookingDate, 4, "25.00"), null)));
+
+        assertEquals(CAPACITY, seatInventory.remainingSeats(1L, bookingDate));
+    }
+
+    @Test
+    void pastBookingsTakeNoSeats() {
+        ImportBookingsResult result = importBookings.handle(request(
+            row(1, "DAILY", LocalDate.now().minusDays(30), CAPACITY + 5, "25.00"), null));
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(CAPACITY, seatInventory.remainingSeats(1L, bookingDate));
+    }
+
+    private static ImportBookingsRequest request(String rows, Integer chunkSize) {
+        return new ImportBookingsRequest(new StringReader(HEADER + rows), chunkSize);
+    }
+
+    private static String row(long programId, String type, LocalDate date, int participants, String amount) {
+        return String.join(",", String.valueOf(programId), "1", "1", type, date.toString(),
+            String.valueOf(participants), amount) + "\n";
+    }
+}
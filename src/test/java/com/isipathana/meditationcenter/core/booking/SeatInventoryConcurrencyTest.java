@@ -0,0 +1,118 @@
+package com.isipathana.meditationcenter.core.booking;
+
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.records.program.MeditationProgram;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.MeditationProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatInventoryConcurrencyTest {
+
+    private static final long PROGRAM_ID = 1L;
+    private static final int CAPACITY = 100;
+    private static final int ATTEMPTS = 5_000;
+
+    private final LocalDate bookingDate = LocalDate.now().plusDays(7);
+    private SeatInventory seatInventory;
+
+    @BeforeEach
+    void setUp() {
+        MeditationProgramRepository programRepository = mock(MeditationProgramRepository.class);
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        when(programRepository.findById(anyLong())).thenReturn(
+            MeditationProgram.builder().meditationProgramId(PROGRAM_ID).maxSeats(CAPACITY).isActive(true).build());
+        when(bookingRepository.countBookedSeats(anyLong(), any())).thenReturn(0);
+
+        seatInventory = new SeatInventory(
+            LoggerFactory.getLogger(SeatInventory.class), programRepository, bookingRepository);
+    }
+
+    @Test
+    void neverOverbooksUnderConcurrentSingleSeatReservations() throws Exception {
+        AtomicInteger persistedSeats = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        runConcurrently(() -> {
+            try {
+                seatInventory.reserve(PROGRAM_ID, bookingDate, 1, persistedSeats::incrementAndGet);
+            } catch (ConflictException e) {
+                conflicts.incrementAndGet();
+            }
+        });
+
+        assertEquals(CAPACITY, persistedSeats.get());
+        assertEquals(ATTEMPTS - CAPACITY, conflicts.get());
+        assertEquals(0, seatInventory.remainingSeats(PROGRAM_ID, bookingDate));
+    }
+
+    @Test
+    void failedWritesAndReleasesReturnSeats() throws Exception {
+        AtomicInteger persistedSeats = new AtomicInteger();
+
+        runConcurrently(() -> {
+            int seats = ThreadLocalRandom.current().nextInt(1, 4);
+            try {
+                seatInventory.reserve(PROGRAM_ID, bookingDate, seats, () -> {
+                    if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                        throw new IllegalStateException("simulated insert failure");
+                    }
+                    return persistedSeats.addAndGet(seats);
+                });
+                if (ThreadLocalRandom.current().nextInt(5) == 0) {
+                    seatInventory.release(PROGRAM_ID, bookingDate, seats, () -> persistedSeats.addAndGet(-seats));
+                }
+            } catch (ConflictException | IllegalStateException e) {
+                // sold out or simulated failure, both expected
+            }
+        });
+
+        int remaining = seatInventory.remainingSeats(PROGRAM_ID, bookingDate);
+        assertEquals(CAPACITY, persistedSeats.get() + remaining);
+    }
+
+    @Test
+    void rejectsReservationLargerThanRemainingSeats() {
+        seatInventory.reserve(PROGRAM_ID, bookingDate, CAPACITY - 1, () -> null);
+
+        assertThrows(ConflictException.class,
+            () -> seatInventory.reserve(PROGRAM_ID, bookingDate, 2, () -> null));
+        assertEquals(1, seatInventory.remainingSeats(PROGRAM_ID, bookingDate));
+    }
+
+    private void runConcurrently(Runnable attempt) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(ATTEMPTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    attempt.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.isipathana.meditationcenter.core.dashboard;
+
+import com.isipathana.meditationcenter.core.donation.CampaignTotals;
+import com.isipathana.meditationcenter.core.schedule.ScheduleResolver;
+import com.isipathana.meditationcenter.records.booking.BookingPage;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import com.isipathana.meditationcenter.records.user.User;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.DonationCampaignRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import com.isipathana.meditationcenter.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * End-to-end latency of the admin dashboard with concurrent versus sequential section loads.
+ * <p>
+ * Each repository is stubbed with a fixed query latency. The sequential run uses the same use case with
+ * a caller-runs executor, so both runs exercise identical code apart from where sections execute.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class AdminDashboardLatencyBenchmark {
+
+    private static final int ITERATIONS = 20;
+    private static final User ADMIN = User.builder().userId(1L).role(UserRole.ADMIN).build();
+
+    private BookingRepository bookingRepository;
+    private PaymentRepository paymentRepository;
+    private EventRepository eventRepository;
+    private DonationCampaignRepository donationCampaignRepository;
+    private ScheduleResolver scheduleResolver;
+    private CampaignTotals campaignTotals;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+        eventRepository = mock(EventRepository.class);
+        donationCampaignRepository = mock(DonationCampaignRepository.class);
+        scheduleResolver = mock(ScheduleResolver.class);
+        campaignTotals = mock(CampaignTotals.class);
+
+        when(bookingRepository.findByDateRange(any(), any(), any(), any()))
+            .thenAnswer(after(40, new BookingPage(List.of(), null)));
+        when(paymentRepository.findByStatus(any(), anyInt())).thenAnswer(after(30, List.of()));
+        when(eventRepository.findActiveFrom(any(), anyInt())).thenAnswer(after(25, List.of()));
+        when(donationCampaignRepository.findActive()).thenAnswer(after(20, List.of()));
+        when(scheduleResolver.resolve(any(LocalDate.class)))
+            .thenAnswer(after(5, new DailySchedule(LocalDate.now(), List.of())));
+    }
+
+    @Test
+    void concurrentFanOutIsCloseToSlowestSection() {
+        DashboardProperties properties = new DashboardProperties(8, 64, Duration.ofSeconds(2), 100);
+        long sequential;
+        long concurrent;
+        try (ExecutorService executor = Executors.newFixedThreadPool(properties.threads())) {
+            sequential = medianMillis(useCase(properties, Runnable::run));
+            concurrent = medianMillis(useCase(properties, executor));
+        }
+
+        System.out.printf("Admin dashboard median latency: sequential %d ms, concurrent %d ms%n", sequential, concurrent);
+        assertTrue(sequential >= 115, "Sequential should take about the sum of all sections");
+        assertTrue(concurrent < 80, "Concurrent should take about the slowest section");
+    }
+
+    @Test
+    void slowSectionIsFlaggedWhileOthersAreReturned() {
+        when(paymentRepository.findByStatus(any(), anyInt())).thenAnswer(after(500, List.of()));
+        DashboardProperties properties = new DashboardProperties(8, 64, Duration.ofMillis(100), 100);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(properties.threads())) {
+            AdminDashboard dashboard = useCase(properties, executor).handle(ADMIN, null);
+
+            assertFalse(dashboard.complete());
+            assertEquals(DashboardSection.Status.TIMED_OUT, dashboard.pendingPayments().status());
+            assertTrue(dashboard.todaysBookings().isOk());
+            assertTrue(dashboard.schedule().isOk());
+            assertTrue(dashboard.elapsedMillis() < 300);
+        }
+    }
+
+    private AdminDashboardUseCase useCase(DashboardProperties properties, Executor executor) {
+        return new AdminDashboardUseCase(
+            LoggerFactory.getLogger(AdminDashboardUseCase.class),
+            bookingRepository, paymentRepository, eventRepository, donationCampaignRepository,
+            campaignTotals, scheduleResolver, properties, executor);
+    }
+
+    private static long medianMillis(AdminDashboardUseCase useCase) {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            useCase.handle(ADMIN, null);
+            samples[i] = (System.nanoTime() - started) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    private static Answer<Object> after(long millis, Object result) {
+        return invocation -> {
+            Thread.sleep(millis);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.isipathana.meditationcenter.core.donation;
+
+import com.isipathana.meditationcenter.records.donation.DonationCampaign;
+import com.isipathana.meditationcenter.repository.DonationCampaignRepository;
+import com.isipathana.meditationcenter.repository.DonationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CampaignTotalsTest {
+
+    private static final long CAMPAIGN_ID = 1L;
+
+    private DonationCampaignRepository campaignRepository;
+    private DonationRepository donationRepository;
+    private CampaignTotals campaignTotals;
+
+    @BeforeEach
+    void setUp() {
+        campaignRepository = mock(DonationCampaignRepository.class);
+        donationRepository = mock(DonationRepository.class);
+        when(campaignRepository.findById(CAMPAIGN_ID)).thenReturn(campaign("Roof repair", "1000.00", "100.00"));
+        when(campaignRepository.findActive()).thenReturn(List.of(campaign("Roof repair", "1000.00", "100.00")));
+
+        campaignTotals = new CampaignTotals(
+            LoggerFactory.getLogger(CampaignTotals.class), campaignRepository, donationRepository);
+    }
+
+    @Test
+    void progressIncludesRecordedDonationsBeforeTheyAreFolded() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("50.25"), () -> "completed");
+
+        CampaignProgress progress = campaignTotals.progress(CAMPAIGN_ID);
+
+        assertEquals(new BigDecimal("150.25"), progress.raisedAmount());
+        assertEquals(15.025, progress.percentOfTarget(), 1e-9);
+        assertEquals("Roof repair", progress.campaignName());
+    }
+
+    @Test
+    void failedOrGeneralDonationsAreNotCounted() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("20.00"), () -> null);
+        campaignTotals.record(null, new BigDecimal("30.00"), () -> "completed");
+
+        assertEquals(new BigDecimal("100.00"), campaignTotals.progress(CAMPAIGN_ID).raisedAmount());
+    }
+
+    @Test
+    void openEndedCampaignHasNoPercent() {
+        when(campaignRepository.findById(CAMPAIGN_ID)).thenReturn(campaign("Dana", null, "0.00"));
+
+        assertNull(campaignTotals.progress(CAMPAIGN_ID).percentOfTarget());
+    }
+
+    @Test
+    void foldWritesEachAmountOnce() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("50.25"), () -> "completed");
+
+        campaignTotals.fold();
+        campaignTotals.fold();
+
+        verify(campaignRepository, times(1)).addToCurrentAmount(Map.of(CAMPAIGN_ID, new BigDecimal("50.25")));
+        assertEquals(new BigDecimal("150.25"), campaignTotals.progress(CAMPAIGN_ID).raisedAmount());
+    }
+
+    @Test
+    void failedFoldIsRetriedWithTheSameAmount() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("10.00"), () -> "completed");
+        doThrow(new DataAccessResourceFailureException("down"))
+            .doNothing()
+            .when(campaignRepository).addToCurrentAmount(any());
+
+        campaignTotals.fold();
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("5.00"), () -> "completed");
+        campaignTotals.fold();
+
+        verify(campaignRepository).addToCurrentAmount(Map.of(CAMPAIGN_ID, new BigDecimal("10.00")));
+        verify(campaignRepository).addToCurrentAmount(Map.of(CAMPAIGN_ID, new BigDecimal("15.00")));
+    }
+
+    @Test
+    void foldRefreshesCampaignDetails() {
+        campaignTotals.progress(CAMPAIGN_ID);
+        when(campaignRepository.findActive()).thenReturn(List.of(campaign("New roof", "2000.00", "100.00")));
+
+        campaignTotals.fold();
+
+        CampaignProgress progress = campaignTotals.progress(CAMPAIGN_ID);
+        assertEquals("New roof", progress.campaignName());
+        assertEquals(new BigDecimal("2000.00"), progress.targetAmount());
+        assertEquals(5.0, progress.percentOfTarget(), 1e-9);
+    }
+
+    @Test
+    void foldDropsDeactivatedCampaigns() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("50.00"), () -> "completed");
+        when(campaignRepository.findActive()).thenReturn(List.of());
+
+        campaignTotals.fold();
+        when(campaignRepository.findById(CAMPAIGN_ID)).thenReturn(campaign("Roof repair", "1000.00", "150.00"));
+
+        assertEquals(new BigDecimal("150.00"), campaignTotals.progress(CAMPAIGN_ID).raisedAmount());
+        verify(campaignRepository, times(2)).findById(CAMPAIGN_ID);
+    }
+
+    @Test
+    void deactivatedCampaignIsKeptUntilItsAmountsAreFolded() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("50.00"), () -> "completed");
+        when(campaignRepository.findActive()).thenReturn(List.of());
+        doThrow(new DataAccessResourceFailureException("down")).when(campaignRepository).addToCurrentAmount(any());
+
+        campaignTotals.fold();
+
+        assertEquals(new BigDecimal("150.00"), campaignTotals.progress(CAMPAIGN_ID).raisedAmount());
+        verify(campaignRepository, times(1)).findById(CAMPAIGN_ID);
+    }
+
+    @Test
+    void recomputeOverwritesDriftedTotals() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("50.00"), () -> "completed");
+        when(donationRepository.sumCompletedByCampaign()).thenReturn(Map.of(CAMPAIGN_ID, new BigDecimal("500.00")));
+        when(campaignRepository.setCurrentAmount(CAMPAIGN_ID, new BigDecimal("500.00"))).thenReturn(true);
+
+        assertEquals(1, campaignTotals.recompute());
+
+        verify(campaignRepository).addToCurrentAmount(Map.of(CAMPAIGN_ID, new BigDecimal("50.00")));
+        assertEquals(new BigDecimal("500.00"), campaignTotals.progress(CAMPAIGN_ID).raisedAmount());
+    }
+
+    @Test
+    void recomputeLeavesTotalsWithUnfoldedAmounts() {
+        campaignTotals.record(CAMPAIGN_ID, new BigDecimal("50.00"), () -> "completed");
+        doThrow(new DataAccessResourceFailureException("down")).when(campaignRepository).addToCurrentAmount(any());
+        when(donationRepository.sumCompletedByCampaign()).thenReturn(Map.of(CAMPAIGN_ID, new BigDecimal("500.00")));
+
+        assertEquals(0, campaignTotals.recompute());
+
+        verify(campaignRepository, never()).setCurrentAmount(any(), any());
+        assertEquals(new BigDecimal("150.00"), campaignTotals.progress(CAMPAIGN_ID).raisedAmount());
+    }
+
+    private static DonationCampaign campaign(String name, String target, String current) {
+        return DonationCampaign.builder()
+            .campaignId(CAMPAIGN_ID)
+            .campaignName(name)
+            .targetAmount(target == null ? null : new BigDecimal(target))
+            .currentAmount(new BigDecimal(current))
+            .isActive(true)
+            .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.exception.ServiceUnavailableException;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CheckInQueueTest {
+
+    private EventRegistrationRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<Map.Entry<Long, Set<Long>>> writes = new CopyOnWriteArrayList<>();
+    private CheckInQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EventRegistrationRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void scansArrivingTogetherAreCoalescedIntoOneUpdatePerEvent() {
+        succeedWrites();
+        start(properties(100, 100, Duration.ofMillis(500), 3));
+
+        for (long registrationId = 1; registrationId <= 5; registrationId++) {
+            queue.submit(1L, registrationId);
+        }
+        queue.submit(2L, 10L);
+        queue.submit(2L, 11L);
+
+        await(() -> written() == 7);
+        assertEquals(List.of(Map.entry(1L, Set.of(1L, 2L, 3L, 4L, 5L)), Map.entry(2L, Set.of(10L, 11L))), writes);
+    }
+
+    @Test
+    void repeatScanGetsTheOriginalAcknowledgement() {
+        succeedWrites();
+        start(properties(100, 100, Duration.ofMillis(10), 3));
+
+        CheckInAck first = queue.submit(1L, 1L);
+        CheckInAck repeat = queue.submit(1L, 1L);
+
+        assertEquals(CheckInAck.Status.ACCEPTED, first.status());
+        assertEquals(CheckInAck.Status.DUPLICATE, repeat.status());
+        assertEquals(first.acceptedAt(), repeat.acceptedAt());
+        await(() -> written() == 1);
+        assertEquals(1, writes.size());
+    }
+
+    @Test
+    void scansMatchingNoRegistrationAreCountedAndForgotten() {
+        when(repository.markAttended(anyLong(), anyCollection(), any())).thenAnswer(invocation -> {
+            Set<Long> ids = recordWrite(invocation.getArgument(0), invocation.getArgument(1));
+            return ids.stream().filter(id -> id != 999L).collect(Collectors.toSet());
+        });
+        start(properties(100, 100, Duration.ofMillis(200), 3));
+
+        queue.submit(1L, 1L);
+        queue.submit(1L, 999L);
+
+        await(() -> meterRegistry.counter("checkin.unmatched").count() == 1);
+        assertEquals(1, meterRegistry.counter("checkin.written").count());
+        assertEquals(CheckInAck.Status.DUPLICATE, queue.submit(1L, 1L).status());
+        assertEquals(CheckInAck.Status.ACCEPTED, queue.submit(1L, 999L).status());
+    }
+
+    @Test
+    void fullQueueRejectsWith503AndForgetsTheScan() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.markAttended(anyLong(), anyCollection(), any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return recordWrite(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        start(properties(2, 1, Duration.ofMillis(10), 3));
+
+        queue.submit(1L, 1L);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        queue.submit(1L, 2L);
+        queue.submit(1L, 3L);
+
+        assertThrows(ServiceUnavailableException.class, () -> queue.submit(1L, 4L));
+        assertEquals(1, meterRegistry.counter("checkin.rejected").count());
+
+        release.countDown();
+        await(() -> queue.pending() == 0);
+        assertEquals(CheckInAck.Status.ACCEPTED, queue.submit(1L, 4L).status());
+    }
+
+    @Test
+    void failedWriteIsRetriedUntilItSucceeds() {
+        AtomicInteger calls = new AtomicInteger();
+        when(repository.markAttended(anyLong(), anyCollection(), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() <= 2) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            return recordWrite(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        start(properties(100, 100, Duration.ofMillis(10), 5));
+
+        queue.submit(1L, 1L);
+
+        await(() -> written() == 1);
+        assertEquals(3, calls.get());
+        assertEquals(0, queue.pending());
+        assertEquals(0, meterRegistry.counter("checkin.failed").count());
+        assertEquals(CheckInAck.Status.DUPLICATE, queue.submit(1L, 1L).status());
+    }
+
+    @Test
+    void retriesCountAgainstQueueCapacity() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        when(repository.markAttended(anyLong(), anyCollection(), any())).thenAnswer(invocation -> {
+            failed.countDown();
+            throw new DataAccessResourceFailureException("connection refused");
+        });
+        start(new CheckInProperties(1, 100, Duration.ofMillis(10), Duration.ofHours(1), 1000,
+            Duration.ofSeconds(5), Duration.ofMinutes(1), Duration.ofMinutes(1), 5));
+
+        queue.submit(1L, 1L);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        await(() -> queue.pending() == 1);
+
+        assertThrows(ServiceUnavailableException.class, () -> queue.submit(1L, 2L));
+    }
+
+    @Test
+    void exhaustedRetriesForgetTheScanWhateverTheFailure() {
+        when(repository.markAttended(anyLong(), anyCollection(), any()))
+            .thenThrow(new IllegalStateException("unexpected"));
+        start(properties(100, 100, Duration.ofMillis(10), 2));
+
+        queue.submit(1L, 1L);
+
+        await(() -> meterRegistry.counter("checkin.failed").count() == 1);
+        assertEquals(0, queue.pending());
+        assertEquals(CheckInAck.Status.ACCEPTED, queue.submit(1L, 1L).status());
+    }
+
+    @Test
+    void heldWritesGetALastAttemptOnShutdown() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        when(repository.markAttended(anyLong(), anyCollection(), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                failed.countDown();
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            return recordWrite(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        start(new CheckInProperties(100, 100, Duration.ofMillis(10), Duration.ofHours(1), 1000,
+            Duration.ofSeconds(5), Duration.ofMinutes(1), Duration.ofMinutes(1), 5));
+
+        queue.submit(1L, 1L);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        queue.stop();
+
+        assertEquals(1, written());
+        assertEquals(0, queue.pending());
+    }
+
+    private void succeedWrites() {
+        when(repository.markAttended(anyLong(), anyCollection(), any()))
+            .thenAnswer(invocation -> recordWrite(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    private Set<Long> recordWrite(Long eventId, Collection<Long> registrationIds) {
+        writes.add(Map.entry(eventId, Set.copyOf(registrationIds)));
+        return Set.copyOf(registrationIds);
+    }
+
+    private int written() {
+        return writes.stream().mapToInt(write -> write.getValue().size()).sum();
+    }
+
+    private void start(CheckInProperties properties) {
+        queue = new CheckInQueue(LoggerFactory.getLogger(CheckInQueue.class), repository, properties, meterRegistry);
+        queue.start();
+    }
+
+    private static CheckInProperties properties(int capacity, int batchSize, Duration flushInterval, int maxAttempts) {
+        return new CheckInProperties(capacity, batchSize, flushInterval, Duration.ofHours(1), 1000,
+            Duration.ofSeconds(5), Duration.ofMillis(5), Duration.ofMillis(20), maxAttempts);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+}
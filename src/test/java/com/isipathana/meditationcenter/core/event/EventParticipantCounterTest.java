@@ -0,0 +1,192 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jooq.ExceptionTranslatorExecuteListener;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.isipathana.meditationcenter.jooq.Tables.EVENTS;
+import static com.isipathana.meditationcenter.jooq.Tables.EVENT_REGISTRATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The participant counter against PostgreSQL: concurrent registrations with a running flusher,
+ * a delta rejected by {@code chk_current_participants_valid}, and reconciliation of past events.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EventParticipantCounterTest {
+
+    private static final int USERS = 300;
+    private static final long HOT_EVENT = 1L;
+    private static final long OPEN_EVENT = 2L;
+    private static final long SMALL_EVENT = 3L;
+    private static final long PAST_EVENT = 4L;
+    private static final int HOT_EVENT_CAPACITY = 100;
+    private static final int SMALL_EVENT_CAPACITY = 5;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private static HikariDataSource dataSource;
+    private static DSLContext dslContext;
+    private static EventRepository eventRepository;
+    private static EventRegistrationRepository eventRegistrationRepository;
+
+    private EventParticipantCounter counter;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(20);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        // Translate SQL errors the way the application does, so constraint violations surface as Spring exceptions
+        dslContext = DSL.using(dataSource, SQLDialect.POSTGRES).configuration()
+            .derive(new DefaultExecuteListenerProvider(ExceptionTranslatorExecuteListener.DEFAULT))
+            .dsl();
+        dslContext.execute("""
+            INSERT INTO users (email, password, name)
+            SELECT 'user' || n || '@example.com', 'secret', 'User ' || n FROM generate_series(1, %d) AS n;
+            INSERT INTO events (name, event_date, start_time, end_time, max_participants) VALUES
+                ('Full moon sitting', CURRENT_DATE + 7, TIME '18:00', TIME '20:00', %d),
+                ('Open day', CURRENT_DATE + 7, TIME '09:00', TIME '17:00', NULL),
+                ('Teacher interview', CURRENT_DATE + 7, TIME '10:00', TIME '11:00', %d),
+                ('Last week''s retreat', CURRENT_DATE - 7, TIME '09:00', TIME '17:00', NULL)
+            """.formatted(USERS, HOT_EVENT_CAPACITY, SMALL_EVENT_CAPACITY));
+
+        eventRepository = new EventRepository(dslContext);
+        eventRegistrationRepository = new EventRegistrationRepository(dslContext);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @BeforeEach
+    void resetCounts() {
+        dslContext.truncate(EVENT_REGISTRATION).execute();
+        dslContext.update(EVENTS).set(EVENTS.CURRENT_PARTICIPANTS, 0).execute();
+        counter = new EventParticipantCounter(
+            LoggerFactory.getLogger(EventParticipantCounter.class), eventRepository, eventRegistrationRepository);
+    }
+
+    @Test
+    void concurrentRegistrationsNeverOverfillAndStoredCountMatches() throws Exception {
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+
+        try (var flusher = Executors.newSingleThreadScheduledExecutor()) {
+            flusher.scheduleWithFixedDelay(counter::flush, 10, 10, TimeUnit.MILLISECONDS);
+            List<Future<?>> registrations = new ArrayList<>();
+            try (ExecutorService clients = Executors.newFixedThreadPool(32)) {
+                for (long userId = 1; userId <= USERS; userId++) {
+                    long user = userId;
+                    registrations.add(clients.submit(() -> {
+                        try {
+                            register(HOT_EVENT, user);
+                            registered.incrementAndGet();
+                        } catch (ConflictException e) {
+                            full.incrementAndGet();
+                        }
+                    }));
+                }
+                for (Future<?> registration : registrations) {
+                    registration.get();
+                }
+            }
+            flusher.shutdown();
+        }
+        counter.flush();
+
+        assertEquals(HOT_EVENT_CAPACITY, registered.get());
+        assertEquals(USERS - HOT_EVENT_CAPACITY, full.get());
+        assertEquals(HOT_EVENT_CAPACITY, storedParticipants(HOT_EVENT));
+        assertEquals(HOT_EVENT_CAPACITY, eventRegistrationRepository.countActive(HOT_EVENT));
+    }
+
+    @Test
+    void rejectedDeltaIsRecountedWithoutHoldingBackOtherEvents() {
+        // Stored count drifted to the limit although nobody is registered
+        dslContext.update(EVENTS).set(EVENTS.CURRENT_PARTICIPANTS, SMALL_EVENT_CAPACITY)
+            .where(EVENTS.EVENT_ID.eq(SMALL_EVENT)).execute();
+
+        register(SMALL_EVENT, 1L);
+        register(OPEN_EVENT, 1L);
+        counter.flush();
+
+        assertEquals(1, storedParticipants(OPEN_EVENT));
+        assertEquals(1, storedParticipants(SMALL_EVENT));
+        assertEquals(1, counter.participants(SMALL_EVENT));
+
+        register(SMALL_EVENT, 2L);
+        counter.flush();
+        assertEquals(2, storedParticipants(SMALL_EVENT));
+    }
+
+    @Test
+    void reconcileWritesPendingDeltasOfEventsItDrops() {
+        register(PAST_EVENT, 1L);
+
+        counter.reconcile();
+
+        assertEquals(1, storedParticipants(PAST_EVENT));
+    }
+
+    @Test
+    void reconcileRepairsDriftOnceDeltasAreWritten() {
+        register(OPEN_EVENT, 1L);
+        register(OPEN_EVENT, 2L);
+        dslContext.update(EVENTS).set(EVENTS.CURRENT_PARTICIPANTS, 40)
+            .where(EVENTS.EVENT_ID.eq(OPEN_EVENT)).execute();
+
+        counter.reconcile();
+
+        assertEquals(2, storedParticipants(OPEN_EVENT));
+        assertEquals(2, counter.participants(OPEN_EVENT));
+    }
+
+    private void register(long eventId, long userId) {
+        counter.register(eventId, () -> eventRegistrationRepository.insert(EventRegistration.builder()
+            .eventId(eventId)
+            .userId(userId)
+            .status(EventRegistrationStatus.REGISTERED)
+            .build()));
+    }
+
+    private static int storedParticipants(long eventId) {
+        return dslContext.select(EVENTS.CURRENT_PARTICIPANTS).from(EVENTS)
+            .where(EVENTS.EVENT_ID.eq(eventId))
+            .fetchOne(EVENTS.CURRENT_PARTICIPANTS);
+    }
+}
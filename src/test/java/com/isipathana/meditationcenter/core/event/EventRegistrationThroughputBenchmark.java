@@ -0,0 +1,208 @@
+package com.isipathana.meditationcenter.core.event;
+
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jooq.ExceptionTranslatorExecuteListener;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.isipathana.meditationcenter.jooq.Tables.EVENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Registration throughput on a single popular event, before and after moving the participant
+ * count off the events row, against PostgreSQL.
+ * <p>
+ * "Before" registers the way an in-transaction {@code current_participants + 1} does: lock the
+ * events row, check the limit, insert the registration and bump the count in one transaction.
+ * "After" goes through {@link EventParticipantCounter} with the real repositories: the
+ * registration insert does not touch {@code events}, and a flusher writes the deltas every 50 ms.
+ * Each path has its own event and users. Run with {@code ./gradlew benchmarkTest}; skipped when
+ * Docker is not available.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class EventRegistrationThroughputBenchmark {
+
+    private static final long ROW_LOCKED_EVENT = 1L;
+    private static final long COUNTER_EVENT = 2L;
+    private static final int MAX_PARTICIPANTS = 1_500;
+    private static final int ATTEMPTS = 2_000;
+    private static final int CLIENTS = 200;
+    private static final int POOL_SIZE = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private static HikariDataSource dataSource;
+    private static DSLContext dslContext;
+    private static EventRepository eventRepository;
+    private static EventRegistrationRepository eventRegistrationRepository;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        dslContext = DSL.using(dataSource, SQLDialect.POSTGRES).configuration()
+            .derive(new DefaultExecuteListenerProvider(ExceptionTranslatorExecuteListener.DEFAULT))
+            .dsl();
+        dslContext.execute("""
+            INSERT INTO users (email, password, name)
+            SELECT 'user' || n || '@example.com', 'secret', 'User ' || n FROM generate_series(1, %d) AS n;
+            INSERT INTO events (name, event_date, start_time, end_time, max_participants) VALUES
+                ('Row-locked sitting', CURRENT_DATE + 7, TIME '18:00', TIME '20:00', %d),
+                ('Counted sitting', CURRENT_DATE + 7, TIME '18:00', TIME '20:00', %d)
+            """.formatted(ATTEMPTS, MAX_PARTICIPANTS, MAX_PARTICIPANTS));
+
+        eventRepository = new EventRepository(dslContext);
+        eventRegistrationRepository = new EventRegistrationRepository(dslContext);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void counterOutperformsRowLockedRegistration() throws Exception {
+        double before = rowLocked();
+        double after = withCounter();
+
+        System.out.printf("Hot event registration: row-locked %.0f/s, in-memory counter %.0f/s (%.1fx)%n",
+            before, after, after / before);
+        assertTrue(after > before, "Expected the counter path to register faster than the row-locked path");
+    }
+
+    private double rowLocked() throws Exception {
+        AtomicInteger registered = new AtomicInteger();
+
+        double perSecond = run(userId -> dslContext.transaction(configuration -> {
+            DSLContext tx = DSL.using(configuration);
+            int current = tx.select(EVENTS.CURRENT_PARTICIPANTS).from(EVENTS)
+                .where(EVENTS.EVENT_ID.eq(ROW_LOCKED_EVENT))
+                .forUpdate()
+                .fetchOne(EVENTS.CURRENT_PARTICIPANTS);
+            if (current < MAX_PARTICIPANTS) {
+                new EventRegistrationRepository(tx).insert(registration(ROW_LOCKED_EVENT, userId));
+                tx.update(EVENTS)
+                    .set(EVENTS.CURRENT_PARTICIPANTS, EVENTS.CURRENT_PARTICIPANTS.plus(1))
+                    .where(EVENTS.EVENT_ID.eq(ROW_LOCKED_EVENT))
+                    .execute();
+                registered.incrementAndGet();
+            }
+        }));
+
+        assertEquals(MAX_PARTICIPANTS, registered.get());
+        assertEquals(MAX_PARTICIPANTS, storedParticipants(ROW_LOCKED_EVENT));
+        return perSecond;
+    }
+
+    private double withCounter() throws Exception {
+        AtomicInteger registered = new AtomicInteger();
+        EventParticipantCounter counter = new EventParticipantCounter(
+            LoggerFactory.getLogger(EventParticipantCounter.class), eventRepository, eventRegistrationRepository);
+
+        double perSecond;
+        try (var flusher = Executors.newSingleThreadScheduledExecutor()) {
+            flusher.scheduleWithFixedDelay(counter::flush, 50, 50, TimeUnit.MILLISECONDS);
+            perSecond = run(userId -> {
+                try {
+                    counter.register(COUNTER_EVENT,
+                        () -> eventRegistrationRepository.insert(registration(COUNTER_EVENT, userId)));
+                    registered.incrementAndGet();
+                } catch (ConflictException e) {
+                    // event full
+                }
+            });
+            flusher.shutdown();
+        }
+        counter.flush();
+
+        assertEquals(MAX_PARTICIPANTS, registered.get());
+        assertEquals(MAX_PARTICIPANTS, storedParticipants(COUNTER_EVENT));
+        assertEquals(MAX_PARTICIPANTS, eventRegistrationRepository.countActive(COUNTER_EVENT));
+        return perSecond;
+    }
+
+    /**
+     * Runs {@link #ATTEMPTS} registrations, one per user, from {@link #CLIENTS} concurrent clients;
+     * returns attempts per second.
+     */
+    private double run(Registration attempt) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong nextUser = new AtomicLong(1);
+        List<Future<?>> clients = new ArrayList<>(CLIENTS);
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    long userId;
+                    while ((userId = nextUser.getAndIncrement()) <= ATTEMPTS) {
+                        attempt.register(userId);
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            elapsed = System.nanoTime() - started;
+        }
+        return ATTEMPTS * 1_000_000_000.0 / elapsed;
+    }
+
+    private static EventRegistration registration(long eventId, long userId) {
+        return EventRegistration.builder()
+            .eventId(eventId)
+            .userId(userId)
+            .status(EventRegistrationStatus.REGISTERED)
+            .build();
+    }
+
+    private static int storedParticipants(long eventId) {
+        return dslContext.select(EVENTS.CURRENT_PARTICIPANTS).from(EVENTS)
+            .where(EVENTS.EVENT_ID.eq(eventId))
+            .fetchOne(EVENTS.CURRENT_PARTICIPANTS);
+    }
+
+    @FunctionalInterface
+    private interface Registration {
+        void register(long userId);
+    }
+}
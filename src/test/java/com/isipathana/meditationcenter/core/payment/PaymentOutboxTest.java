@@ -0,0 +1,250 @@
+package com.isipathana.meditationcenter.core.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isipathana.meditationcenter.config.RepositoryProperties;
+import com.isipathana.meditationcenter.exception.ConflictException;
+import com.isipathana.meditationcenter.records.payment.Payment;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxEntry;
+import com.isipathana.meditationcenter.records.payment.PaymentOutboxStatus;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.PaymentOutboxRepository;
+import com.isipathana.meditationcenter.repository.PaymentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jooq.ExceptionTranslatorExecuteListener;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT;
+import static com.isipathana.meditationcenter.jooq.Tables.PAYMENT_OUTBOX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The outbox against PostgreSQL: concurrent workers claiming with SKIP LOCKED, settlement
+ * (including the compressed gateway response, read back lazily), retries ending in DEAD, stale
+ * claims, and checkout idempotency through {@link RequestPaymentUseCase}.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentOutboxTest {
+
+    private static final int BOOKINGS = 200;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private static HikariDataSource dataSource;
+    private static DSLContext dslContext;
+    private static PaymentOutboxRepository paymentOutboxRepository;
+    private static PaymentRepository paymentRepository;
+    private static RequestPaymentUseCase requestPayment;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(10);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        // Translate SQL errors the way the application does, so unique violations surface as DuplicateKeyException
+        dslContext = DSL.using(dataSource, SQLDialect.POSTGRES).configuration()
+            .derive(new DefaultExecuteListenerProvider(ExceptionTranslatorExecuteListener.DEFAULT))
+            .dsl();
+        dslContext.execute("""
+            INSERT INTO users (email, password, name) VALUES ('payer@example.com', 'secret', 'Payer');
+            INSERT INTO meditation_program (name, max_seats) VALUES ('Morning sitting', 1000);
+            INSERT INTO pricing (booking_type, price, effective_from_date) VALUES ('DAILY'::booking_type, 25.00, DATE '2020-01-01');
+            INSERT INTO booking (meditation_program_id, pricing_id, user_id, booking_type, booking_date, amount)
+            SELECT 1, 1, 1, 'DAILY'::booking_type, DATE '2030-01-01' + n, 25.00 FROM generate_series(1, %d) AS n
+            """.formatted(BOOKINGS));
+
+        paymentOutboxRepository = new PaymentOutboxRepository(dslContext);
+        paymentRepository = new PaymentRepository(dslContext);
+        requestPayment = new RequestPaymentUseCase(
+            new BookingRepository(dslContext, new RepositoryProperties(500, 100, 1_000)),
+            paymentRepository, paymentOutboxRepository);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @BeforeEach
+    void clearPayments() {
+        dslContext.truncate(PAYMENT).cascade().execute();
+    }
+
+    @Test
+    void concurrentWorkersSettleEveryPaymentExactlyOnce() throws Exception {
+        for (long bookingId = 1; bookingId <= BOOKINGS; bookingId++) {
+            enqueue(bookingId);
+        }
+        Map<String, AtomicInteger> charges = new ConcurrentHashMap<>();
+        StubPaymentGateway stub = new StubPaymentGateway(new StubGatewayProperties(Duration.ofMillis(2), 0, 0), new ObjectMapper());
+        PaymentOutboxWorker worker = worker(charge -> {
+            charges.computeIfAbsent(charge.idempotencyKey(), key -> new AtomicInteger()).incrementAndGet();
+            return stub.charge(charge);
+        }, 8);
+
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                workers.add(executor.submit(() -> {
+                    List<PaymentOutboxEntry> claimed;
+                    while (!(claimed = paymentOutboxRepository.claimDue(5, Duration.ofMinutes(1))).isEmpty()) {
+                        claimed.forEach(worker::process);
+                    }
+                }));
+            }
+            for (Future<?> future : workers) {
+                future.get();
+            }
+        }
+
+        assertEquals(BOOKINGS, charges.size());
+        assertTrue(charges.values().stream().allMatch(count -> count.get() == 1), "a payment was charged twice");
+        assertEquals(BOOKINGS, dslContext.fetchCount(PAYMENT, PAYMENT.STATUS.eq(PaymentStatus.COMPLETED)));
+        assertEquals(BOOKINGS, dslContext.fetchCount(PAYMENT_OUTBOX, PAYMENT_OUTBOX.STATUS.eq(PaymentOutboxStatus.DONE)));
+        assertEquals(0, paymentOutboxRepository.backlog().pending());
+
+        Payment settled = paymentRepository.findByBookingId(1L);
+        assertFalse(settled.paymentGatewayResponse().isLoaded());
+        assertNotNull(settled.paymentGatewayResponse().get());
+    }
+
+    @Test
+    void failingCallsAreRetriedUntilTheRowIsDead() {
+        Payment payment = enqueue(1L);
+        PaymentOutboxWorker worker = worker(charge -> {
+            throw new PaymentGatewayException("Gateway unavailable");
+        }, 2);
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            List<PaymentOutboxEntry> claimed = paymentOutboxRepository.claimDue(5, Duration.ofMinutes(1));
+            assertEquals(1, claimed.size());
+            assertEquals(attempt, claimed.getFirst().attempts());
+            worker.process(claimed.getFirst());
+        }
+
+        assertTrue(paymentOutboxRepository.claimDue(5, Duration.ofMinutes(1)).isEmpty());
+        assertEquals(PaymentOutboxStatus.DEAD, dslContext.fetchValue(PAYMENT_OUTBOX.STATUS));
+        assertNotNull(dslContext.fetchValue(PAYMENT_OUTBOX.LAST_ERROR));
+        assertEquals(PaymentStatus.PENDING, paymentRepository.findById(payment.paymentId()).status());
+    }
+
+    @Test
+    void staleClaimCannotSettleRescheduleOrKillTheRow() {
+        Payment payment = enqueue(1L);
+        // A zero lease lets a second worker claim the row again straight away
+        PaymentOutboxEntry stale = paymentOutboxRepository.claimDue(5, Duration.ZERO).getFirst();
+        PaymentOutboxEntry current = paymentOutboxRepository.claimDue(5, Duration.ofMinutes(1)).getFirst();
+
+        assertFalse(paymentOutboxRepository.scheduleRetry(stale, Duration.ZERO, "late failure"));
+        assertFalse(paymentOutboxRepository.markDead(stale, "late failure"));
+        assertNull(paymentOutboxRepository.settle(stale, PaymentStatus.COMPLETED, "{}"));
+        assertEquals(PaymentOutboxStatus.PENDING, dslContext.fetchValue(PAYMENT_OUTBOX.STATUS));
+        assertEquals(PaymentStatus.PENDING, paymentRepository.findById(payment.paymentId()).status());
+
+        paymentOutboxRepository.settle(current, PaymentStatus.COMPLETED, "{}");
+        assertFalse(paymentOutboxRepository.scheduleRetry(current, Duration.ZERO, "after settle"));
+        assertFalse(paymentOutboxRepository.markDead(current, "after settle"));
+        assertEquals(PaymentOutboxStatus.DONE, dslContext.fetchValue(PAYMENT_OUTBOX.STATUS));
+    }
+
+    @Test
+    void deadRowIsNotSettledByALateAnswer() {
+        Payment payment = enqueue(1L);
+        PaymentOutboxEntry claimed = paymentOutboxRepository.claimDue(5, Duration.ofMinutes(1)).getFirst();
+        assertTrue(paymentOutboxRepository.markDead(claimed, "gave up"));
+
+        assertNull(paymentOutboxRepository.settle(claimed, PaymentStatus.COMPLETED, "{}"));
+        assertEquals(PaymentOutboxStatus.DEAD, dslContext.fetchValue(PAYMENT_OUTBOX.STATUS));
+        assertEquals(PaymentStatus.PENDING, paymentRepository.findById(payment.paymentId()).status());
+    }
+
+    @Test
+    void checkoutReplayedWithTheSameKeyReturnsTheFirstPayment() {
+        Payment first = requestPayment.handle(new RequestPaymentRequest(1L, PaymentMethod.CARD, "checkout-key"));
+        Payment replay = requestPayment.handle(new RequestPaymentRequest(1L, PaymentMethod.CARD, "checkout-key"));
+
+        assertEquals(first.paymentId(), replay.paymentId());
+        assertEquals(1, dslContext.fetchCount(PAYMENT));
+        assertEquals(1, dslContext.fetchCount(PAYMENT_OUTBOX));
+    }
+
+    @Test
+    void keyReusedForAnotherBookingIsAConflict() {
+        requestPayment.handle(new RequestPaymentRequest(1L, PaymentMethod.CARD, "checkout-key"));
+
+        assertThrows(ConflictException.class,
+            () -> requestPayment.handle(new RequestPaymentRequest(2L, PaymentMethod.CARD, "checkout-key")));
+        assertEquals(1, dslContext.fetchCount(PAYMENT));
+    }
+
+    @Test
+    void secondCheckoutForTheSameBookingIsAConflict() {
+        requestPayment.handle(new RequestPaymentRequest(1L, PaymentMethod.CARD, null));
+
+        assertThrows(ConflictException.class,
+            () -> requestPayment.handle(new RequestPaymentRequest(1L, PaymentMethod.ONLINE, null)));
+        assertThrows(ConflictException.class,
+            () -> requestPayment.handle(new RequestPaymentRequest(1L, PaymentMethod.CARD, "another-key")));
+        assertEquals(1, dslContext.fetchCount(PAYMENT));
+        assertEquals(1, dslContext.fetchCount(PAYMENT_OUTBOX));
+    }
+
+    private static Payment enqueue(Long bookingId) {
+        return paymentOutboxRepository.enqueue(Payment.builder()
+            .bookingId(bookingId)
+            .amount(new BigDecimal("25.00"))
+            .paymentMethod(PaymentMethod.CARD)
+            .transactionId("checkout-" + bookingId)
+            .build());
+    }
+
+    /**
+     * A worker whose threads are never started; the test drives {@code process} itself.
+     * Backoff is zero so a failed row is due again immediately.
+     */
+    private static PaymentOutboxWorker worker(PaymentGateway gateway, int maxAttempts) {
+        PaymentOutboxProperties properties = new PaymentOutboxProperties(
+            true, 1, 5, Duration.ofMillis(100), Duration.ofMinutes(1), maxAttempts,
+            Duration.ZERO, Duration.ZERO, Duration.ofSeconds(5), Duration.ofSeconds(10));
+        return new PaymentOutboxWorker(LoggerFactory.getLogger(PaymentOutboxWorker.class),
+            paymentOutboxRepository, paymentRepository, gateway, properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,97 @@
+package com.isipathana.meditationcenter.core.pricing;
+
+import com.isipathana.meditationcenter.exception.UnprocessableEntityException;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.pricing.Pricing;
+import com.isipathana.meditationcenter.repository.PricingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PricingIndexTest {
+
+    private PricingRepository pricingRepository;
+    private PricingIndex pricingIndex;
+
+    @BeforeEach
+    void setUp() {
+        pricingRepository = mock(PricingRepository.class);
+        when(pricingRepository.findActive()).thenReturn(List.of(
+            // Base daily price from 2025 with no end
+            pricing(1L, BookingType.DAILY, "10.00", "2025-01-01", null),
+            // Holiday price overlapping the base price
+            pricing(2L, BookingType.DAILY, "15.00", "2025-12-20", "2026-01-05"),
+            // New base price from 2026, starting inside the holiday range
+            pricing(3L, BookingType.DAILY, "12.00", "2026-01-01", null),
+            pricing(4L, BookingType.RETREAT, "100.00", "2025-06-01", "2025-06-30")));
+
+        pricingIndex = new PricingIndex(LoggerFactory.getLogger(PricingIndex.class), pricingRepository);
+        pricingIndex.refresh();
+    }
+
+    @Test
+    void laterEffectiveFromDateWinsWhereRowsOverlap() {
+        assertEquals(1L, priceId(BookingType.DAILY, "2025-03-15"));
+        assertEquals(1L, priceId(BookingType.DAILY, "2025-12-19"));
+        assertEquals(2L, priceId(BookingType.DAILY, "2025-12-20"));
+        assertEquals(2L, priceId(BookingType.DAILY, "2025-12-31"));
+        assertEquals(3L, priceId(BookingType.DAILY, "2026-01-01"));
+        assertEquals(3L, priceId(BookingType.DAILY, "2030-07-01"));
+    }
+
+    @Test
+    void datesOutsideEveryRangeHaveNoPrice() {
+        assertTrue(pricingIndex.find(BookingType.DAILY, LocalDate.parse("2024-12-31")).isEmpty());
+        assertTrue(pricingIndex.find(BookingType.RETREAT, LocalDate.parse("2025-07-01")).isEmpty());
+        assertTrue(pricingIndex.find(BookingType.EVENT, LocalDate.parse("2025-06-15")).isEmpty());
+
+        UnprocessableEntityException e = assertThrows(UnprocessableEntityException.class,
+            () -> pricingIndex.priceFor(BookingType.EVENT, LocalDate.parse("2025-06-15")));
+        assertEquals("PRICING_NOT_FOUND", e.getErrorCode());
+    }
+
+    @Test
+    void quotePricesEachDateAndSumsTheTotal() {
+        PriceQuote quote = pricingIndex.quote(BookingType.DAILY,
+            List.of(LocalDate.parse("2025-12-19"), LocalDate.parse("2025-12-20"), LocalDate.parse("2026-01-06")), 2);
+
+        assertEquals(List.of(1L, 2L, 3L), quote.lines().stream().map(PriceQuote.Line::pricingId).toList());
+        assertEquals(new BigDecimal("74.00"), quote.total());
+    }
+
+    @Test
+    void refreshSwapsInNewRows() {
+        when(pricingRepository.findActive()).thenReturn(List.of(
+            pricing(5L, BookingType.DAILY, "20.00", "2025-01-01", null)));
+
+        pricingIndex.pricingChanged();
+
+        assertEquals(5L, priceId(BookingType.DAILY, "2025-12-25"));
+        assertTrue(pricingIndex.find(BookingType.RETREAT, LocalDate.parse("2025-06-15")).isEmpty());
+    }
+
+    private Long priceId(BookingType bookingType, String date) {
+        return pricingIndex.priceFor(bookingType, LocalDate.parse(date)).pricingId();
+    }
+
+    private static Pricing pricing(Long id, BookingType bookingType, String price, String from, String to) {
+        return Pricing.builder()
+            .pricingId(id)
+            .bookingType(bookingType)
+            .price(new BigDecimal(price))
+            .effectiveFromDate(LocalDate.parse(from))
+            .effectiveToDate(to == null ? null : LocalDate.parse(to))
+            .isActive(true)
+            .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.isipathana.meditationcenter.core.schedule;
+
+import com.isipathana.meditationcenter.records.schedule.Activity;
+import com.isipathana.meditationcenter.records.schedule.DailySchedule;
+import com.isipathana.meditationcenter.records.schedule.ScheduleOverride;
+import com.isipathana.meditationcenter.records.schedule.ScheduleTemplate;
+import com.isipathana.meditationcenter.records.schedule.ScheduledActivity;
+import com.isipathana.meditationcenter.records.schedule.TemplateScheduleActivity;
+import com.isipathana.meditationcenter.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScheduleResolverTest {
+
+    private static final int WINDOW_DAYS = 30;
+
+    // Database numbering: 0 = Sunday ... 6 = Saturday
+    private static final int MONDAY = 1;
+
+    private final LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private final LocalDate tuesday = monday.plusDays(1);
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleResolver scheduleResolver;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findActiveTemplates()).thenReturn(List.of(
+            template(1L, true),
+            template(2L, false)));
+        when(scheduleRepository.findActiveTemplateActivities()).thenReturn(List.of(
+            // Every day at 06:00
+            templateActivity(10L, 1L, null, "06:00", "07:00"),
+            // Mondays only, at 08:00 and at 05:00
+            templateActivity(11L, 1L, MONDAY, "08:00", "09:00"),
+            templateActivity(12L, 1L, MONDAY, "05:00", "05:30"),
+            // Inactive template
+            templateActivity(13L, 2L, null, "12:00", "13:00")));
+        when(scheduleRepository.findAllActivities()).thenReturn(List.of(
+            Activity.builder().activityId(100L).title("Sitting").location("Main hall").build()));
+        when(scheduleRepository.findOverridesBetween(any(), any())).thenReturn(List.of());
+
+        scheduleResolver = new ScheduleResolver(LoggerFactory.getLogger(ScheduleResolver.class),
+            scheduleRepository, new ScheduleProperties(WINDOW_DAYS));
+        scheduleResolver.rebuild();
+    }
+
+    @Test
+    void dayOfWeekUsesDatabaseNumbering() {
+        LocalDate sunday = monday.minusDays(1);
+
+        assertEquals(0, ScheduleSources.dayOfWeek(sunday));
+        assertEquals(MONDAY, ScheduleSources.dayOfWeek(monday));
+        assertEquals(6, ScheduleSources.dayOfWeek(sunday.plusDays(6)));
+    }
+
+    @Test
+    void allDaysRowsApplyEveryDayAndDayRowsOnlyOnTheirDay() {
+        assertEquals(List.of(12L, 10L, 11L), ids(scheduleResolver.resolve(monday)));
+        assertEquals(List.of(10L), ids(scheduleResolver.resolve(tuesday)));
+    }
+
+    @Test
+    void cancelledOverrideKeepsTheTimesAndMarksTheActivity() {
+        when(scheduleRepository.findOverridesBetween(monday, monday)).thenReturn(List.of(
+            ScheduleOverride.builder().templateScheduleActivityId(11L).overrideDate(monday)
+                .newStartTime(LocalTime.of(10, 0)).isCancelled(true).reason("Poya day").build()));
+
+        scheduleResolver.overridesChanged(monday, monday);
+
+        ScheduledActivity cancelled = activity(scheduleResolver.resolve(monday), 11L);
+        assertTrue(cancelled.cancelled());
+        assertEquals(LocalTime.of(8, 0), cancelled.startTime());
+        assertEquals("Poya day", cancelled.overrideReason());
+        assertFalse(activity(scheduleResolver.resolve(monday), 10L).cancelled());
+    }
+
+    @Test
+    void retimedOverrideMovesTheActivityAndKeepsTheOrder() {
+        when(scheduleRepository.findOverridesBetween(monday, monday)).thenReturn(List.of(
+            ScheduleOverride.builder().templateScheduleActivityId(12L).overrideDate(monday)
+                .newStartTime(LocalTime.of(18, 0)).newEndTime(LocalTime.of(19, 0)).isCancelled(false).build()));
+
+        scheduleResolver.overridesChanged(monday, monday);
+
+        DailySchedule schedule = scheduleResolver.resolve(monday);
+        assertEquals(List.of(10L, 11L, 12L), ids(schedule));
+        assertEquals(LocalTime.of(19, 0), activity(schedule, 12L).endTime());
+        assertFalse(activity(schedule, 12L).cancelled());
+    }
+
+    @Test
+    void updateSwapsInChangedDaysAndReusesTheRest() {
+        ScheduleTimeline before = ScheduleTimeline.build(monday, 7, new ScheduleSources(
+            scheduleRepository.findActiveTemplates(),
+            scheduleRepository.findActiveTemplateActivities(),
+            scheduleRepository.findAllActivities(),
+            List.of()));
+
+        ScheduleTimeline after = before.update(before.sources().withOverrides(monday, monday, List.of(
+            ScheduleOverride.builder().templateScheduleActivityId(10L).overrideDate(monday).isCancelled(true).build())));
+
+        assertNotSame(before.get(monday), after.get(monday));
+        assertTrue(activity(after.get(monday), 10L).cancelled());
+        assertFalse(activity(before.get(monday), 10L).cancelled());
+        assertSame(before.get(tuesday), after.get(tuesday));
+        assertNull(after.get(monday.plusDays(7)));
+    }
+
+    @Test
+    void templateChangesAreResolvedForEveryAffectedDay() {
+        when(scheduleRepository.findActiveTemplateActivities()).thenReturn(List.of(
+            templateActivity(10L, 1L, null, "06:30", "07:30")));
+
+        scheduleResolver.templatesChanged();
+
+        assertEquals(List.of(10L), ids(scheduleResolver.resolve(monday)));
+        assertEquals(LocalTime.of(6, 30), activity(scheduleResolver.resolve(tuesday), 10L).startTime());
+    }
+
+    @Test
+    void datesOutsideTheWindowAreResolvedWithTheirOverrides() {
+        LocalDate later = monday.plusWeeks(WINDOW_DAYS);
+        when(scheduleRepository.findOverridesBetween(later, later)).thenReturn(List.of(
+            ScheduleOverride.builder().templateScheduleActivityId(11L).overrideDate(later).isCancelled(true).build()));
+
+        DailySchedule schedule = scheduleResolver.resolve(later);
+
+        assertEquals(List.of(12L, 10L, 11L), ids(schedule));
+        assertTrue(activity(schedule, 11L).cancelled());
+    }
+
+    private static List<Long> ids(DailySchedule schedule) {
+        return schedule.activities().stream().map(ScheduledActivity::templateScheduleActivityId).toList();
+    }
+
+    private static ScheduledActivity activity(DailySchedule schedule, Long templateScheduleActivityId) {
+        return schedule.activities().stream()
+            .filter(activity -> activity.templateScheduleActivityId().equals(templateScheduleActivityId))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static ScheduleTemplate template(Long templateId, boolean active) {
+        return ScheduleTemplate.builder().templateId(templateId).name("Template " + templateId).isActive(active).build();
+    }
+
+    private static TemplateScheduleActivity templateActivity(
+            Long id, Long templateId, Integer dayOfWeek, String startTime, String endTime) {
+        return TemplateScheduleActivity.builder()
+            .id(id)
+            .templateId(templateId)
+            .activityId(100L)
+            .dayOfWeek(dayOfWeek)
+            .startTime(LocalTime.parse(startTime))
+            .endTime(LocalTime.parse(endTime))
+            .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.isipathana.meditationcenter.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isipathana.meditationcenter.exception.response.factory.ConstantErrorBodies;
+import com.isipathana.meditationcenter.exception.response.factory.DefaultErrorResponseFactory;
+import com.isipathana.meditationcenter.exception.response.factory.ErrorResponseFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ErrorPipelineTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ErrorResponseFactory factory = new DefaultErrorResponseFactory();
+
+    @Test
+    void constantBodiesMatchWhatTheFactoryWouldSerialize() throws Exception {
+        ConstantErrorBodies bodies = new ConstantErrorBodies(mapper, factory);
+
+        for (Exception e : new Exception[] {
+            new AuthenticationException("Invalid token"),
+            new ForbiddenException("Admins only"),
+            new ResourceNotFoundException("Booking", 42L),
+            new IllegalStateException("Unexpected")
+        }) {
+            assertArrayEquals(mapper.writeValueAsBytes(factory.createErrorResponse(e)), bodies.find(e));
+        }
+        assertNull(bodies.find(new ValidationException("email", "Must not be blank")));
+        assertNull(bodies.find(new ConflictException("Program is fully booked")));
+    }
+
+    @Test
+    void clientErrorsDoNotCaptureAStackTrace() {
+        assertEquals(0, new ResourceNotFoundException("Booking", 42L).getStackTrace().length);
+        assertEquals(0, new AuthenticationException("Invalid token").getStackTrace().length);
+    }
+
+    @Test
+    void samplerReportsHowManyErrorsItSkipped() {
+        ErrorLogSampler sampler = new ErrorLogSampler(new ErrorLoggingProperties(Duration.ofHours(1), 2));
+
+        assertEquals(0, sampler.admit("AuthenticationException"));
+        assertEquals(0, sampler.admit("AuthenticationException"));
+        assertEquals(-1, sampler.admit("AuthenticationException"));
+        assertEquals(-1, sampler.admit("AuthenticationException"));
+        assertEquals(0, sampler.admit("ResourceNotFoundException"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.isipathana.meditationcenter.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isipathana.meditationcenter.exception.response.factory.ConstantErrorBodies;
+import com.isipathana.meditationcenter.exception.response.factory.DefaultErrorResponseFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UnmappedRouteFilterTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UnmappedRouteFilter filter = new UnmappedRouteFilter(
+        LoggerFactory.getLogger(UnmappedRouteFilter.class),
+        new UnmappedRouteProperties(true, List.of("/api/", "/actuator", "/error", "/login", "/logout"),
+            List.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"), 2),
+        new ConstantErrorBodies(mapper, new DefaultErrorResponseFactory()),
+        new ErrorLogSampler(new ErrorLoggingProperties(Duration.ofMinutes(1), 20)),
+        registry);
+
+    @Test
+    void pathsOutsideServedPrefixesAreNotFoundWithoutDispatch() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send("GET", "/wp-admin/setup.php", chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(404, response.getStatus());
+        assertEquals("{\"message\":\"Not Found\"}", response.getContentAsString());
+        assertEquals(1, registry.get("http.unmapped.rejected").tags("status", "404", "prefix", "/wp-admin").counter().count());
+    }
+
+    @Test
+    void unsupportedMethodsAreRejectedWithAllowHeader() throws Exception {
+        MockHttpServletResponse response = send("PROPFIND", "/api/schedule/2025-01-01", new MockFilterChain());
+
+        assertEquals(405, response.getStatus());
+        assertEquals("{\"message\":\"Method Not Allowed\"}", response.getContentAsString());
+        assertNotNull(response.getHeader("Allow"));
+    }
+
+    @Test
+    void servedPathsReachTheChain() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        send("GET", "/api/schedule/2025-01-01", chain);
+
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void formLoginPagesReachTheChain() throws Exception {
+        MockFilterChain login = new MockFilterChain();
+        MockFilterChain logout = new MockFilterChain();
+        send("GET", "/login", login);
+        send("POST", "/logout", logout);
+
+        assertNotNull(login.getRequest());
+        assertNotNull(logout.getRequest());
+    }
+
+    @Test
+    void prefixWithoutTrailingSlashMatchesWholeSegmentsOnly() throws Exception {
+        MockFilterChain health = new MockFilterChain();
+        send("GET", "/actuator/health", health);
+        MockHttpServletResponse response = send("GET", "/login.php", new MockFilterChain());
+
+        assertNotNull(health.getRequest());
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    void untrackedPrefixesShareOneCounter() throws Exception {
+        send("GET", "/.env", new MockFilterChain());
+        send("GET", "/.git/config", new MockFilterChain());
+        send("GET", "/phpmyadmin", new MockFilterChain());
+        send("GET", "/cgi-bin/test", new MockFilterChain());
+
+        assertEquals(2, registry.get("http.unmapped.rejected").tags("prefix", "other").counter().count());
+    }
+
+    private MockHttpServletResponse send(String method, String uri, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, chain);
+        return response;
+    }
+}
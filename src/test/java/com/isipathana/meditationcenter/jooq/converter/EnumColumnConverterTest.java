@@ -0,0 +1,87 @@
+package com.isipathana.meditationcenter.jooq.converter;
+
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import com.isipathana.meditationcenter.records.payment.PaymentMethod;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.jooq.EnumType;
+import org.jooq.exception.DataTypeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnumColumnConverterTest {
+
+    private enum Wide { A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z, AA, BB, CC }
+
+    // Shaped like a jOOQ-generated PostgreSQL enum, with one label the application does not know
+    private enum DatabaseBookingStatus implements EnumType {
+        PENDING, CONFIRMED, CANCELLED, COMPLETED, ARCHIVED;
+
+        @Override
+        public String getLiteral() {
+            return name();
+        }
+
+        @Override
+        public String getName() {
+            return "booking_status";
+        }
+    }
+
+    @Test
+    void roundTripsEveryMappedEnum() {
+        List.of(BookingStatus.class, BookingType.class, EventRegistrationStatus.class,
+                PaymentMethod.class, PaymentStatus.class, UserRole.class, Wide.class)
+            .forEach(EnumColumnConverterTest::assertRoundTrip);
+    }
+
+    @Test
+    void passesNullThrough() {
+        EnumColumnConverter<String, BookingStatus> converter = new EnumColumnConverter<>(String.class, BookingStatus.class);
+
+        assertNull(converter.from(null));
+        assertNull(converter.to(null));
+    }
+
+    @Test
+    void rejectsUnknownValuesWithTheEnumAndValueNamed() {
+        EnumColumnConverter<String, BookingStatus> converter = new EnumColumnConverter<>(String.class, BookingStatus.class);
+
+        for (String value : List.of("pending", "PENDING ", "", "REFUNDED")) {
+            DataTypeException exception = assertThrows(DataTypeException.class, () -> converter.from(value));
+            assertTrue(exception.getMessage().contains("BookingStatus"), exception.getMessage());
+            assertTrue(exception.getMessage().contains("'" + value + "'"), exception.getMessage());
+        }
+    }
+
+    @Test
+    void mapsDatabaseEnumTypesByLiteral() {
+        EnumColumnConverter<DatabaseBookingStatus, BookingStatus> converter =
+            new EnumColumnConverter<>(DatabaseBookingStatus.class, BookingStatus.class);
+
+        for (BookingStatus status : BookingStatus.values()) {
+            DatabaseBookingStatus databaseStatus = converter.to(status);
+            assertEquals(status.name(), databaseStatus.getLiteral());
+            assertSame(status, converter.from(databaseStatus));
+        }
+        DataTypeException exception = assertThrows(DataTypeException.class, () -> converter.from(DatabaseBookingStatus.ARCHIVED));
+        assertTrue(exception.getMessage().contains("'ARCHIVED'"), exception.getMessage());
+    }
+
+    private static <E extends Enum<E>> void assertRoundTrip(Class<E> type) {
+        EnumColumnConverter<String, E> converter = new EnumColumnConverter<>(String.class, type);
+        for (E constant : type.getEnumConstants()) {
+            assertSame(constant, converter.from(new String(constant.name())));
+            assertEquals(constant.name(), converter.to(constant));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.isipathana.meditationcenter.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * HTTP load harness for the error path: scanner-style probes that end in a 404 or 405.
+ * <p>
+ * Each scenario is sent by many concurrent clients and reported with throughput and p50/p99/max
+ * latency, plus the number of responses with an unexpected status. Compare the early filter with
+ * the full dispatch to {@code /error} by running against each setting:
+ * <pre>
+ * ./gradlew bootRun
+ * ./gradlew benchmarkTest --tests '*ErrorPathLoadTest' -Dloadtest.label=filter
+ *
+ * ./gradlew bootRun --args='--meditation.unmapped-routes.enabled=false'
+ * ./gradlew benchmarkTest --tests '*ErrorPathLoadTest' -Dloadtest.label=dispatch
+ * </pre>
+ * System properties: {@code loadtest.base-url} (default {@code http://localhost:8080}),
+ * {@code loadtest.clients} (200) and {@code loadtest.requests} (20000 per scenario).
+ * Skipped when nothing is listening at the base URL.
+ */
+@Tag("benchmark")
+class ErrorPathLoadTest {
+
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private final String label = System.getProperty("loadtest.label", "unlabelled");
+    private final int clients = Integer.getInteger("loadtest.clients", 200);
+    private final int requests = Integer.getInteger("loadtest.requests", 20_000);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private record Scenario(String name, String method, String path, int expectedStatus) {
+    }
+
+    /**
+     * Without the filter, unauthenticated probes are answered by the security chain with a 401, which
+     * is part of what the filter saves; the expected status is the one the filter gives.
+     */
+    private final List<Scenario> scenarios = List.of(
+        new Scenario("wordpress probe", "GET", "/wp-login.php", 404),
+        new Scenario("dotfile probe", "GET", "/.env", 404),
+        new Scenario("nested probe", "POST", "/cgi-bin/luci/admin/status", 404),
+        new Scenario("unsupported method", "PROPFIND", "/api/schedule/2025-01-01", 405)
+    );
+
+    @Test
+    void measureErrorPathUnderConcurrentLoad() throws Exception {
+        assumeTrue(reachable(), "No application listening at " + baseUrl);
+
+        for (Scenario scenario : scenarios) {
+            run(scenario);
+        }
+    }
+
+    private void run(Scenario scenario) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path()))
+            .timeout(Duration.ofSeconds(30))
+            .method(scenario.method(), HttpRequest.BodyPublishers.noBody())
+            .build();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong unexpected = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long started;
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != scenario.expectedStatus()) {
+                                unexpected.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            unexpected.incrementAndGet();
+                        } finally {
+                            latencies[index] = System.nanoTime() - sent;
+                        }
+                    }
+                    return null;
+                });
+            }
+            started = System.nanoTime();
+            start.countDown();
+        }
+        elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf(
+            "[%s] %-20s %s %s: %.0f req/s, p50 %.2f ms, p99 %.2f ms, max %.1f ms, unexpected status %d%n",
+            label, scenario.name(), scenario.method(), scenario.path(), requests * 1e9 / elapsed,
+            millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+            millis(latencies[latencies.length - 1]), unexpected.get());
+    }
+
+    private boolean reachable() {
+        try {
+            httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl)).timeout(Duration.ofSeconds(2)).build(),
+                HttpResponse.BodyHandlers.discarding());
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,140 @@
+package com.isipathana.meditationcenter.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * HTTP load harness for comparing the virtual-thread and platform-thread modes.
+ * <p>
+ * Drives a running instance with many concurrent clients and reports throughput, p50/p99/max latency
+ * and the highest number of requests in flight at once. Start the application once per mode and run
+ * the harness against each:
+ * <pre>
+ * VIRTUAL_THREADS=true  ./gradlew bootRun
+ * ./gradlew benchmarkTest --tests '*ThreadModeLoadTest' -Dloadtest.label=virtual
+ *
+ * VIRTUAL_THREADS=false ./gradlew bootRun
+ * ./gradlew benchmarkTest --tests '*ThreadModeLoadTest' -Dloadtest.label=platform
+ * </pre>
+ * System properties: {@code loadtest.base-url} (default {@code http://localhost:8080}),
+ * {@code loadtest.path} (default today's {@code /api/schedule/{date}}), {@code loadtest.clients} (1000),
+ * {@code loadtest.requests} (20000), {@code loadtest.user}/{@code loadtest.password} for basic auth.
+ * Skipped when nothing is listening at the base URL.
+ */
+@Tag("benchmark")
+class ThreadModeLoadTest {
+
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private final String path = System.getProperty("loadtest.path", "/api/schedule/" + LocalDate.now());
+    private final String label = System.getProperty("loadtest.label", "unlabelled");
+    private final int clients = Integer.getInteger("loadtest.clients", 1_000);
+    private final int requests = Integer.getInteger("loadtest.requests", 20_000);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    @Test
+    void measureLatencyUnderConcurrentLoad() throws Exception {
+        assumeTrue(reachable(), "No application listening at " + baseUrl);
+
+        HttpRequest request = request();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicLong failures = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long started;
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            failures.incrementAndGet();
+                        } finally {
+                            latencies[index] = System.nanoTime() - sent;
+                            inFlight.decrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            started = System.nanoTime();
+            start.countDown();
+        }
+        elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf(
+            "[%s] %d requests, %d clients: %.0f req/s, p50 %.1f ms, p99 %.1f ms, max %.1f ms, "
+                + "max in flight %d, failures %d%n",
+            label, requests, clients, requests * 1e9 / elapsed,
+            millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+            millis(latencies[latencies.length - 1]), maxInFlight.get(), failures.get());
+    }
+
+    private HttpRequest request() {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .GET();
+        String user = System.getProperty("loadtest.user");
+        if (user != null) {
+            String credentials = user + ":" + System.getProperty("loadtest.password", "");
+            builder.header("Authorization",
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        }
+        return builder.build();
+    }
+
+    private boolean reachable() {
+        try {
+            httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl)).timeout(Duration.ofSeconds(2)).build(),
+                HttpResponse.BodyHandlers.discarding());
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.isipathana.meditationcenter.metrics;
+
+import com.isipathana.meditationcenter.architecture.UseCase;
+import com.isipathana.meditationcenter.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsInstrumentationTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void queriesAreTaggedWithTheRepositoryMethodThatRanThem() {
+        DSLContext dslContext = DSL.using(new MockConnection(ctx -> new MockResult[] { new MockResult(1, null) }),
+                SQLDialect.POSTGRES)
+            .configuration()
+            .derive(new DefaultExecuteListenerProvider(new QueryTimingListener(registry)))
+            .dsl();
+        SampleRepository repository = proxy(new SampleRepository(dslContext), new RepositoryMethodTracker());
+
+        repository.touch();
+        repository.touch();
+        dslContext.execute("SELECT 1");
+
+        assertEquals(2, registry.get("db.query")
+            .tags("repository", "SampleRepository", "method", "touch", "type", "write", "outcome", "success")
+            .timer().count());
+        assertEquals(1, registry.get("db.query").tags("repository", "none", "method", "none").timer().count());
+    }
+
+    @Test
+    void queriesRunOutsideTheProxyCanTagThemselves() {
+        DSLContext dslContext = DSL.using(new MockConnection(ctx -> new MockResult[] { new MockResult(1, null) }),
+                SQLDialect.POSTGRES)
+            .configuration()
+            .derive(new DefaultExecuteListenerProvider(new QueryTimingListener(registry)))
+            .dsl();
+
+        RepositoryMethodTracker.runAs(new RepositoryMethodTracker.RepositoryMethod("SampleRepository", "lazyLoad"),
+            () -> dslContext.execute("SELECT 1"));
+        dslContext.execute("SELECT 1");
+
+        assertEquals(1, registry.get("db.query").tags("repository", "SampleRepository", "method", "lazyLoad").timer().count());
+        assertEquals(1, registry.get("db.query").tags("repository", "none", "method", "none").timer().count());
+    }
+
+    @Test
+    void useCasesAreTimedByOutcomeAndException() {
+        UseCase<String, String> useCase = proxy(new EchoUseCase(), new UseCaseTimingAspect(registry));
+
+        useCase.handle("hello");
+        assertThrows(ValidationException.class, () -> useCase.handle(""));
+
+        assertEquals(1, registry.get("usecase.handle")
+            .tags("usecase", "EchoUseCase", "outcome", "success", "exception", "none").timer().count());
+        assertEquals(1, registry.get("usecase.handle")
+            .tags("usecase", "EchoUseCase", "outcome", "error", "exception", "ValidationException").timer().count());
+    }
+
+    private static <T> T proxy(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Repository
+    static class SampleRepository {
+
+        private final DSLContext dslContext;
+
+        SampleRepository(DSLContext dslContext) {
+            this.dslContext = dslContext;
+        }
+
+        public int touch() {
+            return dslContext.update(DSL.table("sample")).set(DSL.field("touched"), true).execute();
+        }
+    }
+
+    static class EchoUseCase implements UseCase<String, String> {
+
+        @Override
+        public String handle(String request) {
+            if (request.isEmpty()) {
+                throw new ValidationException("request", "Must not be empty.");
+            }
+            return request;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.isipathana.meditationcenter.metrics;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryGuardListenerTest {
+
+    @AfterEach
+    void closeStats() {
+        RequestQueryStats.close();
+    }
+
+    @Test
+    void countsStatementsByTheirSqlNotTheirValues() {
+        DSLContext dslContext = dslContext(new QueryGuardProperties(true, Duration.ofSeconds(1), 10, true));
+        RequestQueryStats stats = RequestQueryStats.open();
+
+        for (long id = 1; id <= 5; id++) {
+            findUser(dslContext, id);
+        }
+        dslContext.selectOne().execute();
+
+        assertEquals(6, stats.queries());
+        assertEquals(2, stats.distinctStatements());
+        assertEquals(5, stats.maxRepeated());
+        assertTrue(stats.summary().startsWith("queries=6; distinct=2; max-repeated=5; time="), stats.summary());
+    }
+
+    @Test
+    void failsTheStatementThatExceedsTheLimit() {
+        DSLContext dslContext = dslContext(new QueryGuardProperties(true, Duration.ofSeconds(1), 3, true));
+        RequestQueryStats.open();
+
+        for (long id = 1; id <= 3; id++) {
+            findUser(dslContext, id);
+        }
+        RepeatedStatementException exception =
+            assertThrows(RepeatedStatementException.class, () -> findUser(dslContext, 4L));
+        assertTrue(exception.getMessage().contains("ran 4 times"), exception.getMessage());
+    }
+
+    @Test
+    void onlyLogsWhenFailingIsOffOrOutsideARequest() {
+        DSLContext failing = dslContext(new QueryGuardProperties(true, Duration.ofSeconds(1), 1, true));
+        for (long id = 1; id <= 3; id++) {
+            findUser(failing, id);
+        }
+
+        DSLContext logging = dslContext(new QueryGuardProperties(true, Duration.ofSeconds(1), 1, false));
+        RequestQueryStats stats = RequestQueryStats.open();
+        for (long id = 1; id <= 3; id++) {
+            findUser(logging, id);
+        }
+        assertEquals(3, stats.maxRepeated());
+    }
+
+    private static void findUser(DSLContext dslContext, long id) {
+        dslContext.select(DSL.field("name")).from(DSL.table("users")).where(DSL.field("user_id").eq(id)).fetch();
+    }
+
+    private static DSLContext dslContext(QueryGuardProperties properties) {
+        MockConnection connection = new MockConnection(
+            ctx -> new MockResult[] { new MockResult(0, DSL.using(SQLDialect.POSTGRES).newResult()) });
+        return DSL.using(connection, SQLDialect.POSTGRES)
+            .configuration()
+            .derive(new DefaultExecuteListenerProvider(new QueryGuardListener(LoggerFactory.getLogger(QueryGuardListener.class), properties)))
+            .dsl();
+    }
+}
@@ -0,0 +1,209 @@
+package com.isipathana.meditationcenter.perf;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the VARCHAR(50) status, role, type and method columns with the native enums of V16
+ * on the same synthetic dataset: table and index sizes, and the time of scans that filter or
+ * group on those columns.
+ * <p>
+ * Migrates a throwaway PostgreSQL 15 container to V15, fills it with {@link SyntheticDataGenerator},
+ * reindexes so both sides are measured on freshly built indexes, measures, applies V16 (timed, as
+ * the cost of the migration itself), and measures again. Sequential and index scans are timed
+ * separately by disabling the other plan types for the session.
+ * <pre>
+ * ./gradlew benchmarkTest --tests '*EnumStorageBenchmark' -Dperf.scale=1.0
+ * </pre>
+ * System properties: {@code perf.scale} (1.0), {@code perf.seed} (42), {@code perf.heavy-iterations}
+ * (10 per scan) and {@code perf.enum-report} (build/reports/perf/enum-storage.json).
+ */
+@Tag("benchmark")
+class EnumStorageBenchmark {
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("perf.scale", "1.0"));
+    private static final long SEED = Long.getLong("perf.seed", 42L);
+    private static final int ITERATIONS = Integer.getInteger("perf.heavy-iterations", 10);
+    private static final Path REPORT =
+        Path.of(System.getProperty("perf.enum-report", "build/reports/perf/enum-storage.json"));
+
+    private static final List<String> TABLES =
+        List.of("users", "pricing", "booking", "payment", "donation", "event_registration");
+
+    private static final String SEQ_SCANS_ONLY =
+        "SET enable_indexscan = off; SET enable_indexonlyscan = off; SET enable_bitmapscan = off";
+    private static final String INDEX_SCANS_ONLY = "SET enable_seqscan = off";
+
+    private static PostgreSQLContainer<?> postgres;
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required");
+        postgres = new PostgreSQLContainer<>("postgres:15").withCommand("postgres", "-c", "shared_buffers=256MB");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void varcharAgainstNativeEnums() throws Exception {
+        flyway("15").migrate();
+        Map<String, Long> rowCounts =
+            new SyntheticDataGenerator(connection, SyntheticDataGenerator.Scale.of(SCALE), SEED).generate();
+        for (String table : TABLES) {
+            execute("REINDEX TABLE " + table);
+        }
+        execute("VACUUM ANALYZE");
+
+        LatencyReport report = new LatencyReport();
+        Map<String, Long> varcharSizes = relationSizes();
+        scans(report, "varchar");
+
+        long started = System.nanoTime();
+        flyway(null).migrate();
+        long migrationMillis = (System.nanoTime() - started) / 1_000_000;
+        execute("VACUUM ANALYZE");
+
+        Map<String, Long> enumSizes = relationSizes();
+        scans(report, "enum");
+
+        Map<String, Map<String, Long>> sizes = new LinkedHashMap<>();
+        System.out.printf("%-40s %14s %14s %8s%n", "relation", "varchar bytes", "enum bytes", "change");
+        for (Map.Entry<String, Long> entry : varcharSizes.entrySet()) {
+            long before = entry.getValue();
+            long after = enumSizes.getOrDefault(entry.getKey(), 0L);
+            sizes.put(entry.getKey(), Map.of("varchar", before, "enum", after));
+            System.out.printf("%-40s %,14d %,14d %+7.1f%%%n",
+                entry.getKey(), before, after, before == 0 ? 0.0 : (after - before) * 100.0 / before);
+        }
+        System.out.printf("V16 migration took %,d ms%n%n", migrationMillis);
+        report.print();
+
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("scale", SCALE);
+        environment.put("seed", SEED);
+        environment.put("iterations", ITERATIONS);
+        environment.put("database", connection.getMetaData().getDatabaseProductVersion());
+        environment.put("rowCounts", rowCounts);
+        environment.put("migrationMillis", migrationMillis);
+        environment.put("relationBytes", sizes);
+        report.write(REPORT, environment);
+        System.out.println("Enum storage report written to " + REPORT.toAbsolutePath());
+
+        assertTrue(enumSizes.get("booking.idx_booking_status_date") <= varcharSizes.get("booking.idx_booking_status_date"),
+            "The booking status index should not grow with a 4-byte enum key");
+    }
+
+    /**
+     * The literals are untyped, so the same SQL compares against VARCHAR before V16 and the enum after.
+     */
+    private void scans(LatencyReport report, String storage) {
+        String prefix = storage + ": ";
+
+        report.measure(prefix + "booking count by status (seq)", ITERATIONS, i -> query(SEQ_SCANS_ONLY,
+            "SELECT status, count(*) FROM booking GROUP BY status"));
+        report.measure(prefix + "booking status <> CANCELLED (seq)", ITERATIONS, i -> query(SEQ_SCANS_ONLY,
+            "SELECT count(*) FROM booking WHERE status <> 'CANCELLED'"));
+        report.measure(prefix + "booking status = PENDING (index)", ITERATIONS, i -> query(INDEX_SCANS_ONLY,
+            "SELECT count(*) FROM booking WHERE status = 'PENDING'"));
+        report.measure(prefix + "booking seats per program (partial index)", ITERATIONS, i -> query(INDEX_SCANS_ONLY,
+            "SELECT meditation_program_id, sum(participant_count) FROM booking "
+                + "WHERE status <> 'CANCELLED' GROUP BY meditation_program_id"));
+        report.measure(prefix + "payment count by status, method (seq)", ITERATIONS, i -> query(SEQ_SCANS_ONLY,
+            "SELECT status, payment_method, count(*) FROM payment GROUP BY status, payment_method"));
+        report.measure(prefix + "payment status = FAILED (index)", ITERATIONS, i -> query(INDEX_SCANS_ONLY,
+            "SELECT count(*) FROM payment WHERE status = 'FAILED'"));
+        report.measure(prefix + "donation completed per campaign (partial index)", ITERATIONS, i -> query(INDEX_SCANS_ONLY,
+            "SELECT campaign_id, sum(donation_amount) FROM donation "
+                + "WHERE payment_status = 'COMPLETED' AND campaign_id IS NOT NULL GROUP BY campaign_id"));
+        report.measure(prefix + "users count by role (seq)", ITERATIONS, i -> query(SEQ_SCANS_ONLY,
+            "SELECT role, count(*) FROM users GROUP BY role"));
+        report.measure(prefix + "registrations not cancelled (seq)", ITERATIONS, i -> query(SEQ_SCANS_ONLY,
+            "SELECT event_id, count(*) FROM event_registration WHERE status <> 'CANCELLED' GROUP BY event_id"));
+    }
+
+    private static List<String> query(String settings, String sql) {
+        List<String> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(settings);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                while (resultSet.next()) {
+                    rows.add(resultSet.getString(1));
+                }
+            }
+            statement.execute("RESET ALL");
+        } catch (SQLException e) {
+            throw new IllegalStateException(sql, e);
+        }
+        return rows;
+    }
+
+    /**
+     * Heap size of each table and size of each of its indexes, keyed {@code table} and {@code table.index}.
+     */
+    private static Map<String, Long> relationSizes() throws SQLException {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                try (ResultSet rows = statement.executeQuery("SELECT pg_table_size('" + table + "')")) {
+                    rows.next();
+                    sizes.put(table, rows.getLong(1));
+                }
+                try (ResultSet rows = statement.executeQuery(
+                    "SELECT indexname, pg_relation_size(quote_ident(indexname)) FROM pg_indexes "
+                        + "WHERE schemaname = 'public' AND tablename = '" + table + "' ORDER BY indexname")) {
+                    while (rows.next()) {
+                        sizes.put(table + "." + rows.getString(1), rows.getLong(2));
+                    }
+                }
+            }
+        }
+        return sizes;
+    }
+
+    private static Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
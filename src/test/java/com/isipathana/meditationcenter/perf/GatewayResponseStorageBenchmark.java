@@ -0,0 +1,328 @@
+package com.isipathana.meditationcenter.perf;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares gateway responses stored inline as TEXT with the gzip compressed side tables of V18 on
+ * the same synthetic dataset: table sizes, and the throughput of payment and donation listings.
+ * <p>
+ * Migrates a throwaway PostgreSQL 15 container to V17, fills it with {@link SyntheticDataGenerator}
+ * (about 1 KB of response per settled payment or donation), measures, applies V18 (timed) and
+ * rewrites {@code payment} and {@code donation} with {@code VACUUM FULL} (timed, as the migration
+ * alone leaves the dropped column's bytes in place). V18 copies responses uncompressed, so sizes are
+ * taken once as migrated and once more after the copies are recompressed with gzip, which is how
+ * the application writes new responses. The listings run the same {@code SELECT *} SQL on both
+ * sides; after V18 they also time loading a single response, the cost a caller now pays on demand.
+ * <pre>
+ * ./gradlew benchmarkTest --tests '*GatewayResponseStorageBenchmark' -Dperf.scale=1.0
+ * </pre>
+ * System properties: {@code perf.scale} (1.0), {@code perf.seed} (42), {@code perf.iterations}
+ * (200 per page), {@code perf.heavy-iterations} (10 per full scan) and {@code perf.gateway-report}
+ * (build/reports/perf/gateway-response-storage.json).
+ */
+@Tag("benchmark")
+class GatewayResponseStorageBenchmark {
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("perf.scale", "1.0"));
+    private static final long SEED = Long.getLong("perf.seed", 42L);
+    private static final int ITERATIONS = Integer.getInteger("perf.iterations", 200);
+    private static final int HEAVY_ITERATIONS = Integer.getInteger("perf.heavy-iterations", 10);
+    private static final Path REPORT =
+        Path.of(System.getProperty("perf.gateway-report", "build/reports/perf/gateway-response-storage.json"));
+
+    private static final List<String> TABLES =
+        List.of("payment", "donation", "payment_gateway_response", "donation_gateway_response");
+    private static final int PAGE_SIZE = 100;
+    private static final int RECOMPRESS_CHUNK = 10_000;
+
+    private static PostgreSQLContainer<?> postgres;
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required");
+        postgres = new PostgreSQLContainer<>("postgres:15").withCommand("postgres", "-c", "shared_buffers=256MB");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void inlineTextAgainstCompressedSideTables() throws Exception {
+        flyway("17").migrate();
+        Map<String, Long> rowCounts =
+            new SyntheticDataGenerator(connection, SyntheticDataGenerator.Scale.of(SCALE), SEED).generate();
+
+        LatencyReport report = new LatencyReport();
+        Map<String, Long> inlineSizes = tableSizes();
+        listings(report, "inline", rowCounts);
+
+        long started = System.nanoTime();
+        flyway(null).migrate();
+        long migrationMillis = (System.nanoTime() - started) / 1_000_000;
+        started = System.nanoTime();
+        execute("VACUUM FULL payment, donation");
+        long rewriteMillis = (System.nanoTime() - started) / 1_000_000;
+        execute("VACUUM ANALYZE");
+        Map<String, Long> migratedSizes = tableSizes();
+
+        recompress("payment_gateway_response", "payment_id", rowCounts.get("payment"));
+        recompress("donation_gateway_response", "donation_id", rowCounts.get("donation"));
+        execute("VACUUM FULL payment_gateway_response, donation_gateway_response");
+        execute("VACUUM ANALYZE");
+        Map<String, Long> gzipSizes = tableSizes();
+        listings(report, "side table", rowCounts);
+
+        Map<String, Map<String, Long>> sizes = new LinkedHashMap<>();
+        System.out.printf("%-28s %14s %14s %14s%n", "table", "inline bytes", "V18 bytes", "gzip bytes");
+        for (String table : TABLES) {
+            long inline = inlineSizes.getOrDefault(table, 0L);
+            long migrated = migratedSizes.getOrDefault(table, 0L);
+            long gzip = gzipSizes.getOrDefault(table, 0L);
+            sizes.put(table, Map.of("inline", inline, "migrated", migrated, "gzip", gzip));
+            System.out.printf("%-28s %,14d %,14d %,14d%n", table, inline, migrated, gzip);
+        }
+        long inlineTotal = inlineSizes.values().stream().mapToLong(Long::longValue).sum();
+        long gzipTotal = gzipSizes.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf("%-28s %,14d %14s %,14d%n", "total", inlineTotal, "", gzipTotal);
+        System.out.printf("V18 migration took %,d ms, VACUUM FULL payment, donation %,d ms%n%n",
+            migrationMillis, rewriteMillis);
+        report.print();
+        System.out.println();
+        throughput(report);
+
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("scale", SCALE);
+        environment.put("seed", SEED);
+        environment.put("iterations", ITERATIONS);
+        environment.put("heavyIterations", HEAVY_ITERATIONS);
+        environment.put("database", connection.getMetaData().getDatabaseProductVersion());
+        environment.put("rowCounts", rowCounts);
+        environment.put("migrationMillis", migrationMillis);
+        environment.put("rewriteMillis", rewriteMillis);
+        environment.put("tableBytes", sizes);
+        report.write(REPORT, environment);
+        System.out.println("Gateway response storage report written to " + REPORT.toAbsolutePath());
+
+        assertTrue(gzipSizes.get("payment") < inlineSizes.get("payment"),
+            "The payment table should shrink once responses are off row");
+        assertTrue(gzipTotal < inlineTotal, "Compressed side tables should take less space than the inline text");
+    }
+
+    /**
+     * The SQL does not name columns, so it reads the response column before V18 and not after.
+     */
+    private void listings(LatencyReport report, String storage, Map<String, Long> rowCounts) {
+        String prefix = storage + ": ";
+        SplittableRandom random = new SplittableRandom(SEED);
+        long completedPayments = count("SELECT count(*) FROM payment WHERE status = 'COMPLETED'");
+        long campaigns = count("SELECT count(*) FROM donation_campaign");
+
+        report.measure(prefix + "payment page by status", ITERATIONS, i -> rows(
+            "SELECT * FROM payment WHERE status = 'COMPLETED' ORDER BY created_at, payment_id LIMIT " + PAGE_SIZE
+                + " OFFSET " + random.nextLong(Math.max(1, completedPayments - PAGE_SIZE))));
+        report.measure(prefix + "payment full scan", HEAVY_ITERATIONS, i -> scan("SELECT * FROM payment"));
+        report.measure(prefix + "donations by campaign", ITERATIONS, i -> rows(
+            "SELECT * FROM donation WHERE campaign_id = " + (1 + random.nextLong(campaigns))
+                + " ORDER BY created_at DESC, donation_id DESC"));
+        report.measure(prefix + "donation full scan", HEAVY_ITERATIONS, i -> scan("SELECT * FROM donation"));
+
+        if (storage.equals("side table")) {
+            long payments = rowCounts.get("payment");
+            report.measure(prefix + "load one payment response", ITERATIONS, i -> response(
+                "SELECT body, compressed FROM payment_gateway_response WHERE payment_id = " + (1 + random.nextLong(payments))));
+        }
+    }
+
+    /**
+     * Rows per second of each listing, from its mean latency.
+     */
+    private static void throughput(LatencyReport report) {
+        System.out.printf("%-52s %14s%n", "listing", "rows/s");
+        for (LatencyReport.Operation operation : report.operations()) {
+            if (operation.rows() > 1 && operation.meanMicros() > 0) {
+                System.out.printf("%-52s %,14.0f%n", operation.name(), operation.rows() * 1e6 / operation.meanMicros());
+            }
+        }
+        System.out.println();
+    }
+
+    /**
+     * Reads every column of every row, so TOASTed values are fetched and decoded as an application would.
+     */
+    private static List<String[]> rows(String sql) {
+        List<String[]> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                String[] row = new String[columns];
+                for (int c = 0; c < columns; c++) {
+                    row[c] = resultSet.getString(c + 1);
+                }
+                rows.add(row);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(sql, e);
+        }
+        return rows;
+    }
+
+    /**
+     * Like {@link #rows} for a whole table, read through a cursor so the rows are not all held in memory.
+     */
+    private static List<Boolean> scan(String sql) {
+        int count = 0;
+        try {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.setFetchSize(5_000);
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                    int columns = resultSet.getMetaData().getColumnCount();
+                    while (resultSet.next()) {
+                        for (int c = 1; c <= columns; c++) {
+                            resultSet.getString(c);
+                        }
+                        count++;
+                    }
+                }
+            } finally {
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(sql, e);
+        }
+        return Collections.nCopies(count, Boolean.TRUE);
+    }
+
+    private static String response(String sql) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            byte[] body = resultSet.getBytes(1);
+            if (!resultSet.getBoolean(2)) {
+                return new String(body, StandardCharsets.UTF_8);
+            }
+            try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException(sql, e);
+        }
+    }
+
+    /**
+     * Replaces the uncompressed copies V18 made with gzip, the way new responses are written.
+     */
+    private static void recompress(String table, String key, long maxId) throws SQLException {
+        String select = "SELECT " + key + ", body FROM " + table
+            + " WHERE NOT compressed AND " + key + " BETWEEN ? AND ?";
+        String update = "UPDATE " + table + " SET body = ?, compressed = true WHERE " + key + " = ?";
+        for (long from = 1; from <= maxId; from += RECOMPRESS_CHUNK) {
+            Map<Long, byte[]> chunk = new LinkedHashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(select)) {
+                statement.setLong(1, from);
+                statement.setLong(2, from + RECOMPRESS_CHUNK - 1);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        chunk.put(rows.getLong(1),
+                            SyntheticDataGenerator.gzip(new String(rows.getBytes(2), StandardCharsets.UTF_8)));
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(update)) {
+                for (Map.Entry<Long, byte[]> row : chunk.entrySet()) {
+                    statement.setBytes(1, row.getValue());
+                    statement.setLong(2, row.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * {@code pg_table_size} of each table that exists: heap, TOAST and free space map, without indexes.
+     */
+    private static Map<String, Long> tableSizes() throws SQLException {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                try (ResultSet rows = statement.executeQuery(
+                    "SELECT pg_table_size(c.oid) FROM pg_class c WHERE c.relname = '" + table + "' AND c.relkind = 'r'")) {
+                    if (rows.next()) {
+                        sizes.put(table, rows.getLong(1));
+                    }
+                }
+            }
+        }
+        return sizes;
+    }
+
+    private static long count(String sql) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(sql, e);
+        }
+    }
+
+    private static Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.isipathana.meditationcenter.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Times named operations and writes their latency percentiles as JSON.
+ * <p>
+ * Each operation runs a few untimed warm-up calls, then {@code iterations} timed calls; the call
+ * receives its iteration number so it can vary its arguments. Latencies are reported in microseconds.
+ */
+final class LatencyReport {
+
+    static final int WARMUP = 5;
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Times {@code call} and keeps the result under {@code name}.
+     * Collections returned by the last call are counted as that many rows, anything else as one.
+     */
+    void measure(String name, int iterations, IntFunction<?> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.apply(i);
+        }
+
+        long[] nanos = new long[iterations];
+        Object last = null;
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            last = call.apply(WARMUP + i);
+            nanos[i] = System.nanoTime() - started;
+        }
+
+        Arrays.sort(nanos);
+        long rows = last instanceof Collection<?> collection ? collection.size() : 1;
+        operations.add(new Operation(
+            name, iterations, rows,
+            micros(percentile(nanos, 50)), micros(percentile(nanos, 90)), micros(percentile(nanos, 95)),
+            micros(percentile(nanos, 99)), micros(nanos[nanos.length - 1]),
+            micros(Arrays.stream(nanos).sum() / nanos.length)));
+    }
+
+    List<Operation> operations() {
+        return List.copyOf(operations);
+    }
+
+    /**
+     * Writes {@code {"generatedAt", "environment", "operations"}} to {@code path}, creating parent directories.
+     */
+    void write(Path path, Map<String, Object> environment) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .writerWithDefaultPrettyPrinter()
+            .writeValue(path.toFile(), new Report(Instant.now(), environment, operations()));
+    }
+
+    void print() {
+        System.out.printf("%-52s %8s %10s %10s %10s %10s %10s%n", "operation", "rows", "p50 us", "p90 us", "p99 us", "max us", "mean us");
+        for (Operation op : operations) {
+            System.out.printf("%-52s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                op.name(), op.rows(), op.p50Micros(), op.p90Micros(), op.p99Micros(), op.maxMicros(), op.meanMicros());
+        }
+    }
+
+    // Nearest-rank percentile of sorted samples
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double micros(long nanos) {
+        return Math.round(nanos / 100.0) / 10.0;
+    }
+
+    record Operation(
+        String name,
+        int iterations,
+        long rows,
+        double p50Micros,
+        double p90Micros,
+        double p95Micros,
+        double p99Micros,
+        double maxMicros,
+        double meanMicros
+    ) {}
+
+    private record Report(Instant generatedAt, Map<String, Object> environment, List<Operation> operations) {
+    }
+}
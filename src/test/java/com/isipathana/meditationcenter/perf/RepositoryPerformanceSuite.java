@@ -0,0 +1,371 @@
+package com.isipathana.meditationcenter.perf;
+
+import com.isipathana.meditationcenter.config.RepositoryProperties;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.event.EventRegistration;
+import com.isipathana.meditationcenter.records.event.EventRegistrationStatus;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import com.isipathana.meditationcenter.repository.BookingRepository;
+import com.isipathana.meditationcenter.repository.DonationCampaignRepository;
+import com.isipathana.meditationcenter.repository.DonationRepository;
+import com.isipathana.meditationcenter.repository.EventRegistrationRepository;
+import com.isipathana.meditationcenter.repository.EventRepository;
+import com.isipathana.meditationcenter.repository.MeditationProgramRepository;
+import com.isipathana.meditationcenter.repository.PaymentRepository;
+import com.isipathana.meditationcenter.repository.PricingRepository;
+import com.isipathana.meditationcenter.repository.ScheduleRepository;
+import com.isipathana.meditationcenter.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+import static com.isipathana.meditationcenter.jooq.Tables.DONATION;
+import static com.isipathana.meditationcenter.jooq.Tables.EVENTS;
+import static com.isipathana.meditationcenter.perf.SyntheticDataGenerator.ANCHOR_DATE;
+import static com.isipathana.meditationcenter.perf.SyntheticDataGenerator.DAY_SPAN;
+import static com.isipathana.meditationcenter.perf.SyntheticDataGenerator.FIRST_DATE;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs every repository method against a database filled by {@link SyntheticDataGenerator} and
+ * writes latency percentiles per method to a JSON report.
+ * <p>
+ * Uses a throwaway PostgreSQL 15 container, or the database at {@code perf.jdbc.url} if given
+ * (all its data is replaced). Write methods change the synthetic data as they run.
+ * <pre>
+ * ./gradlew benchmarkTest --tests '*RepositoryPerformanceSuite' -Dperf.scale=1.0
+ * </pre>
+ * System properties: {@code perf.scale} (1.0 = a million bookings), {@code perf.seed} (42),
+ * {@code perf.iterations} (200 per point query), {@code perf.heavy-iterations} (10 per query
+ * reading a large part of a table), {@code perf.report} (build/reports/perf/repository-latency.json),
+ * {@code perf.jdbc.url}, {@code perf.jdbc.user} and {@code perf.jdbc.password}.
+ */
+@Tag("benchmark")
+class RepositoryPerformanceSuite {
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("perf.scale", "1.0"));
+    private static final long SEED = Long.getLong("perf.seed", 42L);
+    private static final int ITERATIONS = Integer.getInteger("perf.iterations", 200);
+    private static final int HEAVY_ITERATIONS = Integer.getInteger("perf.heavy-iterations", 10);
+    private static final Path REPORT =
+        Path.of(System.getProperty("perf.report", "build/reports/perf/repository-latency.json"));
+
+    private static PostgreSQLContainer<?> postgres;
+    private static Connection connection;
+    private static DSLContext dslContext;
+    private static SyntheticDataGenerator.Scale scale;
+    private static Map<String, Long> rowCounts;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        String url = System.getProperty("perf.jdbc.url");
+        String user = System.getProperty("perf.jdbc.user", "postgres");
+        String password = System.getProperty("perf.jdbc.password", "");
+        if (url == null) {
+            assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required without perf.jdbc.url");
+            postgres = new PostgreSQLContainer<>("postgres:15").withCommand("postgres", "-c", "shared_buffers=256MB");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            user = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        Flyway.configure().dataSource(url, user, password).locations("classpath:db/migration").load().migrate();
+        connection = DriverManager.getConnection(url, user, password);
+
+        scale = SyntheticDataGenerator.Scale.of(SCALE);
+        long started = System.nanoTime();
+        rowCounts = new SyntheticDataGenerator(connection, scale, SEED).generate();
+        System.out.printf("Generated %,d rows in %d s: %s%n",
+            rowCounts.values().stream().mapToLong(Long::longValue).sum(),
+            (System.nanoTime() - started) / 1_000_000_000L, rowCounts);
+
+        dslContext = DSL.using(connection, SQLDialect.POSTGRES);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void repositoryLatencies() throws Exception {
+        LatencyReport report = new LatencyReport();
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        bookings(report, random);
+        users(report, random);
+        catalog(report, random);
+        payments(report, random);
+        donations(report, random);
+        events(report, random);
+        schedule(report, random);
+
+        report.print();
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("scale", SCALE);
+        environment.put("seed", SEED);
+        environment.put("iterations", ITERATIONS);
+        environment.put("heavyIterations", HEAVY_ITERATIONS);
+        environment.put("database", connection.getMetaData().getDatabaseProductVersion());
+        environment.put("javaVersion", Runtime.version().toString());
+        environment.put("rowCounts", rowCounts);
+        report.write(REPORT, environment);
+        System.out.println("Latency report written to " + REPORT.toAbsolutePath());
+
+        assertFalse(report.operations().isEmpty());
+    }
+
+    private void bookings(LatencyReport report, SplittableRandom random) {
+        BookingRepository repository = new BookingRepository(dslContext, new RepositoryProperties(500, 100, 1_000));
+        String prefix = "BookingRepository.";
+
+        report.measure(prefix + "findById", ITERATIONS, i -> repository.findById(bookingId(random)));
+        report.measure(prefix + "findByUserId", ITERATIONS, i -> repository.findByUserId(userId(random)));
+        report.measure(prefix + "findByStatus(PENDING)", HEAVY_ITERATIONS,
+            i -> repository.findByStatus(BookingStatus.PENDING));
+        report.measure(prefix + "findByStatus(page)", ITERATIONS,
+            i -> repository.findByStatus(BookingStatus.CONFIRMED, null, 100).bookings());
+        report.measure(prefix + "findByDateRange(week)", ITERATIONS, i -> {
+            LocalDate start = date(random);
+            return repository.findByDateRange(start, start.plusDays(6));
+        });
+        report.measure(prefix + "findByDateRange(page)", ITERATIONS, i -> {
+            LocalDate start = date(random);
+            return repository.findByDateRange(start, start.plusDays(30), null, 100).bookings();
+        });
+        report.measure(prefix + "forEachByStatus(PENDING)", HEAVY_ITERATIONS, i -> {
+            LongAdder visited = new LongAdder();
+            repository.forEachByStatus(BookingStatus.PENDING, booking -> visited.increment());
+            return visited.sum();
+        });
+        report.measure(prefix + "forEachByDateRange(month)", HEAVY_ITERATIONS, i -> {
+            LongAdder visited = new LongAdder();
+            LocalDate start = date(random);
+            repository.forEachByDateRange(start, start.plusDays(30), booking -> visited.increment());
+            return visited.sum();
+        });
+        report.measure(prefix + "findCalendarEntries(month)", ITERATIONS, i -> {
+            LocalDate start = date(random);
+            return repository.findCalendarEntries(start, start.plusDays(30));
+        });
+        report.measure(prefix + "findCalendarEntries(program, month)", ITERATIONS, i -> {
+            LocalDate start = date(random);
+            return repository.findCalendarEntries(programId(random), start, start.plusDays(30));
+        });
+        report.measure(prefix + "countBookedSeats", ITERATIONS,
+            i -> repository.countBookedSeats(programId(random), date(random)));
+        report.measure(prefix + "findBookedSeatsFrom(anchor)", HEAVY_ITERATIONS,
+            i -> repository.findBookedSeatsFrom(ANCHOR_DATE));
+        report.measure(prefix + "insert", ITERATIONS, i -> repository.insert(newBooking(random)));
+        report.measure(prefix + "insertAll(100)", HEAVY_ITERATIONS, i -> {
+            List<Booking> batch = new ArrayList<>(100);
+            for (int k = 0; k < 100; k++) {
+                batch.add(newBooking(random));
+            }
+            return repository.insertAll(batch);
+        });
+    }
+
+    private void users(LatencyReport report, SplittableRandom random) {
+        UserRepository repository = new UserRepository(dslContext);
+        String prefix = "UserRepository.";
+
+        report.measure(prefix + "findById", ITERATIONS, i -> repository.findById(userId(random)));
+        report.measure(prefix + "findByEmail", ITERATIONS,
+            i -> repository.findByEmail("user" + userId(random) + "@example.org"));
+        report.measure(prefix + "existsByEmail", ITERATIONS,
+            i -> repository.existsByEmail("user" + userId(random) + "@example.org"));
+        report.measure(prefix + "findByRole(INSTRUCTOR)", ITERATIONS, i -> repository.findByRole(UserRole.INSTRUCTOR));
+        report.measure(prefix + "findAllActive", HEAVY_ITERATIONS, i -> repository.findAllActive());
+        report.measure(prefix + "findDirectory", HEAVY_ITERATIONS, i -> repository.findDirectory());
+        report.measure(prefix + "findDirectoryByRole(INSTRUCTOR)", ITERATIONS,
+            i -> repository.findDirectoryByRole(UserRole.INSTRUCTOR));
+    }
+
+    private void catalog(LatencyReport report, SplittableRandom random) {
+        MeditationProgramRepository programs = new MeditationProgramRepository(dslContext);
+        PricingRepository pricing = new PricingRepository(dslContext);
+
+        report.measure("MeditationProgramRepository.findById", ITERATIONS, i -> programs.findById(programId(random)));
+        report.measure("MeditationProgramRepository.findAll", ITERATIONS, i -> programs.findAll());
+        report.measure("PricingRepository.findById", ITERATIONS,
+            i -> pricing.findById(1L + random.nextInt(scale.pricing())));
+        report.measure("PricingRepository.findActive", ITERATIONS, i -> pricing.findActive());
+    }
+
+    private void payments(LatencyReport report, SplittableRandom random) {
+        PaymentRepository repository = new PaymentRepository(dslContext);
+        long payments = rowCounts.get("payment");
+
+        report.measure("PaymentRepository.findById", ITERATIONS, i -> repository.findById(1L + random.nextLong(payments)));
+        report.measure("PaymentRepository.findByBookingId", ITERATIONS,
+            i -> repository.findByBookingId(bookingId(random)));
+        report.measure("PaymentRepository.findByStatus(PENDING, 100)", ITERATIONS,
+            i -> repository.findByStatus(PaymentStatus.PENDING, 100));
+        report.measure("PaymentRepository.findGatewayResponse", ITERATIONS,
+            i -> repository.findGatewayResponse(1L + random.nextLong(payments)));
+    }
+
+    private void donations(LatencyReport report, SplittableRandom random) {
+        DonationRepository donations = new DonationRepository(dslContext);
+        DonationCampaignRepository campaigns = new DonationCampaignRepository(dslContext);
+        long donationCount = rowCounts.get("donation");
+        List<Long> pending = dslContext
+            .select(DONATION.DONATION_ID)
+            .from(DONATION)
+            .where(DONATION.PAYMENT_STATUS.eq(PaymentStatus.PENDING))
+            .limit(ITERATIONS + 10)
+            .fetch(DONATION.DONATION_ID);
+
+        report.measure("DonationRepository.findById", ITERATIONS,
+            i -> donations.findById(1L + random.nextLong(donationCount)));
+        report.measure("DonationRepository.findGatewayResponse", ITERATIONS,
+            i -> donations.findGatewayResponse(1L + random.nextLong(donationCount)));
+        report.measure("DonationRepository.findByCampaignId", HEAVY_ITERATIONS,
+            i -> donations.findByCampaignId(campaignId(random)));
+        report.measure("DonationRepository.sumCompletedByCampaign", HEAVY_ITERATIONS,
+            i -> donations.sumCompletedByCampaign());
+        report.measure("DonationRepository.complete", Math.max(1, pending.size() - LatencyReport.WARMUP),
+            i -> donations.complete(pending.get(i % pending.size()), "TX-PERF-" + i));
+        report.measure("DonationCampaignRepository.findById", ITERATIONS, i -> campaigns.findById(campaignId(random)));
+        report.measure("DonationCampaignRepository.findActive", ITERATIONS, i -> campaigns.findActive());
+        report.measure("DonationCampaignRepository.addToCurrentAmount", ITERATIONS, i -> {
+            campaigns.addToCurrentAmount(Map.of(campaignId(random), BigDecimal.ONE));
+            return null;
+        });
+        report.measure("DonationCampaignRepository.setCurrentAmount", ITERATIONS,
+            i -> campaigns.setCurrentAmount(campaignId(random), BigDecimal.valueOf(1_000 + i, 2)));
+    }
+
+    private void events(LatencyReport report, SplittableRandom random) {
+        EventRepository events = new EventRepository(dslContext);
+        EventRegistrationRepository registrations = new EventRegistrationRepository(dslContext);
+        long eventCount = rowCounts.get("events");
+        long registrationCount = rowCounts.get("event_registration");
+
+        // An unlimited event outside the generated date range takes the inserted registrations
+        Long target = dslContext
+            .insertInto(EVENTS)
+            .set(EVENTS.NAME, "Performance suite event")
+            .set(EVENTS.EVENT_DATE, FIRST_DATE.plusDays(DAY_SPAN + 30))
+            .set(EVENTS.START_TIME, LocalTime.of(9, 0))
+            .set(EVENTS.END_TIME, LocalTime.of(10, 0))
+            .returning(EVENTS.EVENT_ID)
+            .fetchOne(EVENTS.EVENT_ID);
+        List<Long> inserted = new ArrayList<>();
+
+        report.measure("EventRepository.findById", ITERATIONS, i -> events.findById(1L + random.nextLong(eventCount)));
+        report.measure("EventRepository.findFrom(anchor + 1y)", ITERATIONS,
+            i -> events.findFrom(ANCHOR_DATE.plusDays(365)));
+        report.measure("EventRepository.findActiveFrom(50)", ITERATIONS, i -> events.findActiveFrom(date(random), 50));
+        report.measure("EventRepository.addParticipants", ITERATIONS, i -> {
+            events.addParticipants(Map.of(target, i % 2 == 0 ? 1 : -1));
+            return null;
+        });
+        report.measure("EventRepository.setParticipants", ITERATIONS, i -> events.setParticipants(target, 0));
+        report.measure("EventRegistrationRepository.findById", ITERATIONS,
+            i -> registrations.findById(1L + random.nextLong(registrationCount)));
+        report.measure("EventRegistrationRepository.findByEventId", ITERATIONS,
+            i -> registrations.findByEventId(1L + random.nextLong(eventCount)));
+        report.measure("EventRegistrationRepository.countActive", ITERATIONS,
+            i -> registrations.countActive(1L + random.nextLong(eventCount)));
+        report.measure("EventRegistrationRepository.countActiveByEventFrom(anchor)", HEAVY_ITERATIONS,
+            i -> registrations.countActiveByEventFrom(ANCHOR_DATE));
+        // Iteration numbers are unique, so each insert registers a different user
+        report.measure("EventRegistrationRepository.insert", Math.min(ITERATIONS, scale.users() - 10), i -> {
+            EventRegistration registration = registrations.insert(EventRegistration.builder()
+                .eventId(target)
+                .userId(1L + i)
+                .status(EventRegistrationStatus.REGISTERED)
+                .build());
+            inserted.add(registration.registrationId());
+            return registration;
+        });
+        report.measure("EventRegistrationRepository.markAttended(20)", ITERATIONS, i -> {
+            long eventId = 1L + random.nextLong(eventCount);
+            List<Long> ids = LongStream.range(0, 20).map(k -> 1L + random.nextLong(registrationCount)).boxed().toList();
+            return registrations.markAttended(eventId, ids, LocalDateTime.now());
+        });
+        // Warm-up calls take the first registrations, timed calls the rest
+        report.measure("EventRegistrationRepository.cancel", Math.max(1, inserted.size() - LatencyReport.WARMUP),
+            i -> registrations.cancel(inserted.get(i % inserted.size()), "Performance suite"));
+    }
+
+    private void schedule(LatencyReport report, SplittableRandom random) {
+        ScheduleRepository repository = new ScheduleRepository(dslContext);
+
+        report.measure("ScheduleRepository.findActiveTemplates", ITERATIONS, i -> repository.findActiveTemplates());
+        report.measure("ScheduleRepository.findActiveTemplateActivities", ITERATIONS,
+            i -> repository.findActiveTemplateActivities());
+        report.measure("ScheduleRepository.findAllActivities", ITERATIONS, i -> repository.findAllActivities());
+        report.measure("ScheduleRepository.findOverridesBetween(week)", ITERATIONS, i -> {
+            LocalDate start = date(random);
+            return repository.findOverridesBetween(start, start.plusDays(6));
+        });
+    }
+
+    private static Booking newBooking(SplittableRandom random) {
+        return Booking.builder()
+            .meditationProgramId(programId(random))
+            .pricingId(1L)
+            .userId(userId(random))
+            .bookingType(BookingType.DAILY)
+            .bookingDate(date(random))
+            .status(BookingStatus.PENDING)
+            .participantCount(1)
+            .amount(BigDecimal.valueOf(2_500, 2))
+            .build();
+    }
+
+    private static long bookingId(SplittableRandom random) {
+        return 1L + random.nextInt(scale.bookings());
+    }
+
+    private static long userId(SplittableRandom random) {
+        return 1L + random.nextInt(scale.users());
+    }
+
+    private static long programId(SplittableRandom random) {
+        return 1L + random.nextInt(scale.programs());
+    }
+
+    private static long campaignId(SplittableRandom random) {
+        return 1L + random.nextInt(scale.campaigns());
+    }
+
+    private static LocalDate date(SplittableRandom random) {
+        return FIRST_DATE.plusDays(random.nextInt(DAY_SPAN - 31));
+    }
+}
@@ -0,0 +1,632 @@
+package com.isipathana.meditationcenter.perf;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Fills every table with deterministic synthetic data through {@code COPY ... FROM STDIN}.
+ * <p>
+ * The same {@link Scale} and seed always produce the same rows: every table draws from its own
+ * {@link SplittableRandom} derived from the seed, and primary keys are written explicitly
+ * (sequences are moved past them afterwards), so foreign keys can be computed instead of looked up.
+ * Dates are spread two years either side of {@link #ANCHOR_DATE} rather than around today, which
+ * keeps runs on different days comparable.
+ * <p>
+ * Existing rows are truncated first. Distributions are skewed the way real data is: most bookings
+ * are CONFIRMED, few users are instructors or admins, and most payments complete.
+ * <p>
+ * Gateway responses go where the schema keeps them: inline in {@code payment} and {@code donation}
+ * before V18, gzip compressed in the side tables from V18 on, so earlier schema versions can be
+ * filled for before/after comparisons.
+ */
+final class SyntheticDataGenerator {
+
+    static final LocalDate ANCHOR_DATE = LocalDate.of(2025, 1, 1);
+    static final LocalDate FIRST_DATE = ANCHOR_DATE.minusDays(730);
+    static final int DAY_SPAN = 1_460;
+
+    private static final LocalDateTime CREATED_AT = FIRST_DATE.minusDays(30).atStartOfDay();
+    private static final String[] BOOKING_TYPES = { "DAILY", "WEEKLY", "MONTHLY", "EVENT", "RETREAT" };
+    private static final String[] PAYMENT_METHODS = { "CASH", "CARD", "BANK_TRANSFER", "ONLINE" };
+    private static final int PRICING_PERIODS = 8;
+    private static final int PRICING_PERIOD_DAYS = 182;
+    private static final int SLOTS_PER_DAY = 8;
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+    private static final int RESPONSE_CHUNK = 10_000;
+
+    private final Connection connection;
+    private final Scale scale;
+    private final long seed;
+    private boolean inlineResponses;
+
+    SyntheticDataGenerator(Connection connection, Scale scale, long seed) {
+        this.connection = connection;
+        this.scale = scale;
+        this.seed = seed;
+    }
+
+    /**
+     * Row counts per table. {@link #of(double)} with 1.0 gives a million bookings and registrations.
+     */
+    record Scale(
+        int users,
+        int programs,
+        int bookings,
+        int campaigns,
+        int donations,
+        int events,
+        int maxRegistrationsPerEvent,
+        int activities,
+        int templates,
+        int overrides
+    ) {
+
+        static Scale of(double factor) {
+            return new Scale(
+                scaled(100_000, factor),
+                scaled(200, factor),
+                scaled(1_000_000, factor),
+                scaled(50, factor),
+                scaled(500_000, factor),
+                scaled(20_000, factor),
+                100,
+                scaled(500, factor),
+                scaled(20, factor),
+                scaled(20_000, factor));
+        }
+
+        int pricing() {
+            return BOOKING_TYPES.length * PRICING_PERIODS;
+        }
+
+        int templateActivities() {
+            return templates * 7 * SLOTS_PER_DAY;
+        }
+
+        private static int scaled(int rows, double factor) {
+            return (int) Math.max(1, Math.round(rows * factor));
+        }
+    }
+
+    /**
+     * Replaces the contents of every table and returns the number of rows written per table.
+     * Runs in one transaction and leaves the connection in auto-commit mode.
+     */
+    Map<String, Long> generate() throws SQLException {
+        connection.setAutoCommit(false);
+        Map<String, Long> rows = new LinkedHashMap<>();
+        try {
+            execute("""
+                TRUNCATE users, meditation_program, pricing, booking, payment, donation_campaign, donation,
+                         events, event_registration, activity, schedule_template, template_schedule_activity,
+                         schedule_override
+                RESTART IDENTITY CASCADE""");
+
+            inlineResponses = hasColumn("payment", "payment_gateway_response");
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            rows.put("users", users(copy));
+            rows.put("meditation_program", programs(copy));
+            rows.put("pricing", pricing(copy));
+            rows.put("booking", bookings(copy));
+            rows.put("payment", payments(copy));
+            rows.put("donation_campaign", campaigns(copy));
+            rows.put("donation", donations(copy));
+            if (!inlineResponses) {
+                rows.put("payment_gateway_response", gatewayResponses(copy, "payment_gateway_response", "payment_id",
+                    "SELECT payment_id, transaction_id, status::text, amount, payment_date FROM payment",
+                    rows.get("payment")));
+                rows.put("donation_gateway_response", gatewayResponses(copy, "donation_gateway_response", "donation_id",
+                    "SELECT donation_id, transaction_id, payment_status::text, donation_amount, created_at FROM donation",
+                    rows.get("donation")));
+            }
+            int[] registrations = new int[scale.events()];
+            rows.put("events", events(copy, registrations));
+            rows.put("event_registration", registrations(copy, registrations));
+            rows.put("activity", activities(copy));
+            rows.put("schedule_template", templates(copy));
+            rows.put("template_schedule_activity", templateActivities(copy));
+            rows.put("schedule_override", overrides(copy));
+
+            derivedColumns();
+            resetSequences();
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        execute("VACUUM ANALYZE");
+        return rows;
+    }
+
+    private long users(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(1);
+        try (CopyWriter out = new CopyWriter(copy, "users",
+                "user_id, email, password, name, mobile_number, role, is_active, email_verified, created_at, updated_at")) {
+            for (long id = 1; id <= scale.users(); id++) {
+                int roll = random.nextInt(1_000);
+                String role = roll == 0 ? "ADMIN" : roll < 10 ? "INSTRUCTOR" : "USER";
+                LocalDateTime created = CREATED_AT.plusMinutes(random.nextInt(DAY_SPAN * 1_440));
+                out.row(id, "user" + id + "@example.org", "$2a$10$" + "x".repeat(53), name(random, id),
+                    random.nextInt(10) < 8 ? String.format("+9477%07d", id % 10_000_000) : null,
+                    role, random.nextInt(100) < 95, random.nextInt(100) < 80, created, created);
+            }
+            return out.finish();
+        }
+    }
+
+    private long programs(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(2);
+        try (CopyWriter out = new CopyWriter(copy, "meditation_program",
+                "meditation_program_id, name, description, max_seats, duration_minutes, instructor_id, image_url, "
+                    + "is_active, created_at, updated_at")) {
+            for (long id = 1; id <= scale.programs(); id++) {
+                out.row(id, "Program " + id, "Guided practice session number " + id,
+                    20 + random.nextInt(81), 30 + 15 * random.nextInt(8), userId(random),
+                    "https://example.org/images/program-" + id + ".jpg",
+                    random.nextInt(10) < 9, CREATED_AT, CREATED_AT);
+            }
+            return out.finish();
+        }
+    }
+
+    private long pricing(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(3);
+        try (CopyWriter out = new CopyWriter(copy, "pricing",
+                "pricing_id, booking_type, price, effective_from_date, effective_to_date, is_active, created_at")) {
+            long id = 1;
+            for (String type : BOOKING_TYPES) {
+                for (int period = 0; period < PRICING_PERIODS; period++) {
+                    LocalDate from = FIRST_DATE.plusDays((long) period * PRICING_PERIOD_DAYS);
+                    LocalDate to = period == PRICING_PERIODS - 1 ? null : from.plusDays(PRICING_PERIOD_DAYS - 1);
+                    out.row(id++, type, BigDecimal.valueOf(500 + random.nextInt(20_000), 2), from, to, true, CREATED_AT);
+                }
+            }
+            return out.finish();
+        }
+    }
+
+    private long bookings(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(4);
+        try (CopyWriter out = new CopyWriter(copy, "booking",
+                "booking_id, meditation_program_id, pricing_id, user_id, booking_type, booking_date, status, "
+                    + "participant_count, amount, special_requirements, cancellation_reason, created_at, updated_at")) {
+            for (long id = 1; id <= scale.bookings(); id++) {
+                int type = random.nextInt(BOOKING_TYPES.length);
+                int day = random.nextInt(DAY_SPAN);
+                int period = Math.min(PRICING_PERIODS - 1, day / PRICING_PERIOD_DAYS);
+                int roll = random.nextInt(100);
+                String status = roll < 3 ? "PENDING" : roll < 8 ? "CANCELLED" : roll < 25 ? "COMPLETED" : "CONFIRMED";
+                int participants = 1 + random.nextInt(4);
+                LocalDate date = FIRST_DATE.plusDays(day);
+                LocalDateTime created = date.minusDays(1 + random.nextInt(60)).atTime(9, 0);
+                out.row(id, 1 + random.nextInt(scale.programs()), (long) type * PRICING_PERIODS + period + 1,
+                    userId(random), BOOKING_TYPES[type], date, status, participants,
+                    BigDecimal.valueOf(2_500L * participants, 2),
+                    random.nextInt(10) < 3 ? "Vegetarian meals, quiet room, arriving after 6pm (" + id + ")" : null,
+                    "CANCELLED".equals(status) ? "Plans changed" : null, created, created);
+            }
+            return out.finish();
+        }
+    }
+
+    private long payments(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(5);
+        try (CopyWriter out = new CopyWriter(copy, "payment",
+                "payment_id, booking_id, amount, status, payment_method, transaction_id, payment_date, "
+                    + (inlineResponses ? "payment_gateway_response, " : "")
+                    + "refund_amount, refund_date, created_at, updated_at")) {
+            long id = 1;
+            // Every fifth booking is unpaid
+            for (long bookingId = 1; bookingId <= scale.bookings(); bookingId++) {
+                if (bookingId % 5 == 0) {
+                    continue;
+                }
+                int roll = random.nextInt(100);
+                String status = roll < 85 ? "COMPLETED" : roll < 93 ? "PENDING" : roll < 98 ? "FAILED" : "REFUNDED";
+                BigDecimal amount = BigDecimal.valueOf(2_500L * (1 + random.nextInt(4)), 2);
+                LocalDateTime created = CREATED_AT.plusMinutes(random.nextInt(DAY_SPAN * 1_440));
+                boolean settled = !"PENDING".equals(status);
+                boolean refunded = "REFUNDED".equals(status);
+                String method = PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)];
+                String transactionId = settled ? "TX-P" + id : null;
+                LocalDateTime paid = settled ? created.plusMinutes(2) : null;
+                BigDecimal refundAmount = refunded ? amount : BigDecimal.ZERO.setScale(2);
+                LocalDateTime refundDate = refunded ? created.plusDays(3) : null;
+                if (inlineResponses) {
+                    out.row(id, bookingId, amount, status, method, transactionId, paid,
+                        settled ? gatewayResponse(transactionId, status, amount, paid) : null,
+                        refundAmount, refundDate, created, created);
+                } else {
+                    out.row(id, bookingId, amount, status, method, transactionId, paid,
+                        refundAmount, refundDate, created, created);
+                }
+                id++;
+            }
+            return out.finish();
+        }
+    }
+
+    private long campaigns(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(6);
+        try (CopyWriter out = new CopyWriter(copy, "donation_campaign",
+                "campaign_id, campaign_name, description, target_amount, current_amount, start_date, end_date, "
+                    + "is_active, created_at, updated_at")) {
+            for (long id = 1; id <= scale.campaigns(); id++) {
+                LocalDate start = FIRST_DATE.plusDays(random.nextInt(DAY_SPAN / 2));
+                out.row(id, "Campaign " + id, "Fundraiser for the meditation hall, phase " + id,
+                    random.nextInt(5) == 0 ? null : BigDecimal.valueOf(1_000_000L + random.nextInt(9_000_000), 2),
+                    BigDecimal.ZERO.setScale(2), start, random.nextInt(3) == 0 ? null : start.plusDays(365),
+                    random.nextInt(10) < 8, CREATED_AT, CREATED_AT);
+            }
+            return out.finish();
+        }
+    }
+
+    private long donations(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(7);
+        try (CopyWriter out = new CopyWriter(copy, "donation",
+                "donation_id, campaign_id, user_id, donation_amount, payment_method, transaction_id, payment_status, "
+                    + (inlineResponses ? "payment_gateway_response, " : "")
+                    + "is_anonymous, donor_message, created_at")) {
+            for (long id = 1; id <= scale.donations(); id++) {
+                int roll = random.nextInt(100);
+                String status = roll < 80 ? "COMPLETED" : roll < 92 ? "PENDING" : roll < 98 ? "FAILED" : "REFUNDED";
+                Integer campaignId = random.nextInt(10) == 0 ? null : 1 + random.nextInt(scale.campaigns());
+                long donorId = userId(random);
+                BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(100_000), 2);
+                String method = PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)];
+                String transactionId = "PENDING".equals(status) ? null : "TX-D" + id;
+                boolean anonymous = random.nextInt(5) == 0;
+                String message = random.nextInt(5) == 0 ? "May all beings be well" : null;
+                LocalDateTime created = CREATED_AT.plusMinutes(random.nextInt(DAY_SPAN * 1_440));
+                if (inlineResponses) {
+                    out.row(id, campaignId, donorId, amount, method, transactionId, status,
+                        transactionId == null ? null : gatewayResponse(transactionId, status, amount, created),
+                        anonymous, message, created);
+                } else {
+                    out.row(id, campaignId, donorId, amount, method, transactionId, status, anonymous, message, created);
+                }
+            }
+            return out.finish();
+        }
+    }
+
+    /**
+     * Writes events and fills {@code registrations} with how many registrations each one gets,
+     * never more than its {@code max_participants}.
+     */
+    private long events(CopyManager copy, int[] registrations) throws SQLException {
+        SplittableRandom random = random(8);
+        try (CopyWriter out = new CopyWriter(copy, "events",
+                "event_id, name, description, event_date, start_time, end_time, location, max_participants, "
+                    + "current_participants, images, is_active, requires_registration, created_at, updated_at")) {
+            for (int i = 0; i < scale.events(); i++) {
+                Integer max = random.nextInt(5) == 0 ? null : 50 + random.nextInt(251);
+                int cap = Math.min(scale.users(), Math.min(scale.maxRegistrationsPerEvent(), max == null ? Integer.MAX_VALUE : max));
+                registrations[i] = random.nextInt(cap + 1);
+                LocalTime start = LocalTime.of(6 + random.nextInt(13), 0);
+                out.row(i + 1L, "Event " + (i + 1), "Dhamma talk and group sitting", FIRST_DATE.plusDays(random.nextInt(DAY_SPAN)),
+                    start, start.plusHours(1 + random.nextInt(3)), "Main hall", max, 0, null,
+                    random.nextInt(10) < 9, true, CREATED_AT, CREATED_AT);
+            }
+            return out.finish();
+        }
+    }
+
+    private long registrations(CopyManager copy, int[] registrations) throws SQLException {
+        SplittableRandom random = random(9);
+        try (CopyWriter out = new CopyWriter(copy, "event_registration",
+                "registration_id, event_id, user_id, status, checked_in_at, registration_date, cancellation_date, "
+                    + "cancellation_reason")) {
+            long id = 1;
+            for (int event = 0; event < registrations.length; event++) {
+                // Consecutive user ids from a random offset: unique per event as required by uk_event_user
+                int offset = random.nextInt(scale.users());
+                for (int k = 0; k < registrations[event]; k++) {
+                    int roll = random.nextInt(100);
+                    String status = roll < 8 ? "CANCELLED" : roll < 38 ? "ATTENDED" : roll < 43 ? "NO_SHOW" : "REGISTERED";
+                    LocalDateTime registered = CREATED_AT.plusMinutes(random.nextInt(DAY_SPAN * 1_440));
+                    boolean cancelled = "CANCELLED".equals(status);
+                    out.row(id++, event + 1L, 1L + (offset + k) % scale.users(), status,
+                        "ATTENDED".equals(status) ? registered.plusDays(7) : null, registered,
+                        cancelled ? registered.plusDays(1) : null, cancelled ? "Unable to attend" : null);
+                }
+            }
+            return out.finish();
+        }
+    }
+
+    private long activities(CopyManager copy) throws SQLException {
+        String[] titles = { "Morning Meditation", "Dharma Talk", "Walking Meditation", "Chanting", "Mindful Lunch" };
+        try (CopyWriter out = new CopyWriter(copy, "activity",
+                "activity_id, title, description, location, created_at, updated_at")) {
+            for (long id = 1; id <= scale.activities(); id++) {
+                out.row(id, titles[(int) (id % titles.length)] + " " + id, null, "Hall " + (1 + id % 4),
+                    CREATED_AT, CREATED_AT);
+            }
+            return out.finish();
+        }
+    }
+
+    private long templates(CopyManager copy) throws SQLException {
+        try (CopyWriter out = new CopyWriter(copy, "schedule_template",
+                "template_id, name, description, is_active, created_at, updated_at")) {
+            for (long id = 1; id <= scale.templates(); id++) {
+                out.row(id, "Template " + id, null, id == 1 || id % 4 == 0, CREATED_AT, CREATED_AT);
+            }
+            return out.finish();
+        }
+    }
+
+    private long templateActivities(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(12);
+        try (CopyWriter out = new CopyWriter(copy, "template_schedule_activity",
+                "id, template_id, activity_id, start_time, end_time, day_of_week, notes, created_at, updated_at")) {
+            long id = 1;
+            for (long template = 1; template <= scale.templates(); template++) {
+                for (int day = 0; day < 7; day++) {
+                    for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                        LocalTime start = LocalTime.of(5 + 2 * slot, 0);
+                        out.row(id++, template, 1 + random.nextInt(scale.activities()), start, start.plusHours(1),
+                            day, null, CREATED_AT, CREATED_AT);
+                    }
+                }
+            }
+            return out.finish();
+        }
+    }
+
+    private long overrides(CopyManager copy) throws SQLException {
+        SplittableRandom random = random(13);
+        int templateActivities = scale.templateActivities();
+        try (CopyWriter out = new CopyWriter(copy, "schedule_override",
+                "override_id, template_schedule_activity_id, override_date, new_start_time, new_end_time, "
+                    + "is_cancelled, reason, created_at, updated_at")) {
+            for (long id = 1; id <= scale.overrides(); id++) {
+                // Walks the dates first, then the next activity: (activity, date) pairs never repeat
+                long index = id - 1;
+                boolean cancelled = random.nextInt(10) < 3;
+                LocalTime start = LocalTime.of(6 + random.nextInt(12), 30);
+                out.row(id, 1 + (index / DAY_SPAN) % templateActivities, FIRST_DATE.plusDays(index % DAY_SPAN),
+                    cancelled ? null : start, cancelled ? null : start.plusHours(1), cancelled,
+                    cancelled ? "Teacher travelling" : "Moved for a visiting teacher", CREATED_AT, CREATED_AT);
+            }
+            return out.finish();
+        }
+    }
+
+    /**
+     * Writes the side table rows of a gateway response table (V18) for the rows of {@code source}
+     * that have a transaction id, gzip compressed the way the application stores them. The source
+     * is read back in id ranges, since a connection cannot read and copy at the same time.
+     *
+     * @param source Query selecting id, transaction id, status, amount and time, in that order
+     */
+    private long gatewayResponses(CopyManager copy, String table, String key, String source, long maxId)
+            throws SQLException {
+        long written = 0;
+        String sql = source + " WHERE " + key + " BETWEEN ? AND ? AND transaction_id IS NOT NULL";
+        for (long from = 1; from <= maxId; from += RESPONSE_CHUNK) {
+            List<Object[]> chunk = new ArrayList<>(RESPONSE_CHUNK);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, from);
+                statement.setLong(2, from + RESPONSE_CHUNK - 1);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        LocalDateTime at = rows.getObject(5, LocalDateTime.class);
+                        byte[] body = gzip(gatewayResponse(rows.getString(2), rows.getString(3), rows.getBigDecimal(4), at));
+                        chunk.add(new Object[] { rows.getLong(1), body, true, at });
+                    }
+                }
+            }
+            try (CopyWriter out = new CopyWriter(copy, table, key + ", body, compressed, created_at")) {
+                for (Object[] row : chunk) {
+                    out.row(row);
+                }
+                written += out.finish();
+            }
+        }
+        return written;
+    }
+
+    /**
+     * A card charge response about the size of a real gateway's (roughly 1 KB), derived only from its
+     * arguments so the inline and side table layouts hold the same text.
+     */
+    static String gatewayResponse(String transactionId, String status, BigDecimal amount, LocalDateTime at) {
+        long hash = transactionId.hashCode() & 0xffffffffL;
+        long cents = amount.movePointRight(2).longValue();
+        boolean succeeded = "COMPLETED".equals(status) || "REFUNDED".equals(status);
+        boolean refunded = "REFUNDED".equals(status);
+        return """
+            {"id":"%1$s","object":"charge","amount":%2$d,"amount_captured":%2$d,"amount_refunded":%3$d,\
+            "currency":"lkr","created":%4$d,"status":"%5$s","paid":%6$b,"captured":%6$b,"refunded":%7$b,\
+            "balance_transaction":"txn_%8$016x","payment_intent":"pi_%8$016x","payment_method":"pm_%8$016x",\
+            "billing_details":{"address":{"city":"Colombo","country":"LK","line1":null,"postal_code":"00700"},\
+            "email":null,"name":null,"phone":null},"payment_method_details":{"type":"card","card":{"brand":"visa",\
+            "country":"LK","exp_month":%9$d,"exp_year":%10$d,"fingerprint":"fp%8$016x","funding":"credit",\
+            "last4":"%11$04d","network":"visa","three_d_secure":null,"checks":{"address_line1_check":null,\
+            "address_postal_code_check":"pass","cvc_check":"pass"}}},"outcome":{"network_status":"%12$s",\
+            "reason":%13$s,"risk_level":"normal","risk_score":%14$d,"seller_message":"%15$s","type":"%16$s"},\
+            "receipt_url":"https://pay.example.org/receipts/%1$s/rcpt_%8$016x",\
+            "metadata":{"source":"meditation-center","reference":"%1$s"},"livemode":false}""".formatted(
+            transactionId, cents, refunded ? cents : 0, at.toEpochSecond(ZoneOffset.UTC),
+            succeeded ? "succeeded" : "failed", succeeded, refunded, hash,
+            1 + hash % 12, 2026 + hash % 5, hash % 10_000,
+            succeeded ? "approved_by_network" : "declined_by_network",
+            succeeded ? "null" : "\"insufficient_funds\"", hash % 100,
+            succeeded ? "Payment complete." : "The bank declined the payment.",
+            succeeded ? "authorized" : "issuer_declined");
+    }
+
+    static byte[] gzip(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private boolean hasColumn(String table, String column) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM information_schema.columns WHERE table_schema = 'public' AND table_name = ? AND column_name = ?")) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next();
+            }
+        }
+    }
+
+    /**
+     * Columns that summarise other tables are computed from them instead of generated.
+     */
+    private void derivedColumns() throws SQLException {
+        execute("""
+            UPDATE donation_campaign c SET current_amount = s.total
+            FROM (SELECT campaign_id, sum(donation_amount) AS total FROM donation
+                  WHERE payment_status = 'COMPLETED' AND campaign_id IS NOT NULL GROUP BY campaign_id) s
+            WHERE c.campaign_id = s.campaign_id""");
+        execute("""
+            UPDATE events e SET current_participants = s.participants
+            FROM (SELECT event_id, count(*) AS participants FROM event_registration
+                  WHERE status <> 'CANCELLED' GROUP BY event_id) s
+            WHERE e.event_id = s.event_id""");
+    }
+
+    private void resetSequences() throws SQLException {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("users", "user_id");
+        keys.put("meditation_program", "meditation_program_id");
+        keys.put("pricing", "pricing_id");
+        keys.put("booking", "booking_id");
+        keys.put("payment", "payment_id");
+        keys.put("donation_campaign", "campaign_id");
+        keys.put("donation", "donation_id");
+        keys.put("events", "event_id");
+        keys.put("event_registration", "registration_id");
+        keys.put("activity", "activity_id");
+        keys.put("schedule_template", "template_id");
+        keys.put("template_schedule_activity", "id");
+        keys.put("schedule_override", "override_id");
+        for (Map.Entry<String, String> key : keys.entrySet()) {
+            execute(String.format(
+                "SELECT setval(pg_get_serial_sequence('%1$s', '%2$s'), coalesce(max(%2$s), 0) + 1, false) FROM %1$s",
+                key.getKey(), key.getValue()));
+        }
+    }
+
+    private long userId(SplittableRandom random) {
+        return 1 + random.nextInt(scale.users());
+    }
+
+    private static String name(SplittableRandom random, long id) {
+        String[] first = { "Nimal", "Kumari", "Ashan", "Dilini", "Ruwan", "Sanduni", "Kasun", "Tharushi" };
+        String[] last = { "Perera", "Silva", "Fernando", "Jayasinghe", "Bandara", "Wijesinghe" };
+        return first[random.nextInt(first.length)] + " " + last[random.nextInt(last.length)] + " " + id;
+    }
+
+    private SplittableRandom random(int table) {
+        return new SplittableRandom(seed * 31 + table);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Buffers CSV rows and hands them to one {@code COPY table (columns) FROM STDIN} in 64 KiB chunks.
+     * An unquoted empty field is NULL; every other value is written quoted.
+     */
+    private static final class CopyWriter implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1_024);
+        private boolean finished;
+
+        private CopyWriter(CopyManager copy, String table, String columns) throws SQLException {
+            this.copyIn = copy.copyIn("COPY " + table + " (" + columns + ") FROM STDIN (FORMAT csv)");
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object value = values[i];
+                if (value != null) {
+                    buffer.append('"').append(format(value).replace("\"", "\"\"")).append('"');
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+
+        long finish() throws SQLException {
+            flush();
+            finished = true;
+            return copyIn.endCopy();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!finished && copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        private static String format(Object value) {
+            if (value instanceof LocalDateTime timestamp) {
+                return timestamp.toString().replace('T', ' ');
+            }
+            if (value instanceof BigDecimal decimal) {
+                return decimal.toPlainString();
+            }
+            if (value instanceof byte[] bytes) {
+                return "\\x" + HexFormat.of().formatHex(bytes);
+            }
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.isipathana.meditationcenter.records.payment;
+
+import com.isipathana.meditationcenter.records.payment.LazyGatewayResponse.Owner;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LazyGatewayResponseTest {
+
+    @Test
+    void handlesOnTheSameRowAreEqualWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyGatewayResponse first = LazyGatewayResponse.of(Owner.PAYMENT, 7L, () -> {
+            loads.incrementAndGet();
+            return "{}";
+        });
+        LazyGatewayResponse second = LazyGatewayResponse.of(Owner.PAYMENT, 7L, () -> {
+            loads.incrementAndGet();
+            return "{}";
+        });
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, LazyGatewayResponse.loaded(Owner.PAYMENT, 7L, "{}"));
+        assertEquals(0, loads.get());
+        assertFalse(first.isLoaded());
+    }
+
+    @Test
+    void handlesOnDifferentRowsAreNotEqual() {
+        LazyGatewayResponse payment = LazyGatewayResponse.loaded(Owner.PAYMENT, 7L, "{}");
+
+        assertNotEquals(payment, LazyGatewayResponse.loaded(Owner.PAYMENT, 8L, "{}"));
+        assertNotEquals(payment, LazyGatewayResponse.loaded(Owner.DONATION, 7L, "{}"));
+        assertNotEquals(payment, LazyGatewayResponse.none());
+    }
+
+    @Test
+    void recordsBuiltWithoutAResponseGetNone() {
+        assertSame(LazyGatewayResponse.none(), Payment.builder().paymentId(7L).build().paymentGatewayResponse());
+        assertNull(Payment.builder().paymentId(7L).build().paymentGatewayResponse().get());
+    }
+
+    @Test
+    void recordsHoldingHandlesCompareByValue() {
+        Payment first = Payment.builder().paymentId(7L)
+            .paymentGatewayResponse(LazyGatewayResponse.of(Owner.PAYMENT, 7L, () -> "{}")).build();
+        Payment second = Payment.builder().paymentId(7L)
+            .paymentGatewayResponse(LazyGatewayResponse.of(Owner.PAYMENT, 7L, () -> "{}")).build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+}
@@ -0,0 +1,141 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.config.RepositoryProperties;
+import com.isipathana.meditationcenter.records.booking.Booking;
+import com.isipathana.meditationcenter.records.booking.BookingPage;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares heap cost per request of the list-returning booking reads against
+ * the keyset-paginated and streaming variants.
+ * <p>
+ * Runs against an in-memory stand-in dataset served through jOOQ's {@link MockDataProvider},
+ * so no database or container is needed. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class BookingRepositoryHeapBenchmark {
+
+    private static final int DATASET_SIZE = 50_000;
+    private static final int PAGE_SIZE = 100;
+
+    private static Result<Record> dataset;
+    private static BookingRepository bookingRepository;
+
+    @BeforeAll
+    static void setUp() {
+        DSLContext factory = DSL.using(SQLDialect.POSTGRES);
+        dataset = factory.newResult(
+            BOOKING.BOOKING_ID, BOOKING.MEDITATION_PROGRAM_ID, BOOKING.PRICING_ID, BOOKING.USER_ID,
+            BOOKING.BOOKING_TYPE, BOOKING.BOOKING_DATE, BOOKING.STATUS, BOOKING.PARTICIPANT_COUNT,
+            BOOKING.AMOUNT, BOOKING.SPECIAL_REQUIREMENTS, BOOKING.CANCELLATION_REASON,
+            BOOKING.CREATED_AT, BOOKING.UPDATED_AT);
+
+        LocalDate firstDate = LocalDate.of(2025, 1, 1);
+        LocalDateTime createdAt = firstDate.atStartOfDay();
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            Record record = factory.newRecord(dataset.fields());
+            record.set(BOOKING.BOOKING_ID, (long) i + 1);
+            record.set(BOOKING.MEDITATION_PROGRAM_ID, (long) (i % 20) + 1);
+            record.set(BOOKING.PRICING_ID, 1L);
+            record.set(BOOKING.USER_ID, (long) (i % 5_000) + 1);
+            record.set(BOOKING.BOOKING_TYPE, BookingType.RETREAT);
+            record.set(BOOKING.BOOKING_DATE, firstDate.plusDays(i % 365));
+            record.set(BOOKING.STATUS, BookingStatus.CONFIRMED);
+            record.set(BOOKING.PARTICIPANT_COUNT, 1 + i % 4);
+            record.set(BOOKING.AMOUNT, BigDecimal.valueOf(2_500, 2));
+            record.set(BOOKING.SPECIAL_REQUIREMENTS, "Vegetarian meals, ground floor room #" + i);
+            record.set(BOOKING.CANCELLATION_REASON, null);
+            record.set(BOOKING.CREATED_AT, createdAt);
+            record.set(BOOKING.UPDATED_AT, createdAt);
+            dataset.add(record);
+        }
+
+        MockDataProvider provider = context -> {
+            Object[] bindings = context.bindings();
+            int rows = context.sql().contains("limit")
+                ? Math.min(((Number) bindings[bindings.length - 1]).intValue(), DATASET_SIZE)
+                : DATASET_SIZE;
+            Result<Record> result = factory.newResult(dataset.fields());
+            result.addAll(dataset.subList(0, rows));
+            return new MockResult[] { new MockResult(rows, result) };
+        };
+
+        DSLContext dslContext = DSL.using(new MockConnection(provider), SQLDialect.POSTGRES);
+        bookingRepository = new BookingRepository(dslContext, new RepositoryProperties(500, PAGE_SIZE, 1_000));
+    }
+
+    @Test
+    void heapPerRequest() {
+        // Warm up all paths so class loading and JIT do not skew the first measurement
+        for (int i = 0; i < 3; i++) {
+            bookingRepository.findByStatus(BookingStatus.CONFIRMED);
+            bookingRepository.findByStatus(BookingStatus.CONFIRMED, null, PAGE_SIZE);
+            bookingRepository.forEachByStatus(BookingStatus.CONFIRMED, booking -> { });
+        }
+
+        Measurement list = measure(() -> bookingRepository.findByStatus(BookingStatus.CONFIRMED));
+        Measurement page = measure(() -> bookingRepository.findByStatus(BookingStatus.CONFIRMED, null, PAGE_SIZE));
+        Measurement stream = measure(() -> {
+            LongAdder visited = new LongAdder();
+            bookingRepository.forEachByStatus(BookingStatus.CONFIRMED, booking -> visited.increment());
+            return visited.sum();
+        });
+
+        System.out.printf("%-28s %16s %16s%n", "variant", "allocated bytes", "retained bytes");
+        System.out.printf("%-28s %16d %16d%n", "findByStatus (List)", list.allocated(), list.retained());
+        System.out.printf("%-28s %16d %16d%n", "findByStatus (keyset page)", page.allocated(), page.retained());
+        System.out.printf("%-28s %16d %16d%n", "forEachByStatus (stream)", stream.allocated(), stream.retained());
+
+        assertEquals(DATASET_SIZE, ((List<?>) list.result()).size());
+        assertEquals(PAGE_SIZE, ((BookingPage) page.result()).bookings().size());
+        assertEquals((long) DATASET_SIZE, stream.result());
+        assertTrue(page.retained() < list.retained() / 10, "keyset page should retain a fraction of the full list");
+        assertTrue(stream.retained() < list.retained() / 10, "streaming should not retain the result set");
+    }
+
+    private static Measurement measure(Supplier<Object> request) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long heapBefore = usedHeapAfterGc();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        Object result = request.get();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long retained = Math.max(0, usedHeapAfterGc() - heapBefore);
+
+        return new Measurement(result, allocated, retained);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private record Measurement(Object result, long allocated, long retained) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.config.RepositoryProperties;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.booking.BookingType;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.isipathana.meditationcenter.jooq.Tables.BOOKING;
+import static com.isipathana.meditationcenter.jooq.Tables.USERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares full-row reads with their projection counterparts: estimated bytes the database sends
+ * for the result and rows mapped per second.
+ * <p>
+ * Like {@link BookingRepositoryHeapBenchmark} it runs against in-memory tables served through
+ * {@link MockDataProvider}. The provider answers with only the columns named in the select list,
+ * and every result is sized as PostgreSQL DataRow messages in text format, which is what the driver
+ * reads off the socket. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class ProjectionTransferBenchmark {
+
+    private static final int BOOKING_ROWS = 50_000;
+    private static final int USER_ROWS = 20_000;
+    private static final int ITERATIONS = 10;
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate LAST_DATE = FIRST_DATE.plusDays(364);
+
+    private static final AtomicLong wireBytes = new AtomicLong();
+
+    private static BookingRepository bookingRepository;
+    private static UserRepository userRepository;
+
+    @BeforeAll
+    static void setUp() {
+        DSLContext factory = DSL.using(SQLDialect.POSTGRES);
+        LocalDateTime createdAt = FIRST_DATE.atStartOfDay();
+
+        Result<Record> bookings = factory.newResult(BOOKING.fields());
+        for (int i = 0; i < BOOKING_ROWS; i++) {
+            Record record = factory.newRecord(BOOKING.fields());
+            record.set(BOOKING.BOOKING_ID, (long) i + 1);
+            record.set(BOOKING.MEDITATION_PROGRAM_ID, (long) (i % 20) + 1);
+            record.set(BOOKING.PRICING_ID, 1L);
+            record.set(BOOKING.USER_ID, (long) (i % USER_ROWS) + 1);
+            record.set(BOOKING.BOOKING_TYPE, BookingType.RETREAT);
+            record.set(BOOKING.BOOKING_DATE, FIRST_DATE.plusDays(i % 365));
+            record.set(BOOKING.STATUS, BookingStatus.CONFIRMED);
+            record.set(BOOKING.PARTICIPANT_COUNT, 1 + i % 4);
+            record.set(BOOKING.AMOUNT, BigDecimal.valueOf(2_500, 2));
+            record.set(BOOKING.SPECIAL_REQUIREMENTS,
+                "Vegetarian meals, ground floor room, arriving late on the first evening #" + i);
+            record.set(BOOKING.CANCELLATION_REASON, null);
+            record.set(BOOKING.CREATED_AT, createdAt);
+            record.set(BOOKING.UPDATED_AT, createdAt);
+            bookings.add(record);
+        }
+
+        Result<Record> users = factory.newResult(USERS.fields());
+        for (int i = 0; i < USER_ROWS; i++) {
+            Record record = factory.newRecord(USERS.fields());
+            record.set(USERS.USER_ID, (long) i + 1);
+            record.set(USERS.EMAIL, "meditator" + i + "@example.org");
+            record.set(USERS.PASSWORD, "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5bT0Qw1yZK0nZtP5Jp1cD2" + i % 10);
+            record.set(USERS.NAME, "Meditator Number " + i);
+            record.set(USERS.MOBILE_NUMBER, "+9477" + String.format("%07d", i));
+            record.set(USERS.ROLE, i % 50 == 0 ? UserRole.INSTRUCTOR : UserRole.USER);
+            record.set(USERS.IS_ACTIVE, true);
+            record.set(USERS.EMAIL_VERIFIED, true);
+            record.set(USERS.CREATED_AT, createdAt);
+            record.set(USERS.UPDATED_AT, createdAt);
+            users.add(record);
+        }
+
+        MockDataProvider provider = context -> {
+            String sql = context.sql();
+            Result<Record> table = sql.contains("\"booking\"") ? bookings : users;
+            Result<Record> result = project(factory, table, selectList(sql));
+            wireBytes.addAndGet(dataRowBytes(result));
+            return new MockResult[] { new MockResult(result.size(), result) };
+        };
+
+        DSLContext dslContext = DSL.using(new MockConnection(provider), SQLDialect.POSTGRES);
+        bookingRepository = new BookingRepository(dslContext, new RepositoryProperties(500, 100, 1_000));
+        userRepository = new UserRepository(dslContext);
+    }
+
+    @Test
+    void bytesAndThroughputPerProjection() {
+        for (int i = 0; i < 3; i++) {
+            bookingRepository.findByDateRange(FIRST_DATE, LAST_DATE);
+            bookingRepository.findCalendarEntries(FIRST_DATE, LAST_DATE);
+            userRepository.findAllActive();
+            userRepository.findDirectory();
+        }
+
+        Measurement bookingFull = measure(() -> bookingRepository.findByDateRange(FIRST_DATE, LAST_DATE));
+        Measurement calendar = measure(() -> bookingRepository.findCalendarEntries(FIRST_DATE, LAST_DATE));
+        Measurement userFull = measure(() -> userRepository.findAllActive());
+        Measurement directory = measure(() -> userRepository.findDirectory());
+
+        System.out.printf("%-36s %8s %14s %10s %14s%n", "query", "rows", "wire bytes", "bytes/row", "rows/sec");
+        print("findByDateRange (Booking)", bookingFull);
+        print("findCalendarEntries (projection)", calendar);
+        print("findAllActive (User)", userFull);
+        print("findDirectory (projection)", directory);
+
+        assertEquals(BOOKING_ROWS, bookingFull.rows());
+        assertEquals(BOOKING_ROWS, calendar.rows());
+        assertEquals(USER_ROWS, directory.rows());
+        assertTrue(calendar.bytes() < bookingFull.bytes() / 2, "calendar projection should transfer under half");
+        assertTrue(directory.bytes() < userFull.bytes(), "directory projection should transfer less");
+    }
+
+    private static Measurement measure(Supplier<List<?>> query) {
+        wireBytes.set(0);
+        int rows = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = query.get().size();
+        }
+        long elapsed = System.nanoTime() - started;
+        return new Measurement(rows, wireBytes.get() / ITERATIONS, (double) rows * ITERATIONS * 1e9 / elapsed);
+    }
+
+    private static void print(String name, Measurement measurement) {
+        System.out.printf("%-36s %8d %14d %10d %14.0f%n", name, measurement.rows(), measurement.bytes(),
+            measurement.bytes() / Math.max(1, measurement.rows()), measurement.rowsPerSecond());
+    }
+
+    private static String selectList(String sql) {
+        int from = sql.indexOf(" from ");
+        return from < 0 ? sql : sql.substring(0, from);
+    }
+
+    /**
+     * The columns of {@code table} named in {@code selectList}, in select-list order.
+     */
+    private static Result<Record> project(DSLContext factory, Result<Record> table, String selectList) {
+        List<Field<?>> selected = new ArrayList<>();
+        for (Field<?> field : table.fields()) {
+            if (selectList.contains("\"" + field.getName() + "\"")) {
+                selected.add(field);
+            }
+        }
+        selected.sort(Comparator.comparingInt(field -> selectList.indexOf("\"" + field.getName() + "\"")));
+
+        Result<Record> result = factory.newResult(selected);
+        for (Record row : table) {
+            Record projected = factory.newRecord(selected);
+            for (Field<?> field : selected) {
+                copy(row, projected, field);
+            }
+            result.add(projected);
+        }
+        return result;
+    }
+
+    private static <T> void copy(Record from, Record to, Field<T> field) {
+        to.set(field, from.get(field));
+    }
+
+    /**
+     * Size of the result as DataRow messages: type byte, int32 length and int16 column count,
+     * then an int32 length and the text value per column (NULLs send only the length).
+     */
+    private static long dataRowBytes(Result<Record> result) {
+        long bytes = 0;
+        for (Record record : result) {
+            bytes += 1 + 4 + 2;
+            for (int i = 0; i < record.size(); i++) {
+                bytes += 4;
+                Object value = record.get(i);
+                if (value != null) {
+                    bytes += textValue(value).getBytes(StandardCharsets.UTF_8).length;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static String textValue(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool ? "t" : "f";
+        }
+        if (value instanceof LocalDateTime timestamp) {
+            return timestamp.toString().replace('T', ' ');
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return String.valueOf(value);
+    }
+
+    private record Measurement(int rows, long bytes, double rowsPerSecond) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.isipathana.meditationcenter.repository;
+
+import com.isipathana.meditationcenter.config.RepositoryProperties;
+import com.isipathana.meditationcenter.records.booking.BookingStatus;
+import com.isipathana.meditationcenter.records.payment.PaymentStatus;
+import com.isipathana.meditationcenter.records.user.UserRole;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Select;
+import org.jooq.SQLDialect;
+import org.jooq.Update;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fails when a repository query is planned as a sequential scan of one of the large tables.
+ * <p>
+ * Applies the Flyway migrations to a throwaway PostgreSQL container, seeds it with synthetic
+ * data at a size where the planner prefers a suitable index over reading the whole table,
+ * and runs the repository methods through a listener that EXPLAINs every SELECT and UPDATE
+ * before it executes. Dropping or reshaping an index (V15) that a query relies on, or adding
+ * a query no index serves, shows up here as the offending SQL with its plan.
+ * <p>
+ * Whole-table reads ({@code UserRepository.findAllActive}, {@code findDirectory},
+ * {@code DonationRepository.sumCompletedByCampaign}) are not exercised: a sequential scan is the
+ * right plan for them. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanRegressionTest {
+
+    private static final Set<String> GUARDED_TABLES =
+        Set.of("booking", "users", "payment", "donation", "events", "event_registration");
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+    private static final int DAYS = 2_000;
+    private static final LocalDate LAST_DATE = FIRST_DATE.plusDays(DAYS - 1);
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private static Connection connection;
+    private static final List<String> violations = new ArrayList<>();
+
+    private static BookingRepository bookingRepository;
+    private static UserRepository userRepository;
+    private static PaymentRepository paymentRepository;
+    private static DonationRepository donationRepository;
+    private static EventRepository eventRepository;
+    private static EventRegistrationRepository eventRegistrationRepository;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SEED_SQL);
+            statement.execute("VACUUM ANALYZE");
+        }
+
+        DSLContext dslContext = DSL.using(connection, SQLDialect.POSTGRES);
+        DSLContext explained = dslContext.configuration()
+            .derive(new DefaultExecuteListenerProvider(new SeqScanGuard()))
+            .dsl();
+
+        bookingRepository = new BookingRepository(explained, new RepositoryProperties(500, 100, 1_000));
+        userRepository = new UserRepository(explained);
+        paymentRepository = new PaymentRepository(explained);
+        donationRepository = new DonationRepository(explained);
+        eventRepository = new EventRepository(explained);
+        eventRegistrationRepository = new EventRegistrationRepository(explained);
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @BeforeEach
+    void clearViolations() {
+        violations.clear();
+    }
+
+    @Test
+    void bookingQueriesUseIndexes() {
+        LocalDate weekStart = FIRST_DATE.plusDays(DAYS / 2);
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        bookingRepository.findById(42L);
+        bookingRepository.findByUserId(42L);
+        bookingRepository.findByStatus(BookingStatus.PENDING);
+        bookingRepository.findByStatus(BookingStatus.CONFIRMED, null, 100);
+        bookingRepository.forEachByStatus(BookingStatus.PENDING, booking -> { });
+        bookingRepository.findByDateRange(weekStart, weekEnd);
+        bookingRepository.findByDateRange(weekStart, weekEnd, null, 100);
+        bookingRepository.forEachByDateRange(weekStart, weekEnd, booking -> { });
+        bookingRepository.findCalendarEntries(weekStart, weekEnd);
+        bookingRepository.findCalendarEntries(7L, weekStart, weekEnd);
+        bookingRepository.countBookedSeats(7L, weekStart);
+        bookingRepository.findBookedSeatsFrom(LAST_DATE.minusDays(10));
+
+        assertNoSequentialScans();
+    }
+
+    @Test
+    void userQueriesUseIndexes() {
+        userRepository.findById(42L);
+        userRepository.findByEmail("meditator42@example.org");
+        userRepository.existsByEmail("meditator42@example.org");
+        userRepository.findByRole(UserRole.INSTRUCTOR);
+        userRepository.findDirectoryByRole(UserRole.ADMIN);
+
+        assertNoSequentialScans();
+    }
+
+    @Test
+    void paymentAndDonationQueriesUseIndexes() {
+        paymentRepository.findById(42L);
+        paymentRepository.findByBookingId(42L);
+        paymentRepository.findByStatus(PaymentStatus.PENDING, 100);
+        donationRepository.findById(42L);
+        donationRepository.findByCampaignId(3L);
+
+        assertNoSequentialScans();
+    }
+
+    @Test
+    void eventQueriesUseIndexes() {
+        LocalDate recent = LAST_DATE.minusDays(10);
+
+        eventRepository.findById(42L);
+        eventRepository.findFrom(recent);
+        eventRepository.findActiveFrom(recent, 50);
+        eventRegistrationRepository.findById(42L);
+        eventRegistrationRepository.findByEventId(42L);
+        eventRegistrationRepository.countActive(42L);
+        eventRegistrationRepository.countActiveByEventFrom(recent);
+        eventRegistrationRepository.markAttended(42L, List.of(42L, 3_042L), LocalDateTime.now());
+
+        assertNoSequentialScans();
+    }
+
+    private static void assertNoSequentialScans() {
+        assertTrue(violations.isEmpty(), () -> "Sequential scans planned:\n\n" + String.join("\n\n", violations));
+    }
+
+    /**
+     * EXPLAINs each SELECT and UPDATE on the same connection just before it runs.
+     */
+    private static final class SeqScanGuard implements ExecuteListener {
+
+        @Override
+        public void executeStart(ExecuteContext ctx) {
+            if (!(ctx.query() instanceof Select<?>) && !(ctx.query() instanceof Update<?>)) {
+                return;
+            }
+            String sql = ctx.dsl().renderInlined(ctx.query());
+            String plan = explain(sql);
+
+            Matcher matcher = SEQ_SCAN.matcher(plan);
+            while (matcher.find()) {
+                if (GUARDED_TABLES.contains(matcher.group(1))) {
+                    violations.add(sql + "\n" + plan);
+                    return;
+                }
+            }
+        }
+
+        private static String explain(String sql) {
+            StringBuilder plan = new StringBuilder();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rows.next()) {
+                    plan.append("  ").append(rows.getString(1)).append('\n');
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("EXPLAIN failed for: " + sql, e);
+            }
+            return plan.toString();
+        }
+    }
+
+    // Skewed on purpose: rare statuses and roles, so filtering on them is selective.
+    // CASE yields text, which has no implicit cast to the enum column types (V16)
+    private static final String SEED_SQL = """
+        INSERT INTO users (email, password, name, mobile_number, role, is_active, email_verified)
+        SELECT 'meditator' || i || '@example.org', 'x', 'Meditator ' || i, '+9477' || lpad(i::text, 7, '0'),
+               (CASE WHEN i % 1000 = 0 THEN 'ADMIN' WHEN i % 100 = 0 THEN 'INSTRUCTOR' ELSE 'USER' END)::user_role,
+               i % 10 <> 0, true
+        FROM generate_series(1, 50000) AS i;
+
+        INSERT INTO meditation_program (name, max_seats)
+        SELECT 'Program ' || i, 40 FROM generate_series(1, 50) AS i;
+
+        INSERT INTO pricing (booking_type, price, effective_from_date)
+        VALUES ('DAILY', 25.00, DATE '2020-01-01');
+
+        INSERT INTO booking (meditation_program_id, pricing_id, user_id, booking_type, booking_date, status,
+                             participant_count, amount, special_requirements)
+        SELECT 1 + i % 50, 1, 1 + i % 50000, 'DAILY', DATE '2020-01-01' + i % 2000,
+               (CASE WHEN i % 50 = 0 THEN 'PENDING' WHEN i % 33 = 0 THEN 'CANCELLED'
+                     WHEN i % 7 = 0 THEN 'COMPLETED' ELSE 'CONFIRMED' END)::booking_status,
+               1 + i % 4, 25.00, 'Synthetic booking ' || i
+        FROM generate_series(1, 200000) AS i;
+
+        INSERT INTO payment (booking_id, amount, status, payment_method, created_at)
+        SELECT i, 25.00, (CASE WHEN i % 20 = 0 THEN 'PENDING' ELSE 'COMPLETED' END)::payment_status, 'CARD',
+               TIMESTAMP '2020-01-01' + i * INTERVAL '1 minute'
+        FROM generate_series(1, 100000) AS i;
+
+        INSERT INTO donation_campaign (campaign_name, target_amount)
+        SELECT 'Campaign ' || i, 100000.00 FROM generate_series(1, 20) AS i;
+
+        INSERT INTO donation (campaign_id, user_id, donation_amount, payment_method, payment_status, created_at)
+        SELECT CASE WHEN i % 10 = 0 THEN NULL ELSE 1 + i % 20 END, 1 + i % 50000, 10.00, 'CARD',
+               (CASE WHEN i % 4 = 0 THEN 'PENDING' ELSE 'COMPLETED' END)::payment_status,
+               TIMESTAMP '2020-01-01' + i * INTERVAL '5 minutes'
+        FROM generate_series(1, 100000) AS i;
+
+        INSERT INTO events (name, event_date, start_time, end_time, is_active)
+        SELECT 'Event ' || i, DATE '2020-01-01' + (i - 1) % 2000, TIME '09:00' + (i % 8) * INTERVAL '1 hour',
+               TIME '09:30' + (i % 8) * INTERVAL '1 hour', i % 5 <> 0
+        FROM generate_series(1, 3000) AS i;
+
+        INSERT INTO event_registration (event_id, user_id, status)
+        SELECT 1 + i % 3000, 1 + i / 3000,
+               (CASE WHEN i % 10 = 0 THEN 'CANCELLED' ELSE 'REGISTERED' END)::event_registration_status
+        FROM generate_series(0, 149999) AS i;
+        """;
+}